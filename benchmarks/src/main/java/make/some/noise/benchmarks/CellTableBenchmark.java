@@ -0,0 +1,142 @@
+package make.some.noise.benchmarks;
+
+import make.some.noise.Noise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the two ways of storing the cell point offsets that cellular noise reads: an array of
+ * {@link Noise.Float2} or {@link Noise.Float3} objects, which is how Noise used to store them, and a packed,
+ * interleaved float array, which is how Noise stores them now. Each benchmark does the same Euclidean
+ * nearest-point search that cellular noise does, over the same points and the same offsets, so the only
+ * difference is the table layout. For the whole cellular noise function, see the CELLULAR results from
+ * {@link NoiseTypeBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CellTableBenchmark {
+    public static final int SAMPLES = NoiseBenchmark.SAMPLES;
+    private static final int SEED = 0x1337BEEF;
+
+    private final Noise.Float2[] objects2D = new Noise.Float2[256];
+    private final Noise.Float3[] objects3D = new Noise.Float3[256];
+    private final float[] packed2D = new float[256 * 2];
+    private final float[] packed3D = new float[256 * 4];
+    private final float[] xs = new float[SAMPLES], ys = new float[SAMPLES], zs = new float[SAMPLES];
+
+    public CellTableBenchmark() {
+        Random random = new Random(123456789L);
+        for (int i = 0; i < 256; i++) {
+            float x = random.nextFloat() * 0.9f - 0.45f, y = random.nextFloat() * 0.9f - 0.45f,
+                    z = random.nextFloat() * 0.9f - 0.45f;
+            objects2D[i] = new Noise.Float2(x, y);
+            objects3D[i] = new Noise.Float3(x, y, z);
+            packed2D[i << 1] = x;
+            packed2D[i << 1 | 1] = y;
+            packed3D[i << 2] = x;
+            packed3D[i << 2 | 1] = y;
+            packed3D[i << 2 | 2] = z;
+        }
+        for (int i = 0; i < SAMPLES; i++) {
+            xs[i] = random.nextFloat() * 32f - 16f;
+            ys[i] = random.nextFloat() * 32f - 16f;
+            zs[i] = random.nextFloat() * 32f - 16f;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float objects2D() {
+        float sum = 0f;
+        for (int s = 0; s < SAMPLES; s++) {
+            float x = xs[s], y = ys[s], distance = 999999;
+            int xr = Math.round(x), yr = Math.round(y);
+            for (int xi = xr - 1; xi <= xr + 1; xi++) {
+                for (int yi = yr - 1; yi <= yr + 1; yi++) {
+                    Noise.Float2 vec = objects2D[Noise.hash256(xi, yi, SEED)];
+                    float vecX = xi - x + vec.x, vecY = yi - y + vec.y;
+                    distance = Math.min(distance, vecX * vecX + vecY * vecY);
+                }
+            }
+            sum += distance;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float packed2D() {
+        float sum = 0f;
+        for (int s = 0; s < SAMPLES; s++) {
+            float x = xs[s], y = ys[s], distance = 999999;
+            int xr = Math.round(x), yr = Math.round(y);
+            for (int xi = xr - 1; xi <= xr + 1; xi++) {
+                for (int yi = yr - 1; yi <= yr + 1; yi++) {
+                    int cell = Noise.hash256(xi, yi, SEED) << 1;
+                    float vecX = xi - x + packed2D[cell], vecY = yi - y + packed2D[cell + 1];
+                    distance = Math.min(distance, vecX * vecX + vecY * vecY);
+                }
+            }
+            sum += distance;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float objects3D() {
+        float sum = 0f;
+        for (int s = 0; s < SAMPLES; s++) {
+            float x = xs[s], y = ys[s], z = zs[s], distance = 999999;
+            int xr = Math.round(x), yr = Math.round(y), zr = Math.round(z);
+            for (int xi = xr - 1; xi <= xr + 1; xi++) {
+                for (int yi = yr - 1; yi <= yr + 1; yi++) {
+                    for (int zi = zr - 1; zi <= zr + 1; zi++) {
+                        Noise.Float3 vec = objects3D[Noise.hash256(xi, yi, zi, SEED)];
+                        float vecX = xi - x + vec.x, vecY = yi - y + vec.y, vecZ = zi - z + vec.z;
+                        distance = Math.min(distance, vecX * vecX + vecY * vecY + vecZ * vecZ);
+                    }
+                }
+            }
+            sum += distance;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float packed3D() {
+        float sum = 0f;
+        for (int s = 0; s < SAMPLES; s++) {
+            float x = xs[s], y = ys[s], z = zs[s], distance = 999999;
+            int xr = Math.round(x), yr = Math.round(y), zr = Math.round(z);
+            for (int xi = xr - 1; xi <= xr + 1; xi++) {
+                for (int yi = yr - 1; yi <= yr + 1; yi++) {
+                    for (int zi = zr - 1; zi <= zr + 1; zi++) {
+                        int cell = Noise.hash256(xi, yi, zi, SEED) << 2;
+                        float vecX = xi - x + packed3D[cell], vecY = yi - y + packed3D[cell + 1],
+                                vecZ = zi - z + packed3D[cell + 2];
+                        distance = Math.min(distance, vecX * vecX + vecY * vecY + vecZ * vecZ);
+                    }
+                }
+            }
+            sum += distance;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,124 @@
+package make.some.noise.benchmarks;
+
+import make.some.noise.Noise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Random;
+
+/**
+ * Measures cellular noise with each distance function and a few return types, and compares the pruned neighbor
+ * search that 3D cellular noise uses now against visiting all 27 neighboring cells, which is how it used to work.
+ * The inherited benchmarks call {@link Noise#getConfiguredNoise(float, float, float)} and friends, so the 3D and 4D
+ * to 6D results show the pruned search as a whole. {@link #bruteForce3D()} and {@link #pruned3D()} do only the
+ * nearest-point search, over the same points and the same packed cell point offsets, so the only difference between
+ * them is which cells get visited.
+ */
+public class CellularSearchBenchmark extends NoiseBenchmark {
+    private static final int SEED = 0x1337BEEF;
+    private static final float JITTER = 0.4501f;
+    private static final int[] ORDER = {0, 1, -1};
+
+    @Param({"EUCLIDEAN", "MANHATTAN", "NATURAL"})
+    public String distanceFunction;
+
+    @Param({"CELL_VALUE", "DISTANCE", "DISTANCE_2_ADD"})
+    public String returnType;
+
+    private final float[] cells = new float[256 * 4];
+    private int distance;
+
+    public CellularSearchBenchmark() {
+        Random random = new Random(987654321L);
+        for (int i = 0; i < 256; i++) {
+            cells[i << 2] = random.nextFloat() * 0.9f - 0.45f;
+            cells[i << 2 | 1] = random.nextFloat() * 0.9f - 0.45f;
+            cells[i << 2 | 2] = random.nextFloat() * 0.9f - 0.45f;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        noise.setNoiseType(Noise.CELLULAR);
+        noise.setCellularDistanceFunction(distance = constant(distanceFunction));
+        noise.setCellularReturnType(constant(returnType));
+        noise.setFrequency(0.0625f);
+    }
+
+    private float distance(float vecX, float vecY, float vecZ) {
+        switch (distance) {
+            case Noise.MANHATTAN:
+                return Math.abs(vecX) + Math.abs(vecY) + Math.abs(vecZ);
+            case Noise.NATURAL:
+                return (Math.abs(vecX) + Math.abs(vecY) + Math.abs(vecZ)) + (vecX * vecX + vecY * vecY + vecZ * vecZ);
+            default:
+                return vecX * vecX + vecY * vecY + vecZ * vecZ;
+        }
+    }
+
+    private float bound(float d) {
+        d = Math.abs(d) - JITTER;
+        if (d <= 0f) return 0f;
+        switch (distance) {
+            case Noise.MANHATTAN:
+                return d;
+            case Noise.NATURAL:
+                return d + d * d;
+            default:
+                return d * d;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float bruteForce3D() {
+        float sum = 0f;
+        for (int s = 0; s < SAMPLES; s++) {
+            float x = xs[s] * 0.0625f, y = ys[s] * 0.0625f, z = zs[s] * 0.0625f, nearest = 999999;
+            int xr = Math.round(x), yr = Math.round(y), zr = Math.round(z);
+            for (int xi = xr - 1; xi <= xr + 1; xi++) {
+                for (int yi = yr - 1; yi <= yr + 1; yi++) {
+                    for (int zi = zr - 1; zi <= zr + 1; zi++) {
+                        int cell = Noise.hash256(xi, yi, zi, SEED) << 2;
+                        nearest = Math.min(nearest,
+                                distance(xi - x + cells[cell], yi - y + cells[cell + 1], zi - z + cells[cell + 2]));
+                    }
+                }
+            }
+            sum += nearest;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float pruned3D() {
+        float sum = 0f;
+        for (int s = 0; s < SAMPLES; s++) {
+            float x = xs[s] * 0.0625f, y = ys[s] * 0.0625f, z = zs[s] * 0.0625f, nearest = 999999;
+            int xr = Math.round(x), yr = Math.round(y), zr = Math.round(z);
+            int xs = x < xr ? -1 : 1, ys = y < yr ? -1 : 1, zs = z < zr ? -1 : 1;
+            for (int i = 0; i < 3; i++) {
+                int xi = xr + ORDER[i] * xs;
+                float bx = bound(xi - x);
+                if (bx > nearest) break;
+                for (int j = 0; j < 3; j++) {
+                    int yi = yr + ORDER[j] * ys;
+                    float bxy = bx + bound(yi - y);
+                    if (bxy > nearest) break;
+                    for (int k = 0; k < 3; k++) {
+                        int zi = zr + ORDER[k] * zs;
+                        if (bxy + bound(zi - z) > nearest) break;
+                        int cell = Noise.hash256(xi, yi, zi, SEED) << 2;
+                        nearest = Math.min(nearest,
+                                distance(xi - x + cells[cell], yi - y + cells[cell + 1], zi - z + cells[cell + 2]));
+                    }
+                }
+            }
+            sum += nearest;
+        }
+        return sum;
+    }
+}
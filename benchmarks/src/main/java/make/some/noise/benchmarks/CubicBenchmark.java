@@ -0,0 +1,88 @@
+package make.some.noise.benchmarks;
+
+import make.some.noise.Noise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Measures Cubic noise, which interpolates between 4 lattice points on each axis, so it hashes 4 to the power of the
+ * dimension count for each point it evaluates. The inherited benchmarks cover 2D to 6D one point at a time. The
+ * grid and volume benchmarks compare that against {@link Noise#fillGrid(float[], int, int, float, float, float)} and
+ * {@link Noise#fillVolume(float[], int, int, int, float, float, float, float)} (and the 4D overload with a fixed w),
+ * which hash each lattice point once per octave and share it between every point nearby. Each area has
+ * {@link #SAMPLES} points.
+ */
+public class CubicBenchmark extends NoiseBenchmark {
+    private static final float STEP = 0.5f;
+
+    @Param({"CUBIC", "CUBIC_FRACTAL"})
+    public String noiseType;
+
+    private final float[] area = new float[SAMPLES];
+
+    @Setup
+    public void setup() {
+        noise.setNoiseType(constant(noiseType));
+        noise.setFrequency(0.0625f);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float pointGrid2D() {
+        float sum = 0f;
+        for (int j = 0; j < 32; j++) {
+            for (int i = 0; i < 32; i++) {
+                sum += noise.getConfiguredNoise(i * STEP, j * STEP);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float[] fillGrid2D() {
+        return noise.fillGrid(area, 32, 32, 0f, 0f, STEP);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float pointVolume3D() {
+        float sum = 0f;
+        for (int k = 0; k < 8; k++) {
+            for (int j = 0; j < 8; j++) {
+                for (int i = 0; i < 16; i++) {
+                    sum += noise.getConfiguredNoise(i * STEP, j * STEP, k * STEP);
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float[] fillVolume3D() {
+        return noise.fillVolume(area, 16, 8, 8, 0f, 0f, 0f, STEP);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float pointVolume4D() {
+        float sum = 0f;
+        for (int k = 0; k < 8; k++) {
+            for (int j = 0; j < 8; j++) {
+                for (int i = 0; i < 16; i++) {
+                    sum += noise.getConfiguredNoise(i * STEP, j * STEP, k * STEP, 1.5f);
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float[] fillVolume4D() {
+        return noise.fillVolume(area, 16, 8, 8, 0f, 0f, 0f, 1.5f, STEP);
+    }
+}
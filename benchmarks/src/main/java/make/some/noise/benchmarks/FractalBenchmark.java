@@ -0,0 +1,57 @@
+package make.some.noise.benchmarks;
+
+import make.some.noise.Noise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Measures every fractal noise type in 2D through 6D with each fractal type and 1 to 8 octaves, using the default
+ * interpolation. The time per sample should grow about linearly with the octave count. The compiled benchmarks run the
+ * same points through {@link Noise#compile2D()} and {@link Noise#compile3D()}, to compare with noise2D and noise3D.
+ */
+public class FractalBenchmark extends NoiseBenchmark {
+    @Param({"VALUE_FRACTAL", "PERLIN_FRACTAL", "SIMPLEX_FRACTAL", "CUBIC_FRACTAL", "FOAM_FRACTAL", "HONEY_FRACTAL",
+            "MUTANT_FRACTAL"})
+    public String noiseType;
+
+    @Param({"FBM", "BILLOW", "RIDGED_MULTI"})
+    public String fractalType;
+
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8"})
+    public int octaves;
+
+    private Noise.Compiled2D compiled2D;
+    private Noise.Compiled3D compiled3D;
+
+    @Setup
+    public void setup() {
+        noise.setNoiseType(constant(noiseType));
+        noise.setFractalType(constant(fractalType));
+        noise.setFractalOctaves(octaves);
+        noise.setFrequency(0.0625f);
+        compiled2D = noise.compile2D();
+        compiled3D = noise.compile3D();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float compiled2D() {
+        float sum = 0f;
+        for (int i = 0; i < SAMPLES; i++) {
+            sum += compiled2D.getNoise(xs[i], ys[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float compiled3D() {
+        float sum = 0f;
+        for (int i = 0; i < SAMPLES; i++) {
+            sum += compiled3D.getNoise(xs[i], ys[i], zs[i]);
+        }
+        return sum;
+    }
+}
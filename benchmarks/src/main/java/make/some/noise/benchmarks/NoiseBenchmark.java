@@ -0,0 +1,110 @@
+package make.some.noise.benchmarks;
+
+import make.some.noise.Noise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared setup for benchmarks that call {@link Noise#getConfiguredNoise(float, float)} and its 3D to 6D overloads on a
+ * fixed set of {@link #SAMPLES} pseudo-random points, reporting the average time per sample in nanoseconds.
+ * Subclasses only need to configure {@link #noise} in a {@link org.openjdk.jmh.annotations.Setup} method, using the
+ * names of Noise's constants as {@link org.openjdk.jmh.annotations.Param} values so the JSON results are readable.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class NoiseBenchmark {
+    public static final int SAMPLES = 1024;
+
+    protected final Noise noise = new Noise(0x1337BEEF);
+    protected final float[] xs = new float[SAMPLES], ys = new float[SAMPLES], zs = new float[SAMPLES],
+            ws = new float[SAMPLES], us = new float[SAMPLES], vs = new float[SAMPLES];
+
+    protected NoiseBenchmark() {
+        Random random = new Random(123456789L);
+        for (int i = 0; i < SAMPLES; i++) {
+            xs[i] = random.nextFloat() * 512f - 256f;
+            ys[i] = random.nextFloat() * 512f - 256f;
+            zs[i] = random.nextFloat() * 512f - 256f;
+            ws[i] = random.nextFloat() * 512f - 256f;
+            us[i] = random.nextFloat() * 512f - 256f;
+            vs[i] = random.nextFloat() * 512f - 256f;
+        }
+    }
+
+    /**
+     * Gets the value of one of the public int constants in {@link Noise}, like {@code "SIMPLEX_FRACTAL"} or
+     * {@code "QUINTIC"}, by name.
+     */
+    protected static int constant(String name) {
+        try {
+            return Noise.class.getField(name).getInt(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("No int constant in Noise named " + name, e);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float noise2D() {
+        float sum = 0f;
+        for (int i = 0; i < SAMPLES; i++) {
+            sum += noise.getConfiguredNoise(xs[i], ys[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float noise3D() {
+        float sum = 0f;
+        for (int i = 0; i < SAMPLES; i++) {
+            sum += noise.getConfiguredNoise(xs[i], ys[i], zs[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float noise4D() {
+        float sum = 0f;
+        for (int i = 0; i < SAMPLES; i++) {
+            sum += noise.getConfiguredNoise(xs[i], ys[i], zs[i], ws[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float noise5D() {
+        float sum = 0f;
+        for (int i = 0; i < SAMPLES; i++) {
+            sum += noise.getConfiguredNoise(xs[i], ys[i], zs[i], ws[i], us[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public float noise6D() {
+        float sum = 0f;
+        for (int i = 0; i < SAMPLES; i++) {
+            sum += noise.getConfiguredNoise(xs[i], ys[i], zs[i], ws[i], us[i], vs[i]);
+        }
+        return sum;
+    }
+}
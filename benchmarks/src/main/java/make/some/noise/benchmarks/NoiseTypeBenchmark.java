@@ -0,0 +1,27 @@
+package make.some.noise.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Measures every noise type in 2D through 6D with each interpolation. Fractal types use 3 octaves of FBM here; see
+ * {@link FractalBenchmark} for the other fractal settings. Some types ignore the interpolation, which makes a useful
+ * baseline for the ones that don't.
+ */
+public class NoiseTypeBenchmark extends NoiseBenchmark {
+    @Param({"VALUE", "VALUE_FRACTAL", "PERLIN", "PERLIN_FRACTAL", "SIMPLEX", "SIMPLEX_FRACTAL", "CELLULAR",
+            "WHITE_NOISE", "CUBIC", "CUBIC_FRACTAL", "FOAM", "FOAM_FRACTAL", "HONEY", "HONEY_FRACTAL", "MUTANT",
+            "MUTANT_FRACTAL"})
+    public String noiseType;
+
+    @Param({"LINEAR", "HERMITE", "QUINTIC"})
+    public String interpolation;
+
+    @Setup
+    public void setup() {
+        noise.setNoiseType(constant(noiseType));
+        noise.setInterpolation(constant(interpolation));
+        noise.setFractalOctaves(3);
+        noise.setFrequency(0.0625f);
+    }
+}
@@ -0,0 +1,182 @@
+package make.some.noise;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes large 2D grids of noise, such as multi-gigabyte heightmaps made ahead of time, as raw samples without ever
+ * holding the whole grid in memory. The grid is produced a band of rows at a time with
+ * {@link Noise#fillGridRows(float[], int, int, int, int, float, float, float, Noise.FillContext)}, converted to the
+ * requested {@link #FLOAT32}, {@link #UINT16} or {@link #UINT8} format, and written out before the next band is made;
+ * every band reuses the same output buffers and {@link Noise.FillContext}, so the memory used stays the same no matter
+ * how big the grid is. The samples are identical to what
+ * {@link Noise#fillGrid(float[], int, int, float, float, float)} produces, in the same row-major order, with no header.
+ * <br>
+ * The output can go to a {@link FileChannel}, which is written at a given position and can be as large as the file
+ * system allows, or to any {@link ByteBuffer}, such as a {@link java.nio.MappedByteBuffer} from
+ * {@link FileChannel#map(FileChannel.MapMode, long, long)}. Files are written in little-endian order; ByteBuffers are
+ * written in whatever order they are set to use.
+ * <br>
+ * This class needs java.nio.channels and java.nio.file, so it isn't available on GWT; the GWT module excludes it.
+ */
+public class HeightmapWriter {
+    /**
+     * Each sample is written as a 4-byte float, unchanged.
+     */
+    public static final int FLOAT32 = 0;
+    /**
+     * Each sample is written as a 2-byte unsigned short, with -1 mapped to 0 and 1 mapped to 65535.
+     */
+    public static final int UINT16 = 1;
+    /**
+     * Each sample is written as one unsigned byte, with -1 mapped to 0 and 1 mapped to 255.
+     */
+    public static final int UINT8 = 2;
+
+    /**
+     * About how many samples are produced and written at a time, unless a single row is larger than this.
+     */
+    public static final int BAND_SAMPLES = 1 << 16;
+
+    private HeightmapWriter() {
+    }
+
+    /**
+     * Gets how many bytes one sample takes up in the given format.
+     * @param format {@link #FLOAT32}, {@link #UINT16}, or {@link #UINT8}
+     * @return 4, 2, or 1
+     */
+    public static int bytesPerSample(int format) {
+        switch (format) {
+            case FLOAT32:
+                return 4;
+            case UINT16:
+                return 2;
+            case UINT8:
+                return 1;
+            default:
+                throw new IllegalArgumentException("Unknown heightmap format: " + format);
+        }
+    }
+
+    /**
+     * Writes a 2D grid of noise to the file at {@code path}, replacing anything it held before. The file ends up with
+     * exactly {@code width * height * bytesPerSample(format)} bytes, in little-endian order.
+     * @param noise the Noise whose configuration will be used; it isn't changed
+     * @param path where to write the file
+     * @param format {@link #FLOAT32}, {@link #UINT16}, or {@link #UINT8}
+     * @param width how many columns to write, each one {@code step} further along the x-axis than the last
+     * @param height how many rows to write, each one {@code step} further along the y-axis than the last
+     * @param x0 x position of the first column, as a float
+     * @param y0 y position of the first row, as a float
+     * @param step the distance between adjacent samples, before the frequency is applied
+     * @return how many bytes were written
+     * @throws IOException if the file can't be opened or written
+     */
+    public static long write(Noise noise, Path path, int format, int width, int height, float x0, float y0,
+                             float step) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            return write(noise, channel, 0L, format, width, height, x0, y0, step);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Writes a 2D grid of noise to {@code channel}, starting at byte {@code position}, in little-endian order. This
+     * uses positional writes, so the channel's own position isn't changed, and other parts of the same file can be
+     * written with other calls, such as a header or neighboring tiles of a larger map.
+     * @param noise the Noise whose configuration will be used; it isn't changed
+     * @param channel a FileChannel opened for writing
+     * @param position the byte position in the file where the first sample goes
+     * @param format {@link #FLOAT32}, {@link #UINT16}, or {@link #UINT8}
+     * @param width how many columns to write, each one {@code step} further along the x-axis than the last
+     * @param height how many rows to write, each one {@code step} further along the y-axis than the last
+     * @param x0 x position of the first column, as a float
+     * @param y0 y position of the first row, as a float
+     * @param step the distance between adjacent samples, before the frequency is applied
+     * @return how many bytes were written
+     * @throws IOException if writing to the channel fails
+     */
+    public static long write(Noise noise, FileChannel channel, long position, int format, int width, int height,
+                             float x0, float y0, float step) throws IOException {
+        final int size = bytesPerSample(format), rows = Math.max(1, BAND_SAMPLES / Math.max(1, width));
+        final Noise frozen = noise.freeze();
+        final float[] band = new float[rows * width];
+        final Noise.FillContext context = new Noise.FillContext();
+        final ByteBuffer bytes = ByteBuffer.allocateDirect(band.length * size).order(ByteOrder.LITTLE_ENDIAN);
+        long written = 0L;
+        for (int startRow = 0; startRow < height; startRow += rows) {
+            final int endRow = Math.min(height, startRow + rows), count = (endRow - startRow) * width;
+            frozen.fillGridRows(band, 0, width, startRow, endRow, x0, y0, step, context);
+            bytes.clear();
+            put(bytes, format, band, count);
+            bytes.flip();
+            while (bytes.hasRemaining())
+                written += channel.write(bytes, position + written);
+        }
+        return written;
+    }
+
+    /**
+     * Writes a 2D grid of noise into {@code out}, starting at its current position and moving the position past the
+     * written samples, in the byte order {@code out} uses. This is meant for a {@link java.nio.MappedByteBuffer}, but
+     * works with any ByteBuffer; it must have at least {@code width * height * bytesPerSample(format)} bytes remaining.
+     * @param noise the Noise whose configuration will be used; it isn't changed
+     * @param out a ByteBuffer that will have noise written into it
+     * @param format {@link #FLOAT32}, {@link #UINT16}, or {@link #UINT8}
+     * @param width how many columns to write, each one {@code step} further along the x-axis than the last
+     * @param height how many rows to write, each one {@code step} further along the y-axis than the last
+     * @param x0 x position of the first column, as a float
+     * @param y0 y position of the first row, as a float
+     * @param step the distance between adjacent samples, before the frequency is applied
+     * @return {@code out}, after modifications
+     */
+    public static ByteBuffer write(Noise noise, ByteBuffer out, int format, int width, int height, float x0, float y0,
+                                   float step) {
+        final int rows = Math.max(1, BAND_SAMPLES / Math.max(1, width));
+        bytesPerSample(format);
+        final Noise frozen = noise.freeze();
+        final float[] band = new float[rows * width];
+        final Noise.FillContext context = new Noise.FillContext();
+        for (int startRow = 0; startRow < height; startRow += rows) {
+            final int endRow = Math.min(height, startRow + rows);
+            frozen.fillGridRows(band, 0, width, startRow, endRow, x0, y0, step, context);
+            put(out, format, band, (endRow - startRow) * width);
+        }
+        return out;
+    }
+
+    /**
+     * Converts the first {@code count} samples in {@code band} to {@code format} and puts them into {@code out}.
+     */
+    private static void put(ByteBuffer out, int format, float[] band, int count) {
+        switch (format) {
+            case FLOAT32:
+                out.asFloatBuffer().put(band, 0, count);
+                out.position(out.position() + count * 4);
+                break;
+            case UINT16:
+                for (int i = 0; i < count; i++)
+                    out.putShort((short) quantize(band[i], 65535f));
+                break;
+            default:
+                for (int i = 0; i < count; i++)
+                    out.put((byte) quantize(band[i], 255f));
+        }
+    }
+
+    /**
+     * Maps a sample from -1 to 1 onto the range 0 to {@code max}, rounding to the nearest integer and clamping
+     * anything outside the range.
+     */
+    private static int quantize(float sample, float max) {
+        return (int) Math.min(max, Math.max(0f, (sample + 1f) * 0.5f * max + 0.5f));
+    }
+}
@@ -103,7 +103,7 @@ public class Noise {
      */
     SIMPLEX_FRACTAL = 5,
     /**
-     * Creates a Voronoi diagram of 2D or 3D space and fills cells based on the {@link #setCellularReturnType(int)},
+     * Creates a Voronoi diagram of 2D to 6D space and fills cells based on the {@link #setCellularReturnType(int)},
      * {@link #setCellularDistanceFunction(int)}, and possibly the {@link #setCellularNoiseLookup(Noise)}. This is
      * more of an advanced usage, but can yield useful results when oddly-shaped areas should have similar values.
      * <br>
@@ -379,6 +379,16 @@ public class Noise {
      * @see #getMutation()
      */
     protected float mutation = 0f;
+
+    /**
+     * @see #getCellularNoiseLookup()
+     */
+    protected FrozenNoise cellularNoiseLookup = null;
+
+    /**
+     * Remembers recent {@link #NOISE_LOOKUP} results; made when first needed, and dropped when the lookup changes.
+     */
+    private CellLookupCache cellLookupCache = null;
     
     /**
      * A publicly available Noise object with seed 1337, frequency 1.0f/32.0f, 1 octave of Simplex noise using
@@ -480,11 +490,27 @@ public class Noise {
 
     /**
      * Copy constructor; copies all non-temporary fields from  {@code other} into this. Everything this copies is a
-     * primitive value.
+     * primitive value, except for the cellular noise lookup, which is a FrozenNoise and so can be shared, along with
+     * the cache of its results.
      * @param other another Noise, which must not be null
      */
     public Noise(final Noise other) {
-        this(other.seed, other.frequency, other.noiseType, other.octaves, other.lacunarity, other.gain);
+        copyConfiguration(other);
+    }
+
+    /**
+     * Copies all non-temporary fields from {@code other} into this, the same as the copy constructor does, without
+     * going through setters (so this works on a {@link FrozenNoise} too). This is how a reused {@link ScanlineNoise}
+     * gets the current configuration of the Noise that fills an area with it.
+     * @param other another Noise, which must not be null
+     */
+    private void copyConfiguration(final Noise other) {
+        this.seed = other.seed;
+        this.frequency = other.frequency;
+        this.noiseType = other.noiseType;
+        this.octaves = other.octaves;
+        this.lacunarity = other.lacunarity;
+        this.gain = other.gain;
         this.fractalType = other.fractalType;
         this.interpolation = other.interpolation;
         this.gradientPerturbAmp = other.gradientPerturbAmp;
@@ -492,6 +518,19 @@ public class Noise {
         this.cellularDistanceFunction = other.cellularDistanceFunction;
         this.foamSharpness = other.foamSharpness;
         this.mutation = other.mutation;
+        this.cellularNoiseLookup = other.cellularNoiseLookup;
+        this.cellLookupCache = other.cellLookupCache;
+        calculateFractalBounding();
+    }
+
+    /**
+     * Makes a {@link FrozenNoise} with the same configuration as this Noise has now. The FrozenNoise can't be changed
+     * after it is made, so one FrozenNoise can be shared by any number of threads, such as the workers in a thread
+     * pool, without any locking or per-thread copies. Later changes to this Noise don't affect the FrozenNoise.
+     * @return a new FrozenNoise with this Noise's current configuration
+     */
+    public FrozenNoise freeze() {
+        return new FrozenNoise(this);
     }
 
     protected static float dotf(final float[] g, final float x, final float y) {
@@ -706,10 +745,28 @@ public class Noise {
     }
 
     /**
-     * A no-op method that is here for compatibility with earlier versions.
-     * @param noise ignored
+     * Sets the Noise that cellular noise samples when using the {@link #NOISE_LOOKUP} return type. It is sampled with
+     * its own configuration (including its own frequency) at the nearest feature point, in the coordinates this Noise
+     * uses after applying its frequency, so every point in a cell gets the same value. This stores a frozen copy of
+     * {@code noise}, so later changes to {@code noise} have no effect unless this is called again. If this is never
+     * called, or is given null, NOISE_LOOKUP uses a few octaves of ridged simplex noise instead.
+     * <br>
+     * Because the value only depends on the nearest cell, cellular noise keeps the results for a few thousand recently
+     * used cells, and doesn't sample the lookup again for those. That cache is safe to use from many threads at once.
+     * @param noise the Noise to sample for each cell with NOISE_LOOKUP, or null to use the default
      */
     public void setCellularNoiseLookup(Noise noise) {
+        cellularNoiseLookup = noise == null ? null : noise.freeze();
+        cellLookupCache = null;
+    }
+
+    /**
+     * Gets the frozen copy of the Noise set by {@link #setCellularNoiseLookup(Noise)}, or null if none is set and
+     * cellular noise uses its default lookup with {@link #NOISE_LOOKUP}.
+     * @return the Noise sampled for each cell by NOISE_LOOKUP, or null if using the default
+     */
+    public Noise getCellularNoiseLookup() {
+        return cellularNoiseLookup;
     }
 
     /**
@@ -772,28 +829,60 @@ public class Noise {
         this.mutation = mutation;
     }
 
+    /**
+     * Gets the noise this would produce at the given 2D position, with the seed this object stores. For
+     * {@link #VALUE}, {@link #PERLIN}, {@link #SIMPLEX} and {@link #FOAM}, and their fractal variants, the frequency
+     * is applied and the lattice cell is found in double precision, and only the offset inside that cell is handed to
+     * the float noise code, so this stays smooth far past where float coordinates turn into stair-steps (about
+     * 2 to the 17 at the default frequency). Other noise types cast to float and call
+     * {@link #getConfiguredNoise(float, float)}.
+     * @param x x position, as a double; this is multiplied by the frequency
+     * @param y y position, as a double; this is multiplied by the frequency
+     * @return noise as a double from -1.0 to 1.0
+     */
     public double getNoise(double x, double y) {
-        return getConfiguredNoise((float)x, (float)y);
+        return getPreciseNoise(x, y, seed);
     }
 
+    /**
+     * Gets the same noise {@link #getNoise(double, double)} would produce, but using the given {@code seed} instead
+     * of the seed this object stores. The long seed is folded into an int with {@code (int) (seed ^ seed >>> 32)}.
+     * @param x x position, as a double; this is multiplied by the frequency
+     * @param y y position, as a double; this is multiplied by the frequency
+     * @param seed the long seed to use instead of {@link #getSeed()}
+     * @return noise as a double from -1.0 to 1.0
+     */
     public double getNoiseWithSeed(double x, double y, long seed) {
-        int s = this.seed;
-        this.seed = (int) (seed ^ seed >>> 32);
-        double r = getConfiguredNoise((float)x, (float)y);
-        this.seed = s;
-        return r;
+        return getPreciseNoise(x, y, (int) (seed ^ seed >>> 32));
     }
 
+    /**
+     * Gets the noise this would produce at the given 3D position, with the seed this object stores. For
+     * {@link #VALUE}, {@link #PERLIN}, {@link #SIMPLEX} and {@link #FOAM}, and their fractal variants, the frequency
+     * is applied and the lattice cell is found in double precision, and only the offset inside that cell is handed to
+     * the float noise code, so this stays smooth far past where float coordinates turn into stair-steps. Other noise
+     * types cast to float and call {@link #getConfiguredNoise(float, float, float)}.
+     * @param x x position, as a double; this is multiplied by the frequency
+     * @param y y position, as a double; this is multiplied by the frequency
+     * @param z z position, as a double; this is multiplied by the frequency
+     * @return noise as a double from -1.0 to 1.0
+     */
     public double getNoise(double x, double y, double z) {
-        return getConfiguredNoise((float)x, (float)y, (float)z);
+        return getPreciseNoise(x, y, z, seed);
     }
 
+    /**
+     * Gets the same noise {@link #getNoise(double, double, double)} would produce, but using the given {@code seed}
+     * instead of the seed this object stores. The long seed is folded into an int with
+     * {@code (int) (seed ^ seed >>> 32)}.
+     * @param x x position, as a double; this is multiplied by the frequency
+     * @param y y position, as a double; this is multiplied by the frequency
+     * @param z z position, as a double; this is multiplied by the frequency
+     * @param seed the long seed to use instead of {@link #getSeed()}
+     * @return noise as a double from -1.0 to 1.0
+     */
     public double getNoiseWithSeed(double x, double y, double z, long seed) {
-        int s = this.seed;
-        this.seed = (int) (seed ^ seed >>> 32);
-        double r = getConfiguredNoise((float)x, (float)y, (float)z);
-        this.seed = s;
-        return r;
+        return getPreciseNoise(x, y, z, (int) (seed ^ seed >>> 32));
     }
 
     public double getNoise(double x, double y, double z, double w) {
@@ -801,11 +890,7 @@ public class Noise {
     }
 
     public double getNoiseWithSeed(double x, double y, double z, double w, long seed) {
-        int s = this.seed;
-        this.seed = (int) (seed ^ seed >>> 32);
-        double r = getConfiguredNoise((float)x, (float)y, (float)z, (float)w);
-        this.seed = s;
-        return r;
+        return getNoiseWithSeed((float)x, (float)y, (float)z, (float)w, (int) (seed ^ seed >>> 32));
     }
 
     public double getNoise(double x, double y, double z, double w, double u) {
@@ -813,11 +898,7 @@ public class Noise {
     }
 
     public double getNoiseWithSeed(double x, double y, double z, double w, double u, long seed) {
-        int s = this.seed;
-        this.seed = (int) (seed ^ seed >>> 32);
-        double r = getConfiguredNoise((float)x, (float)y, (float)z, (float)w, (float)u);
-        this.seed = s;
-        return r;
+        return getNoiseWithSeed((float)x, (float)y, (float)z, (float)w, (float)u, (int) (seed ^ seed >>> 32));
     }
 
     public double getNoise(double x, double y, double z, double w, double u, double v) {
@@ -825,49 +906,187 @@ public class Noise {
     }
 
     public double getNoiseWithSeed(double x, double y, double z, double w, double u, double v, long seed) {
-        int s = this.seed;
-        this.seed = (int) (seed ^ seed >>> 32);
-        double r = getConfiguredNoise((float)x, (float)y, (float)z, (float)w, (float)u, (float)v);
-        this.seed = s;
-        return r;
+        return getNoiseWithSeed((float)x, (float)y, (float)z, (float)w, (float)u, (float)v, (int) (seed ^ seed >>> 32));
     }
-    
-    public float getNoiseWithSeed(float x, float y, int seed) {
-        final int s = this.seed;
-        this.seed = seed;
-        float r = getConfiguredNoise(x, y);
-        this.seed = s;
-        return r;
+
+    /**
+     * The double-precision path behind {@link #getNoise(double, double)}; see there.
+     */
+    private double getPreciseNoise(double x, double y, int seed) {
+        switch (noiseType) {
+            case VALUE:
+            case PERLIN:
+            case SIMPLEX:
+            case FOAM:
+                return singlePrecise(seed, x * frequency, y * frequency);
+            case VALUE_FRACTAL:
+            case PERLIN_FRACTAL:
+            case SIMPLEX_FRACTAL:
+            case FOAM_FRACTAL:
+                return singlePreciseFractal(seed, x * frequency, y * frequency);
+            default:
+                return getNoiseWithSeed((float) x, (float) y, seed);
+        }
     }
-    public float getNoiseWithSeed(float x, float y, float z, int seed) {
-        final int s = this.seed;
-        this.seed = seed;
-        float r = getConfiguredNoise(x, y, z);
-        this.seed = s;
-        return r;
+
+    /**
+     * The double-precision path behind {@link #getNoise(double, double, double)}; see there.
+     */
+    private double getPreciseNoise(double x, double y, double z, int seed) {
+        switch (noiseType) {
+            case VALUE:
+            case PERLIN:
+            case SIMPLEX:
+            case FOAM:
+                return singlePrecise(seed, x * frequency, y * frequency, z * frequency);
+            case VALUE_FRACTAL:
+            case PERLIN_FRACTAL:
+            case SIMPLEX_FRACTAL:
+            case FOAM_FRACTAL:
+                return singlePreciseFractal(seed, x * frequency, y * frequency, z * frequency);
+            default:
+                return getNoiseWithSeed((float) x, (float) y, (float) z, seed);
+        }
     }
-    public float getNoiseWithSeed(float x, float y, float z, float w, int seed) {
-        final int s = this.seed;
-        this.seed = seed;
-        float r = getConfiguredNoise(x, y, z, w);
-        this.seed = s;
-        return r;
+
+    /**
+     * One octave of Value, Perlin, Simplex or Foam noise, whichever {@link #noiseType} is or is the fractal form of,
+     * at a position that has already been multiplied by the frequency.
+     */
+    private float singlePrecise(int seed, double x, double y) {
+        switch (noiseType) {
+            case VALUE:
+            case VALUE_FRACTAL:
+                return singleValue(seed, x, y);
+            case PERLIN:
+            case PERLIN_FRACTAL:
+                return singlePerlin(seed, x, y);
+            case FOAM:
+            case FOAM_FRACTAL:
+                return singleFoam(seed, x, y);
+            default:
+                return singleSimplex(seed, x, y);
+        }
     }
 
-    public float getNoiseWithSeed(float x, float y, float z, float w, float u, int seed) {
-        final int s = this.seed;
-        this.seed = seed;
-        float r = getConfiguredNoise(x, y, z, w, u);
-        this.seed = s;
-        return r;
+    private float singlePrecise(int seed, double x, double y, double z) {
+        switch (noiseType) {
+            case VALUE:
+            case VALUE_FRACTAL:
+                return singleValue(seed, x, y, z);
+            case PERLIN:
+            case PERLIN_FRACTAL:
+                return singlePerlin(seed, x, y, z);
+            case FOAM:
+            case FOAM_FRACTAL:
+                return singleFoam(seed, x, y, z);
+            default:
+                return singleSimplex(seed, x, y, z);
+        }
     }
 
-    public float getNoiseWithSeed(float x, float y, float z, float w, float u, float v, int seed) {
-        final int s = this.seed;
-        this.seed = seed;
-        float r = getConfiguredNoise(x, y, z, w, u, v);
-        this.seed = s;
-        return r;
+    /**
+     * Layers octaves of {@link #singlePrecise(int, double, double)} the same way the float fractal methods do, with
+     * octave {@code i} using {@code seed + i}, and swapping x and y each octave for Foam like
+     * {@link #singleFoamFractalFBM(int, float, float)} does. Positions are scaled by the lacunarity in double.
+     */
+    private float singlePreciseFractal(int seed, double x, double y) {
+        final boolean swap = noiseType == FOAM_FRACTAL;
+        double t;
+        switch (fractalType) {
+            case BILLOW: {
+                float sum = Math.abs(singlePrecise(seed, x, y)) * 2 - 1;
+                float amp = 1;
+                for (int i = 1; i < octaves; i++) {
+                    if (swap) {
+                        t = x;
+                        x = y * lacunarity;
+                        y = t * lacunarity;
+                    } else {
+                        x *= lacunarity;
+                        y *= lacunarity;
+                    }
+                    amp *= gain;
+                    sum += (Math.abs(singlePrecise(seed + i, x, y)) * 2 - 1) * amp;
+                }
+                return sum * fractalBounding;
+            }
+            case RIDGED_MULTI: {
+                float sum = 0f, exp = 2f, correction = 0f, spike;
+                for (int i = 0; i < octaves; i++) {
+                    spike = 1f - Math.abs(singlePrecise(seed + i, x, y));
+                    correction += (exp *= 0.5);
+                    sum += spike * exp;
+                    if (swap) {
+                        t = x;
+                        x = y * lacunarity;
+                        y = t * lacunarity;
+                    } else {
+                        x *= lacunarity;
+                        y *= lacunarity;
+                    }
+                }
+                return sum * 2f / correction - 1f;
+            }
+            default: {
+                float sum = singlePrecise(seed, x, y);
+                float amp = 1;
+                for (int i = 1; i < octaves; i++) {
+                    if (swap) {
+                        t = x;
+                        x = y * lacunarity;
+                        y = t * lacunarity;
+                    } else {
+                        x *= lacunarity;
+                        y *= lacunarity;
+                    }
+                    amp *= gain;
+                    sum += singlePrecise(seed + i, x, y) * amp;
+                }
+                return sum * fractalBounding;
+            }
+        }
+    }
+
+    private float singlePreciseFractal(int seed, double x, double y, double z) {
+        switch (fractalType) {
+            case BILLOW: {
+                float sum = Math.abs(singlePrecise(seed, x, y, z)) * 2 - 1;
+                float amp = 1;
+                for (int i = 1; i < octaves; i++) {
+                    x *= lacunarity;
+                    y *= lacunarity;
+                    z *= lacunarity;
+                    amp *= gain;
+                    sum += (Math.abs(singlePrecise(seed + i, x, y, z)) * 2 - 1) * amp;
+                }
+                return sum * fractalBounding;
+            }
+            case RIDGED_MULTI: {
+                float sum = 0f, exp = 2f, correction = 0f, spike;
+                for (int i = 0; i < octaves; i++) {
+                    spike = 1f - Math.abs(singlePrecise(seed + i, x, y, z));
+                    correction += (exp *= 0.5);
+                    sum += spike * exp;
+                    x *= lacunarity;
+                    y *= lacunarity;
+                    z *= lacunarity;
+                }
+                return sum * 2f / correction - 1f;
+            }
+            default: {
+                float sum = singlePrecise(seed, x, y, z);
+                float amp = 1;
+                for (int i = 1; i < octaves; i++) {
+                    x *= lacunarity;
+                    y *= lacunarity;
+                    z *= lacunarity;
+                    amp *= gain;
+                    sum += singlePrecise(seed + i, x, y, z) * amp;
+                }
+                return sum * fractalBounding;
+            }
+        }
     }
 
     protected static int fastFloor(float f) {
@@ -878,6 +1097,15 @@ public class Noise {
         return (f >= 0) ? (int) (f + 0.5f) : (int) (f - 0.5f);
     }
 
+    /**
+     * Like {@link #fastFloor(float)}, but for doubles, and returning a long so it can floor coordinates past the int
+     * range. Casting the result to int wraps it, which is harmless for the lattice noise types here, because their
+     * hashes only ever see the cell coordinates as ints.
+     */
+    protected static long longFloor(double t) {
+        return t >= 0 ? (long) t : (long) t - 1L;
+    }
+
 
     private static float lerp(float a, float b, float t) {
         return a + t * (b - a);
@@ -891,6 +1119,20 @@ public class Noise {
         return t * t * t * (t * (t * 6 - 15) + 10);
     }
 
+    /**
+     * The derivative of {@link #hermiteInterpolator(float)} at t.
+     */
+    protected static float hermiteDerivative(float t) {
+        return 6 * t * (1 - t);
+    }
+
+    /**
+     * The derivative of {@link #quinticInterpolator(float)} at t.
+     */
+    protected static float quinticDerivative(float t) {
+        return 30 * t * t * (t * (t - 2) + 1);
+    }
+
     protected static float cubicLerp(float a, float b, float c, float d, float t) {
         float p = (d - c) - (a - b);
         return t * (t * t * p + t * ((a - b) - p) + (c - a)) + b;
@@ -963,6 +1205,19 @@ public class Noise {
      * @return noise as a float from -1f to 1f
      */
     public float getConfiguredNoise(float x, float y) {
+        return getNoiseWithSeed(x, y, seed);
+    }
+
+    /**
+     * Gets the same noise {@link #getConfiguredNoise(float, float)} would produce, but using the given
+     * {@code seed} instead of the seed this object stores. This does not change any state in this object, so it can be
+     * called from multiple threads at once, as long as no thread changes the configuration at the same time.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param seed the int seed to use instead of {@link #getSeed()}
+     * @return noise as a float from -1f to 1f
+     */
+    public float getNoiseWithSeed(float x, float y, int seed) {
         x *= frequency;
         y *= frequency;
 
@@ -972,86 +1227,86 @@ public class Noise {
             case VALUE_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleValueFractalBillow(x, y);
+                        return singleValueFractalBillow(seed, x, y);
                     case RIDGED_MULTI:
-                        return singleValueFractalRidgedMulti(x, y);
+                        return singleValueFractalRidgedMulti(seed, x, y);
                     default:
-                        return singleValueFractalFBM(x, y);
+                        return singleValueFractalFBM(seed, x, y);
                 }
             case FOAM:
                 return singleFoam(seed, x, y);
             case FOAM_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleFoamFractalBillow(x, y);
+                        return singleFoamFractalBillow(seed, x, y);
                     case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y);
+                        return singleFoamFractalRidgedMulti(seed, x, y);
                     default:
-                        return singleFoamFractalFBM(x, y);
+                        return singleFoamFractalFBM(seed, x, y);
                 }
             case MUTANT:
                 return singleFoam(seed, x, y, mutation);
             case MUTANT_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleFoamFractalBillow(x, y, mutation);
+                        return singleFoamFractalBillow(seed, x, y, mutation);
                     case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y, mutation);
+                        return singleFoamFractalRidgedMulti(seed, x, y, mutation);
                     default:
-                        return singleFoamFractalFBM(x, y, mutation);
+                        return singleFoamFractalFBM(seed, x, y, mutation);
                 }
             case HONEY:
                 return singleHoney(seed, x, y);
             case HONEY_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleHoneyFractalBillow(x, y);
+                        return singleHoneyFractalBillow(seed, x, y);
                     case RIDGED_MULTI:
-                        return singleHoneyFractalRidgedMulti(x, y);
+                        return singleHoneyFractalRidgedMulti(seed, x, y);
                     default:
-                        return singleHoneyFractalFBM(x, y);
+                        return singleHoneyFractalFBM(seed, x, y);
                 }
             case PERLIN:
                 return singlePerlin(seed, x, y);
             case PERLIN_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singlePerlinFractalBillow(x, y);
+                        return singlePerlinFractalBillow(seed, x, y);
                     case RIDGED_MULTI:
-                        return singlePerlinFractalRidgedMulti(x, y);
+                        return singlePerlinFractalRidgedMulti(seed, x, y);
                     default:
-                        return singlePerlinFractalFBM(x, y);
+                        return singlePerlinFractalFBM(seed, x, y);
                 }
             case SIMPLEX_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleSimplexFractalBillow(x, y);
+                        return singleSimplexFractalBillow(seed, x, y);
                     case RIDGED_MULTI:
-                        return singleSimplexFractalRidgedMulti(x, y);
+                        return singleSimplexFractalRidgedMulti(seed, x, y);
                     default:
-                        return singleSimplexFractalFBM(x, y);
+                        return singleSimplexFractalFBM(seed, x, y);
                 }
             case CELLULAR:
                 switch (cellularReturnType) {
                     case CELL_VALUE:
                     case NOISE_LOOKUP:
                     case DISTANCE:
-                        return singleCellular(x, y);
+                        return singleCellular(seed, x, y);
                     default:
-                        return singleCellular2Edge(x, y);
+                        return singleCellular2Edge(seed, x, y);
                 }
             case WHITE_NOISE:
-                return getWhiteNoise(x, y);
+                return singleWhiteNoise(seed, x, y);
             case CUBIC:
                 return singleCubic(seed, x, y);
             case CUBIC_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleCubicFractalBillow(x, y);
+                        return singleCubicFractalBillow(seed, x, y);
                     case RIDGED_MULTI:
-                        return singleCubicFractalRidgedMulti(x, y);
+                        return singleCubicFractalRidgedMulti(seed, x, y);
                     default:
-                        return singleCubicFractalFBM(x, y);
+                        return singleCubicFractalFBM(seed, x, y);
                 }
             default:
                 return singleSimplex(seed, x, y);
@@ -1068,6 +1323,20 @@ public class Noise {
      * @return noise as a float from -1f to 1f
      */
     public float getConfiguredNoise(float x, float y, float z) {
+        return getNoiseWithSeed(x, y, z, seed);
+    }
+
+    /**
+     * Gets the same noise {@link #getConfiguredNoise(float, float, float)} would produce, but using the given
+     * {@code seed} instead of the seed this object stores. This does not change any state in this object, so it can be
+     * called from multiple threads at once, as long as no thread changes the configuration at the same time.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param seed the int seed to use instead of {@link #getSeed()}
+     * @return noise as a float from -1f to 1f
+     */
+    public float getNoiseWithSeed(float x, float y, float z, int seed) {
         x *= frequency;
         y *= frequency;
         z *= frequency;
@@ -1078,370 +1347,5432 @@ public class Noise {
             case VALUE_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleValueFractalBillow(x, y, z);
+                        return singleValueFractalBillow(seed, x, y, z);
                     case RIDGED_MULTI:
-                        return singleValueFractalRidgedMulti(x, y, z);
+                        return singleValueFractalRidgedMulti(seed, x, y, z);
                     default:
-                        return singleValueFractalFBM(x, y, z);
+                        return singleValueFractalFBM(seed, x, y, z);
                 }
             case FOAM:
                 return singleFoam(seed, x, y, z);
             case FOAM_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleFoamFractalBillow(x, y, z);
+                        return singleFoamFractalBillow(seed, x, y, z);
                     case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y, z);
+                        return singleFoamFractalRidgedMulti(seed, x, y, z);
                     default:
-                        return singleFoamFractalFBM(x, y, z);
+                        return singleFoamFractalFBM(seed, x, y, z);
                 }
             case MUTANT:
                 return singleFoam(seed, x, y, z, mutation);
             case MUTANT_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleFoamFractalBillow(x, y, z, mutation);
+                        return singleFoamFractalBillow(seed, x, y, z, mutation);
                     case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y, z, mutation);
+                        return singleFoamFractalRidgedMulti(seed, x, y, z, mutation);
                     default:
-                        return singleFoamFractalFBM(x, y, z, mutation);
+                        return singleFoamFractalFBM(seed, x, y, z, mutation);
                 }
             case HONEY:
                 return singleHoney(seed, x, y, z);
             case HONEY_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleHoneyFractalBillow(x, y, z);
+                        return singleHoneyFractalBillow(seed, x, y, z);
                     case RIDGED_MULTI:
-                        return singleHoneyFractalRidgedMulti(x, y, z);
+                        return singleHoneyFractalRidgedMulti(seed, x, y, z);
                     default:
-                        return singleHoneyFractalFBM(x, y, z);
+                        return singleHoneyFractalFBM(seed, x, y, z);
                 }
             case PERLIN:
                 return singlePerlin(seed, x, y, z);
             case PERLIN_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singlePerlinFractalBillow(x, y, z);
+                        return singlePerlinFractalBillow(seed, x, y, z);
                     case RIDGED_MULTI:
-                        return singlePerlinFractalRidgedMulti(x, y, z);
+                        return singlePerlinFractalRidgedMulti(seed, x, y, z);
                     default:
-                        return singlePerlinFractalFBM(x, y, z);
+                        return singlePerlinFractalFBM(seed, x, y, z);
                 }
             case SIMPLEX_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleSimplexFractalBillow(x, y, z);
+                        return singleSimplexFractalBillow(seed, x, y, z);
                     case RIDGED_MULTI:
-                        return singleSimplexFractalRidgedMulti(x, y, z);
+                        return singleSimplexFractalRidgedMulti(seed, x, y, z);
                     default:
-                        return singleSimplexFractalFBM(x, y, z);
+                        return singleSimplexFractalFBM(seed, x, y, z);
                 }
             case CELLULAR:
                 switch (cellularReturnType) {
                     case CELL_VALUE:
                     case NOISE_LOOKUP:
                     case DISTANCE:
-                        return singleCellular(x, y, z);
+                        return singleCellular(seed, x, y, z);
                     default:
-                        return singleCellular2Edge(x, y, z);
+                        return singleCellular2Edge(seed, x, y, z);
                 }
             case WHITE_NOISE:
-                return getWhiteNoise(x, y, z);
+                return singleWhiteNoise(seed, x, y, z);
             case CUBIC:
                 return singleCubic(seed, x, y, z);
             case CUBIC_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleCubicFractalBillow(x, y, z);
+                        return singleCubicFractalBillow(seed, x, y, z);
                     case RIDGED_MULTI:
-                        return singleCubicFractalRidgedMulti(x, y, z);
+                        return singleCubicFractalRidgedMulti(seed, x, y, z);
                     default:
-                        return singleCubicFractalFBM(x, y, z);
+                        return singleCubicFractalFBM(seed, x, y, z);
                 }
             default:
                 return singleSimplex(seed, x, y, z);
         }
     }
+
     /**
-     * After being configured with the setters in this class, such as {@link #setNoiseType(int)},
-     * {@link #setFrequency(float)}, {@link #setFractalOctaves(int)}, and {@link #setFractalType(int)}, among others,
-     * you can call this method to get the particular variety of noise you specified, in 4D.
+     * Checks whether the noise {@link #getConfiguredNoise(float, float)} would produce at the given point is greater
+     * than {@code threshold}, often without computing all of the octaves. For fractal noise types, each octave can only
+     * move the result by so much, so once the octaves that are left can't bring the result back across the threshold,
+     * this stops and answers right away; questions like "is this point land?" usually need only the first few octaves.
+     * The answer is the same as {@code getConfiguredNoise(x, y) > threshold}, except maybe when the noise is within
+     * float rounding of the threshold. Non-fractal noise types just compare getConfiguredNoise() with the threshold.
      * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
      * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
-     * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
-     * @param w w position, as a float; the range this should have depends on {@link #getFrequency()}
-     * @return noise as a float from -1f to 1f
+     * @param threshold the value to compare the noise against, usually between -1 and 1
+     * @return true if the noise at the given point is greater than threshold, or false otherwise
      */
-    public float getConfiguredNoise(float x, float y, float z, float w) {
-        x *= frequency;
-        y *= frequency;
-        z *= frequency;
-        w *= frequency;
-
+    public boolean isAbove(float x, float y, float threshold) {
         switch (noiseType) {
-            case VALUE:
-                return singleValue(seed, x, y, z, w);
             case VALUE_FRACTAL:
-                switch (fractalType) {
-                    case BILLOW:
-                        return singleValueFractalBillow(x, y, z, w);
-                    case RIDGED_MULTI:
-                        return singleValueFractalRidgedMulti(x, y, z, w);
-                    default:
-                        return singleValueFractalFBM(x, y, z, w);
-                }
-            case FOAM:
-                return singleFoam(seed, x, y, z, w);
-            case FOAM_FRACTAL:
-                switch (fractalType) {
-                    case BILLOW:
-                        return singleFoamFractalBillow(x, y, z, w);
-                    case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y, z, w);
-                    default:
-                        return singleFoamFractalFBM(x, y, z, w);
-                }
-            case MUTANT:
-                return singleFoam(seed, x, y, z, w, mutation);
-            case MUTANT_FRACTAL:
-                switch (fractalType) {
-                    case BILLOW:
-                        return singleFoamFractalBillow(x, y, z, w, mutation);
-                    case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y, z, w, mutation);
-                    default:
-                        return singleFoamFractalFBM(x, y, z, w, mutation);
-                }
-            case HONEY:
-                return singleHoney(seed, x, y, z, w);
-            case HONEY_FRACTAL:
-                switch (fractalType) {
-                    case BILLOW:
-                        return singleHoneyFractalBillow(x, y, z, w);
-                    case RIDGED_MULTI:
-                        return singleHoneyFractalRidgedMulti(x, y, z, w);
-                    default:
-                        return singleHoneyFractalFBM(x, y, z, w);
-                }
-            case PERLIN:
-                return singlePerlin(seed, x, y, z, w);
             case PERLIN_FRACTAL:
-                switch (fractalType) {
-                    case BILLOW:
-                        return singlePerlinFractalBillow(x, y, z, w);
-                    case RIDGED_MULTI:
-                        return singlePerlinFractalRidgedMulti(x, y, z, w);
-                    default:
-                        return singlePerlinFractalFBM(x, y, z, w);
-                }
             case SIMPLEX_FRACTAL:
-                switch (fractalType) {
-                    case BILLOW:
-                        return singleSimplexFractalBillow(x, y, z, w);
-                    case RIDGED_MULTI:
-                        return singleSimplexFractalRidgedMulti(x, y, z, w);
-                    default:
-                        return singleSimplexFractalFBM(x, y, z, w);
-                }
-            case WHITE_NOISE:
-                return getWhiteNoise(x, y, z, w);
-            case CUBIC:
-                return singleCubic(seed, x, y, z, w);
             case CUBIC_FRACTAL:
-                switch (fractalType) {
-                    case BILLOW:
-                        return singleCubicFractalBillow(x, y, z, w);
-                    case RIDGED_MULTI:
-                        return singleCubicFractalRidgedMulti(x, y, z, w);
-                    default:
-                        return singleCubicFractalFBM(x, y, z, w);
-                }
-
+            case FOAM_FRACTAL:
+            case HONEY_FRACTAL:
+            case MUTANT_FRACTAL:
+                break;
             default:
-                return singleSimplex(seed, x, y, z, w);
+                return getConfiguredNoise(x, y) > threshold;
+        }
+        x *= frequency;
+        y *= frequency;
+        // Foam and Honey swap x and y every octave, like singleFoamFractalFBM(int, float, float) does
+        final boolean swap = noiseType == FOAM_FRACTAL || noiseType == HONEY_FRACTAL;
+        final boolean ridged = fractalType == RIDGED_MULTI;
+        float remaining = 0f, amp = 1f, exp = 2f, scale = 1f, sum = 0f, n, t;
+        for (int i = 0; i < octaves; i++) {
+            remaining += ridged ? (exp *= 0.5f) : Math.abs(amp);
+            amp *= gain;
+        }
+        final float normal = ridged ? 2f / remaining : fractalBounding, offset = ridged ? -1f : 0f;
+        amp = 1f;
+        exp = 2f;
+        for (int i = 0; i < octaves; i++) {
+            n = planOctave(seed + i, x, y, scale);
+            switch (fractalType) {
+                case BILLOW:
+                    sum += (Math.abs(n) * 2 - 1) * amp;
+                    remaining -= Math.abs(amp);
+                    break;
+                case RIDGED_MULTI:
+                    sum += (1f - Math.abs(n)) * (exp *= 0.5f);
+                    remaining -= exp;
+                    break;
+                default:
+                    sum += n * amp;
+                    remaining -= Math.abs(amp);
+            }
+            // ridged octaves only ever add to the sum, while the others can move it either way
+            if ((ridged ? sum : sum - remaining) * normal + offset > threshold)
+                return true;
+            if ((sum + remaining) * normal + offset <= threshold)
+                return false;
+            amp *= gain;
+            scale *= lacunarity;
+            if (swap) {
+                t = x;
+                x = y * lacunarity;
+                y = t * lacunarity;
+            } else {
+                x *= lacunarity;
+                y *= lacunarity;
+            }
         }
+        return sum * normal + offset > threshold;
     }
 
     /**
-     * After being configured with the setters in this class, such as {@link #setNoiseType(int)},
-     * {@link #setFrequency(float)}, {@link #setFractalOctaves(int)}, and {@link #setFractalType(int)}, among others,
-     * you can call this method to get the particular variety of noise you specified, in 5D.
+     * Checks whether the noise {@link #getConfiguredNoise(float, float, float)} would produce at the given point is
+     * greater than {@code threshold}, often without computing all of the octaves; this works the same way as
+     * {@link #isAbove(float, float, float)} does in 2D. Deciding whether a voxel is solid is a typical use.
      * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
      * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
      * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
-     * @param w w position, as a float; the range this should have depends on {@link #getFrequency()}
-     * @param u u position, as a float; the range this should have depends on {@link #getFrequency()}
-     * @return noise as a float from -1f to 1f
+     * @param threshold the value to compare the noise against, usually between -1 and 1
+     * @return true if the noise at the given point is greater than threshold, or false otherwise
      */
-    public float getConfiguredNoise(float x, float y, float z, float w, float u) {
-        x *= frequency;
-        y *= frequency;
-        z *= frequency;
-        w *= frequency;
-        u *= frequency;
-
+    public boolean isAbove(float x, float y, float z, float threshold) {
         switch (noiseType) {
-            case VALUE:
-                return singleValue(seed, x, y, z, w, u);
             case VALUE_FRACTAL:
-                switch (fractalType) {
-                    case BILLOW:
-                        return singleValueFractalBillow(x, y, z, w, u);
-                    case RIDGED_MULTI:
-                        return singleValueFractalRidgedMulti(x, y, z, w, u);
-                    default:
-                        return singleValueFractalFBM(x, y, z, w, u);
-                }
-            case FOAM:
-                return singleFoam(seed, x, y, z, w, u);
+            case PERLIN_FRACTAL:
+            case SIMPLEX_FRACTAL:
+            case CUBIC_FRACTAL:
             case FOAM_FRACTAL:
-                switch (fractalType) {
-                    case BILLOW:
-                        return singleFoamFractalBillow(x, y, z, w, u);
-                    case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y, z, w, u);
-                    default:
-                        return singleFoamFractalFBM(x, y, z, w, u);
+            case HONEY_FRACTAL:
+            case MUTANT_FRACTAL:
+                break;
+            default:
+                return getConfiguredNoise(x, y, z) > threshold;
+        }
+        x *= frequency;
+        y *= frequency;
+        z *= frequency;
+        final boolean ridged = fractalType == RIDGED_MULTI;
+        float remaining = 0f, amp = 1f, exp = 2f, scale = 1f, sum = 0f, n;
+        for (int i = 0; i < octaves; i++) {
+            remaining += ridged ? (exp *= 0.5f) : Math.abs(amp);
+            amp *= gain;
+        }
+        final float normal = ridged ? 2f / remaining : fractalBounding, offset = ridged ? -1f : 0f;
+        amp = 1f;
+        exp = 2f;
+        for (int i = 0; i < octaves; i++) {
+            n = planOctave(seed + i, x, y, z, scale);
+            switch (fractalType) {
+                case BILLOW:
+                    sum += (Math.abs(n) * 2 - 1) * amp;
+                    remaining -= Math.abs(amp);
+                    break;
+                case RIDGED_MULTI:
+                    sum += (1f - Math.abs(n)) * (exp *= 0.5f);
+                    remaining -= exp;
+                    break;
+                default:
+                    sum += n * amp;
+                    remaining -= Math.abs(amp);
+            }
+            if ((ridged ? sum : sum - remaining) * normal + offset > threshold)
+                return true;
+            if ((sum + remaining) * normal + offset <= threshold)
+                return false;
+            amp *= gain;
+            scale *= lacunarity;
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+        }
+        return sum * normal + offset > threshold;
+    }
+
+    /**
+     * Gets the noise {@link #getConfiguredNoise(float, float)} would produce, but with only as much detail as
+     * {@code octaves} allows, for level-of-detail rendering where far-away terrain doesn't need as many octaves. The
+     * octave budget can have a fractional part, which fades in the last octave, so the result changes smoothly as the
+     * budget changes with distance, and neighboring areas computed with slightly different budgets don't show seams.
+     * The budget is clamped between 1 and {@link #getFractalOctaves()}, so configure this Noise with the most octaves
+     * any area will use; with that many, this returns exactly what getConfiguredNoise() would, up to float rounding.
+     * <br>
+     * For {@link #FBM}, leaving out octaves leaves out their detail but keeps the same scale, so the broad shapes are
+     * where they would be with full detail. {@link #BILLOW} and {@link #RIDGED_MULTI} octaves don't average to 0, so
+     * those are scaled by the octave weights actually used, to keep the same range. Noise types that aren't fractal
+     * ignore the budget.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param octaves how many octaves to use, such as 2 for distant terrain and 8 for nearby; can be fractional
+     * @return noise as a float from -1f to 1f
+     */
+    public float getNoiseWithDetail(float x, float y, float octaves) {
+        switch (noiseType) {
+            case VALUE_FRACTAL:
+            case PERLIN_FRACTAL:
+            case SIMPLEX_FRACTAL:
+            case CUBIC_FRACTAL:
+            case FOAM_FRACTAL:
+            case HONEY_FRACTAL:
+            case MUTANT_FRACTAL:
+                break;
+            default:
+                return getConfiguredNoise(x, y);
+        }
+        octaves = Math.min(Math.max(octaves, 1f), this.octaves);
+        final int count = (int) Math.ceil(octaves);
+        x *= frequency;
+        y *= frequency;
+        // Foam and Honey swap x and y every octave, like singleFoamFractalFBM(int, float, float) does
+        final boolean swap = noiseType == FOAM_FRACTAL || noiseType == HONEY_FRACTAL;
+        float amp = 1f, exp = 2f, scale = 1f, sum = 0f, used = 0f, fade, n, t;
+        for (int i = 0; i < count; i++) {
+            fade = Math.min(octaves - i, 1f);
+            n = planOctave(seed + i, x, y, scale);
+            switch (fractalType) {
+                case BILLOW:
+                    sum += (Math.abs(n) * 2 - 1) * amp * fade;
+                    used += amp * fade;
+                    break;
+                case RIDGED_MULTI:
+                    exp *= 0.5f;
+                    sum += (1f - Math.abs(n)) * exp * fade;
+                    used += exp * fade;
+                    break;
+                default:
+                    sum += n * amp * fade;
+            }
+            amp *= gain;
+            scale *= lacunarity;
+            if (swap) {
+                t = x;
+                x = y * lacunarity;
+                y = t * lacunarity;
+            } else {
+                x *= lacunarity;
+                y *= lacunarity;
+            }
+        }
+        return detailResult(sum, used, octaves);
+    }
+
+    /**
+     * Gets the noise {@link #getConfiguredNoise(float, float, float)} would produce, but with only as much detail as
+     * {@code octaves} allows; this works the same way as {@link #getNoiseWithDetail(float, float, float)} does in 2D.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param octaves how many octaves to use, such as 2 for distant terrain and 8 for nearby; can be fractional
+     * @return noise as a float from -1f to 1f
+     */
+    public float getNoiseWithDetail(float x, float y, float z, float octaves) {
+        switch (noiseType) {
+            case VALUE_FRACTAL:
+            case PERLIN_FRACTAL:
+            case SIMPLEX_FRACTAL:
+            case CUBIC_FRACTAL:
+            case FOAM_FRACTAL:
+            case HONEY_FRACTAL:
+            case MUTANT_FRACTAL:
+                break;
+            default:
+                return getConfiguredNoise(x, y, z);
+        }
+        octaves = Math.min(Math.max(octaves, 1f), this.octaves);
+        final int count = (int) Math.ceil(octaves);
+        x *= frequency;
+        y *= frequency;
+        z *= frequency;
+        float amp = 1f, exp = 2f, scale = 1f, sum = 0f, used = 0f, fade, n;
+        for (int i = 0; i < count; i++) {
+            fade = Math.min(octaves - i, 1f);
+            n = planOctave(seed + i, x, y, z, scale);
+            switch (fractalType) {
+                case BILLOW:
+                    sum += (Math.abs(n) * 2 - 1) * amp * fade;
+                    used += amp * fade;
+                    break;
+                case RIDGED_MULTI:
+                    exp *= 0.5f;
+                    sum += (1f - Math.abs(n)) * exp * fade;
+                    used += exp * fade;
+                    break;
+                default:
+                    sum += n * amp * fade;
+            }
+            amp *= gain;
+            scale *= lacunarity;
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+        }
+        return detailResult(sum, used, octaves);
+    }
+
+    /**
+     * Fills a 2D grid with {@link #getNoiseWithDetail(float, float, float)}, using one octave budget for the whole
+     * grid, such as a terrain tile at some distance from the camera. The layout and positions are the same as
+     * {@link #fillGrid(float[], int, int, float, float, float)} uses, and every sample is exactly what
+     * getNoiseWithDetail() would give. This works one octave at a time over the whole grid, so the octave budget,
+     * fades and weights are only worked out once per octave, each octave's position along each column and row is only
+     * found once, and the noise type is only checked once per row. The only things this allocates are an array with
+     * room for the width plus the height of the grid, to hold those positions, and an array for one row of noise;
+     * {@code out} must have a length of at least {@code width * height}.
+     * @param out a float array that will be filled with noise; must have length at least {@code width * height}
+     * @param width how many columns to fill, each one {@code step} further along the x-axis than the last
+     * @param height how many rows to fill, each one {@code step} further along the y-axis than the last
+     * @param x0 x position of the first column, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y0 y position of the first row, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param step the distance between adjacent samples, before {@link #getFrequency()} is applied
+     * @param octaves how many octaves to use for this grid; can be fractional
+     * @return {@code out}, after modifications
+     */
+    public float[] fillGridWithDetail(float[] out, int width, int height, float x0, float y0, float step,
+                                      float octaves) {
+        switch (noiseType) {
+            case VALUE_FRACTAL:
+            case PERLIN_FRACTAL:
+            case SIMPLEX_FRACTAL:
+            case CUBIC_FRACTAL:
+            case FOAM_FRACTAL:
+            case HONEY_FRACTAL:
+            case MUTANT_FRACTAL:
+                break;
+            default:
+                return fillGrid(out, width, height, x0, y0, step);
+        }
+        octaves = Math.min(Math.max(octaves, 1f), this.octaves);
+        final int count = (int) Math.ceil(octaves), size = width * height;
+        final boolean swap = noiseType == FOAM_FRACTAL || noiseType == HONEY_FRACTAL;
+        final float[] axes = new float[width + height], row = new float[width];
+        // columns, then rows; each is multiplied by the lacunarity every octave, just as getNoiseWithDetail() does
+        for (int i = 0; i < width; i++) {
+            axes[i] = (x0 + i * step) * frequency;
+        }
+        for (int j = 0; j < height; j++) {
+            axes[width + j] = (y0 + j * step) * frequency;
+        }
+        for (int i = 0; i < size; i++) {
+            out[i] = 0f;
+        }
+        float amp = 1f, exp = 2f, scale = 1f, used = 0f;
+        for (int k = 0; k < count; k++) {
+            final float fade = Math.min(octaves - k, 1f);
+            final int s = seed + k;
+            // Foam and Honey have swapped x and y after an odd number of octaves
+            final boolean swapped = swap && (k & 1) == 1;
+            if (fractalType == BILLOW)
+                used += amp * fade;
+            else if (fractalType == RIDGED_MULTI)
+                used += (exp *= 0.5f) * fade;
+            int idx = 0;
+            for (int j = 0; j < height; j++) {
+                octaveRow(row, axes, width, axes[width + j], s, swapped, scale);
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int i = 0; i < width; i++) {
+                            out[idx++] += (Math.abs(row[i]) * 2 - 1) * amp * fade;
+                        }
+                        break;
+                    case RIDGED_MULTI:
+                        for (int i = 0; i < width; i++) {
+                            out[idx++] += (1f - Math.abs(row[i])) * exp * fade;
+                        }
+                        break;
+                    default:
+                        for (int i = 0; i < width; i++) {
+                            out[idx++] += row[i] * amp * fade;
+                        }
+                }
+            }
+            amp *= gain;
+            scale *= lacunarity;
+            for (int i = width + height - 1; i >= 0; i--) {
+                axes[i] *= lacunarity;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            out[i] = detailResult(out[i], used, octaves);
+        }
+        return out;
+    }
+
+    /**
+     * Adds one octave's share of {@link #fillGrid(float[], int, int, float, float, float)} to each sample in
+     * {@code out}, for showing a coarse version of a large area quickly and refining it later. Starting with a grid of
+     * zeros and adding octaves 0, 1, 2 and so on up to {@link #getFractalOctaves()} gives the same grid fillGrid()
+     * would, up to float rounding, and after any number of octaves the grid already has its final scale; the later
+     * octaves only add detail. Each call only computes the one octave, so earlier octaves never need to be computed
+     * again. This works with {@link #FBM}, {@link #BILLOW} and {@link #RIDGED_MULTI}, with the same weights the fractal
+     * methods use; noise types that aren't fractal have all of their noise in octave 0. The noise type is only checked
+     * once per row, and the only things this allocates are two arrays as long as one row, for the octave's x positions
+     * and its noise.
+     * @param out a float array that noise will be added to; must have length at least {@code width * height}
+     * @param width how many columns to change, each one {@code step} further along the x-axis than the last
+     * @param height how many rows to change, each one {@code step} further along the y-axis than the last
+     * @param x0 x position of the first column, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y0 y position of the first row, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param step the distance between adjacent samples, before {@link #getFrequency()} is applied
+     * @param octave which octave to add, from 0 (the broadest) to {@code getFractalOctaves() - 1}
+     * @return {@code out}, after modifications
+     */
+    public float[] addGridOctave(float[] out, int width, int height, float x0, float y0, float step, int octave) {
+        switch (noiseType) {
+            case VALUE_FRACTAL:
+            case PERLIN_FRACTAL:
+            case SIMPLEX_FRACTAL:
+            case CUBIC_FRACTAL:
+            case FOAM_FRACTAL:
+            case HONEY_FRACTAL:
+            case MUTANT_FRACTAL:
+                break;
+            default:
+                if (octave == 0) {
+                    int idx = 0;
+                    for (int j = 0; j < height; j++) {
+                        final float y = y0 + j * step;
+                        for (int i = 0; i < width; i++) {
+                            out[idx++] += getConfiguredNoise(x0 + i * step, y);
+                        }
+                    }
+                }
+                return out;
+        }
+        if (octave < 0 || octave >= octaves)
+            return out;
+        float amp = 1f, exp = 2f, scale = 1f, correction = 0f, ridge = 1f;
+        for (int i = 0; i < octaves; i++) {
+            correction += (exp *= 0.5f);
+            if (i == octave)
+                ridge = exp;
+            else if (i < octave) {
+                amp *= gain;
+                scale *= lacunarity;
+            }
+        }
+        // Foam and Honey swap x and y every octave, like singleFoamFractalFBM(int, float, float) does
+        final boolean swap = (octave & 1) == 1 && (noiseType == FOAM_FRACTAL || noiseType == HONEY_FRACTAL);
+        final int s = seed + octave;
+        final float f = frequency * scale;
+        // ridged multi subtracts 1 from the sum of every octave, so octave 0 subtracts it here
+        final float weight = fractalType == RIDGED_MULTI ? ridge * 2f / correction : amp * fractalBounding,
+                offset = fractalType == RIDGED_MULTI && octave == 0 ? 1f : 0f;
+        final float[] xs = new float[width], row = new float[width];
+        for (int i = 0; i < width; i++) {
+            xs[i] = (x0 + i * step) * f;
+        }
+        int idx = 0;
+        for (int j = 0; j < height; j++) {
+            octaveRow(row, xs, width, (y0 + j * step) * f, s, swap, scale);
+            switch (fractalType) {
+                case BILLOW:
+                    for (int i = 0; i < width; i++) {
+                        out[idx++] += (Math.abs(row[i]) * 2 - 1) * weight;
+                    }
+                    break;
+                case RIDGED_MULTI:
+                    for (int i = 0; i < width; i++) {
+                        out[idx++] += (1f - Math.abs(row[i])) * weight - offset;
+                    }
+                    break;
+                default:
+                    for (int i = 0; i < width; i++) {
+                        out[idx++] += row[i] * weight;
+                    }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Fills each array in {@code layers} with one octave's share of
+     * {@link #fillGrid(float[], int, int, float, float, float)}, so {@code layers[0]} gets octave 0, {@code layers[1]}
+     * gets octave 1, and so on. Adding up the first few layers gives a coarse version of the grid with its final
+     * scale, and adding all {@link #getFractalOctaves()} of them gives the same grid fillGrid() would, up to float
+     * rounding. Layers past the last octave are filled with 0. See
+     * {@link #addGridOctave(float[], int, int, float, float, float, int)} to add octaves into one array instead.
+     * @param layers an array of float arrays, each with length at least {@code width * height}
+     * @param width how many columns to fill, each one {@code step} further along the x-axis than the last
+     * @param height how many rows to fill, each one {@code step} further along the y-axis than the last
+     * @param x0 x position of the first column, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y0 y position of the first row, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param step the distance between adjacent samples, before {@link #getFrequency()} is applied
+     * @return {@code layers}, after modifications
+     */
+    public float[][] fillGridOctaves(float[][] layers, int width, int height, float x0, float y0, float step) {
+        for (int i = 0; i < layers.length; i++) {
+            final float[] layer = layers[i];
+            for (int j = width * height - 1; j >= 0; j--) {
+                layer[j] = 0f;
+            }
+            addGridOctave(layers[i], width, height, x0, y0, step, i);
+        }
+        return layers;
+    }
+
+    /**
+     * Scales the sum of the octaves used by getNoiseWithDetail(), given the total weight of the Billow or Ridged
+     * octaves that were used, to match what the fractal methods produce with every octave.
+     */
+    private float detailResult(float sum, float used, float octaves) {
+        switch (fractalType) {
+            case BILLOW:
+                return octaves >= this.octaves ? sum * fractalBounding : sum / used;
+            case RIDGED_MULTI:
+                return sum * 2f / used - 1f;
+            default:
+                return sum * fractalBounding;
+        }
+    }
+
+    /**
+     * Fills the first {@code width} items of {@code row} with one octave of whichever fractal noise type this uses, at
+     * the x positions in {@code xs} and the one y position given, all of which already have the octave's frequency
+     * applied. This is the same as calling {@link #planOctave(int, float, float, float)} for each sample, but the noise
+     * type is only checked once for the whole row. If {@code swapped} is true, x and y trade places, as Foam and Honey
+     * noise do on odd octaves.
+     */
+    private void octaveRow(float[] row, float[] xs, int width, float y, int seed, boolean swapped, float scale) {
+        switch (noiseType) {
+            case VALUE_FRACTAL:
+                for (int i = 0; i < width; i++) {
+                    row[i] = singleValue(seed, xs[i], y);
+                }
+                break;
+            case PERLIN_FRACTAL:
+                for (int i = 0; i < width; i++) {
+                    row[i] = singlePerlin(seed, xs[i], y);
+                }
+                break;
+            case CUBIC_FRACTAL:
+                for (int i = 0; i < width; i++) {
+                    row[i] = singleCubic(seed, xs[i], y);
+                }
+                break;
+            case FOAM_FRACTAL:
+                if (swapped) {
+                    for (int i = 0; i < width; i++) {
+                        row[i] = singleFoam(seed, y, xs[i]);
+                    }
+                } else {
+                    for (int i = 0; i < width; i++) {
+                        row[i] = singleFoam(seed, xs[i], y);
+                    }
+                }
+                break;
+            case HONEY_FRACTAL:
+                if (swapped) {
+                    for (int i = 0; i < width; i++) {
+                        row[i] = singleHoney(seed, y, xs[i]);
+                    }
+                } else {
+                    for (int i = 0; i < width; i++) {
+                        row[i] = singleHoney(seed, xs[i], y);
+                    }
+                }
+                break;
+            case MUTANT_FRACTAL:
+                final float m = mutation * scale;
+                for (int i = 0; i < width; i++) {
+                    row[i] = singleFoam(seed, xs[i], y, m);
+                }
+                break;
+            default:
+                for (int i = 0; i < width; i++) {
+                    row[i] = singleSimplex(seed, xs[i], y);
+                }
+        }
+    }
+
+    /**
+     * One octave of whichever noise type this uses, at a position that already has the octave's frequency applied.
+     * {@code scale} is how much the octave's frequency has grown since the first octave, which Mutant noise applies to
+     * the mutation, as its fractal methods do.
+     */
+    private float planOctave(int seed, float x, float y, float scale) {
+        switch (noiseType) {
+            case VALUE:
+            case VALUE_FRACTAL:
+                return singleValue(seed, x, y);
+            case PERLIN:
+            case PERLIN_FRACTAL:
+                return singlePerlin(seed, x, y);
+            case CUBIC:
+            case CUBIC_FRACTAL:
+                return singleCubic(seed, x, y);
+            case FOAM:
+            case FOAM_FRACTAL:
+                return singleFoam(seed, x, y);
+            case HONEY:
+            case HONEY_FRACTAL:
+                return singleHoney(seed, x, y);
+            case MUTANT:
+            case MUTANT_FRACTAL:
+                return singleFoam(seed, x, y, mutation * scale);
+            case CELLULAR:
+                switch (cellularReturnType) {
+                    case CELL_VALUE:
+                    case NOISE_LOOKUP:
+                    case DISTANCE:
+                        return singleCellular(seed, x, y);
+                    default:
+                        return singleCellular2Edge(seed, x, y);
+                }
+            case WHITE_NOISE:
+                return singleWhiteNoise(seed, x, y);
+            default:
+                return singleSimplex(seed, x, y);
+        }
+    }
+
+    private float planOctave(int seed, float x, float y, float z, float scale) {
+        switch (noiseType) {
+            case VALUE:
+            case VALUE_FRACTAL:
+                return singleValue(seed, x, y, z);
+            case PERLIN:
+            case PERLIN_FRACTAL:
+                return singlePerlin(seed, x, y, z);
+            case CUBIC:
+            case CUBIC_FRACTAL:
+                return singleCubic(seed, x, y, z);
+            case FOAM:
+            case FOAM_FRACTAL:
+                return singleFoam(seed, x, y, z);
+            case HONEY:
+            case HONEY_FRACTAL:
+                return singleHoney(seed, x, y, z);
+            case MUTANT:
+            case MUTANT_FRACTAL:
+                return singleFoam(seed, x, y, z, mutation * scale);
+            case CELLULAR:
+                switch (cellularReturnType) {
+                    case CELL_VALUE:
+                    case NOISE_LOOKUP:
+                    case DISTANCE:
+                        return singleCellular(seed, x, y, z);
+                    default:
+                        return singleCellular2Edge(seed, x, y, z);
+                }
+            case WHITE_NOISE:
+                return singleWhiteNoise(seed, x, y, z);
+            default:
+                return singleSimplex(seed, x, y, z);
+        }
+    }
+    /**
+     * After being configured with the setters in this class, such as {@link #setNoiseType(int)},
+     * {@link #setFrequency(float)}, {@link #setFractalOctaves(int)}, and {@link #setFractalType(int)}, among others,
+     * you can call this method to get the particular variety of noise you specified, in 4D.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param w w position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @return noise as a float from -1f to 1f
+     */
+    public float getConfiguredNoise(float x, float y, float z, float w) {
+        return getNoiseWithSeed(x, y, z, w, seed);
+    }
+
+    /**
+     * Gets the same noise {@link #getConfiguredNoise(float, float, float, float)} would produce, but using the given
+     * {@code seed} instead of the seed this object stores. This does not change any state in this object, so it can be
+     * called from multiple threads at once, as long as no thread changes the configuration at the same time.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param w w position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param seed the int seed to use instead of {@link #getSeed()}
+     * @return noise as a float from -1f to 1f
+     */
+    public float getNoiseWithSeed(float x, float y, float z, float w, int seed) {
+        x *= frequency;
+        y *= frequency;
+        z *= frequency;
+        w *= frequency;
+
+        switch (noiseType) {
+            case VALUE:
+                return singleValue(seed, x, y, z, w);
+            case VALUE_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singleValueFractalBillow(seed, x, y, z, w);
+                    case RIDGED_MULTI:
+                        return singleValueFractalRidgedMulti(seed, x, y, z, w);
+                    default:
+                        return singleValueFractalFBM(seed, x, y, z, w);
+                }
+            case FOAM:
+                return singleFoam(seed, x, y, z, w);
+            case FOAM_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singleFoamFractalBillow(seed, x, y, z, w);
+                    case RIDGED_MULTI:
+                        return singleFoamFractalRidgedMulti(seed, x, y, z, w);
+                    default:
+                        return singleFoamFractalFBM(seed, x, y, z, w);
+                }
+            case MUTANT:
+                return singleFoam(seed, x, y, z, w, mutation);
+            case MUTANT_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singleFoamFractalBillow(seed, x, y, z, w, mutation);
+                    case RIDGED_MULTI:
+                        return singleFoamFractalRidgedMulti(seed, x, y, z, w, mutation);
+                    default:
+                        return singleFoamFractalFBM(seed, x, y, z, w, mutation);
+                }
+            case HONEY:
+                return singleHoney(seed, x, y, z, w);
+            case HONEY_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singleHoneyFractalBillow(seed, x, y, z, w);
+                    case RIDGED_MULTI:
+                        return singleHoneyFractalRidgedMulti(seed, x, y, z, w);
+                    default:
+                        return singleHoneyFractalFBM(seed, x, y, z, w);
+                }
+            case PERLIN:
+                return singlePerlin(seed, x, y, z, w);
+            case PERLIN_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singlePerlinFractalBillow(seed, x, y, z, w);
+                    case RIDGED_MULTI:
+                        return singlePerlinFractalRidgedMulti(seed, x, y, z, w);
+                    default:
+                        return singlePerlinFractalFBM(seed, x, y, z, w);
+                }
+            case SIMPLEX_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singleSimplexFractalBillow(seed, x, y, z, w);
+                    case RIDGED_MULTI:
+                        return singleSimplexFractalRidgedMulti(seed, x, y, z, w);
+                    default:
+                        return singleSimplexFractalFBM(seed, x, y, z, w);
+                }
+            case CELLULAR:
+                return singleCellular(seed, x, y, z, w);
+            case WHITE_NOISE:
+                return singleWhiteNoise(seed, x, y, z, w);
+            case CUBIC:
+                return singleCubic(seed, x, y, z, w);
+            case CUBIC_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singleCubicFractalBillow(seed, x, y, z, w);
+                    case RIDGED_MULTI:
+                        return singleCubicFractalRidgedMulti(seed, x, y, z, w);
+                    default:
+                        return singleCubicFractalFBM(seed, x, y, z, w);
+                }
+
+            default:
+                return singleSimplex(seed, x, y, z, w);
+        }
+    }
+
+    /**
+     * After being configured with the setters in this class, such as {@link #setNoiseType(int)},
+     * {@link #setFrequency(float)}, {@link #setFractalOctaves(int)}, and {@link #setFractalType(int)}, among others,
+     * you can call this method to get the particular variety of noise you specified, in 5D.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param w w position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param u u position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @return noise as a float from -1f to 1f
+     */
+    public float getConfiguredNoise(float x, float y, float z, float w, float u) {
+        return getNoiseWithSeed(x, y, z, w, u, seed);
+    }
+
+    /**
+     * Gets the same noise {@link #getConfiguredNoise(float, float, float, float, float)} would produce, but using the given
+     * {@code seed} instead of the seed this object stores. This does not change any state in this object, so it can be
+     * called from multiple threads at once, as long as no thread changes the configuration at the same time.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param w w position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param u u position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param seed the int seed to use instead of {@link #getSeed()}
+     * @return noise as a float from -1f to 1f
+     */
+    public float getNoiseWithSeed(float x, float y, float z, float w, float u, int seed) {
+        x *= frequency;
+        y *= frequency;
+        z *= frequency;
+        w *= frequency;
+        u *= frequency;
+
+        switch (noiseType) {
+            case VALUE:
+                return singleValue(seed, x, y, z, w, u);
+            case VALUE_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singleValueFractalBillow(seed, x, y, z, w, u);
+                    case RIDGED_MULTI:
+                        return singleValueFractalRidgedMulti(seed, x, y, z, w, u);
+                    default:
+                        return singleValueFractalFBM(seed, x, y, z, w, u);
+                }
+            case FOAM:
+                return singleFoam(seed, x, y, z, w, u);
+            case FOAM_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singleFoamFractalBillow(seed, x, y, z, w, u);
+                    case RIDGED_MULTI:
+                        return singleFoamFractalRidgedMulti(seed, x, y, z, w, u);
+                    default:
+                        return singleFoamFractalFBM(seed, x, y, z, w, u);
+                }
+            case MUTANT:
+                return singleFoam(seed, x, y, z, w, u, mutation);
+            case MUTANT_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singleFoamFractalBillow(seed, x, y, z, w, u, mutation);
+                    case RIDGED_MULTI:
+                        return singleFoamFractalRidgedMulti(seed, x, y, z, w, u, mutation);
+                    default:
+                        return singleFoamFractalFBM(seed, x, y, z, w, u, mutation);
+                }
+            case HONEY:
+                return singleHoney(seed, x, y, z, w, u);
+            case HONEY_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singleHoneyFractalBillow(seed, x, y, z, w, u);
+                    case RIDGED_MULTI:
+                        return singleHoneyFractalRidgedMulti(seed, x, y, z, w, u);
+                    default:
+                        return singleHoneyFractalFBM(seed, x, y, z, w, u);
+                }
+            case PERLIN:
+                return singlePerlin(seed, x, y, z, w, u);
+            case PERLIN_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singlePerlinFractalBillow(seed, x, y, z, w, u);
+                    case RIDGED_MULTI:
+                        return singlePerlinFractalRidgedMulti(seed, x, y, z, w, u);
+                    default:
+                        return singlePerlinFractalFBM(seed, x, y, z, w, u);
+                }
+            case SIMPLEX_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singleSimplexFractalBillow(seed, x, y, z, w, u);
+                    case RIDGED_MULTI:
+                        return singleSimplexFractalRidgedMulti(seed, x, y, z, w, u);
+                    default:
+                        return singleSimplexFractalFBM(seed, x, y, z, w, u);
+                }
+            case CELLULAR:
+                return singleCellular(seed, x, y, z, w, u);
+            case WHITE_NOISE:
+                return singleWhiteNoise(seed, x, y, z, w, u);
+            case CUBIC:
+                return singleCubic(seed, x, y, z, w, u);
+            case CUBIC_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singleCubicFractalBillow(seed, x, y, z, w, u);
+                    case RIDGED_MULTI:
+                        return singleCubicFractalRidgedMulti(seed, x, y, z, w, u);
+                    default:
+                        return singleCubicFractalFBM(seed, x, y, z, w, u);
+                }
+            default:
+                return singleSimplex(seed, x, y, z, w, u);
+        }
+    }
+
+    /**
+     * After being configured with the setters in this class, such as {@link #setNoiseType(int)},
+     * {@link #setFrequency(float)}, {@link #setFractalOctaves(int)}, and {@link #setFractalType(int)}, among others,
+     * you can call this method to get the particular variety of noise you specified, in 6D.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param w w position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param u u position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param v v position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @return noise as a float from -1f to 1f
+     */
+    public float getConfiguredNoise(float x, float y, float z, float w, float u, float v) {
+        return getNoiseWithSeed(x, y, z, w, u, v, seed);
+    }
+
+    /**
+     * Gets the same noise {@link #getConfiguredNoise(float, float, float, float, float, float)} would produce, but using the given
+     * {@code seed} instead of the seed this object stores. This does not change any state in this object, so it can be
+     * called from multiple threads at once, as long as no thread changes the configuration at the same time.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param w w position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param u u position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param v v position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param seed the int seed to use instead of {@link #getSeed()}
+     * @return noise as a float from -1f to 1f
+     */
+    public float getNoiseWithSeed(float x, float y, float z, float w, float u, float v, int seed) {
+        x *= frequency;
+        y *= frequency;
+        z *= frequency;
+        w *= frequency;
+        u *= frequency;
+        v *= frequency;
+
+        switch (noiseType) {
+            case VALUE:
+                return singleValue(seed, x, y, z, w, u, v);
+            case VALUE_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singleValueFractalBillow(seed, x, y, z, w, u, v);
+                    case RIDGED_MULTI:
+                        return singleValueFractalRidgedMulti(seed, x, y, z, w, u, v);
+                    default:
+                        return singleValueFractalFBM(seed, x, y, z, w, u, v);
+                }
+            case FOAM:
+                return singleFoam(seed, x, y, z, w, u, v);
+            case FOAM_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singleFoamFractalBillow(seed, x, y, z, w, u, v);
+                    case RIDGED_MULTI:
+                        return singleFoamFractalRidgedMulti(seed, x, y, z, w, u, v);
+                    default:
+                        return singleFoamFractalFBM(seed, x, y, z, w, u, v);
+                }
+            case MUTANT:
+                return singleFoam(seed, x, y, z, w, u, v, mutation);
+            case MUTANT_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singleFoamFractalBillow(seed, x, y, z, w, u, v, mutation);
+                    case RIDGED_MULTI:
+                        return singleFoamFractalRidgedMulti(seed, x, y, z, w, u, v, mutation);
+                    default:
+                        return singleFoamFractalFBM(seed, x, y, z, w, u, v, mutation);
+                }
+            case HONEY:
+                return singleHoney(seed, x, y, z, w, u, v);
+            case HONEY_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singleHoneyFractalBillow(seed, x, y, z, w, u, v);
+                    case RIDGED_MULTI:
+                        return singleHoneyFractalRidgedMulti(seed, x, y, z, w, u, v);
+                    default:
+                        return singleHoneyFractalFBM(seed, x, y, z, w, u, v);
+                }
+            case PERLIN:
+                return singlePerlin(seed, x, y, z, w, u, v);
+            case PERLIN_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singlePerlinFractalBillow(seed, x, y, z, w, u, v);
+                    case RIDGED_MULTI:
+                        return singlePerlinFractalRidgedMulti(seed, x, y, z, w, u, v);
+                    default:
+                        return singlePerlinFractalFBM(seed, x, y, z, w, u, v);
+                }
+            case SIMPLEX_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singleSimplexFractalBillow(seed, x, y, z, w, u, v);
+                    case RIDGED_MULTI:
+                        return singleSimplexFractalRidgedMulti(seed, x, y, z, w, u, v);
+                    default:
+                        return singleSimplexFractalFBM(seed, x, y, z, w, u, v);
+                }
+            case CELLULAR:
+                return singleCellular(seed, x, y, z, w, u, v);
+            case WHITE_NOISE:
+                return singleWhiteNoise(seed, x, y, z, w, u, v);
+            case CUBIC:
+                return singleCubic(seed, x, y, z, w, u, v);
+            case CUBIC_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return singleCubicFractalBillow(seed, x, y, z, w, u, v);
+                    case RIDGED_MULTI:
+                        return singleCubicFractalRidgedMulti(seed, x, y, z, w, u, v);
+                    default:
+                        return singleCubicFractalFBM(seed, x, y, z, w, u, v);
+                }
+            default:
+                return singleSimplex(seed, x, y, z, w, u, v);
+        }
+    }
+
+    /**
+     * True if this is a plain Noise or FrozenNoise (not a subclass that could override how noise is made) using one of
+     * the noise types built on value noise, which {@link ScanlineNoise} speeds up when filling an area.
+     */
+    private boolean scanlineHelps() {
+        return (getClass() == Noise.class || getClass() == FrozenNoise.class) && (noiseType == VALUE
+                || noiseType == VALUE_FRACTAL || noiseType == FOAM || noiseType == FOAM_FRACTAL || noiseType == MUTANT
+                || noiseType == MUTANT_FRACTAL);
+    }
+
+    /**
+     * Fills a 2D grid of noise in one call, using the same configuration as {@link #getConfiguredNoise(float, float)}.
+     * The grid has {@code width} columns and {@code height} rows, and is stored in row-major order in {@code out}, so
+     * the sample at column {@code i} and row {@code j} goes into {@code out[j * width + i]}; it is equal to
+     * {@code getConfiguredNoise(x0 + i * step, y0 + j * step)}. The noise type, fractal type and cellular return type
+     * are only checked once per call instead of once per sample, which makes this noticeably faster than calling
+     * getConfiguredNoise() in a nested loop when filling a large area, like a texture or a chunk of terrain. Some noise
+     * types also share work between neighboring samples: Simplex noise hashes each lattice vertex once per octave, and
+     * the noise types built on value noise (Value, Foam, and Mutant) use a {@link ScanlineNoise} to avoid re-hashing
+     * cells they already visited.
+     * <br>
+     * Most noise types don't allocate anything here. The noise types built on value noise need a small cache of lattice
+     * hashes, cellular noise needs a few small tables, and Simplex and Cubic noise need a lattice table with at most one
+     * entry per sample (four for 4D Cubic noise); these are made for each call and can be collected once it returns.
+     * To reuse them from one call to the next instead, pass a {@link FillContext} to
+     * {@link #fillGrid(float[], int, int, float, float, float, FillContext)}. {@code out} must have a length
+     * of at least {@code width * height}.
+     * @param out a float array that will be filled with noise; must have length at least {@code width * height}
+     * @param width how many columns to fill, each one {@code step} further along the x-axis than the last
+     * @param height how many rows to fill, each one {@code step} further along the y-axis than the last
+     * @param x0 x position of the first column, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y0 y position of the first row, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param step the distance between adjacent samples, before {@link #getFrequency()} is applied
+     * @return {@code out}, after modifications
+     */
+    public float[] fillGrid(float[] out, int width, int height, float x0, float y0, float step) {
+        return fillGridRows(out, 0, width, 0, height, x0, y0, step, null);
+    }
+
+    /**
+     * The same as {@link #fillGrid(float[], int, int, float, float, float)}, but takes its scratch space from
+     * {@code context}, so filling many grids with one FillContext only allocates when a grid needs more room than any
+     * grid before it. The results don't depend on the context or what it was used for before.
+     * @param out a float array that will be filled with noise; must have length at least {@code width * height}
+     * @param width how many columns to fill, each one {@code step} further along the x-axis than the last
+     * @param height how many rows to fill, each one {@code step} further along the y-axis than the last
+     * @param x0 x position of the first column, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y0 y position of the first row, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param step the distance between adjacent samples, before {@link #getFrequency()} is applied
+     * @param context scratch space that this call may use and grow, or null to allocate it for this call only; must not
+     *                be in use by another thread
+     * @return {@code out}, after modifications
+     */
+    public float[] fillGrid(float[] out, int width, int height, float x0, float y0, float step, FillContext context) {
+        return fillGridRows(out, 0, width, 0, height, x0, y0, step, context);
+    }
+
+    /**
+     * Fills some of the rows of the 2D grid that {@link #fillGrid(float[], int, int, float, float, float)} would fill,
+     * from {@code startRow} (inclusive) to {@code endRow} (exclusive), producing exactly the same values for those rows.
+     * The sample at column {@code i} and row {@code j} goes into {@code out[offset + (j - startRow) * width + i]}, so
+     * the rows are stored contiguously starting at {@code offset}. Passing {@code startRow * width} as the offset puts
+     * each row where the full fillGrid() call would; passing 0 fills a smaller array that only holds these rows. This
+     * is how a large grid can be split up into bands that different threads fill at the same time, which
+     * {@link ParallelNoise} does; the result doesn't depend on how the grid is split.
+     * @param out a float array that will be filled with noise; must have length at least
+     *            {@code offset + (endRow - startRow) * width}
+     * @param offset the index in {@code out} of the first sample in row {@code startRow}
+     * @param width how many columns to fill, each one {@code step} further along the x-axis than the last
+     * @param startRow the first row to fill, inclusive; row 0 is at {@code y0}
+     * @param endRow the last row to fill, exclusive
+     * @param x0 x position of the first column, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y0 y position of row 0, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param step the distance between adjacent samples, before {@link #getFrequency()} is applied
+     * @return {@code out}, after modifications
+     */
+    public float[] fillGridRows(float[] out, int offset, int width, int startRow, int endRow,
+                                float x0, float y0, float step) {
+        return fillGridRows(out, offset, width, startRow, endRow, x0, y0, step, null);
+    }
+
+    /**
+     * The same as {@link #fillGridRows(float[], int, int, int, int, float, float, float)}, but takes its scratch space
+     * from {@code context} (see {@link #fillGrid(float[], int, int, float, float, float, FillContext)}). Filling a large
+     * grid band by band with one FillContext only allocates scratch space big enough for one band.
+     * @param out a float array that will be filled with noise; must have length at least
+     *            {@code offset + (endRow - startRow) * width}
+     * @param offset the index in {@code out} of the first sample in row {@code startRow}
+     * @param width how many columns to fill, each one {@code step} further along the x-axis than the last
+     * @param startRow the first row to fill, inclusive; row 0 is at {@code y0}
+     * @param endRow the last row to fill, exclusive
+     * @param x0 x position of the first column, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y0 y position of row 0, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param step the distance between adjacent samples, before {@link #getFrequency()} is applied
+     * @param context scratch space that this call may use and grow, or null to allocate it for this call only; must not
+     *                be in use by another thread
+     * @return {@code out}, after modifications
+     */
+    public float[] fillGridRows(float[] out, int offset, int width, int startRow, int endRow,
+                                float x0, float y0, float step, FillContext context) {
+        if (scanlineHelps()) {
+            scanline(context).fillGridRows(out, offset, width, startRow, endRow, x0, y0, step);
+            return out;
+        }
+        int idx = offset;
+        switch (noiseType) {
+            case VALUE:
+                for (int j = startRow; j < endRow; j++) {
+                    final float y = (y0 + j * step) * frequency;
+                    for (int i = 0; i < width; i++) {
+                        out[idx++] = singleValue(seed, (x0 + i * step) * frequency, y);
+                    }
+                }
+                return out;
+            case VALUE_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int j = startRow; j < endRow; j++) {
+                            final float y = (y0 + j * step) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleValueFractalBillow(seed, (x0 + i * step) * frequency, y);
+                            }
+                        }
+                        return out;
+                    case RIDGED_MULTI:
+                        for (int j = startRow; j < endRow; j++) {
+                            final float y = (y0 + j * step) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleValueFractalRidgedMulti(seed, (x0 + i * step) * frequency, y);
+                            }
+                        }
+                        return out;
+                    default:
+                        for (int j = startRow; j < endRow; j++) {
+                            final float y = (y0 + j * step) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleValueFractalFBM(seed, (x0 + i * step) * frequency, y);
+                            }
+                        }
+                        return out;
+                }
+            case FOAM:
+                for (int j = startRow; j < endRow; j++) {
+                    final float y = (y0 + j * step) * frequency;
+                    for (int i = 0; i < width; i++) {
+                        out[idx++] = singleFoam(seed, (x0 + i * step) * frequency, y);
+                    }
+                }
+                return out;
+            case FOAM_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int j = startRow; j < endRow; j++) {
+                            final float y = (y0 + j * step) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleFoamFractalBillow(seed, (x0 + i * step) * frequency, y);
+                            }
+                        }
+                        return out;
+                    case RIDGED_MULTI:
+                        for (int j = startRow; j < endRow; j++) {
+                            final float y = (y0 + j * step) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleFoamFractalRidgedMulti(seed, (x0 + i * step) * frequency, y);
+                            }
+                        }
+                        return out;
+                    default:
+                        for (int j = startRow; j < endRow; j++) {
+                            final float y = (y0 + j * step) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleFoamFractalFBM(seed, (x0 + i * step) * frequency, y);
+                            }
+                        }
+                        return out;
+                }
+            case MUTANT:
+                for (int j = startRow; j < endRow; j++) {
+                    final float y = (y0 + j * step) * frequency;
+                    for (int i = 0; i < width; i++) {
+                        out[idx++] = singleFoam(seed, (x0 + i * step) * frequency, y, mutation);
+                    }
+                }
+                return out;
+            case MUTANT_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int j = startRow; j < endRow; j++) {
+                            final float y = (y0 + j * step) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleFoamFractalBillow(seed, (x0 + i * step) * frequency, y, mutation);
+                            }
+                        }
+                        return out;
+                    case RIDGED_MULTI:
+                        for (int j = startRow; j < endRow; j++) {
+                            final float y = (y0 + j * step) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleFoamFractalRidgedMulti(seed, (x0 + i * step) * frequency, y, mutation);
+                            }
+                        }
+                        return out;
+                    default:
+                        for (int j = startRow; j < endRow; j++) {
+                            final float y = (y0 + j * step) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleFoamFractalFBM(seed, (x0 + i * step) * frequency, y, mutation);
+                            }
+                        }
+                        return out;
+                }
+            case HONEY:
+                for (int j = startRow; j < endRow; j++) {
+                    final float y = (y0 + j * step) * frequency;
+                    for (int i = 0; i < width; i++) {
+                        out[idx++] = singleHoney(seed, (x0 + i * step) * frequency, y);
+                    }
+                }
+                return out;
+            case HONEY_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int j = startRow; j < endRow; j++) {
+                            final float y = (y0 + j * step) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleHoneyFractalBillow(seed, (x0 + i * step) * frequency, y);
+                            }
+                        }
+                        return out;
+                    case RIDGED_MULTI:
+                        for (int j = startRow; j < endRow; j++) {
+                            final float y = (y0 + j * step) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleHoneyFractalRidgedMulti(seed, (x0 + i * step) * frequency, y);
+                            }
+                        }
+                        return out;
+                    default:
+                        for (int j = startRow; j < endRow; j++) {
+                            final float y = (y0 + j * step) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleHoneyFractalFBM(seed, (x0 + i * step) * frequency, y);
+                            }
+                        }
+                        return out;
+                }
+            case PERLIN:
+                for (int j = startRow; j < endRow; j++) {
+                    final float y = (y0 + j * step) * frequency;
+                    for (int i = 0; i < width; i++) {
+                        out[idx++] = singlePerlin(seed, (x0 + i * step) * frequency, y);
+                    }
+                }
+                return out;
+            case PERLIN_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int j = startRow; j < endRow; j++) {
+                            final float y = (y0 + j * step) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singlePerlinFractalBillow(seed, (x0 + i * step) * frequency, y);
+                            }
+                        }
+                        return out;
+                    case RIDGED_MULTI:
+                        for (int j = startRow; j < endRow; j++) {
+                            final float y = (y0 + j * step) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singlePerlinFractalRidgedMulti(seed, (x0 + i * step) * frequency, y);
+                            }
+                        }
+                        return out;
+                    default:
+                        for (int j = startRow; j < endRow; j++) {
+                            final float y = (y0 + j * step) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singlePerlinFractalFBM(seed, (x0 + i * step) * frequency, y);
+                            }
+                        }
+                        return out;
+                }
+            case SIMPLEX_FRACTAL:
+                return fillSimplexGrid(out, offset, width, startRow, endRow, x0, y0, step, true, context);
+            case CELLULAR:
+                return fillCellularGrid(out, offset, width, startRow, endRow, x0, y0, step, context);
+            case WHITE_NOISE:
+                for (int j = startRow; j < endRow; j++) {
+                    final float y = (y0 + j * step) * frequency;
+                    for (int i = 0; i < width; i++) {
+                        out[idx++] = singleWhiteNoise(seed, (x0 + i * step) * frequency, y);
+                    }
+                }
+                return out;
+            case CUBIC:
+                return fillCubicGrid(out, offset, width, startRow, endRow, x0, y0, step, false, context);
+            case CUBIC_FRACTAL:
+                return fillCubicGrid(out, offset, width, startRow, endRow, x0, y0, step, true, context);
+            default:
+                return fillSimplexGrid(out, offset, width, startRow, endRow, x0, y0, step, false, context);
+        }
+    }
+
+    /**
+     * Fills a 2D grid of noise for a chunk of a very large world, without the precision loss floats have far from the
+     * origin. The chunk's origin is given as whole world units in {@code originX} and {@code originY}, and samples are
+     * placed relative to it with small float offsets, so the sample at column {@code i} and row {@code j} is the noise
+     * at {@code (originX + x0 + i * step, originY + y0 + j * step)}; it goes into {@code out[j * width + i]}, like in
+     * {@link #fillGrid(float[], int, int, float, float, float)}. Samples match what
+     * {@link #getNoise(double, double)} gives at the same position, up to float rounding, and neighboring chunks
+     * line up without seams.
+     * <br>
+     * For {@link #VALUE}, {@link #PERLIN} and {@link #SIMPLEX}, and their fractal variants, the origin is multiplied by
+     * each octave's frequency exactly, once per call, and split into a whole lattice cell (which only the hash sees) and
+     * a fraction, so each sample costs the same float math as it would near the origin and any long origin works. Only
+     * the low 32 bits of a lattice cell reach the hash, so this noise repeats every 2 to the 32 lattice cells on each
+     * axis. Other noise types call {@link #getNoise(double, double)} for each sample, which is only as precise as a
+     * double. This allocates a little scratch space per octave; {@code out} must have a length of at least
+     * {@code width * height}.
+     * @param out a float array that will be filled with noise; must have length at least {@code width * height}
+     * @param width how many columns to fill, each one {@code step} further along the x-axis than the last
+     * @param height how many rows to fill, each one {@code step} further along the y-axis than the last
+     * @param originX x position of the chunk, in world units before {@link #getFrequency()} is applied; any long
+     * @param originY y position of the chunk, in world units before {@link #getFrequency()} is applied; any long
+     * @param x0 x position of the first column, relative to {@code originX}; should be small
+     * @param y0 y position of the first row, relative to {@code originY}; should be small
+     * @param step the distance between adjacent samples, before {@link #getFrequency()} is applied
+     * @return {@code out}, after modifications
+     */
+    public float[] fillChunk(float[] out, int width, int height, long originX, long originY,
+                             float x0, float y0, float step) {
+        final int layers = chunkLayers();
+        int idx = 0;
+        if (layers == 0) {
+            for (int j = 0; j < height; j++) {
+                final double y = originY + (double) (y0 + j * step);
+                for (int i = 0; i < width; i++) {
+                    out[idx++] = (float) getPreciseNoise(originX + (double) (x0 + i * step), y, seed);
+                }
+            }
+            return out;
+        }
+        final boolean simplex = noiseType == SIMPLEX || noiseType == SIMPLEX_FRACTAL,
+                fractal = noiseType == VALUE_FRACTAL || noiseType == PERLIN_FRACTAL || noiseType == SIMPLEX_FRACTAL;
+        final long[] cellX = new long[layers], cellY = new long[layers];
+        final float[] fracX = new float[layers], fracY = new float[layers], scale = new float[layers];
+        double s = frequency;
+        for (int k = 0; k < layers; k++, s *= lacunarity) {
+            double fx = addScaled(originX, s, cellX, k), fy = addScaled(originY, s, cellY, k);
+            if (simplex) {
+                // skews by (originX + originY) * s * F2 on both axes, without adding the longs, which could overflow
+                final double skew = s * F2f;
+                fx += addScaled(originX, skew, cellX, k) + addScaled(originY, skew, cellX, k);
+                fy += addScaled(originX, skew, cellY, k) + addScaled(originY, skew, cellY, k);
+            }
+            final long wx = (long) fx, wy = (long) fy;
+            cellX[k] += wx;
+            cellY[k] += wy;
+            fracX[k] = (float) (fx - wx);
+            fracY[k] = (float) (fy - wy);
+            scale[k] = (float) s;
+        }
+        if (!fractal) {
+            for (int j = 0; j < height; j++) {
+                final float y = (y0 + j * step) * scale[0];
+                for (int i = 0; i < width; i++) {
+                    out[idx++] = chunkLayer(seed, simplex, cellX[0], fracX[0], (x0 + i * step) * scale[0],
+                            cellY[0], fracY[0], y);
+                }
+            }
+            return out;
+        }
+        final int size = width * height;
+        for (int i = 0; i < size; i++) {
+            out[i] = 0f;
+        }
+        // one octave at a time, so the fractal type is checked once per row rather than for every sample and octave
+        float amp = 1f, exp = 2f, correction = 0f;
+        for (int k = 0; k < layers; k++) {
+            final int sd = seed + k;
+            final long cx = cellX[k], cy = cellY[k];
+            final float fx = fracX[k], fy = fracY[k], sc = scale[k];
+            final float weight;
+            if (fractalType == RIDGED_MULTI) {
+                correction += (exp *= 0.5f);
+                weight = exp;
+            } else
+                weight = amp;
+            idx = 0;
+            for (int j = 0; j < height; j++) {
+                final float y = (y0 + j * step) * sc;
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int i = 0; i < width; i++) {
+                            out[idx++] += (Math.abs(chunkLayer(sd, simplex, cx, fx, (x0 + i * step) * sc,
+                                    cy, fy, y)) * 2 - 1) * weight;
+                        }
+                        break;
+                    case RIDGED_MULTI:
+                        for (int i = 0; i < width; i++) {
+                            out[idx++] += (1f - Math.abs(chunkLayer(sd, simplex, cx, fx, (x0 + i * step) * sc,
+                                    cy, fy, y))) * weight;
+                        }
+                        break;
+                    default:
+                        for (int i = 0; i < width; i++) {
+                            out[idx++] += chunkLayer(sd, simplex, cx, fx, (x0 + i * step) * sc, cy, fy, y) * weight;
+                        }
+                }
+            }
+            amp *= gain;
+        }
+        finishChunk(out, size, correction);
+        return out;
+    }
+
+    /**
+     * Fills a 3D volume of noise for a chunk of a very large world, without the precision loss floats have far from
+     * the origin. This works like {@link #fillChunk(float[], int, int, long, long, float, float, float)} does in 2D:
+     * the sample at {@code (i, j, k)} is the noise at
+     * {@code (originX + x0 + i * step, originY + y0 + j * step, originZ + z0 + k * step)}, matching
+     * {@link #getNoise(double, double, double)} up to float rounding, and goes into
+     * {@code out[(k * height + j) * width + i]}, like in
+     * {@link #fillVolume(float[], int, int, int, float, float, float, float)}.
+     * @param out a float array that will be filled with noise; must have length at least {@code width * height * depth}
+     * @param width how many samples to fill along the x-axis
+     * @param height how many samples to fill along the y-axis
+     * @param depth how many samples to fill along the z-axis
+     * @param originX x position of the chunk, in world units before {@link #getFrequency()} is applied; any long
+     * @param originY y position of the chunk, in world units before {@link #getFrequency()} is applied; any long
+     * @param originZ z position of the chunk, in world units before {@link #getFrequency()} is applied; any long
+     * @param x0 x position of the first sample, relative to {@code originX}; should be small
+     * @param y0 y position of the first sample, relative to {@code originY}; should be small
+     * @param z0 z position of the first sample, relative to {@code originZ}; should be small
+     * @param step the distance between adjacent samples on any axis, before {@link #getFrequency()} is applied
+     * @return {@code out}, after modifications
+     */
+    public float[] fillChunk(float[] out, int width, int height, int depth, long originX, long originY, long originZ,
+                             float x0, float y0, float z0, float step) {
+        final int layers = chunkLayers();
+        int idx = 0;
+        if (layers == 0) {
+            for (int kk = 0; kk < depth; kk++) {
+                final double z = originZ + (double) (z0 + kk * step);
+                for (int j = 0; j < height; j++) {
+                    final double y = originY + (double) (y0 + j * step);
+                    for (int i = 0; i < width; i++) {
+                        out[idx++] = (float) getPreciseNoise(originX + (double) (x0 + i * step), y, z, seed);
+                    }
+                }
+            }
+            return out;
+        }
+        final boolean simplex = noiseType == SIMPLEX || noiseType == SIMPLEX_FRACTAL,
+                fractal = noiseType == VALUE_FRACTAL || noiseType == PERLIN_FRACTAL || noiseType == SIMPLEX_FRACTAL;
+        final long[] cellX = new long[layers], cellY = new long[layers], cellZ = new long[layers];
+        final float[] fracX = new float[layers], fracY = new float[layers], fracZ = new float[layers],
+                scale = new float[layers];
+        double s = frequency;
+        for (int k = 0; k < layers; k++, s *= lacunarity) {
+            double fx = addScaled(originX, s, cellX, k), fy = addScaled(originY, s, cellY, k),
+                    fz = addScaled(originZ, s, cellZ, k);
+            if (simplex) {
+                // skews by (originX + originY + originZ) * s * F3 on every axis, without adding the longs
+                final double skew = s * F3f;
+                fx += addScaled(originX, skew, cellX, k) + addScaled(originY, skew, cellX, k)
+                        + addScaled(originZ, skew, cellX, k);
+                fy += addScaled(originX, skew, cellY, k) + addScaled(originY, skew, cellY, k)
+                        + addScaled(originZ, skew, cellY, k);
+                fz += addScaled(originX, skew, cellZ, k) + addScaled(originY, skew, cellZ, k)
+                        + addScaled(originZ, skew, cellZ, k);
+            }
+            final long wx = (long) fx, wy = (long) fy, wz = (long) fz;
+            cellX[k] += wx;
+            cellY[k] += wy;
+            cellZ[k] += wz;
+            fracX[k] = (float) (fx - wx);
+            fracY[k] = (float) (fy - wy);
+            fracZ[k] = (float) (fz - wz);
+            scale[k] = (float) s;
+        }
+        if (!fractal) {
+            for (int kk = 0; kk < depth; kk++) {
+                final float z = (z0 + kk * step) * scale[0];
+                for (int j = 0; j < height; j++) {
+                    final float y = (y0 + j * step) * scale[0];
+                    for (int i = 0; i < width; i++) {
+                        out[idx++] = chunkLayer(seed, simplex, cellX[0], fracX[0], (x0 + i * step) * scale[0],
+                                cellY[0], fracY[0], y, cellZ[0], fracZ[0], z);
+                    }
+                }
+            }
+            return out;
+        }
+        final int size = width * height * depth;
+        for (int i = 0; i < size; i++) {
+            out[i] = 0f;
+        }
+        // one octave at a time, so the fractal type is checked once per row rather than for every sample and octave
+        float amp = 1f, exp = 2f, correction = 0f;
+        for (int k = 0; k < layers; k++) {
+            final int sd = seed + k;
+            final long cx = cellX[k], cy = cellY[k], cz = cellZ[k];
+            final float fx = fracX[k], fy = fracY[k], fz = fracZ[k], sc = scale[k];
+            final float weight;
+            if (fractalType == RIDGED_MULTI) {
+                correction += (exp *= 0.5f);
+                weight = exp;
+            } else
+                weight = amp;
+            idx = 0;
+            for (int kk = 0; kk < depth; kk++) {
+                final float z = (z0 + kk * step) * sc;
+                for (int j = 0; j < height; j++) {
+                    final float y = (y0 + j * step) * sc;
+                    switch (fractalType) {
+                        case BILLOW:
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] += (Math.abs(chunkLayer(sd, simplex, cx, fx, (x0 + i * step) * sc,
+                                        cy, fy, y, cz, fz, z)) * 2 - 1) * weight;
+                            }
+                            break;
+                        case RIDGED_MULTI:
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] += (1f - Math.abs(chunkLayer(sd, simplex, cx, fx, (x0 + i * step) * sc,
+                                        cy, fy, y, cz, fz, z))) * weight;
+                            }
+                            break;
+                        default:
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] += chunkLayer(sd, simplex, cx, fx, (x0 + i * step) * sc,
+                                        cy, fy, y, cz, fz, z) * weight;
+                            }
+                    }
+                }
+            }
+            amp *= gain;
+        }
+        finishChunk(out, size, correction);
+        return out;
+    }
+
+    /**
+     * Finishes the fractal sums in the first {@code size} items of {@code out}, the same way the fractal noise methods
+     * do; {@code correction} is only used by {@link #RIDGED_MULTI}.
+     */
+    private void finishChunk(float[] out, int size, float correction) {
+        if (fractalType == RIDGED_MULTI) {
+            for (int i = 0; i < size; i++) {
+                out[i] = out[i] * 2f / correction - 1f;
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                out[i] *= fractalBounding;
+            }
+        }
+    }
+
+    /**
+     * Multiplies {@code origin} by {@code scale} exactly, adds the floor of the product to {@code cells[index]}, and
+     * returns the rest of the product, from 0 up to but not including 1. A double can't hold every long, let alone
+     * their products, so the product is found with 32-bit pieces as a 128-bit number; the floor wraps like any long,
+     * which doesn't matter because only its low 32 bits reach the hash.
+     */
+    private static double addScaled(long origin, double scale, long[] cells, int index) {
+        final long bits = Double.doubleToLongBits(scale);
+        final int exponent = (int) (bits >>> 52 & 0x7FFL);
+        // zero, subnormal, infinite and NaN scales give nothing useful to split
+        if (origin == 0L || exponent == 0 || exponent == 0x7FF)
+            return 0.0;
+        final long mantissa = bits & 0xFFFFFFFFFFFFFL | 0x10000000000000L;
+        // -Long.MIN_VALUE is still Long.MIN_VALUE, which is 2 to the 63 when read as unsigned, as it is here
+        final long magnitude = origin < 0L ? -origin : origin;
+        final long a0 = magnitude & 0xFFFFFFFFL, a1 = magnitude >>> 32, m0 = mantissa & 0xFFFFFFFFL, m1 = mantissa >>> 32;
+        final long p00 = a0 * m0, p01 = a0 * m1, p10 = a1 * m0;
+        final long mid = (p00 >>> 32) + (p01 & 0xFFFFFFFFL) + (p10 & 0xFFFFFFFFL);
+        long lo = p00 & 0xFFFFFFFFL | mid << 32, hi = a1 * m1 + (p01 >>> 32) + (p10 >>> 32) + (mid >>> 32);
+        if (origin < 0L != bits < 0L) {
+            hi = lo == 0L ? -hi : ~hi;
+            lo = -lo;
+        }
+        // the product is (hi, lo) times 2 to the shift
+        final int shift = exponent - 1075;
+        if (shift >= 0) {
+            if (shift < 64)
+                cells[index] += lo << shift;
+            return 0.0;
+        }
+        final int down = -shift;
+        final double unit = Math.pow(2.0, -down), low = ((lo >>> 1) * 2.0 + (lo & 1L)) * unit;
+        double fraction;
+        if (down < 64) {
+            cells[index] += lo >>> down | hi << 64 - down;
+            fraction = (lo & (1L << down) - 1L) * unit;
+        } else if (down < 128) {
+            cells[index] += hi >> down - 64;
+            fraction = (hi & (1L << down - 64) - 1L) * Math.pow(2.0, 64 - down) + low;
+        } else {
+            // the whole product is a fraction of a cell
+            cells[index] += hi >> 63;
+            fraction = hi * Math.pow(2.0, 64 - down) + low;
+            if (fraction < 0.0)
+                fraction += 1.0;
+        }
+        // a fraction just under 1 can round up to 1, which belongs to the next cell
+        if (fraction >= 1.0) {
+            cells[index]++;
+            return 0.0;
+        }
+        return fraction;
+    }
+
+    /**
+     * How many octaves {@link #fillChunk(float[], int, int, long, long, float, float, float)} splits the origin for:
+     * 1 for the plain lattice noise types it handles, the octave count for their fractal variants, or 0 if it has to
+     * fall back to {@link #getNoise(double, double)} for each sample.
+     */
+    private int chunkLayers() {
+        switch (noiseType) {
+            case VALUE:
+            case PERLIN:
+            case SIMPLEX:
+                return 1;
+            case VALUE_FRACTAL:
+            case PERLIN_FRACTAL:
+            case SIMPLEX_FRACTAL:
+                return octaves;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * One octave of {@link #fillChunk(float[], int, int, long, long, float, float, float)}. The lattice position on
+     * each axis is the whole cell and the fraction that the chunk origin was split into, plus the small local offset
+     * {@code x} or {@code y}, which has already been multiplied by this octave's frequency. For Simplex noise, the
+     * cells and fractions have already been skewed, but the local offset hasn't.
+     */
+    private float chunkLayer(int seed, boolean simplex, long cellX, float fracX, float x,
+                             long cellY, float fracY, float y) {
+        if (simplex) {
+            final float t = (x + y) * F2f;
+            x += t;
+            y += t;
+        }
+        x += fracX;
+        y += fracY;
+        final int xf = fastFloor(x), yf = fastFloor(y);
+        final int xc = (int) cellX + xf, yc = (int) cellY + yf;
+        x -= xf;
+        y -= yf;
+        switch (noiseType) {
+            case VALUE:
+            case VALUE_FRACTAL:
+                return splitValue(interpolation, seed, xc, x, yc, y);
+            case PERLIN:
+            case PERLIN_FRACTAL:
+                return splitPerlin(interpolation, seed, xc, x, yc, y);
+            default:
+                return skewedSimplex(seed, xc, yc, x, y);
+        }
+    }
+
+    private float chunkLayer(int seed, boolean simplex, long cellX, float fracX, float x,
+                             long cellY, float fracY, float y, long cellZ, float fracZ, float z) {
+        if (simplex) {
+            final float t = (x + y + z) * F3f;
+            x += t;
+            y += t;
+            z += t;
+        }
+        x += fracX;
+        y += fracY;
+        z += fracZ;
+        final int xf = fastFloor(x), yf = fastFloor(y), zf = fastFloor(z);
+        final int xc = (int) cellX + xf, yc = (int) cellY + yf, zc = (int) cellZ + zf;
+        x -= xf;
+        y -= yf;
+        z -= zf;
+        switch (noiseType) {
+            case VALUE:
+            case VALUE_FRACTAL:
+                return splitValue(interpolation, seed, xc, x, yc, y, zc, z);
+            case PERLIN:
+            case PERLIN_FRACTAL:
+                return splitPerlin(interpolation, seed, xc, x, yc, y, zc, z);
+            default:
+                return skewedSimplex(seed, xc, yc, zc, x, y, z);
+        }
+    }
+
+    /**
+     * Fills a 3D volume of noise in one call, using the same configuration as
+     * {@link #getConfiguredNoise(float, float, float)}. The volume is stored in {@code out} with x changing fastest,
+     * then y, then z, so the sample at {@code (i, j, k)} goes into {@code out[(k * height + j) * width + i]}; it is
+     * equal to {@code getConfiguredNoise(x0 + i * step, y0 + j * step, z0 + k * step)}. This is meant for things like
+     * voxel chunks, where calling getConfiguredNoise() once per voxel spends much of its time re-checking the
+     * configuration. See {@link #fillVolume(float[], int, int, int, int, int, int, int, float, float, float, float)}
+     * if you need a different layout.
+     * <br>
+     * Most noise types don't allocate anything here. The noise types built on value noise need a small cache of lattice
+     * hashes, and Simplex and Cubic noise need a lattice table with at most one entry per sample (four for 4D Cubic
+     * noise); these are made for each call and can be collected once it returns. To reuse them from one call to the
+     * next instead, pass a {@link FillContext} to {@link #fillVolume(float[], int, int, int, int, int, int, int, float, float, float, float, FillContext)}.
+     * {@code out} must have a length of at least {@code width * height * depth}.
+     * @param out a float array that will be filled with noise; must have length at least {@code width * height * depth}
+     * @param width how many samples to fill along the x-axis
+     * @param height how many samples to fill along the y-axis
+     * @param depth how many samples to fill along the z-axis
+     * @param x0 x position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y0 y position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z0 z position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param step the distance between adjacent samples on any axis, before {@link #getFrequency()} is applied
+     * @return {@code out}, after modifications
+     */
+    public float[] fillVolume(float[] out, int width, int height, int depth, float x0, float y0, float z0, float step) {
+        return fillVolume(out, 0, 1, width, width * height, width, height, depth, x0, y0, z0, step);
+    }
+
+    /**
+     * Fills a 3D volume of noise in one call, using the same configuration as
+     * {@link #getConfiguredNoise(float, float, float)}, writing the sample at {@code (i, j, k)} into
+     * {@code out[offset + i * xStride + j * yStride + k * zStride]}. The strides can describe any layout in a flat
+     * array, such as y-up voxel chunks (where the y-stride is the largest), or a sub-region of a larger array. Each
+     * sample is equal to {@code getConfiguredNoise(x0 + i * step, y0 + j * step, z0 + k * step)}. The configuration is
+     * only checked once per call. Perlin noise reuses the hashes of its lattice points between neighboring samples
+     * along the x-axis, Simplex noise hashes each lattice vertex once per octave, and Value, Foam, and Mutant noise use a
+     * {@link ScanlineNoise}, so none of them recompute hashes for every sample.
+     * <br>
+     * Most noise types don't allocate anything here. The noise types built on value noise need a small cache of lattice
+     * hashes, and Simplex and Cubic noise need a lattice table with at most one entry per sample (four for 4D Cubic
+     * noise); these are made for each call and can be collected once it returns. To reuse them from one call to the
+     * next instead, pass a {@link FillContext} to {@link #fillVolume(float[], int, int, int, int, int, int, int, float, float, float, float, FillContext)}. This
+     * doesn't check its bounds beyond what Java does for any array access.
+     * @param out a float array that will be filled with noise
+     * @param offset the index in {@code out} of the first sample
+     * @param xStride how far apart in {@code out} two samples are when they are adjacent on the x-axis
+     * @param yStride how far apart in {@code out} two samples are when they are adjacent on the y-axis
+     * @param zStride how far apart in {@code out} two samples are when they are adjacent on the z-axis
+     * @param width how many samples to fill along the x-axis
+     * @param height how many samples to fill along the y-axis
+     * @param depth how many samples to fill along the z-axis
+     * @param x0 x position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y0 y position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z0 z position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param step the distance between adjacent samples on any axis, before {@link #getFrequency()} is applied
+     * @return {@code out}, after modifications
+     */
+    public float[] fillVolume(float[] out, int offset, int xStride, int yStride, int zStride,
+                              int width, int height, int depth, float x0, float y0, float z0, float step) {
+        return fillVolumeRange(out, offset, xStride, yStride, zStride, width, 0, height, 0, depth, x0, y0, z0, step,
+                null);
+    }
+
+    /**
+     * The same as {@link #fillVolume(float[], int, int, int, int, int, int, int, float, float, float, float)}, but takes
+     * its scratch space from {@code context}, so filling many volumes with one FillContext only allocates when a
+     * volume needs more room than any volume before it. The results don't depend on the context or what it was used
+     * for before.
+     * @param out a float array that will be filled with noise
+     * @param offset the index in {@code out} of the first sample
+     * @param xStride how far apart in {@code out} two samples are when they are adjacent on the x-axis
+     * @param yStride how far apart in {@code out} two samples are when they are adjacent on the y-axis
+     * @param zStride how far apart in {@code out} two samples are when they are adjacent on the z-axis
+     * @param width how many samples to fill along the x-axis
+     * @param height how many samples to fill along the y-axis
+     * @param depth how many samples to fill along the z-axis
+     * @param x0 x position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y0 y position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z0 z position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param step the distance between adjacent samples on any axis, before {@link #getFrequency()} is applied
+     * @param context scratch space that this call may use and grow, or null to allocate it for this call only; must not
+     *                be in use by another thread
+     * @return {@code out}, after modifications
+     */
+    public float[] fillVolume(float[] out, int offset, int xStride, int yStride, int zStride,
+                              int width, int height, int depth, float x0, float y0, float z0, float step,
+                              FillContext context) {
+        return fillVolumeRange(out, offset, xStride, yStride, zStride, width, 0, height, 0, depth, x0, y0, z0, step,
+                context);
+    }
+
+    /**
+     * Fills a box-shaped part of the 3D volume that
+     * {@link #fillVolume(float[], int, int, int, int, int, int, int, float, float, float, float)} would fill, covering
+     * all columns from 0 to {@code width}, rows from {@code startRow} (inclusive) to {@code endRow} (exclusive), and
+     * layers from {@code startLayer} (inclusive) to {@code endLayer} (exclusive), producing exactly the same values for
+     * those samples. The sample at {@code (i, j, k)} goes into
+     * {@code out[offset + i * xStride + (j - startRow) * yStride + (k - startLayer) * zStride]}. Like
+     * {@link #fillGridRows(float[], int, int, int, int, float, float, float)}, this lets a large volume be split into
+     * pieces that different threads fill at the same time, which {@link ParallelNoise} does.
+     * @param out a float array that will be filled with noise
+     * @param offset the index in {@code out} of the sample at {@code (0, startRow, startLayer)}
+     * @param xStride how far apart in {@code out} two samples are when they are adjacent on the x-axis
+     * @param yStride how far apart in {@code out} two samples are when they are adjacent on the y-axis
+     * @param zStride how far apart in {@code out} two samples are when they are adjacent on the z-axis
+     * @param width how many samples to fill along the x-axis
+     * @param startRow the first row (y index) to fill, inclusive; row 0 is at {@code y0}
+     * @param endRow the last row (y index) to fill, exclusive
+     * @param startLayer the first layer (z index) to fill, inclusive; layer 0 is at {@code z0}
+     * @param endLayer the last layer (z index) to fill, exclusive
+     * @param x0 x position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y0 y position of row 0, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z0 z position of layer 0, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param step the distance between adjacent samples on any axis, before {@link #getFrequency()} is applied
+     * @return {@code out}, after modifications
+     */
+    public float[] fillVolumeRange(float[] out, int offset, int xStride, int yStride, int zStride, int width,
+                                   int startRow, int endRow, int startLayer, int endLayer,
+                                   float x0, float y0, float z0, float step) {
+        return fillVolumeRange(out, offset, xStride, yStride, zStride, width, startRow, endRow, startLayer, endLayer,
+                x0, y0, z0, step, null);
+    }
+
+    /**
+     * The same as
+     * {@link #fillVolumeRange(float[], int, int, int, int, int, int, int, int, int, float, float, float, float)}, but
+     * takes its scratch space from {@code context} (see
+     * {@link #fillVolume(float[], int, int, int, int, int, int, int, float, float, float, float, FillContext)}).
+     * @param out a float array that will be filled with noise
+     * @param offset the index in {@code out} of the sample at {@code (0, startRow, startLayer)}
+     * @param xStride how far apart in {@code out} two samples are when they are adjacent on the x-axis
+     * @param yStride how far apart in {@code out} two samples are when they are adjacent on the y-axis
+     * @param zStride how far apart in {@code out} two samples are when they are adjacent on the z-axis
+     * @param width how many samples to fill along the x-axis
+     * @param startRow the first row (y index) to fill, inclusive; row 0 is at {@code y0}
+     * @param endRow the last row (y index) to fill, exclusive
+     * @param startLayer the first layer (z index) to fill, inclusive; layer 0 is at {@code z0}
+     * @param endLayer the last layer (z index) to fill, exclusive
+     * @param x0 x position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y0 y position of row 0, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z0 z position of layer 0, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param step the distance between adjacent samples on any axis, before {@link #getFrequency()} is applied
+     * @param context scratch space that this call may use and grow, or null to allocate it for this call only; must not
+     *                be in use by another thread
+     * @return {@code out}, after modifications
+     */
+    public float[] fillVolumeRange(float[] out, int offset, int xStride, int yStride, int zStride, int width,
+                                   int startRow, int endRow, int startLayer, int endLayer,
+                                   float x0, float y0, float z0, float step, FillContext context) {
+        if (scanlineHelps()) {
+            scanline(context).fillVolumeRange(out, offset, xStride, yStride, zStride, width,
+                    startRow, endRow, startLayer, endLayer, x0, y0, z0, step);
+            return out;
+        }
+        offset -= startRow * yStride + startLayer * zStride;
+        switch (noiseType) {
+            case VALUE:
+                for (int k = startLayer; k < endLayer; k++) {
+                    final float z = (z0 + k * step) * frequency;
+                    for (int j = startRow; j < endRow; j++) {
+                        final float y = (y0 + j * step) * frequency;
+                        for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                            final float x = (x0 + i * step) * frequency;
+                            out[idx] = singleValue(seed, x, y, z);
+                        }
+                    }
+                }
+                return out;
+            case VALUE_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int k = startLayer; k < endLayer; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = startRow; j < endRow; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleValueFractalBillow(seed, x, y, z);
+                                }
+                            }
+                        }
+                        return out;
+                    case RIDGED_MULTI:
+                        for (int k = startLayer; k < endLayer; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = startRow; j < endRow; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleValueFractalRidgedMulti(seed, x, y, z);
+                                }
+                            }
+                        }
+                        return out;
+                    default:
+                        for (int k = startLayer; k < endLayer; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = startRow; j < endRow; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleValueFractalFBM(seed, x, y, z);
+                                }
+                            }
+                        }
+                        return out;
+                }
+            case FOAM:
+                for (int k = startLayer; k < endLayer; k++) {
+                    final float z = (z0 + k * step) * frequency;
+                    for (int j = startRow; j < endRow; j++) {
+                        final float y = (y0 + j * step) * frequency;
+                        for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                            final float x = (x0 + i * step) * frequency;
+                            out[idx] = singleFoam(seed, x, y, z);
+                        }
+                    }
+                }
+                return out;
+            case FOAM_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int k = startLayer; k < endLayer; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = startRow; j < endRow; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleFoamFractalBillow(seed, x, y, z);
+                                }
+                            }
+                        }
+                        return out;
+                    case RIDGED_MULTI:
+                        for (int k = startLayer; k < endLayer; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = startRow; j < endRow; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleFoamFractalRidgedMulti(seed, x, y, z);
+                                }
+                            }
+                        }
+                        return out;
+                    default:
+                        for (int k = startLayer; k < endLayer; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = startRow; j < endRow; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleFoamFractalFBM(seed, x, y, z);
+                                }
+                            }
+                        }
+                        return out;
+                }
+            case MUTANT:
+                for (int k = startLayer; k < endLayer; k++) {
+                    final float z = (z0 + k * step) * frequency;
+                    for (int j = startRow; j < endRow; j++) {
+                        final float y = (y0 + j * step) * frequency;
+                        for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                            final float x = (x0 + i * step) * frequency;
+                            out[idx] = singleFoam(seed, x, y, z, mutation);
+                        }
+                    }
+                }
+                return out;
+            case MUTANT_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int k = startLayer; k < endLayer; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = startRow; j < endRow; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleFoamFractalBillow(seed, x, y, z, mutation);
+                                }
+                            }
+                        }
+                        return out;
+                    case RIDGED_MULTI:
+                        for (int k = startLayer; k < endLayer; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = startRow; j < endRow; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleFoamFractalRidgedMulti(seed, x, y, z, mutation);
+                                }
+                            }
+                        }
+                        return out;
+                    default:
+                        for (int k = startLayer; k < endLayer; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = startRow; j < endRow; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleFoamFractalFBM(seed, x, y, z, mutation);
+                                }
+                            }
+                        }
+                        return out;
+                }
+            case HONEY:
+                for (int k = startLayer; k < endLayer; k++) {
+                    final float z = (z0 + k * step) * frequency;
+                    for (int j = startRow; j < endRow; j++) {
+                        final float y = (y0 + j * step) * frequency;
+                        for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                            final float x = (x0 + i * step) * frequency;
+                            out[idx] = singleHoney(seed, x, y, z);
+                        }
+                    }
+                }
+                return out;
+            case HONEY_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int k = startLayer; k < endLayer; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = startRow; j < endRow; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleHoneyFractalBillow(seed, x, y, z);
+                                }
+                            }
+                        }
+                        return out;
+                    case RIDGED_MULTI:
+                        for (int k = startLayer; k < endLayer; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = startRow; j < endRow; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleHoneyFractalRidgedMulti(seed, x, y, z);
+                                }
+                            }
+                        }
+                        return out;
+                    default:
+                        for (int k = startLayer; k < endLayer; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = startRow; j < endRow; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleHoneyFractalFBM(seed, x, y, z);
+                                }
+                            }
+                        }
+                        return out;
+                }
+            case PERLIN:
+                return fillPerlinVolume(out, offset, xStride, yStride, zStride, width, startRow, endRow, startLayer, endLayer, x0, y0, z0, step, false);
+            case PERLIN_FRACTAL:
+                return fillPerlinVolume(out, offset, xStride, yStride, zStride, width, startRow, endRow, startLayer, endLayer, x0, y0, z0, step, true);
+            case SIMPLEX_FRACTAL:
+                return fillSimplexVolume(out, offset, xStride, yStride, zStride, width, startRow, endRow, startLayer, endLayer, x0, y0, z0, step, true, context);
+            case CELLULAR:
+                switch (cellularReturnType) {
+                    case CELL_VALUE:
+                    case NOISE_LOOKUP:
+                    case DISTANCE:
+                        for (int k = startLayer; k < endLayer; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = startRow; j < endRow; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleCellular(seed, x, y, z);
+                                }
+                            }
+                        }
+                        return out;
+                    default:
+                        for (int k = startLayer; k < endLayer; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = startRow; j < endRow; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleCellular2Edge(seed, x, y, z);
+                                }
+                            }
+                        }
+                        return out;
+                }
+            case WHITE_NOISE:
+                for (int k = startLayer; k < endLayer; k++) {
+                    final float z = (z0 + k * step) * frequency;
+                    for (int j = startRow; j < endRow; j++) {
+                        final float y = (y0 + j * step) * frequency;
+                        for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                            final float x = (x0 + i * step) * frequency;
+                            out[idx] = singleWhiteNoise(seed, x, y, z);
+                        }
+                    }
+                }
+                return out;
+            case CUBIC:
+                return fillCubicVolume(out, offset, xStride, yStride, zStride, width, startRow, endRow, startLayer, endLayer, x0, y0, z0, false, 0f, step, false, context);
+            case CUBIC_FRACTAL:
+                return fillCubicVolume(out, offset, xStride, yStride, zStride, width, startRow, endRow, startLayer, endLayer, x0, y0, z0, false, 0f, step, true, context);
+            default:
+                return fillSimplexVolume(out, offset, xStride, yStride, zStride, width, startRow, endRow, startLayer, endLayer, x0, y0, z0, step, false, context);
+        }
+    }
+
+    /**
+     * Fills a 3D volume with a slice of 4D noise in one call, using the same configuration as
+     * {@link #getConfiguredNoise(float, float, float, float)}; every sample shares the same w position, which is
+     * typically used as time to animate a 3D volume. The volume is stored in {@code out} with x changing fastest,
+     * then y, then z, so the sample at {@code (i, j, k)} goes into {@code out[(k * height + j) * width + i]}; it is
+     * equal to {@code getConfiguredNoise(x0 + i * step, y0 + j * step, z0 + k * step, w0)}. See
+     * {@link #fillVolume(float[], int, int, int, int, int, int, int, float, float, float, float, float)} if you need
+     * a different layout.
+     * <br>
+     * Most noise types don't allocate anything here. The noise types built on value noise need a small cache of lattice
+     * hashes, and Cubic noise needs a lattice table with at most four entries per sample; these are made for each call
+     * and can be collected once it returns. To reuse them from one call to the next instead, pass a
+     * {@link FillContext} to {@link #fillVolume(float[], int, int, int, int, int, int, int, float, float, float, float, float, FillContext)}. {@code out} must have a length of at least {@code width * height * depth}.
+     * @param out a float array that will be filled with noise; must have length at least {@code width * height * depth}
+     * @param width how many samples to fill along the x-axis
+     * @param height how many samples to fill along the y-axis
+     * @param depth how many samples to fill along the z-axis
+     * @param x0 x position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y0 y position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z0 z position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param w0 w position of every sample, as a float; often this is time
+     * @param step the distance between adjacent samples on the x, y, or z axes, before {@link #getFrequency()} is applied
+     * @return {@code out}, after modifications
+     */
+    public float[] fillVolume(float[] out, int width, int height, int depth, float x0, float y0, float z0, float w0,
+                              float step) {
+        return fillVolume(out, 0, 1, width, width * height, width, height, depth, x0, y0, z0, w0, step);
+    }
+
+    /**
+     * Fills a 3D volume with a slice of 4D noise in one call, using the same configuration as
+     * {@link #getConfiguredNoise(float, float, float, float)}, writing the sample at {@code (i, j, k)} into
+     * {@code out[offset + i * xStride + j * yStride + k * zStride]}. Every sample shares the same w position, which is
+     * typically used as time. Each sample is equal to
+     * {@code getConfiguredNoise(x0 + i * step, y0 + j * step, z0 + k * step, w0)}. The configuration is only checked
+     * once per call. Perlin noise reuses the hashes of its lattice points between neighboring samples along the x-axis,
+     * and Value, Foam, and Mutant noise use a {@link ScanlineNoise}, so they don't recompute hashes for every sample.
+     * <br>
+     * Most noise types don't allocate anything here. The noise types built on value noise need a small cache of lattice
+     * hashes, and Cubic noise needs a lattice table with at most four entries per sample; these are made for each call
+     * and can be collected once it returns. To reuse them from one call to the next instead, pass a
+     * {@link FillContext} to {@link #fillVolume(float[], int, int, int, int, int, int, int, float, float, float, float, float, FillContext)}. This doesn't check its bounds beyond what Java does for any array access.
+     * @param out a float array that will be filled with noise
+     * @param offset the index in {@code out} of the first sample
+     * @param xStride how far apart in {@code out} two samples are when they are adjacent on the x-axis
+     * @param yStride how far apart in {@code out} two samples are when they are adjacent on the y-axis
+     * @param zStride how far apart in {@code out} two samples are when they are adjacent on the z-axis
+     * @param width how many samples to fill along the x-axis
+     * @param height how many samples to fill along the y-axis
+     * @param depth how many samples to fill along the z-axis
+     * @param x0 x position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y0 y position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z0 z position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param w0 w position of every sample, as a float; often this is time
+     * @param step the distance between adjacent samples on the x, y, or z axes, before {@link #getFrequency()} is applied
+     * @return {@code out}, after modifications
+     */
+    public float[] fillVolume(float[] out, int offset, int xStride, int yStride, int zStride,
+                              int width, int height, int depth, float x0, float y0, float z0, float w0, float step) {
+        return fillVolume(out, offset, xStride, yStride, zStride, width, height, depth, x0, y0, z0, w0, step, null);
+    }
+
+    /**
+     * The same as {@link #fillVolume(float[], int, int, int, int, int, int, int, float, float, float, float, float)},
+     * but takes its scratch space from {@code context}, so filling many volumes with one FillContext only allocates
+     * when a volume needs more room than any volume before it. The results don't depend on the context or what it was
+     * used for before.
+     * @param out a float array that will be filled with noise
+     * @param offset the index in {@code out} of the first sample
+     * @param xStride how far apart in {@code out} two samples are when they are adjacent on the x-axis
+     * @param yStride how far apart in {@code out} two samples are when they are adjacent on the y-axis
+     * @param zStride how far apart in {@code out} two samples are when they are adjacent on the z-axis
+     * @param width how many samples to fill along the x-axis
+     * @param height how many samples to fill along the y-axis
+     * @param depth how many samples to fill along the z-axis
+     * @param x0 x position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y0 y position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z0 z position of the first sample, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param w0 w position of every sample, as a float; often this is time
+     * @param step the distance between adjacent samples on the x, y, or z axes, before {@link #getFrequency()} is applied
+     * @param context scratch space that this call may use and grow, or null to allocate it for this call only; must not
+     *                be in use by another thread
+     * @return {@code out}, after modifications
+     */
+    public float[] fillVolume(float[] out, int offset, int xStride, int yStride, int zStride,
+                              int width, int height, int depth, float x0, float y0, float z0, float w0, float step,
+                              FillContext context) {
+        if (scanlineHelps()) {
+            scanline(context).fillVolume(out, offset, xStride, yStride, zStride, width, height, depth,
+                    x0, y0, z0, w0, step);
+            return out;
+        }
+        final float w = w0 * frequency;
+        switch (noiseType) {
+            case VALUE:
+                for (int k = 0; k < depth; k++) {
+                    final float z = (z0 + k * step) * frequency;
+                    for (int j = 0; j < height; j++) {
+                        final float y = (y0 + j * step) * frequency;
+                        for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                            final float x = (x0 + i * step) * frequency;
+                            out[idx] = singleValue(seed, x, y, z, w);
+                        }
+                    }
+                }
+                return out;
+            case VALUE_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int k = 0; k < depth; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = 0; j < height; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleValueFractalBillow(seed, x, y, z, w);
+                                }
+                            }
+                        }
+                        return out;
+                    case RIDGED_MULTI:
+                        for (int k = 0; k < depth; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = 0; j < height; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleValueFractalRidgedMulti(seed, x, y, z, w);
+                                }
+                            }
+                        }
+                        return out;
+                    default:
+                        for (int k = 0; k < depth; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = 0; j < height; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleValueFractalFBM(seed, x, y, z, w);
+                                }
+                            }
+                        }
+                        return out;
+                }
+            case FOAM:
+                for (int k = 0; k < depth; k++) {
+                    final float z = (z0 + k * step) * frequency;
+                    for (int j = 0; j < height; j++) {
+                        final float y = (y0 + j * step) * frequency;
+                        for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                            final float x = (x0 + i * step) * frequency;
+                            out[idx] = singleFoam(seed, x, y, z, w);
+                        }
+                    }
+                }
+                return out;
+            case FOAM_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int k = 0; k < depth; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = 0; j < height; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleFoamFractalBillow(seed, x, y, z, w);
+                                }
+                            }
+                        }
+                        return out;
+                    case RIDGED_MULTI:
+                        for (int k = 0; k < depth; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = 0; j < height; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleFoamFractalRidgedMulti(seed, x, y, z, w);
+                                }
+                            }
+                        }
+                        return out;
+                    default:
+                        for (int k = 0; k < depth; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = 0; j < height; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleFoamFractalFBM(seed, x, y, z, w);
+                                }
+                            }
+                        }
+                        return out;
+                }
+            case MUTANT:
+                for (int k = 0; k < depth; k++) {
+                    final float z = (z0 + k * step) * frequency;
+                    for (int j = 0; j < height; j++) {
+                        final float y = (y0 + j * step) * frequency;
+                        for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                            final float x = (x0 + i * step) * frequency;
+                            out[idx] = singleFoam(seed, x, y, z, w, mutation);
+                        }
+                    }
+                }
+                return out;
+            case MUTANT_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int k = 0; k < depth; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = 0; j < height; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleFoamFractalBillow(seed, x, y, z, w, mutation);
+                                }
+                            }
+                        }
+                        return out;
+                    case RIDGED_MULTI:
+                        for (int k = 0; k < depth; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = 0; j < height; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleFoamFractalRidgedMulti(seed, x, y, z, w, mutation);
+                                }
+                            }
+                        }
+                        return out;
+                    default:
+                        for (int k = 0; k < depth; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = 0; j < height; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleFoamFractalFBM(seed, x, y, z, w, mutation);
+                                }
+                            }
+                        }
+                        return out;
+                }
+            case HONEY:
+                for (int k = 0; k < depth; k++) {
+                    final float z = (z0 + k * step) * frequency;
+                    for (int j = 0; j < height; j++) {
+                        final float y = (y0 + j * step) * frequency;
+                        for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                            final float x = (x0 + i * step) * frequency;
+                            out[idx] = singleHoney(seed, x, y, z, w);
+                        }
+                    }
+                }
+                return out;
+            case HONEY_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int k = 0; k < depth; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = 0; j < height; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleHoneyFractalBillow(seed, x, y, z, w);
+                                }
+                            }
+                        }
+                        return out;
+                    case RIDGED_MULTI:
+                        for (int k = 0; k < depth; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = 0; j < height; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleHoneyFractalRidgedMulti(seed, x, y, z, w);
+                                }
+                            }
+                        }
+                        return out;
+                    default:
+                        for (int k = 0; k < depth; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = 0; j < height; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleHoneyFractalFBM(seed, x, y, z, w);
+                                }
+                            }
+                        }
+                        return out;
+                }
+            case PERLIN:
+                return fillPerlinVolume(out, offset, xStride, yStride, zStride, width, height, depth, x0, y0, z0, w, step, false);
+            case PERLIN_FRACTAL:
+                return fillPerlinVolume(out, offset, xStride, yStride, zStride, width, height, depth, x0, y0, z0, w, step, true);
+            case SIMPLEX_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int k = 0; k < depth; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = 0; j < height; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleSimplexFractalBillow(seed, x, y, z, w);
+                                }
+                            }
+                        }
+                        return out;
+                    case RIDGED_MULTI:
+                        for (int k = 0; k < depth; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = 0; j < height; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleSimplexFractalRidgedMulti(seed, x, y, z, w);
+                                }
+                            }
+                        }
+                        return out;
+                    default:
+                        for (int k = 0; k < depth; k++) {
+                            final float z = (z0 + k * step) * frequency;
+                            for (int j = 0; j < height; j++) {
+                                final float y = (y0 + j * step) * frequency;
+                                for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                                    final float x = (x0 + i * step) * frequency;
+                                    out[idx] = singleSimplexFractalFBM(seed, x, y, z, w);
+                                }
+                            }
+                        }
+                        return out;
+                }
+            case WHITE_NOISE:
+                for (int k = 0; k < depth; k++) {
+                    final float z = (z0 + k * step) * frequency;
+                    for (int j = 0; j < height; j++) {
+                        final float y = (y0 + j * step) * frequency;
+                        for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                            final float x = (x0 + i * step) * frequency;
+                            out[idx] = singleWhiteNoise(seed, x, y, z, w);
+                        }
+                    }
+                }
+                return out;
+            case CUBIC:
+                return fillCubicVolume(out, offset, xStride, yStride, zStride, width, 0, height, 0, depth, x0, y0, z0, true, w0, step, false, context);
+            case CUBIC_FRACTAL:
+                return fillCubicVolume(out, offset, xStride, yStride, zStride, width, 0, height, 0, depth, x0, y0, z0, true, w0, step, true, context);
+            case CELLULAR:
+                for (int k = 0; k < depth; k++) {
+                    final float z = (z0 + k * step) * frequency;
+                    for (int j = 0; j < height; j++) {
+                        final float y = (y0 + j * step) * frequency;
+                        for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                            final float x = (x0 + i * step) * frequency;
+                            out[idx] = singleCellular(seed, x, y, z, w);
+                        }
+                    }
+                }
+                return out;
+            default:
+                for (int k = 0; k < depth; k++) {
+                    final float z = (z0 + k * step) * frequency;
+                    for (int j = 0; j < height; j++) {
+                        final float y = (y0 + j * step) * frequency;
+                        for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                            final float x = (x0 + i * step) * frequency;
+                            out[idx] = singleSimplex(seed, x, y, z, w);
+                        }
+                    }
+                }
+                return out;
+        }
+    }
+
+    private float[] fillPerlinVolume(float[] out, int offset, int xStride, int yStride, int zStride,
+                                     int width, int startRow, int endRow, int startLayer, int endLayer,
+                                     float x0, float y0, float z0, float step, boolean fractal) {
+        final int octaves = fractal ? this.octaves : 1, fractalType = fractal ? this.fractalType : FBM;
+        for (int k = startLayer; k < endLayer; k++) {
+            final float zk = (z0 + k * step) * frequency;
+            for (int j = startRow; j < endRow; j++) {
+                final int start = offset + k * zStride + j * yStride;
+                float y = (y0 + j * step) * frequency, z = zk;
+                float amp = fractalType == RIDGED_MULTI ? 2f : 1f, correction = 0f;
+                for (int o = 0; o < octaves; o++) {
+                    if (fractalType == RIDGED_MULTI)
+                        correction += (amp *= 0.5f);
+                    else if (o > 0)
+                        amp *= gain;
+                    perlinRow3D(out, start, xStride, width, seed + o, x0, step, o, y, z, fractalType, amp, o == 0);
+                    y *= lacunarity;
+                    z *= lacunarity;
+                }
+                if (fractal)
+                    finishRow(out, start, xStride, width, fractalType, correction);
+            }
+        }
+        return out;
+    }
+
+    private float[] fillPerlinVolume(float[] out, int offset, int xStride, int yStride, int zStride,
+                                     int width, int height, int depth, float x0, float y0, float z0, float w0,
+                                     float step, boolean fractal) {
+        final int octaves = fractal ? this.octaves : 1, fractalType = fractal ? this.fractalType : FBM;
+        for (int k = 0; k < depth; k++) {
+            final float zk = (z0 + k * step) * frequency;
+            for (int j = 0; j < height; j++) {
+                final int start = offset + k * zStride + j * yStride;
+                float y = (y0 + j * step) * frequency, z = zk, w = w0;
+                float amp = fractalType == RIDGED_MULTI ? 2f : 1f, correction = 0f;
+                for (int o = 0; o < octaves; o++) {
+                    if (fractalType == RIDGED_MULTI)
+                        correction += (amp *= 0.5f);
+                    else if (o > 0)
+                        amp *= gain;
+                    perlinRow4D(out, start, xStride, width, seed + o, x0, step, o, y, z, w, fractalType, amp, o == 0);
+                    y *= lacunarity;
+                    z *= lacunarity;
+                    w *= lacunarity;
+                }
+                if (fractal)
+                    finishRow(out, start, xStride, width, fractalType, correction);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Applies the final scaling a fractal needs to a row of sums produced octave-by-octave, so the row matches what
+     * the per-point fractal methods return.
+     */
+    private void finishRow(float[] out, int idx, int xStride, int count, int fractalType, float correction) {
+        if (fractalType == RIDGED_MULTI) {
+            for (int i = 0; i < count; i++, idx += xStride) {
+                out[idx] = out[idx] * 2f / correction - 1f;
+            }
+        } else {
+            for (int i = 0; i < count; i++, idx += xStride) {
+                out[idx] *= fractalBounding;
+            }
+        }
+    }
+
+    private void perlinRow3D(float[] out, int idx, int xStride, int count, int seed, float start, float step,
+                             int octave, float y, float z, int fractalType, float amp, boolean first) {
+        final int y0 = fastFloor(y), y1 = y0 + 1;
+        final int z0 = fastFloor(z), z1 = z0 + 1;
+        final float yd0 = y - y0, yd1 = yd0 - 1;
+        final float zd0 = z - z0, zd1 = zd0 - 1;
+        final float ys, zs;
+        switch (interpolation) {
+            default:
+            case LINEAR:
+                ys = y - y0;
+                zs = z - z0;
+                break;
+            case HERMITE:
+                ys = hermiteInterpolator(y - y0);
+                zs = hermiteInterpolator(z - z0);
+                break;
+            case QUINTIC:
+                ys = quinticInterpolator(y - y0);
+                zs = quinticInterpolator(z - z0);
+                break;
+        }
+        int xc = 0, h000 = 0, h100 = 0, h010 = 0, h110 = 0, h001 = 0, h101 = 0, h011 = 0, h111 = 0;
+        for (int i = 0; i < count; i++, idx += xStride) {
+            float x = (start + i * step) * frequency;
+            for (int o = 0; o < octave; o++) {
+                x *= lacunarity;
+            }
+            final int x0 = fastFloor(x);
+            if (i == 0 || x0 != xc) {
+                xc = x0;
+                final int x1 = x0 + 1;
+                h000 = hash32(x0, y0, z0, seed) << 2;
+                h100 = hash32(x1, y0, z0, seed) << 2;
+                h010 = hash32(x0, y1, z0, seed) << 2;
+                h110 = hash32(x1, y1, z0, seed) << 2;
+                h001 = hash32(x0, y0, z1, seed) << 2;
+                h101 = hash32(x1, y0, z1, seed) << 2;
+                h011 = hash32(x0, y1, z1, seed) << 2;
+                h111 = hash32(x1, y1, z1, seed) << 2;
+            }
+            final float xd0 = x - x0, xd1 = xd0 - 1, xs;
+            switch (interpolation) {
+                default:
+                case LINEAR:
+                    xs = x - x0;
+                    break;
+                case HERMITE:
+                    xs = hermiteInterpolator(x - x0);
+                    break;
+                case QUINTIC:
+                    xs = quinticInterpolator(x - x0);
+                    break;
+            }
+            final float xf00 = lerp(xd0 * GRAD_3D[h000] + yd0 * GRAD_3D[h000 + 1] + zd0 * GRAD_3D[h000 + 2],
+                    xd1 * GRAD_3D[h100] + yd0 * GRAD_3D[h100 + 1] + zd0 * GRAD_3D[h100 + 2], xs);
+            final float xf10 = lerp(xd0 * GRAD_3D[h010] + yd1 * GRAD_3D[h010 + 1] + zd0 * GRAD_3D[h010 + 2],
+                    xd1 * GRAD_3D[h110] + yd1 * GRAD_3D[h110 + 1] + zd0 * GRAD_3D[h110 + 2], xs);
+            final float xf01 = lerp(xd0 * GRAD_3D[h001] + yd0 * GRAD_3D[h001 + 1] + zd1 * GRAD_3D[h001 + 2],
+                    xd1 * GRAD_3D[h101] + yd0 * GRAD_3D[h101 + 1] + zd1 * GRAD_3D[h101 + 2], xs);
+            final float xf11 = lerp(xd0 * GRAD_3D[h011] + yd1 * GRAD_3D[h011 + 1] + zd1 * GRAD_3D[h011 + 2],
+                    xd1 * GRAD_3D[h111] + yd1 * GRAD_3D[h111 + 1] + zd1 * GRAD_3D[h111 + 2], xs);
+            float v = lerp(lerp(xf00, xf10, ys), lerp(xf01, xf11, ys), zs);
+            if (fractalType == BILLOW)
+                v = Math.abs(v) * 2 - 1;
+            else if (fractalType == RIDGED_MULTI)
+                v = 1f - Math.abs(v);
+            out[idx] = first ? v * amp : out[idx] + v * amp;
+        }
+    }
+
+    private void perlinRow4D(float[] out, int idx, int xStride, int count, int seed, float start, float step,
+                             int octave, float y, float z, float w, int fractalType, float amp, boolean first) {
+        final int y0 = fastFloor(y), y1 = y0 + 1;
+        final int z0 = fastFloor(z), z1 = z0 + 1;
+        final int w0 = fastFloor(w), w1 = w0 + 1;
+        final float yd0 = y - y0, yd1 = yd0 - 1;
+        final float zd0 = z - z0, zd1 = zd0 - 1;
+        final float wd0 = w - w0, wd1 = wd0 - 1;
+        final float ys, zs, ws;
+        switch (interpolation) {
+            default:
+            case LINEAR:
+                ys = y - y0;
+                zs = z - z0;
+                ws = w - w0;
+                break;
+            case HERMITE:
+                ys = hermiteInterpolator(y - y0);
+                zs = hermiteInterpolator(z - z0);
+                ws = hermiteInterpolator(w - w0);
+                break;
+            case QUINTIC:
+                ys = quinticInterpolator(y - y0);
+                zs = quinticInterpolator(z - z0);
+                ws = quinticInterpolator(w - w0);
+                break;
+        }
+        int xc = 0, h0000 = 0, h1000 = 0, h0100 = 0, h1100 = 0, h0010 = 0, h1010 = 0, h0110 = 0, h1110 = 0, h0001 = 0, h1001 = 0, h0101 = 0, h1101 = 0, h0011 = 0, h1011 = 0, h0111 = 0, h1111 = 0;
+        for (int i = 0; i < count; i++, idx += xStride) {
+            float x = (start + i * step) * frequency;
+            for (int o = 0; o < octave; o++) {
+                x *= lacunarity;
+            }
+            final int x0 = fastFloor(x);
+            if (i == 0 || x0 != xc) {
+                xc = x0;
+                final int x1 = x0 + 1;
+                h0000 = hash256(x0, y0, z0, w0, seed) & 0xFC;
+                h1000 = hash256(x1, y0, z0, w0, seed) & 0xFC;
+                h0100 = hash256(x0, y1, z0, w0, seed) & 0xFC;
+                h1100 = hash256(x1, y1, z0, w0, seed) & 0xFC;
+                h0010 = hash256(x0, y0, z1, w0, seed) & 0xFC;
+                h1010 = hash256(x1, y0, z1, w0, seed) & 0xFC;
+                h0110 = hash256(x0, y1, z1, w0, seed) & 0xFC;
+                h1110 = hash256(x1, y1, z1, w0, seed) & 0xFC;
+                h0001 = hash256(x0, y0, z0, w1, seed) & 0xFC;
+                h1001 = hash256(x1, y0, z0, w1, seed) & 0xFC;
+                h0101 = hash256(x0, y1, z0, w1, seed) & 0xFC;
+                h1101 = hash256(x1, y1, z0, w1, seed) & 0xFC;
+                h0011 = hash256(x0, y0, z1, w1, seed) & 0xFC;
+                h1011 = hash256(x1, y0, z1, w1, seed) & 0xFC;
+                h0111 = hash256(x0, y1, z1, w1, seed) & 0xFC;
+                h1111 = hash256(x1, y1, z1, w1, seed) & 0xFC;
+            }
+            final float xd0 = x - x0, xd1 = xd0 - 1, xs;
+            switch (interpolation) {
+                default:
+                case LINEAR:
+                    xs = x - x0;
+                    break;
+                case HERMITE:
+                    xs = hermiteInterpolator(x - x0);
+                    break;
+                case QUINTIC:
+                    xs = quinticInterpolator(x - x0);
+                    break;
+            }
+            final float xf000 = lerp(xd0 * GRAD_4D[h0000] + yd0 * GRAD_4D[h0000 + 1] + zd0 * GRAD_4D[h0000 + 2] + wd0 * GRAD_4D[h0000 + 3],
+                    xd1 * GRAD_4D[h1000] + yd0 * GRAD_4D[h1000 + 1] + zd0 * GRAD_4D[h1000 + 2] + wd0 * GRAD_4D[h1000 + 3], xs);
+            final float xf100 = lerp(xd0 * GRAD_4D[h0100] + yd1 * GRAD_4D[h0100 + 1] + zd0 * GRAD_4D[h0100 + 2] + wd0 * GRAD_4D[h0100 + 3],
+                    xd1 * GRAD_4D[h1100] + yd1 * GRAD_4D[h1100 + 1] + zd0 * GRAD_4D[h1100 + 2] + wd0 * GRAD_4D[h1100 + 3], xs);
+            final float xf010 = lerp(xd0 * GRAD_4D[h0010] + yd0 * GRAD_4D[h0010 + 1] + zd1 * GRAD_4D[h0010 + 2] + wd0 * GRAD_4D[h0010 + 3],
+                    xd1 * GRAD_4D[h1010] + yd0 * GRAD_4D[h1010 + 1] + zd1 * GRAD_4D[h1010 + 2] + wd0 * GRAD_4D[h1010 + 3], xs);
+            final float xf110 = lerp(xd0 * GRAD_4D[h0110] + yd1 * GRAD_4D[h0110 + 1] + zd1 * GRAD_4D[h0110 + 2] + wd0 * GRAD_4D[h0110 + 3],
+                    xd1 * GRAD_4D[h1110] + yd1 * GRAD_4D[h1110 + 1] + zd1 * GRAD_4D[h1110 + 2] + wd0 * GRAD_4D[h1110 + 3], xs);
+            final float xf001 = lerp(xd0 * GRAD_4D[h0001] + yd0 * GRAD_4D[h0001 + 1] + zd0 * GRAD_4D[h0001 + 2] + wd1 * GRAD_4D[h0001 + 3],
+                    xd1 * GRAD_4D[h1001] + yd0 * GRAD_4D[h1001 + 1] + zd0 * GRAD_4D[h1001 + 2] + wd1 * GRAD_4D[h1001 + 3], xs);
+            final float xf101 = lerp(xd0 * GRAD_4D[h0101] + yd1 * GRAD_4D[h0101 + 1] + zd0 * GRAD_4D[h0101 + 2] + wd1 * GRAD_4D[h0101 + 3],
+                    xd1 * GRAD_4D[h1101] + yd1 * GRAD_4D[h1101 + 1] + zd0 * GRAD_4D[h1101 + 2] + wd1 * GRAD_4D[h1101 + 3], xs);
+            final float xf011 = lerp(xd0 * GRAD_4D[h0011] + yd0 * GRAD_4D[h0011 + 1] + zd1 * GRAD_4D[h0011 + 2] + wd1 * GRAD_4D[h0011 + 3],
+                    xd1 * GRAD_4D[h1011] + yd0 * GRAD_4D[h1011 + 1] + zd1 * GRAD_4D[h1011 + 2] + wd1 * GRAD_4D[h1011 + 3], xs);
+            final float xf111 = lerp(xd0 * GRAD_4D[h0111] + yd1 * GRAD_4D[h0111 + 1] + zd1 * GRAD_4D[h0111 + 2] + wd1 * GRAD_4D[h0111 + 3],
+                    xd1 * GRAD_4D[h1111] + yd1 * GRAD_4D[h1111 + 1] + zd1 * GRAD_4D[h1111 + 2] + wd1 * GRAD_4D[h1111 + 3], xs);
+            float v = lerp(lerp(lerp(xf000, xf100, ys), lerp(xf010, xf110, ys), zs),
+                    lerp(lerp(xf001, xf101, ys), lerp(xf011, xf111, ys), zs), ws) * 0.55f;
+            if (fractalType == BILLOW)
+                v = Math.abs(v) * 2 - 1;
+            else if (fractalType == RIDGED_MULTI)
+                v = 1f - Math.abs(v);
+            out[idx] = first ? v * amp : out[idx] + v * amp;
+        }
+    }
+
+    /**
+     * The amplitude of each octave for {@link #FBM} and {@link #BILLOW}, the same ones the fractal methods reach by
+     * multiplying by {@code gain} once per octave; octave 0 always has amplitude 1.
+     */
+    private static float[] fractalAmplitudes(int octaves, float gain) {
+        final float[] amplitudes = new float[Math.max(octaves, 1)];
+        float amp = 1f;
+        amplitudes[0] = amp;
+        for (int i = 1; i < octaves; i++) {
+            amplitudes[i] = (amp *= gain);
+        }
+        return amplitudes;
+    }
+
+    /**
+     * The sum of the weights {@link #RIDGED_MULTI} gives to {@code octaves} octaves, added up in the same order as the
+     * fractal methods do, so dividing by it gives the same results they do.
+     */
+    private static float ridgedCorrection(int octaves) {
+        float exp = 2f, correction = 0f;
+        for (int i = 0; i < octaves; i++) {
+            correction += (exp *= 0.5);
+        }
+        return correction;
+    }
+
+    /**
+     * Makes an immutable 2D noise function that produces the same results as
+     * {@link #getConfiguredNoise(float, float)} with this Noise's current configuration. The noise type, fractal type,
+     * and cellular return type are looked up once here instead of on every call, and the returned object's class is
+     * specific to that combination, so a call site that only uses one compiled function stays monomorphic and can be
+     * fully inlined by the JIT. The interpolation, octave count, lacunarity, fractal bounding and each octave's
+     * amplitude are copied into final fields of the returned function, which runs its own octave loop over them. Changing this Noise later doesn't affect the returned function, and since nothing can
+     * change the returned function, it can be shared between threads. If this is a subclass of Noise, only its
+     * configuration is copied, not any methods it overrides.
+     * @return a Compiled2D that acts like {@link #getConfiguredNoise(float, float)} does now
+     */
+    public Compiled2D compile2D() {
+        return compile2D(new Noise(this));
+    }
+
+    private static Compiled2D compile2D(final Noise n) {
+        final int seed = n.seed, interpolation = n.interpolation, octaves = n.octaves;
+        final float frequency = n.frequency, mutation = n.mutation, lacunarity = n.lacunarity,
+                fractalBounding = n.fractalBounding, ridgedCorrection = ridgedCorrection(octaves);
+        final float[] amplitudes = fractalAmplitudes(octaves, n.gain);
+        switch (n.noiseType) {
+            case VALUE:
+                return new Compiled2D() {
+                    @Override
+                    public float getNoise(float x, float y) {
+                        return n.interpolatedValue(interpolation, seed, x * frequency, y * frequency);
+                    }
+                };
+            case VALUE_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float sum = Math.abs(n.interpolatedValue(interpolation, seed, x, y)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    sum += (Math.abs(n.interpolatedValue(interpolation, seed + i, x, y)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.interpolatedValue(interpolation, seed + i, x, y))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float sum = n.interpolatedValue(interpolation, seed, x, y);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    sum += n.interpolatedValue(interpolation, seed + i, x, y) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case FOAM:
+                return new Compiled2D() {
+                    @Override
+                    public float getNoise(float x, float y) {
+                        return n.singleFoam(seed, x * frequency, y * frequency);
+                    }
+                };
+            case FOAM_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float sum = Math.abs(n.singleFoam(seed, x, y)) * 2 - 1, t;
+                                for (int i = 1; i < octaves; i++) {
+                                    t = x;
+                                    x = y * lacunarity;
+                                    y = t * lacunarity;
+                                    sum += (Math.abs(n.singleFoam(seed + i, x, y)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float sum = 0f, exp = 1f, t;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleFoam(seed + i, x, y))) * exp;
+                                    exp *= 0.5f;
+                                    t = x;
+                                    x = y * lacunarity;
+                                    y = t * lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float sum = n.singleFoam(seed, x, y), t;
+                                for (int i = 1; i < octaves; i++) {
+                                    t = x;
+                                    x = y * lacunarity;
+                                    y = t * lacunarity;
+                                    sum += n.singleFoam(seed + i, x, y) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case MUTANT:
+                return new Compiled2D() {
+                    @Override
+                    public float getNoise(float x, float y) {
+                        return n.singleFoam(seed, x * frequency, y * frequency, mutation);
+                    }
+                };
+            case MUTANT_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float m = mutation;
+                                float sum = Math.abs(n.singleFoam(seed, x, y, m)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    m *= lacunarity;
+                                    sum += (Math.abs(n.singleFoam(seed + i, x, y, m)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float m = mutation;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleFoam(seed + i, x, y, m))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    m *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float m = mutation;
+                                float sum = n.singleFoam(seed, x, y, m);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    m *= lacunarity;
+                                    sum += n.singleFoam(seed + i, x, y, m) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case HONEY:
+                return new Compiled2D() {
+                    @Override
+                    public float getNoise(float x, float y) {
+                        return n.singleHoney(seed, x * frequency, y * frequency);
+                    }
+                };
+            case HONEY_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float sum = Math.abs(n.singleHoney(seed, x, y)) * 2 - 1, t;
+                                for (int i = 1; i < octaves; i++) {
+                                    t = x;
+                                    x = y * lacunarity;
+                                    y = t * lacunarity;
+                                    sum += (Math.abs(n.singleHoney(seed + i, x, y)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float sum = 0f, exp = 1f, t;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleHoney(seed + i, x, y))) * exp;
+                                    exp *= 0.5f;
+                                    t = x;
+                                    x = y * lacunarity;
+                                    y = t * lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float sum = n.singleHoney(seed, x, y), t;
+                                for (int i = 1; i < octaves; i++) {
+                                    t = x;
+                                    x = y * lacunarity;
+                                    y = t * lacunarity;
+                                    sum += n.singleHoney(seed + i, x, y) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case PERLIN:
+                return new Compiled2D() {
+                    @Override
+                    public float getNoise(float x, float y) {
+                        return n.interpolatedPerlin(interpolation, seed, x * frequency, y * frequency);
+                    }
+                };
+            case PERLIN_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float sum = Math.abs(n.interpolatedPerlin(interpolation, seed, x, y)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    sum += (Math.abs(n.interpolatedPerlin(interpolation, seed + i, x, y)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.interpolatedPerlin(interpolation, seed + i, x, y))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float sum = n.interpolatedPerlin(interpolation, seed, x, y);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    sum += n.interpolatedPerlin(interpolation, seed + i, x, y) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case SIMPLEX_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float sum = Math.abs(n.singleSimplex(seed, x, y)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    sum += (Math.abs(n.singleSimplex(seed + i, x, y)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleSimplex(seed + i, x, y))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float sum = n.singleSimplex(seed, x, y);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    sum += n.singleSimplex(seed + i, x, y) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case CELLULAR:
+                switch (n.cellularReturnType) {
+                    case CELL_VALUE:
+                    case NOISE_LOOKUP:
+                    case DISTANCE:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                return n.singleCellular(seed, x * frequency, y * frequency);
+                            }
+                        };
+                    default:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                return n.singleCellular2Edge(seed, x * frequency, y * frequency);
+                            }
+                        };
+                }
+            case WHITE_NOISE:
+                return new Compiled2D() {
+                    @Override
+                    public float getNoise(float x, float y) {
+                        return n.singleWhiteNoise(seed, x * frequency, y * frequency);
+                    }
+                };
+            case CUBIC:
+                return new Compiled2D() {
+                    @Override
+                    public float getNoise(float x, float y) {
+                        return n.singleCubic(seed, x * frequency, y * frequency);
+                    }
+                };
+            case CUBIC_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float sum = Math.abs(n.singleCubic(seed, x, y)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    sum += (Math.abs(n.singleCubic(seed + i, x, y)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleCubic(seed + i, x, y))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled2D() {
+                            @Override
+                            public float getNoise(float x, float y) {
+                                x *= frequency;
+                                y *= frequency;
+                                float sum = n.singleCubic(seed, x, y);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    sum += n.singleCubic(seed + i, x, y) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            default:
+                return new Compiled2D() {
+                    @Override
+                    public float getNoise(float x, float y) {
+                        return n.singleSimplex(seed, x * frequency, y * frequency);
+                    }
+                };
+        }
+    }
+
+    /**
+     * Makes an immutable 3D noise function that produces the same results as
+     * {@link #getConfiguredNoise(float, float, float)} with this Noise's current configuration. The noise type, fractal type,
+     * and cellular return type are looked up once here instead of on every call, and the returned object's class is
+     * specific to that combination, so a call site that only uses one compiled function stays monomorphic and can be
+     * fully inlined by the JIT. The interpolation, octave count, lacunarity, fractal bounding and each octave's
+     * amplitude are copied into final fields of the returned function, which runs its own octave loop over them. Changing this Noise later doesn't affect the returned function, and since nothing can
+     * change the returned function, it can be shared between threads. If this is a subclass of Noise, only its
+     * configuration is copied, not any methods it overrides.
+     * @return a Compiled3D that acts like {@link #getConfiguredNoise(float, float, float)} does now
+     */
+    public Compiled3D compile3D() {
+        return compile3D(new Noise(this));
+    }
+
+    private static Compiled3D compile3D(final Noise n) {
+        final int seed = n.seed, interpolation = n.interpolation, octaves = n.octaves;
+        final float frequency = n.frequency, mutation = n.mutation, lacunarity = n.lacunarity,
+                fractalBounding = n.fractalBounding, ridgedCorrection = ridgedCorrection(octaves);
+        final float[] amplitudes = fractalAmplitudes(octaves, n.gain);
+        switch (n.noiseType) {
+            case VALUE:
+                return new Compiled3D() {
+                    @Override
+                    public float getNoise(float x, float y, float z) {
+                        return n.interpolatedValue(interpolation, seed, x * frequency, y * frequency, z * frequency);
+                    }
+                };
+            case VALUE_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float sum = Math.abs(n.interpolatedValue(interpolation, seed, x, y, z)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    sum += (Math.abs(n.interpolatedValue(interpolation, seed + i, x, y, z)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.interpolatedValue(interpolation, seed + i, x, y, z))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float sum = n.interpolatedValue(interpolation, seed, x, y, z);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    sum += n.interpolatedValue(interpolation, seed + i, x, y, z) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case FOAM:
+                return new Compiled3D() {
+                    @Override
+                    public float getNoise(float x, float y, float z) {
+                        return n.singleFoam(seed, x * frequency, y * frequency, z * frequency);
+                    }
+                };
+            case FOAM_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float sum = Math.abs(n.singleFoam(seed, x, y, z)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    sum += (Math.abs(n.singleFoam(seed + i, x, y, z)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleFoam(seed + i, x, y, z))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float sum = n.singleFoam(seed, x, y, z);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    sum += n.singleFoam(seed + i, x, y, z) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case MUTANT:
+                return new Compiled3D() {
+                    @Override
+                    public float getNoise(float x, float y, float z) {
+                        return n.singleFoam(seed, x * frequency, y * frequency, z * frequency, mutation);
+                    }
+                };
+            case MUTANT_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float m = mutation;
+                                float sum = Math.abs(n.singleFoam(seed, x, y, z, m)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    m *= lacunarity;
+                                    sum += (Math.abs(n.singleFoam(seed + i, x, y, z, m)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float m = mutation;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleFoam(seed + i, x, y, z, m))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    m *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float m = mutation;
+                                float sum = n.singleFoam(seed, x, y, z, m);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    m *= lacunarity;
+                                    sum += n.singleFoam(seed + i, x, y, z, m) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case HONEY:
+                return new Compiled3D() {
+                    @Override
+                    public float getNoise(float x, float y, float z) {
+                        return n.singleHoney(seed, x * frequency, y * frequency, z * frequency);
+                    }
+                };
+            case HONEY_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float sum = Math.abs(n.singleHoney(seed, x, y, z)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    sum += (Math.abs(n.singleHoney(seed + i, x, y, z)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleHoney(seed + i, x, y, z))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float sum = n.singleHoney(seed, x, y, z);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    sum += n.singleHoney(seed + i, x, y, z) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case PERLIN:
+                return new Compiled3D() {
+                    @Override
+                    public float getNoise(float x, float y, float z) {
+                        return n.interpolatedPerlin(interpolation, seed, x * frequency, y * frequency, z * frequency);
+                    }
+                };
+            case PERLIN_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float sum = Math.abs(n.interpolatedPerlin(interpolation, seed, x, y, z)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    sum += (Math.abs(n.interpolatedPerlin(interpolation, seed + i, x, y, z)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.interpolatedPerlin(interpolation, seed + i, x, y, z))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float sum = n.interpolatedPerlin(interpolation, seed, x, y, z);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    sum += n.interpolatedPerlin(interpolation, seed + i, x, y, z) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case SIMPLEX_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float sum = Math.abs(n.singleSimplex(seed, x, y, z)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    sum += (Math.abs(n.singleSimplex(seed + i, x, y, z)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleSimplex(seed + i, x, y, z))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float sum = n.singleSimplex(seed, x, y, z);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    sum += n.singleSimplex(seed + i, x, y, z) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case CELLULAR:
+                switch (n.cellularReturnType) {
+                    case CELL_VALUE:
+                    case NOISE_LOOKUP:
+                    case DISTANCE:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                return n.singleCellular(seed, x * frequency, y * frequency, z * frequency);
+                            }
+                        };
+                    default:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                return n.singleCellular2Edge(seed, x * frequency, y * frequency, z * frequency);
+                            }
+                        };
+                }
+            case WHITE_NOISE:
+                return new Compiled3D() {
+                    @Override
+                    public float getNoise(float x, float y, float z) {
+                        return n.singleWhiteNoise(seed, x * frequency, y * frequency, z * frequency);
+                    }
+                };
+            case CUBIC:
+                return new Compiled3D() {
+                    @Override
+                    public float getNoise(float x, float y, float z) {
+                        return n.singleCubic(seed, x * frequency, y * frequency, z * frequency);
+                    }
+                };
+            case CUBIC_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float sum = Math.abs(n.singleCubic(seed, x, y, z)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    sum += (Math.abs(n.singleCubic(seed + i, x, y, z)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleCubic(seed + i, x, y, z))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled3D() {
+                            @Override
+                            public float getNoise(float x, float y, float z) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                float sum = n.singleCubic(seed, x, y, z);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    sum += n.singleCubic(seed + i, x, y, z) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            default:
+                return new Compiled3D() {
+                    @Override
+                    public float getNoise(float x, float y, float z) {
+                        return n.singleSimplex(seed, x * frequency, y * frequency, z * frequency);
+                    }
+                };
+        }
+    }
+
+    /**
+     * Makes an immutable 4D noise function that produces the same results as
+     * {@link #getConfiguredNoise(float, float, float, float)} with this Noise's current configuration. The noise type, fractal type,
+     * and cellular return type are looked up once here instead of on every call, and the returned object's class is
+     * specific to that combination, so a call site that only uses one compiled function stays monomorphic and can be
+     * fully inlined by the JIT. The interpolation, octave count, lacunarity, fractal bounding and each octave's
+     * amplitude are copied into final fields of the returned function, which runs its own octave loop over them. Changing this Noise later doesn't affect the returned function, and since nothing can
+     * change the returned function, it can be shared between threads. If this is a subclass of Noise, only its
+     * configuration is copied, not any methods it overrides.
+     * @return a Compiled4D that acts like {@link #getConfiguredNoise(float, float, float, float)} does now
+     */
+    public Compiled4D compile4D() {
+        return compile4D(new Noise(this));
+    }
+
+    private static Compiled4D compile4D(final Noise n) {
+        final int seed = n.seed, interpolation = n.interpolation, octaves = n.octaves;
+        final float frequency = n.frequency, mutation = n.mutation, lacunarity = n.lacunarity,
+                fractalBounding = n.fractalBounding, ridgedCorrection = ridgedCorrection(octaves);
+        final float[] amplitudes = fractalAmplitudes(octaves, n.gain);
+        switch (n.noiseType) {
+            case VALUE:
+                return new Compiled4D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w) {
+                        return n.interpolatedValue(interpolation, seed, x * frequency, y * frequency, z * frequency, w * frequency);
+                    }
+                };
+            case VALUE_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float sum = Math.abs(n.interpolatedValue(interpolation, seed, x, y, z, w)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    sum += (Math.abs(n.interpolatedValue(interpolation, seed + i, x, y, z, w)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.interpolatedValue(interpolation, seed + i, x, y, z, w))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float sum = n.interpolatedValue(interpolation, seed, x, y, z, w);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    sum += n.interpolatedValue(interpolation, seed + i, x, y, z, w) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case FOAM:
+                return new Compiled4D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w) {
+                        return n.singleFoam(seed, x * frequency, y * frequency, z * frequency, w * frequency);
+                    }
+                };
+            case FOAM_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float sum = Math.abs(n.singleFoam(seed, x, y, z, w)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    sum += (Math.abs(n.singleFoam(seed + i, x, y, z, w)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleFoam(seed + i, x, y, z, w))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float sum = n.singleFoam(seed, x, y, z, w);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    sum += n.singleFoam(seed + i, x, y, z, w) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                 }
             case MUTANT:
-                return singleFoam(seed, x, y, z, w, u, mutation);
+                return new Compiled4D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w) {
+                        return n.singleFoam(seed, x * frequency, y * frequency, z * frequency, w * frequency, mutation);
+                    }
+                };
             case MUTANT_FRACTAL:
-                switch (fractalType) {
+                switch (n.fractalType) {
                     case BILLOW:
-                        return singleFoamFractalBillow(x, y, z, w, u, mutation);
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float m = mutation;
+                                float sum = Math.abs(n.singleFoam(seed, x, y, z, w, m)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    m *= lacunarity;
+                                    sum += (Math.abs(n.singleFoam(seed + i, x, y, z, w, m)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                     case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y, z, w, u, mutation);
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float m = mutation;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleFoam(seed + i, x, y, z, w, m))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    m *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
                     default:
-                        return singleFoamFractalFBM(x, y, z, w, u, mutation);
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float m = mutation;
+                                float sum = n.singleFoam(seed, x, y, z, w, m);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    m *= lacunarity;
+                                    sum += n.singleFoam(seed + i, x, y, z, w, m) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                 }
             case HONEY:
-                return singleHoney(seed, x, y, z, w, u);
+                return new Compiled4D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w) {
+                        return n.singleHoney(seed, x * frequency, y * frequency, z * frequency, w * frequency);
+                    }
+                };
             case HONEY_FRACTAL:
-                switch (fractalType) {
+                switch (n.fractalType) {
                     case BILLOW:
-                        return singleHoneyFractalBillow(x, y, z, w, u);
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float sum = Math.abs(n.singleHoney(seed, x, y, z, w)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    sum += (Math.abs(n.singleHoney(seed + i, x, y, z, w)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                     case RIDGED_MULTI:
-                        return singleHoneyFractalRidgedMulti(x, y, z, w, u);
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleHoney(seed + i, x, y, z, w))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
                     default:
-                        return singleHoneyFractalFBM(x, y, z, w, u);
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float sum = n.singleHoney(seed, x, y, z, w);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    sum += n.singleHoney(seed + i, x, y, z, w) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                 }
             case PERLIN:
-                return singlePerlin(seed, x, y, z, w, u);
+                return new Compiled4D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w) {
+                        return n.interpolatedPerlin(interpolation, seed, x * frequency, y * frequency, z * frequency, w * frequency);
+                    }
+                };
             case PERLIN_FRACTAL:
-                switch (fractalType) {
+                switch (n.fractalType) {
                     case BILLOW:
-                        return singlePerlinFractalBillow(x, y, z, w, u);
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float sum = Math.abs(n.interpolatedPerlin(interpolation, seed, x, y, z, w)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    sum += (Math.abs(n.interpolatedPerlin(interpolation, seed + i, x, y, z, w)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                     case RIDGED_MULTI:
-                        return singlePerlinFractalRidgedMulti(x, y, z, w, u);
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.interpolatedPerlin(interpolation, seed + i, x, y, z, w))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
                     default:
-                        return singlePerlinFractalFBM(x, y, z, w, u);
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float sum = n.interpolatedPerlin(interpolation, seed, x, y, z, w);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    sum += n.interpolatedPerlin(interpolation, seed + i, x, y, z, w) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                 }
             case SIMPLEX_FRACTAL:
-                switch (fractalType) {
+                switch (n.fractalType) {
                     case BILLOW:
-                        return singleSimplexFractalBillow(x, y, z, w, u);
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float sum = Math.abs(n.singleSimplex(seed, x, y, z, w)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    sum += (Math.abs(n.singleSimplex(seed + i, x, y, z, w)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                     case RIDGED_MULTI:
-                        return singleSimplexFractalRidgedMulti(x, y, z, w, u);
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleSimplex(seed + i, x, y, z, w))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
                     default:
-                        return singleSimplexFractalFBM(x, y, z, w, u);
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float sum = n.singleSimplex(seed, x, y, z, w);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    sum += n.singleSimplex(seed + i, x, y, z, w) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                 }
+            case CELLULAR:
+                return new Compiled4D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w) {
+                        return n.singleCellular(seed, x * frequency, y * frequency, z * frequency, w * frequency);
+                    }
+                };
             case WHITE_NOISE:
-                return getWhiteNoise(x, y, z, w, u);
+                return new Compiled4D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w) {
+                        return n.singleWhiteNoise(seed, x * frequency, y * frequency, z * frequency, w * frequency);
+                    }
+                };
+            case CUBIC:
+                return new Compiled4D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w) {
+                        return n.singleCubic(seed, x * frequency, y * frequency, z * frequency, w * frequency);
+                    }
+                };
+            case CUBIC_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float sum = Math.abs(n.singleCubic(seed, x, y, z, w)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    sum += (Math.abs(n.singleCubic(seed + i, x, y, z, w)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleCubic(seed + i, x, y, z, w))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled4D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                float sum = n.singleCubic(seed, x, y, z, w);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    sum += n.singleCubic(seed + i, x, y, z, w) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
             default:
-                return singleSimplex(seed, x, y, z, w, u);
+                return new Compiled4D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w) {
+                        return n.singleSimplex(seed, x * frequency, y * frequency, z * frequency, w * frequency);
+                    }
+                };
         }
     }
 
     /**
-     * After being configured with the setters in this class, such as {@link #setNoiseType(int)},
-     * {@link #setFrequency(float)}, {@link #setFractalOctaves(int)}, and {@link #setFractalType(int)}, among others,
-     * you can call this method to get the particular variety of noise you specified, in 6D.
-     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
-     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
-     * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
-     * @param w w position, as a float; the range this should have depends on {@link #getFrequency()}
-     * @param u u position, as a float; the range this should have depends on {@link #getFrequency()}
-     * @param v v position, as a float; the range this should have depends on {@link #getFrequency()}
-     * @return noise as a float from -1f to 1f
+     * Makes an immutable 5D noise function that produces the same results as
+     * {@link #getConfiguredNoise(float, float, float, float, float)} with this Noise's current configuration. The noise type, fractal type,
+     * and cellular return type are looked up once here instead of on every call, and the returned object's class is
+     * specific to that combination, so a call site that only uses one compiled function stays monomorphic and can be
+     * fully inlined by the JIT. The interpolation, octave count, lacunarity, fractal bounding and each octave's
+     * amplitude are copied into final fields of the returned function, which runs its own octave loop over them. Changing this Noise later doesn't affect the returned function, and since nothing can
+     * change the returned function, it can be shared between threads. If this is a subclass of Noise, only its
+     * configuration is copied, not any methods it overrides.
+     * @return a Compiled5D that acts like {@link #getConfiguredNoise(float, float, float, float, float)} does now
      */
-    public float getConfiguredNoise(float x, float y, float z, float w, float u, float v) {
-        x *= frequency;
-        y *= frequency;
-        z *= frequency;
-        w *= frequency;
-        u *= frequency;
-        v *= frequency;
+    public Compiled5D compile5D() {
+        return compile5D(new Noise(this));
+    }
 
-        switch (noiseType) {
+    private static Compiled5D compile5D(final Noise n) {
+        final int seed = n.seed, interpolation = n.interpolation, octaves = n.octaves;
+        final float frequency = n.frequency, mutation = n.mutation, lacunarity = n.lacunarity,
+                fractalBounding = n.fractalBounding, ridgedCorrection = ridgedCorrection(octaves);
+        final float[] amplitudes = fractalAmplitudes(octaves, n.gain);
+        switch (n.noiseType) {
             case VALUE:
-                return singleValue(seed, x, y, z, w, u, v);
+                return new Compiled5D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w, float u) {
+                        return n.interpolatedValue(interpolation, seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency);
+                    }
+                };
             case VALUE_FRACTAL:
-                switch (fractalType) {
+                switch (n.fractalType) {
                     case BILLOW:
-                        return singleValueFractalBillow(x, y, z, w, u, v);
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float sum = Math.abs(n.interpolatedValue(interpolation, seed, x, y, z, w, u)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    sum += (Math.abs(n.interpolatedValue(interpolation, seed + i, x, y, z, w, u)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                     case RIDGED_MULTI:
-                        return singleValueFractalRidgedMulti(x, y, z, w, u, v);
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.interpolatedValue(interpolation, seed + i, x, y, z, w, u))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
                     default:
-                        return singleValueFractalFBM(x, y, z, w, u, v);
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float sum = n.interpolatedValue(interpolation, seed, x, y, z, w, u);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    sum += n.interpolatedValue(interpolation, seed + i, x, y, z, w, u) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                 }
             case FOAM:
-                return singleFoam(seed, x, y, z, w, u, v);
+                return new Compiled5D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w, float u) {
+                        return n.singleFoam(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency);
+                    }
+                };
             case FOAM_FRACTAL:
-                switch (fractalType) {
+                switch (n.fractalType) {
                     case BILLOW:
-                        return singleFoamFractalBillow(x, y, z, w, u, v);
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float sum = Math.abs(n.singleFoam(seed, x, y, z, w, u)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    sum += (Math.abs(n.singleFoam(seed + i, x, y, z, w, u)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                     case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y, z, w, u, v);
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleFoam(seed + i, x, y, z, w, u))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
                     default:
-                        return singleFoamFractalFBM(x, y, z, w, u, v);
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float sum = n.singleFoam(seed, x, y, z, w, u);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    sum += n.singleFoam(seed + i, x, y, z, w, u) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                 }
             case MUTANT:
-                return singleFoam(seed, x, y, z, w, u, v, mutation);
+                return new Compiled5D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w, float u) {
+                        return n.singleFoam(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency, mutation);
+                    }
+                };
             case MUTANT_FRACTAL:
-                switch (fractalType) {
+                switch (n.fractalType) {
                     case BILLOW:
-                        return singleFoamFractalBillow(x, y, z, w, u, v, mutation);
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float m = mutation;
+                                float sum = Math.abs(n.singleFoam(seed, x, y, z, w, u, m)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    m *= lacunarity;
+                                    sum += (Math.abs(n.singleFoam(seed + i, x, y, z, w, u, m)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                     case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y, z, w, u, v, mutation);
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float m = mutation;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleFoam(seed + i, x, y, z, w, u, m))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    m *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
                     default:
-                        return singleFoamFractalFBM(x, y, z, w, u, v, mutation);
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float m = mutation;
+                                float sum = n.singleFoam(seed, x, y, z, w, u, m);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    m *= lacunarity;
+                                    sum += n.singleFoam(seed + i, x, y, z, w, u, m) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                 }
             case HONEY:
-                return singleHoney(seed, x, y, z, w, u, v);
+                return new Compiled5D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w, float u) {
+                        return n.singleHoney(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency);
+                    }
+                };
             case HONEY_FRACTAL:
-                switch (fractalType) {
+                switch (n.fractalType) {
                     case BILLOW:
-                        return singleHoneyFractalBillow(x, y, z, w, u, v);
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float sum = Math.abs(n.singleHoney(seed, x, y, z, w, u)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    sum += (Math.abs(n.singleHoney(seed + i, x, y, z, w, u)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                     case RIDGED_MULTI:
-                        return singleHoneyFractalRidgedMulti(x, y, z, w, u, v);
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleHoney(seed + i, x, y, z, w, u))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
                     default:
-                        return singleHoneyFractalFBM(x, y, z, w, u, v);
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float sum = n.singleHoney(seed, x, y, z, w, u);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    sum += n.singleHoney(seed + i, x, y, z, w, u) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                 }
             case PERLIN:
-                return singlePerlin(seed, x, y, z, w, u, v);
+                return new Compiled5D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w, float u) {
+                        return n.interpolatedPerlin(interpolation, seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency);
+                    }
+                };
             case PERLIN_FRACTAL:
-                switch (fractalType) {
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float sum = Math.abs(n.interpolatedPerlin(interpolation, seed, x, y, z, w, u)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    sum += (Math.abs(n.interpolatedPerlin(interpolation, seed + i, x, y, z, w, u)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.interpolatedPerlin(interpolation, seed + i, x, y, z, w, u))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float sum = n.interpolatedPerlin(interpolation, seed, x, y, z, w, u);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    sum += n.interpolatedPerlin(interpolation, seed + i, x, y, z, w, u) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case SIMPLEX_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float sum = Math.abs(n.singleSimplex(seed, x, y, z, w, u)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    sum += (Math.abs(n.singleSimplex(seed + i, x, y, z, w, u)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleSimplex(seed + i, x, y, z, w, u))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float sum = n.singleSimplex(seed, x, y, z, w, u);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    sum += n.singleSimplex(seed + i, x, y, z, w, u) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case CELLULAR:
+                return new Compiled5D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w, float u) {
+                        return n.singleCellular(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency);
+                    }
+                };
+            case WHITE_NOISE:
+                return new Compiled5D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w, float u) {
+                        return n.singleWhiteNoise(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency);
+                    }
+                };
+            case CUBIC:
+                return new Compiled5D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w, float u) {
+                        return n.singleCubic(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency);
+                    }
+                };
+            case CUBIC_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float sum = Math.abs(n.singleCubic(seed, x, y, z, w, u)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    sum += (Math.abs(n.singleCubic(seed + i, x, y, z, w, u)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleCubic(seed + i, x, y, z, w, u))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled5D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                float sum = n.singleCubic(seed, x, y, z, w, u);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    sum += n.singleCubic(seed + i, x, y, z, w, u) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            default:
+                return new Compiled5D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w, float u) {
+                        return n.singleSimplex(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency);
+                    }
+                };
+        }
+    }
+
+    /**
+     * Makes an immutable 6D noise function that produces the same results as
+     * {@link #getConfiguredNoise(float, float, float, float, float, float)} with this Noise's current configuration. The noise type, fractal type,
+     * and cellular return type are looked up once here instead of on every call, and the returned object's class is
+     * specific to that combination, so a call site that only uses one compiled function stays monomorphic and can be
+     * fully inlined by the JIT. The interpolation, octave count, lacunarity, fractal bounding and each octave's
+     * amplitude are copied into final fields of the returned function, which runs its own octave loop over them. Changing this Noise later doesn't affect the returned function, and since nothing can
+     * change the returned function, it can be shared between threads. If this is a subclass of Noise, only its
+     * configuration is copied, not any methods it overrides.
+     * @return a Compiled6D that acts like {@link #getConfiguredNoise(float, float, float, float, float, float)} does now
+     */
+    public Compiled6D compile6D() {
+        return compile6D(new Noise(this));
+    }
+
+    private static Compiled6D compile6D(final Noise n) {
+        final int seed = n.seed, interpolation = n.interpolation, octaves = n.octaves;
+        final float frequency = n.frequency, mutation = n.mutation, lacunarity = n.lacunarity,
+                fractalBounding = n.fractalBounding, ridgedCorrection = ridgedCorrection(octaves);
+        final float[] amplitudes = fractalAmplitudes(octaves, n.gain);
+        switch (n.noiseType) {
+            case VALUE:
+                return new Compiled6D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w, float u, float v) {
+                        return n.interpolatedValue(interpolation, seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency, v * frequency);
+                    }
+                };
+            case VALUE_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float sum = Math.abs(n.interpolatedValue(interpolation, seed, x, y, z, w, u, v)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                    sum += (Math.abs(n.interpolatedValue(interpolation, seed + i, x, y, z, w, u, v)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.interpolatedValue(interpolation, seed + i, x, y, z, w, u, v))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float sum = n.interpolatedValue(interpolation, seed, x, y, z, w, u, v);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                    sum += n.interpolatedValue(interpolation, seed + i, x, y, z, w, u, v) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case FOAM:
+                return new Compiled6D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w, float u, float v) {
+                        return n.singleFoam(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency, v * frequency);
+                    }
+                };
+            case FOAM_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float sum = Math.abs(n.singleFoam(seed, x, y, z, w, u, v)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                    sum += (Math.abs(n.singleFoam(seed + i, x, y, z, w, u, v)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleFoam(seed + i, x, y, z, w, u, v))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float sum = n.singleFoam(seed, x, y, z, w, u, v);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                    sum += n.singleFoam(seed + i, x, y, z, w, u, v) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case MUTANT:
+                return new Compiled6D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w, float u, float v) {
+                        return n.singleFoam(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency, v * frequency, mutation);
+                    }
+                };
+            case MUTANT_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float m = mutation;
+                                float sum = Math.abs(n.singleFoam(seed, x, y, z, w, u, v, m)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                    m *= lacunarity;
+                                    sum += (Math.abs(n.singleFoam(seed + i, x, y, z, w, u, v, m)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float m = mutation;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleFoam(seed + i, x, y, z, w, u, v, m))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                    m *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float m = mutation;
+                                float sum = n.singleFoam(seed, x, y, z, w, u, v, m);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                    m *= lacunarity;
+                                    sum += n.singleFoam(seed + i, x, y, z, w, u, v, m) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case HONEY:
+                return new Compiled6D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w, float u, float v) {
+                        return n.singleHoney(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency, v * frequency);
+                    }
+                };
+            case HONEY_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float sum = Math.abs(n.singleHoney(seed, x, y, z, w, u, v)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                    sum += (Math.abs(n.singleHoney(seed + i, x, y, z, w, u, v)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleHoney(seed + i, x, y, z, w, u, v))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float sum = n.singleHoney(seed, x, y, z, w, u, v);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                    sum += n.singleHoney(seed + i, x, y, z, w, u, v) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case PERLIN:
+                return new Compiled6D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w, float u, float v) {
+                        return n.interpolatedPerlin(interpolation, seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency, v * frequency);
+                    }
+                };
+            case PERLIN_FRACTAL:
+                switch (n.fractalType) {
+                    case BILLOW:
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float sum = Math.abs(n.interpolatedPerlin(interpolation, seed, x, y, z, w, u, v)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                    sum += (Math.abs(n.interpolatedPerlin(interpolation, seed + i, x, y, z, w, u, v)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                    case RIDGED_MULTI:
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.interpolatedPerlin(interpolation, seed + i, x, y, z, w, u, v))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
+                    default:
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float sum = n.interpolatedPerlin(interpolation, seed, x, y, z, w, u, v);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                    sum += n.interpolatedPerlin(interpolation, seed + i, x, y, z, w, u, v) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
+                }
+            case SIMPLEX_FRACTAL:
+                switch (n.fractalType) {
                     case BILLOW:
-                        return singlePerlinFractalBillow(x, y, z, w, u, v);
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float sum = Math.abs(n.singleSimplex(seed, x, y, z, w, u, v)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                    sum += (Math.abs(n.singleSimplex(seed + i, x, y, z, w, u, v)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                     case RIDGED_MULTI:
-                        return singlePerlinFractalRidgedMulti(x, y, z, w, u, v);
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleSimplex(seed + i, x, y, z, w, u, v))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
                     default:
-                        return singlePerlinFractalFBM(x, y, z, w, u, v);
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float sum = n.singleSimplex(seed, x, y, z, w, u, v);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                    sum += n.singleSimplex(seed + i, x, y, z, w, u, v) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                 }
-            case SIMPLEX_FRACTAL:
-                switch (fractalType) {
+            case CELLULAR:
+                return new Compiled6D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w, float u, float v) {
+                        return n.singleCellular(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency, v * frequency);
+                    }
+                };
+            case WHITE_NOISE:
+                return new Compiled6D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w, float u, float v) {
+                        return n.singleWhiteNoise(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency, v * frequency);
+                    }
+                };
+            case CUBIC:
+                return new Compiled6D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w, float u, float v) {
+                        return n.singleCubic(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency, v * frequency);
+                    }
+                };
+            case CUBIC_FRACTAL:
+                switch (n.fractalType) {
                     case BILLOW:
-                        return singleSimplexFractalBillow(x, y, z, w, u, v);
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float sum = Math.abs(n.singleCubic(seed, x, y, z, w, u, v)) * 2 - 1;
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                    sum += (Math.abs(n.singleCubic(seed + i, x, y, z, w, u, v)) * 2 - 1) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                     case RIDGED_MULTI:
-                        return singleSimplexFractalRidgedMulti(x, y, z, w, u, v);
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float sum = 0f, exp = 1f;
+                                for (int i = 0; i < octaves; i++) {
+                                    sum += (1f - Math.abs(n.singleCubic(seed + i, x, y, z, w, u, v))) * exp;
+                                    exp *= 0.5f;
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                }
+                                return sum * 2f / ridgedCorrection - 1f;
+                            }
+                        };
                     default:
-                        return singleSimplexFractalFBM(x, y, z, w, u, v);
+                        return new Compiled6D() {
+                            @Override
+                            public float getNoise(float x, float y, float z, float w, float u, float v) {
+                                x *= frequency;
+                                y *= frequency;
+                                z *= frequency;
+                                w *= frequency;
+                                u *= frequency;
+                                v *= frequency;
+                                float sum = n.singleCubic(seed, x, y, z, w, u, v);
+                                for (int i = 1; i < octaves; i++) {
+                                    x *= lacunarity;
+                                    y *= lacunarity;
+                                    z *= lacunarity;
+                                    w *= lacunarity;
+                                    u *= lacunarity;
+                                    v *= lacunarity;
+                                    sum += n.singleCubic(seed + i, x, y, z, w, u, v) * amplitudes[i];
+                                }
+                                return sum * fractalBounding;
+                            }
+                        };
                 }
-            case WHITE_NOISE:
-                return getWhiteNoise(x, y, z, w, u, v);
             default:
-                return singleSimplex(seed, x, y, z, w, u, v);
+                return new Compiled6D() {
+                    @Override
+                    public float getNoise(float x, float y, float z, float w, float u, float v) {
+                        return n.singleSimplex(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency, v * frequency);
+                    }
+                };
         }
     }
 
@@ -1468,6 +6799,10 @@ public class Noise {
     }
 
     public float getWhiteNoise(float x, float y) {
+        return singleWhiteNoise(seed, x, y);
+    }
+
+    public float singleWhiteNoise(int seed, float x, float y) {
         int xi = floatToIntMixed(x);
         int yi = floatToIntMixed(y);
 
@@ -1475,6 +6810,10 @@ public class Noise {
     }
 
     public float getWhiteNoise(float x, float y, float z) {
+        return singleWhiteNoise(seed, x, y, z);
+    }
+
+    public float singleWhiteNoise(int seed, float x, float y, float z) {
         int xi = floatToIntMixed(x);
         int yi = floatToIntMixed(y);
         int zi = floatToIntMixed(z);
@@ -1483,6 +6822,10 @@ public class Noise {
     }
 
     public float getWhiteNoise(float x, float y, float z, float w) {
+        return singleWhiteNoise(seed, x, y, z, w);
+    }
+
+    public float singleWhiteNoise(int seed, float x, float y, float z, float w) {
         int xi = floatToIntMixed(x);
         int yi = floatToIntMixed(y);
         int zi = floatToIntMixed(z);
@@ -1492,6 +6835,10 @@ public class Noise {
     }
 
     public float getWhiteNoise(float x, float y, float z, float w, float u) {
+        return singleWhiteNoise(seed, x, y, z, w, u);
+    }
+
+    public float singleWhiteNoise(int seed, float x, float y, float z, float w, float u) {
         int xi = floatToIntMixed(x);
         int yi = floatToIntMixed(y);
         int zi = floatToIntMixed(z);
@@ -1502,6 +6849,10 @@ public class Noise {
     }
 
     public float getWhiteNoise(float x, float y, float z, float w, float u, float v) {
+        return singleWhiteNoise(seed, x, y, z, w, u, v);
+    }
+
+    public float singleWhiteNoise(int seed, float x, float y, float z, float w, float u, float v) {
         int xi = floatToIntMixed(x);
         int yi = floatToIntMixed(y);
         int zi = floatToIntMixed(z);
@@ -1575,18 +6926,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleValueFractalFBM(x, y);
+                return singleValueFractalFBM(seed, x, y);
             case BILLOW:
-                return singleValueFractalBillow(x, y);
+                return singleValueFractalBillow(seed, x, y);
             case RIDGED_MULTI:
-                return singleValueFractalRidgedMulti(x, y);
+                return singleValueFractalRidgedMulti(seed, x, y);
             default:
                 return 0;
         }
     }
 
-    private float singleValueFractalFBM(float x, float y) {
-        int seed = this.seed;
+    private float singleValueFractalFBM(int seed, float x, float y) {
         float sum = singleValue(seed, x, y);
         float amp = 1;
 
@@ -1601,8 +6951,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalBillow(float x, float y) {
-        int seed = this.seed;
+    private float singleValueFractalBillow(int seed, float x, float y) {
         float sum = Math.abs(singleValue(seed, x, y)) * 2 - 1;
         float amp = 1;
 
@@ -1616,8 +6965,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalRidgedMulti(float x, float y) {
-        int seed = this.seed;
+    private float singleValueFractalRidgedMulti(int seed, float x, float y) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleValue(seed + i, x, y));
@@ -1634,11 +6982,32 @@ public class Noise {
     }
 
 
-    public float singleValue (int seed, float x, float y) {
+    public float singleValue(int seed, float x, float y) {
+        return interpolatedValue(interpolation, seed, x, y);
+    }
+
+    /**
+     * The same as {@link #singleValue(int, float, float)}, but with the given interpolation instead of this Noise's; the
+     * functions made by {@link #compile2D()} and the other compile methods use this with an interpolation they fixed
+     * when they were made.
+     */
+    private float interpolatedValue(int interpolation, int seed, float x, float y) {
         int xFloor = x >= 0 ? (int) x : (int) x - 1;
-        x -= xFloor;
         int yFloor = y >= 0 ? (int) y : (int) y - 1;
-        y -= yFloor;
+        return splitValue(interpolation, seed, xFloor, x - xFloor, yFloor, y - yFloor);
+    }
+
+    private float singleValue(int seed, double x, double y) {
+        final long xFloor = longFloor(x), yFloor = longFloor(y);
+        return splitValue(interpolation, seed, (int) xFloor, (float) (x - xFloor), (int) yFloor, (float) (y - yFloor));
+    }
+
+    /**
+     * Value noise at the point {@code (xFloor + x, yFloor + y)}, where x and y are the offsets inside that cell, from
+     * 0 inclusive to 1 exclusive. Keeping the cell separate from the offset is what lets
+     * {@link #getNoise(double, double)} stay precise far from the origin.
+     */
+    private float splitValue(int interpolation, int seed, int xFloor, float x, int yFloor, float y) {
         switch (interpolation) {
             case HERMITE:
                 x = hermiteInterpolator(x);
@@ -1665,10 +7034,21 @@ public class Noise {
      */
     protected float valueNoise (int seed, float x, float y) {
         int xFloor = x >= 0 ? (int) x : (int) x - 1;
-        x -= xFloor;
-        x *= x * (3 - 2 * x);
         int yFloor = y >= 0 ? (int) y : (int) y - 1;
-        y -= yFloor;
+        return splitValueNoise(seed, xFloor, x - xFloor, yFloor, y - yFloor);
+    }
+
+    private float valueNoise(int seed, double x, double y) {
+        final long xFloor = longFloor(x), yFloor = longFloor(y);
+        return splitValueNoise(seed, (int) xFloor, (float) (x - xFloor), (int) yFloor, (float) (y - yFloor));
+    }
+
+    /**
+     * Like {@link #valueNoise(int, float, float)}, but given the cell and the offset inside it separately, as with
+     * {@link #splitValue(int, int, int, float, int, float)}.
+     */
+    private float splitValueNoise(int seed, int xFloor, float x, int yFloor, float y) {
+        x *= x * (3 - 2 * x);
         y *= y * (3 - 2 * y);
         xFloor *= 0xD1B55;
         yFloor *= 0xABC99;
@@ -1676,6 +7056,102 @@ public class Noise {
             + y * ((1 - x) * hashPart1024(xFloor, yFloor + 0xABC99, seed) + x * hashPart1024(xFloor + 0xD1B55, yFloor + 0xABC99, seed)))
             * 0x1p-10f + 0.5f;
     }
+
+    /**
+     * Gets 2D Value noise with this Noise's seed, frequency and interpolation, along with its exact partial
+     * derivatives, from one evaluation. The noise value goes in {@code out[0]} and is the same as what
+     * {@link #getValue(float, float)} returns; the derivatives with respect to x and y go in {@code out[1]} and
+     * {@code out[2]}. With {@link #LINEAR} interpolation, the derivatives jump at cell edges.
+     * @param x x position, will be multiplied by the frequency
+     * @param y y position, will be multiplied by the frequency
+     * @param out a float array with length at least 3 that will be modified
+     * @return out, after modifications
+     */
+    public float[] getValueWithGradient(float x, float y, float[] out) {
+        singleValueWithGradient(seed, x * frequency, y * frequency, out);
+        out[1] *= frequency;
+        out[2] *= frequency;
+        return out;
+    }
+
+    /**
+     * Like {@link #singleValue(int, float, float)}, but also finds the exact partial derivatives of the noise at the
+     * given point. The noise value goes in {@code out[0]}, and its derivatives with respect to x and y go in
+     * {@code out[1]} and {@code out[2]}. No frequency is applied here.
+     * @param seed any int
+     * @param x x position, already multiplied by any frequency
+     * @param y y position, already multiplied by any frequency
+     * @param out a float array with length at least 3 that will be modified
+     * @return out, after modifications
+     */
+    public float[] singleValueWithGradient(int seed, float x, float y, float[] out) {
+        int xFloor = x >= 0 ? (int) x : (int) x - 1;
+        x -= xFloor;
+        int yFloor = y >= 0 ? (int) y : (int) y - 1;
+        y -= yFloor;
+        float dx = 0x1p-9f, dy = 0x1p-9f;
+        switch (interpolation) {
+            case HERMITE:
+                dx *= hermiteDerivative(x);
+                dy *= hermiteDerivative(y);
+                x = hermiteInterpolator(x);
+                y = hermiteInterpolator(y);
+                break;
+            case QUINTIC:
+                dx *= quinticDerivative(x);
+                dy *= quinticDerivative(y);
+                x = quinticInterpolator(x);
+                y = quinticInterpolator(y);
+                break;
+        }
+        xFloor *= 0xD1B55;
+        yFloor *= 0xABC99;
+        final float h00 = hashPart1024(xFloor, yFloor, seed),
+                h01 = hashPart1024(xFloor, yFloor + 0xABC99, seed),
+                h10 = hashPart1024(xFloor + 0xD1B55, yFloor, seed),
+                h11 = hashPart1024(xFloor + 0xD1B55, yFloor + 0xABC99, seed);
+        final float lx0 = (1 - x) * h00 + x * h10, lx1 = (1 - x) * h01 + x * h11;
+        out[0] = ((1 - y) * lx0 + y * lx1) * 0x1p-9f;
+        out[1] = ((1 - y) * (h10 - h00) + y * (h11 - h01)) * dx;
+        out[2] = (lx1 - lx0) * dy;
+        return out;
+    }
+
+    /**
+     * Gets 2D FBM fractal Value noise, using this Noise's seed, frequency, octaves, lacunarity and gain, along with its
+     * exact partial derivatives. The noise value goes in {@code out[0]} and matches what
+     * {@link #getValueFractal(float, float)} returns with {@link #FBM}; the derivatives with respect to x and y go in
+     * {@code out[1]} and {@code out[2]}. This ignores the current fractal type.
+     * @param x x position, will be multiplied by the frequency
+     * @param y y position, will be multiplied by the frequency
+     * @param out a float array with length at least 3 that will be modified
+     * @return out, after modifications
+     */
+    public float[] getValueFractalWithGradient(float x, float y, float[] out) {
+        x *= frequency;
+        y *= frequency;
+        singleValueWithGradient(seed, x, y, out);
+        float sum = out[0], dx = out[1], dy = out[2];
+        float amp = 1, scale = 1;
+
+        for (int i = 1; i < octaves; i++) {
+            x *= lacunarity;
+            y *= lacunarity;
+
+            amp *= gain;
+            scale *= lacunarity;
+            singleValueWithGradient(seed + i, x, y, out);
+            sum += out[0] * amp;
+            dx += out[1] * amp * scale;
+            dy += out[2] * amp * scale;
+        }
+
+        out[0] = sum * fractalBounding;
+        out[1] = dx * fractalBounding * frequency;
+        out[2] = dy * fractalBounding * frequency;
+        return out;
+    }
+
     public float getValueFractal(float x, float y, float z) {
         x *= frequency;
         y *= frequency;
@@ -1683,16 +7159,15 @@ public class Noise {
 
         switch (fractalType) {
             case BILLOW:
-                return singleValueFractalBillow(x, y, z);
+                return singleValueFractalBillow(seed, x, y, z);
             case RIDGED_MULTI:
-                return singleValueFractalRidgedMulti(x, y, z);
+                return singleValueFractalRidgedMulti(seed, x, y, z);
             default:
-                return singleValueFractalFBM(x, y, z);
+                return singleValueFractalFBM(seed, x, y, z);
         }
     }
 
-    private float singleValueFractalFBM(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleValueFractalFBM(int seed, float x, float y, float z) {
         float sum = singleValue(seed, x, y, z);
         float amp = 1;
 
@@ -1708,8 +7183,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalBillow(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleValueFractalBillow(int seed, float x, float y, float z) {
         float sum = Math.abs(singleValue(seed, x, y, z)) * 2 - 1;
         float amp = 1;
 
@@ -1725,8 +7199,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalRidgedMulti(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleValueFractalRidgedMulti(int seed, float x, float y, float z) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleValue(seed + i, x, y, z));
@@ -1744,12 +7217,31 @@ public class Noise {
     }
 
     public float singleValue(int seed, float x, float y, float z) {
+        return interpolatedValue(interpolation, seed, x, y, z);
+    }
+
+    /**
+     * The 3D version of {@link #interpolatedValue(int, int, float, float)}.
+     */
+    private float interpolatedValue(int interpolation, int seed, float x, float y, float z) {
         int xFloor = x >= 0 ? (int) x : (int) x - 1;
-        x -= xFloor;
         int yFloor = y >= 0 ? (int) y : (int) y - 1;
-        y -= yFloor;
         int zFloor = z >= 0 ? (int) z : (int) z - 1;
-        z -= zFloor;
+        return splitValue(interpolation, seed, xFloor, x - xFloor, yFloor, y - yFloor, zFloor, z - zFloor);
+    }
+
+    private float singleValue(int seed, double x, double y, double z) {
+        final long xFloor = longFloor(x), yFloor = longFloor(y), zFloor = longFloor(z);
+        return splitValue(interpolation, seed, (int) xFloor, (float) (x - xFloor), (int) yFloor, (float) (y - yFloor),
+                (int) zFloor, (float) (z - zFloor));
+    }
+
+    /**
+     * 3D Value noise given the cell and the offset inside it separately, as with
+     * {@link #splitValue(int, int, int, float, int, float)}.
+     */
+    private float splitValue(int interpolation, int seed, int xFloor, float x, int yFloor, float y,
+                             int zFloor, float z) {
         switch (interpolation) {
             case HERMITE:
                 x = hermiteInterpolator(x);
@@ -1785,13 +7277,20 @@ public class Noise {
     protected float valueNoise(int seed, float x, float y, float z)
     {
         int xFloor = x >= 0 ? (int) x : (int) x - 1;
-        x -= xFloor;
-        x *= x * (3 - 2 * x);
         int yFloor = y >= 0 ? (int) y : (int) y - 1;
-        y -= yFloor;
-        y *= y * (3 - 2 * y);
         int zFloor = z >= 0 ? (int) z : (int) z - 1;
-        z -= zFloor;
+        return splitValueNoise(seed, xFloor, x - xFloor, yFloor, y - yFloor, zFloor, z - zFloor);
+    }
+
+    private float valueNoise(int seed, double x, double y, double z) {
+        final long xFloor = longFloor(x), yFloor = longFloor(y), zFloor = longFloor(z);
+        return splitValueNoise(seed, (int) xFloor, (float) (x - xFloor), (int) yFloor, (float) (y - yFloor),
+                (int) zFloor, (float) (z - zFloor));
+    }
+
+    private float splitValueNoise(int seed, int xFloor, float x, int yFloor, float y, int zFloor, float z) {
+        x *= x * (3 - 2 * x);
+        y *= y * (3 - 2 * y);
         z *= z * (3 - 2 * z);
         //0xDB4F1, 0xBBE05, 0xA0F2F
         xFloor *= 0xDB4F1;
@@ -1805,6 +7304,125 @@ public class Noise {
                 + y * ((1 - x) * hashPart1024(xFloor, yFloor + 0xBBE05, zFloor + 0xA0F2F, seed) + x * hashPart1024(xFloor + 0xDB4F1, yFloor + 0xBBE05, zFloor + 0xA0F2F, seed)))
         ) * 0x1p-10f + 0.5f;
     }
+
+    /**
+     * Gets 3D Value noise with this Noise's seed, frequency and interpolation, along with its exact partial
+     * derivatives, from one evaluation. The noise value goes in {@code out[0]} and is the same as what
+     * {@link #getValue(float, float, float)} returns; the derivatives with respect to x, y, and z go in {@code out[1]},
+     * {@code out[2]}, and {@code out[3]}. With {@link #LINEAR} interpolation, the derivatives jump at cell edges.
+     * @param x x position, will be multiplied by the frequency
+     * @param y y position, will be multiplied by the frequency
+     * @param z z position, will be multiplied by the frequency
+     * @param out a float array with length at least 4 that will be modified
+     * @return out, after modifications
+     */
+    public float[] getValueWithGradient(float x, float y, float z, float[] out) {
+        singleValueWithGradient(seed, x * frequency, y * frequency, z * frequency, out);
+        out[1] *= frequency;
+        out[2] *= frequency;
+        out[3] *= frequency;
+        return out;
+    }
+
+    /**
+     * Like {@link #singleValue(int, float, float, float)}, but also finds the exact partial derivatives of the noise at
+     * the given point. The noise value goes in {@code out[0]}, and its derivatives with respect to x, y, and z go in
+     * {@code out[1]}, {@code out[2]}, and {@code out[3]}. No frequency is applied here.
+     * @param seed any int
+     * @param x x position, already multiplied by any frequency
+     * @param y y position, already multiplied by any frequency
+     * @param z z position, already multiplied by any frequency
+     * @param out a float array with length at least 4 that will be modified
+     * @return out, after modifications
+     */
+    public float[] singleValueWithGradient(int seed, float x, float y, float z, float[] out) {
+        int xFloor = x >= 0 ? (int) x : (int) x - 1;
+        x -= xFloor;
+        int yFloor = y >= 0 ? (int) y : (int) y - 1;
+        y -= yFloor;
+        int zFloor = z >= 0 ? (int) z : (int) z - 1;
+        z -= zFloor;
+        float dx = 0x1p-9f, dy = 0x1p-9f, dz = 0x1p-9f;
+        switch (interpolation) {
+            case HERMITE:
+                dx *= hermiteDerivative(x);
+                dy *= hermiteDerivative(y);
+                dz *= hermiteDerivative(z);
+                x = hermiteInterpolator(x);
+                y = hermiteInterpolator(y);
+                z = hermiteInterpolator(z);
+                break;
+            case QUINTIC:
+                dx *= quinticDerivative(x);
+                dy *= quinticDerivative(y);
+                dz *= quinticDerivative(z);
+                x = quinticInterpolator(x);
+                y = quinticInterpolator(y);
+                z = quinticInterpolator(z);
+                break;
+        }
+        xFloor *= 0xDB4F1;
+        yFloor *= 0xBBE05;
+        zFloor *= 0xA0F2F;
+        final float h000 = hashPart1024(xFloor, yFloor, zFloor, seed),
+                h001 = hashPart1024(xFloor, yFloor, zFloor + 0xA0F2F, seed),
+                h010 = hashPart1024(xFloor, yFloor + 0xBBE05, zFloor, seed),
+                h011 = hashPart1024(xFloor, yFloor + 0xBBE05, zFloor + 0xA0F2F, seed),
+                h100 = hashPart1024(xFloor + 0xDB4F1, yFloor, zFloor, seed),
+                h101 = hashPart1024(xFloor + 0xDB4F1, yFloor, zFloor + 0xA0F2F, seed),
+                h110 = hashPart1024(xFloor + 0xDB4F1, yFloor + 0xBBE05, zFloor, seed),
+                h111 = hashPart1024(xFloor + 0xDB4F1, yFloor + 0xBBE05, zFloor + 0xA0F2F, seed);
+        final float lx00 = (1 - x) * h000 + x * h100, lx10 = (1 - x) * h010 + x * h110,
+                lx01 = (1 - x) * h001 + x * h101, lx11 = (1 - x) * h011 + x * h111;
+        final float ly0 = (1 - y) * lx00 + y * lx10, ly1 = (1 - y) * lx01 + y * lx11;
+        out[0] = ((1 - z) * ly0 + z * ly1) * 0x1p-9f;
+        out[1] = ((1 - z) * ((1 - y) * (h100 - h000) + y * (h110 - h010))
+                + z * ((1 - y) * (h101 - h001) + y * (h111 - h011))) * dx;
+        out[2] = ((1 - z) * (lx10 - lx00) + z * (lx11 - lx01)) * dy;
+        out[3] = (ly1 - ly0) * dz;
+        return out;
+    }
+
+    /**
+     * Gets 3D FBM fractal Value noise, using this Noise's seed, frequency, octaves, lacunarity and gain, along with its
+     * exact partial derivatives. The noise value goes in {@code out[0]} and matches what
+     * {@link #getValueFractal(float, float, float)} returns with {@link #FBM}; the derivatives with respect to x, y,
+     * and z go in {@code out[1]}, {@code out[2]}, and {@code out[3]}. This ignores the current fractal type.
+     * @param x x position, will be multiplied by the frequency
+     * @param y y position, will be multiplied by the frequency
+     * @param z z position, will be multiplied by the frequency
+     * @param out a float array with length at least 4 that will be modified
+     * @return out, after modifications
+     */
+    public float[] getValueFractalWithGradient(float x, float y, float z, float[] out) {
+        x *= frequency;
+        y *= frequency;
+        z *= frequency;
+        singleValueWithGradient(seed, x, y, z, out);
+        float sum = out[0], dx = out[1], dy = out[2], dz = out[3];
+        float amp = 1, scale = 1;
+
+        for (int i = 1; i < octaves; i++) {
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+
+            amp *= gain;
+            scale *= lacunarity;
+            singleValueWithGradient(seed + i, x, y, z, out);
+            sum += out[0] * amp;
+            dx += out[1] * amp * scale;
+            dy += out[2] * amp * scale;
+            dz += out[3] * amp * scale;
+        }
+
+        out[0] = sum * fractalBounding;
+        out[1] = dx * fractalBounding * frequency;
+        out[2] = dy * fractalBounding * frequency;
+        out[3] = dz * fractalBounding * frequency;
+        return out;
+    }
+
     public float getValueFractal(float x, float y, float z, float w) {
         x *= frequency;
         y *= frequency;
@@ -1813,16 +7431,15 @@ public class Noise {
 
         switch (fractalType) {
             case BILLOW:
-                return singleValueFractalBillow(x, y, z, w);
+                return singleValueFractalBillow(seed, x, y, z, w);
             case RIDGED_MULTI:
-                return singleValueFractalRidgedMulti(x, y, z, w);
+                return singleValueFractalRidgedMulti(seed, x, y, z, w);
             default:
-                return singleValueFractalFBM(x, y, z, w);
+                return singleValueFractalFBM(seed, x, y, z, w);
         }
     }
 
-    private float singleValueFractalFBM(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleValueFractalFBM(int seed, float x, float y, float z, float w) {
         float sum = singleValue(seed, x, y, z, w);
         float amp = 1;
 
@@ -1839,8 +7456,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalBillow(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleValueFractalBillow(int seed, float x, float y, float z, float w) {
         float sum = Math.abs(singleValue(seed, x, y, z, w)) * 2 - 1;
         float amp = 1;
 
@@ -1857,8 +7473,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalRidgedMulti(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleValueFractalRidgedMulti(int seed, float x, float y, float z, float w) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleValue(seed + i, x, y, z, w));
@@ -1877,6 +7492,13 @@ public class Noise {
     }
 
     public float singleValue(int seed, float x, float y, float z, float w) {
+        return interpolatedValue(interpolation, seed, x, y, z, w);
+    }
+
+    /**
+     * The 4D version of {@link #interpolatedValue(int, int, float, float)}.
+     */
+    private float interpolatedValue(int interpolation, int seed, float x, float y, float z, float w) {
         int xFloor = x >= 0 ? (int) x : (int) x - 1;
         x -= xFloor;
         int yFloor = y >= 0 ? (int) y : (int) y - 1;
@@ -1956,6 +7578,158 @@ public class Noise {
             ))) * 0x1p-10f + 0.5f;
     }
 
+    /**
+     * Gets 4D Value noise with this Noise's seed, frequency and interpolation, along with its exact partial
+     * derivatives, from one evaluation. The noise value goes in {@code out[0]} and is the same as what
+     * {@link #getValue(float, float, float, float)} returns; the derivatives with respect to x, y, z, and w go in
+     * {@code out[1]}, {@code out[2]}, {@code out[3]}, and {@code out[4]}. With {@link #LINEAR} interpolation, the
+     * derivatives jump at cell edges.
+     * @param x x position, will be multiplied by the frequency
+     * @param y y position, will be multiplied by the frequency
+     * @param z z position, will be multiplied by the frequency
+     * @param w w position, will be multiplied by the frequency
+     * @param out a float array with length at least 5 that will be modified
+     * @return out, after modifications
+     */
+    public float[] getValueWithGradient(float x, float y, float z, float w, float[] out) {
+        singleValueWithGradient(seed, x * frequency, y * frequency, z * frequency, w * frequency, out);
+        out[1] *= frequency;
+        out[2] *= frequency;
+        out[3] *= frequency;
+        out[4] *= frequency;
+        return out;
+    }
+
+    /**
+     * Like {@link #singleValue(int, float, float, float, float)}, but also finds the exact partial derivatives of the
+     * noise at the given point. The noise value goes in {@code out[0]}, and its derivatives with respect to x, y, z,
+     * and w go in {@code out[1]}, {@code out[2]}, {@code out[3]}, and {@code out[4]}. No frequency is applied here.
+     * @param seed any int
+     * @param x x position, already multiplied by any frequency
+     * @param y y position, already multiplied by any frequency
+     * @param z z position, already multiplied by any frequency
+     * @param w w position, already multiplied by any frequency
+     * @param out a float array with length at least 5 that will be modified
+     * @return out, after modifications
+     */
+    public float[] singleValueWithGradient(int seed, float x, float y, float z, float w, float[] out) {
+        int xFloor = x >= 0 ? (int) x : (int) x - 1;
+        x -= xFloor;
+        int yFloor = y >= 0 ? (int) y : (int) y - 1;
+        y -= yFloor;
+        int zFloor = z >= 0 ? (int) z : (int) z - 1;
+        z -= zFloor;
+        int wFloor = w >= 0 ? (int) w : (int) w - 1;
+        w -= wFloor;
+        float dx = 0x1p-9f, dy = 0x1p-9f, dz = 0x1p-9f, dw = 0x1p-9f;
+        switch (interpolation) {
+            case HERMITE:
+                dx *= hermiteDerivative(x);
+                dy *= hermiteDerivative(y);
+                dz *= hermiteDerivative(z);
+                dw *= hermiteDerivative(w);
+                x = hermiteInterpolator(x);
+                y = hermiteInterpolator(y);
+                z = hermiteInterpolator(z);
+                w = hermiteInterpolator(w);
+                break;
+            case QUINTIC:
+                dx *= quinticDerivative(x);
+                dy *= quinticDerivative(y);
+                dz *= quinticDerivative(z);
+                dw *= quinticDerivative(w);
+                x = quinticInterpolator(x);
+                y = quinticInterpolator(y);
+                z = quinticInterpolator(z);
+                w = quinticInterpolator(w);
+                break;
+        }
+        xFloor *= 0xE19B1;
+        yFloor *= 0xC6D1D;
+        zFloor *= 0xAF36D;
+        wFloor *= 0x9A695;
+        final float h0000 = hashPart1024(xFloor, yFloor, zFloor, wFloor, seed),
+                h0001 = hashPart1024(xFloor, yFloor, zFloor, wFloor + 0x9A695, seed),
+                h0010 = hashPart1024(xFloor, yFloor, zFloor + 0xAF36D, wFloor, seed),
+                h0011 = hashPart1024(xFloor, yFloor, zFloor + 0xAF36D, wFloor + 0x9A695, seed),
+                h0100 = hashPart1024(xFloor, yFloor + 0xC6D1D, zFloor, wFloor, seed),
+                h0101 = hashPart1024(xFloor, yFloor + 0xC6D1D, zFloor, wFloor + 0x9A695, seed),
+                h0110 = hashPart1024(xFloor, yFloor + 0xC6D1D, zFloor + 0xAF36D, wFloor, seed),
+                h0111 = hashPart1024(xFloor, yFloor + 0xC6D1D, zFloor + 0xAF36D, wFloor + 0x9A695, seed),
+                h1000 = hashPart1024(xFloor + 0xE19B1, yFloor, zFloor, wFloor, seed),
+                h1001 = hashPart1024(xFloor + 0xE19B1, yFloor, zFloor, wFloor + 0x9A695, seed),
+                h1010 = hashPart1024(xFloor + 0xE19B1, yFloor, zFloor + 0xAF36D, wFloor, seed),
+                h1011 = hashPart1024(xFloor + 0xE19B1, yFloor, zFloor + 0xAF36D, wFloor + 0x9A695, seed),
+                h1100 = hashPart1024(xFloor + 0xE19B1, yFloor + 0xC6D1D, zFloor, wFloor, seed),
+                h1101 = hashPart1024(xFloor + 0xE19B1, yFloor + 0xC6D1D, zFloor, wFloor + 0x9A695, seed),
+                h1110 = hashPart1024(xFloor + 0xE19B1, yFloor + 0xC6D1D, zFloor + 0xAF36D, wFloor, seed),
+                h1111 = hashPart1024(xFloor + 0xE19B1, yFloor + 0xC6D1D, zFloor + 0xAF36D, wFloor + 0x9A695, seed);
+        final float lx000 = (1 - x) * h0000 + x * h1000, lx100 = (1 - x) * h0100 + x * h1100,
+                lx010 = (1 - x) * h0010 + x * h1010, lx110 = (1 - x) * h0110 + x * h1110,
+                lx001 = (1 - x) * h0001 + x * h1001, lx101 = (1 - x) * h0101 + x * h1101,
+                lx011 = (1 - x) * h0011 + x * h1011, lx111 = (1 - x) * h0111 + x * h1111;
+        final float ly00 = (1 - y) * lx000 + y * lx100, ly10 = (1 - y) * lx010 + y * lx110,
+                ly01 = (1 - y) * lx001 + y * lx101, ly11 = (1 - y) * lx011 + y * lx111;
+        final float lz0 = (1 - z) * ly00 + z * ly10, lz1 = (1 - z) * ly01 + z * ly11;
+        out[0] = ((1 - w) * lz0 + (w * lz1)) * 0x1p-9f;
+        out[1] = ((1 - w) * ((1 - z) * ((1 - y) * (h1000 - h0000) + y * (h1100 - h0100))
+                + z * ((1 - y) * (h1010 - h0010) + y * (h1110 - h0110)))
+                + w * ((1 - z) * ((1 - y) * (h1001 - h0001) + y * (h1101 - h0101))
+                + z * ((1 - y) * (h1011 - h0011) + y * (h1111 - h0111)))) * dx;
+        out[2] = ((1 - w) * ((1 - z) * (lx100 - lx000) + z * (lx110 - lx010))
+                + w * ((1 - z) * (lx101 - lx001) + z * (lx111 - lx011))) * dy;
+        out[3] = ((1 - w) * (ly10 - ly00) + w * (ly11 - ly01)) * dz;
+        out[4] = (lz1 - lz0) * dw;
+        return out;
+    }
+
+    /**
+     * Gets 4D FBM fractal Value noise, using this Noise's seed, frequency, octaves, lacunarity and gain, along with its
+     * exact partial derivatives. The noise value goes in {@code out[0]} and matches what
+     * {@link #getValueFractal(float, float, float, float)} returns with {@link #FBM}; the derivatives with respect to
+     * x, y, z, and w go in {@code out[1]}, {@code out[2]}, {@code out[3]}, and {@code out[4]}. This ignores the current
+     * fractal type.
+     * @param x x position, will be multiplied by the frequency
+     * @param y y position, will be multiplied by the frequency
+     * @param z z position, will be multiplied by the frequency
+     * @param w w position, will be multiplied by the frequency
+     * @param out a float array with length at least 5 that will be modified
+     * @return out, after modifications
+     */
+    public float[] getValueFractalWithGradient(float x, float y, float z, float w, float[] out) {
+        x *= frequency;
+        y *= frequency;
+        z *= frequency;
+        w *= frequency;
+        singleValueWithGradient(seed, x, y, z, w, out);
+        float sum = out[0], dx = out[1], dy = out[2], dz = out[3], dw = out[4];
+        float amp = 1, scale = 1;
+
+        for (int i = 1; i < octaves; i++) {
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+            w *= lacunarity;
+
+            amp *= gain;
+            scale *= lacunarity;
+            singleValueWithGradient(seed + i, x, y, z, w, out);
+            sum += out[0] * amp;
+            dx += out[1] * amp * scale;
+            dy += out[2] * amp * scale;
+            dz += out[3] * amp * scale;
+            dw += out[4] * amp * scale;
+        }
+
+        out[0] = sum * fractalBounding;
+        out[1] = dx * fractalBounding * frequency;
+        out[2] = dy * fractalBounding * frequency;
+        out[3] = dz * fractalBounding * frequency;
+        out[4] = dw * fractalBounding * frequency;
+        return out;
+    }
+
+
     public float getValueFractal(float x, float y, float z, float w, float u) {
         x *= frequency;
         y *= frequency;
@@ -1965,15 +7739,14 @@ public class Noise {
 
         switch (fractalType) {
             case BILLOW:
-                return singleValueFractalBillow(x, y, z, w, u);
+                return singleValueFractalBillow(seed, x, y, z, w, u);
             case RIDGED_MULTI:
-                return singleValueFractalRidgedMulti(x, y, z, w, u);
+                return singleValueFractalRidgedMulti(seed, x, y, z, w, u);
             default:
-                return singleValueFractalFBM(x, y, z, w, u);
+                return singleValueFractalFBM(seed, x, y, z, w, u);
         }
     }
-    private float singleValueFractalFBM(float x, float y, float z, float w, float u) {
-        int seed = this.seed;
+    private float singleValueFractalFBM(int seed, float x, float y, float z, float w, float u) {
         float sum = singleValue(seed, x, y, z, w, u);
         float amp = 1;
 
@@ -1991,8 +7764,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalBillow(float x, float y, float z, float w, float u) {
-        int seed = this.seed;
+    private float singleValueFractalBillow(int seed, float x, float y, float z, float w, float u) {
         float sum = Math.abs(singleValue(seed, x, y, z, w, u)) * 2 - 1;
         float amp = 1;
 
@@ -2010,8 +7782,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalRidgedMulti(float x, float y, float z, float w, float u) {
-        int seed = this.seed;
+    private float singleValueFractalRidgedMulti(int seed, float x, float y, float z, float w, float u) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleValue(seed + i, x, y, z, w, u));
@@ -2031,6 +7802,13 @@ public class Noise {
     }
 
     public float singleValue(int seed, float x, float y, float z, float w, float u) {
+        return interpolatedValue(interpolation, seed, x, y, z, w, u);
+    }
+
+    /**
+     * The 5D version of {@link #interpolatedValue(int, int, float, float)}.
+     */
+    private float interpolatedValue(int interpolation, int seed, float x, float y, float z, float w, float u) {
         int xFloor = x >= 0 ? (int) x : (int) x - 1;
         x -= xFloor;
         int yFloor = y >= 0 ? (int) y : (int) y - 1;
@@ -2165,15 +7943,14 @@ public class Noise {
 
         switch (fractalType) {
             case BILLOW:
-                return singleValueFractalBillow(x, y, z, w, u, v);
+                return singleValueFractalBillow(seed, x, y, z, w, u, v);
             case RIDGED_MULTI:
-                return singleValueFractalRidgedMulti(x, y, z, w, u, v);
+                return singleValueFractalRidgedMulti(seed, x, y, z, w, u, v);
             default:
-                return singleValueFractalFBM(x, y, z, w, u, v);
+                return singleValueFractalFBM(seed, x, y, z, w, u, v);
         }
     }
-    private float singleValueFractalFBM(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleValueFractalFBM(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = singleValue(seed, x, y, z, w, u, v);
         float amp = 1;
 
@@ -2192,8 +7969,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalBillow(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleValueFractalBillow(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = Math.abs(singleValue(seed, x, y, z, w, u, v)) * 2 - 1;
         float amp = 1;
 
@@ -2212,8 +7988,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalRidgedMulti(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleValueFractalRidgedMulti(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleValue(seed + i, x, y, z, w, u, v));
@@ -2234,6 +8009,13 @@ public class Noise {
     }
 
     public float singleValue(int seed, float x, float y, float z, float w, float u, float v) {
+        return interpolatedValue(interpolation, seed, x, y, z, w, u, v);
+    }
+
+    /**
+     * The 6D version of {@link #interpolatedValue(int, int, float, float)}.
+     */
+    private float interpolatedValue(int interpolation, int seed, float x, float y, float z, float w, float u, float v) {
         int xFloor = x >= 0 ? (int) x : (int) x - 1;
         x -= xFloor;
         int yFloor = y >= 0 ? (int) y : (int) y - 1;
@@ -2623,9 +8405,32 @@ public class Noise {
         final float b = valueNoise(seed, xin + a, yin);
         seed += 0x9E3779BD;
         seed ^= seed >>> 14;
-        xin = p0;
-        yin = p1;
-        final float c = valueNoise(seed, xin + b, yin);
+        xin = p0;
+        yin = p1;
+        final float c = valueNoise(seed, xin + b, yin);
+        final float result = (a + b + c) * F3f;
+        final float sharp = foamSharpness * 2.2f;
+        final float diff = 0.5f - result;
+        final int sign = Float.floatToIntBits(diff) >> 31, one = sign | 1;
+        return (((result + sign)) / (Float.MIN_VALUE - sign + (result + sharp * diff) * one) - sign - sign) - 1f;
+    }
+
+    /**
+     * Like {@link #singleFoam(int, float, float)}, but rotating the position in double, and using the double
+     * {@link #valueNoise(int, double, double)} so only offsets inside a cell go through float math.
+     */
+    private float singleFoam(int seed, double x, double y) {
+        final double p0 = x;
+        final double p1 = x * -0.5 + y * 0.8660254037844386;
+        final double p2 = x * -0.5 + y * -0.8660254037844387;
+
+        final float a = valueNoise(seed, p2, p0);
+        seed += 0x9E3779BD;
+        seed ^= seed >>> 14;
+        final float b = valueNoise(seed, p1 + a, p2);
+        seed += 0x9E3779BD;
+        seed ^= seed >>> 14;
+        final float c = valueNoise(seed, p0 + b, p1);
         final float result = (a + b + c) * F3f;
         final float sharp = foamSharpness * 2.2f;
         final float diff = 0.5f - result;
@@ -2639,18 +8444,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleFoamFractalFBM(x, y);
+                return singleFoamFractalFBM(seed, x, y);
             case BILLOW:
-                return singleFoamFractalBillow(x, y);
+                return singleFoamFractalBillow(seed, x, y);
             case RIDGED_MULTI:
-                return singleFoamFractalRidgedMulti(x, y);
+                return singleFoamFractalRidgedMulti(seed, x, y);
             default:
                 return 0;
         }
     }
 
-    private float singleFoamFractalFBM(float x, float y) {
-        int seed = this.seed;
+    private float singleFoamFractalFBM(int seed, float x, float y) {
         float sum = singleFoam(seed, x, y);
         float amp = 1, t;
 
@@ -2666,8 +8470,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalBillow(float x, float y) {
-        int seed = this.seed;
+    private float singleFoamFractalBillow(int seed, float x, float y) {
         float sum = Math.abs(singleFoam(seed, x, y)) * 2 - 1;
         float amp = 1, t;
 
@@ -2683,8 +8486,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalRidgedMulti(float x, float y) {
-        int seed = this.seed;
+    private float singleFoamFractalRidgedMulti(int seed, float x, float y) {
         float t;
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
@@ -2706,18 +8508,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleFoamFractalFBM(x, y, z);
+                return singleFoamFractalFBM(seed, x, y, z);
             case BILLOW:
-                return singleFoamFractalBillow(x, y, z);
+                return singleFoamFractalBillow(seed, x, y, z);
             case RIDGED_MULTI:
-                return singleFoamFractalRidgedMulti(x, y, z);
+                return singleFoamFractalRidgedMulti(seed, x, y, z);
             default:
                 return 0;
         }
     }
 
-    private float singleFoamFractalFBM(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleFoamFractalFBM(int seed, float x, float y, float z) {
         float sum = singleFoam(seed, x, y, z);
         float amp = 1;
 
@@ -2733,8 +8534,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalBillow(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleFoamFractalBillow(int seed, float x, float y, float z) {
         float sum = Math.abs(singleFoam(seed, x, y, z)) * 2 - 1;
         float amp = 1;
 
@@ -2750,8 +8550,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalRidgedMulti(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleFoamFractalRidgedMulti(int seed, float x, float y, float z) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleFoam(seed + i, x, y, z));
@@ -2805,9 +8604,36 @@ public class Noise {
 
     }
 
+    /**
+     * Like {@link #singleFoam(int, float, float, float)}, but rotating the position in double, and using the double
+     * {@link #valueNoise(int, double, double, double)} so only offsets inside a cell go through float math.
+     */
+    private float singleFoam(int seed, double x, double y, double z) {
+        final double p0 = x;
+        final double p1 = x * -0.3333333333333333 + y * 0.9428090415820634;
+        final double p2 = x * -0.3333333333333333 + y * -0.4714045207910317 + z * 0.816496580927726;
+        final double p3 = x * -0.3333333333333333 + y * -0.4714045207910317 + z * -0.816496580927726;
 
-    private float singleFoamFractalFBM(float x, float y, float z, float w) {
-        int seed = this.seed;
+        final float a = valueNoise(seed, p3, p2, p0);
+        seed += 0x9E3779BD;
+        seed ^= seed >>> 14;
+        final float b = valueNoise(seed, p0 + a, p1, p3);
+        seed += 0x9E3779BD;
+        seed ^= seed >>> 14;
+        final float c = valueNoise(seed, p1 + b, p2, p3);
+        seed += 0x9E3779BD;
+        seed ^= seed >>> 14;
+        final float d = valueNoise(seed, p0 + c, p1, p2);
+
+        final float result = (a + b + c + d) * 0.25f;
+        final float sharp = foamSharpness * 3.3f;
+        final float diff = 0.5f - result;
+        final int sign = Float.floatToIntBits(diff) >> 31, one = sign | 1;
+        return (((result + sign)) / (Float.MIN_VALUE - sign + (result + sharp * diff) * one) - sign - sign) - 1f;
+    }
+
+
+    private float singleFoamFractalFBM(int seed, float x, float y, float z, float w) {
         float sum = singleFoam(seed, x, y, z, w);
         float amp = 1;
 
@@ -2824,8 +8650,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalBillow(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleFoamFractalBillow(int seed, float x, float y, float z, float w) {
         float sum = Math.abs(singleFoam(seed, x, y, z, w)) * 2 - 1;
         float amp = 1;
 
@@ -2842,8 +8667,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalRidgedMulti(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleFoamFractalRidgedMulti(int seed, float x, float y, float z, float w) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleFoam(seed + i, x, y,  z, w));
@@ -2917,18 +8741,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleFoamFractalFBM(x, y, z, w, u);
+                return singleFoamFractalFBM(seed, x, y, z, w, u);
             case BILLOW:
-                return singleFoamFractalBillow(x, y, z, w, u);
+                return singleFoamFractalBillow(seed, x, y, z, w, u);
             case RIDGED_MULTI:
-                return singleFoamFractalRidgedMulti(x, y, z, w, u);
+                return singleFoamFractalRidgedMulti(seed, x, y, z, w, u);
             default:
                 return 0;
         }
     }
 
-    private float singleFoamFractalFBM(float x, float y, float z, float w, float u) {
-        final int seed = this.seed;
+    private float singleFoamFractalFBM(int seed, float x, float y, float z, float w, float u) {
         float sum = singleFoam(seed, x, y, z, w, u);
         float amp = 1;
 
@@ -2946,8 +8769,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalBillow(float x, float y, float z, float w, float u) {
-        final int seed = this.seed;
+    private float singleFoamFractalBillow(int seed, float x, float y, float z, float w, float u) {
         float sum = Math.abs(singleFoam(seed, x, y, z, w, u)) * 2 - 1;
         float amp = 1;
 
@@ -2965,8 +8787,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalRidgedMulti(float x, float y, float z, float w, float u) {
-        final int seed = this.seed;
+    private float singleFoamFractalRidgedMulti(int seed, float x, float y, float z, float w, float u) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleFoam(seed + i, x, y, z, w, u));
@@ -3058,18 +8879,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleFoamFractalFBM(x, y, z, w, u, v);
+                return singleFoamFractalFBM(seed, x, y, z, w, u, v);
             case BILLOW:
-                return singleFoamFractalBillow(x, y, z, w, u, v);
+                return singleFoamFractalBillow(seed, x, y, z, w, u, v);
             case RIDGED_MULTI:
-                return singleFoamFractalRidgedMulti(x, y, z, w, u, v);
+                return singleFoamFractalRidgedMulti(seed, x, y, z, w, u, v);
             default:
                 return 0;
         }
     }
 
-    private float singleFoamFractalFBM(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleFoamFractalFBM(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = singleFoam(seed, x, y, z, w, u, v);
         float amp = 1;
 
@@ -3088,8 +8908,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalBillow(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleFoamFractalBillow(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = Math.abs(singleFoam(seed, x, y, z, w, u, v)) * 2 - 1;
         float amp = 1;
 
@@ -3108,8 +8927,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalRidgedMulti(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleFoamFractalRidgedMulti(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleFoam(seed + i, x, y, z, w, u, v));
@@ -3206,8 +9024,7 @@ public class Noise {
     }
 
 
-    private float singleFoamFractalFBM(float x, float y, float z, float w, float u, float v, float m) {
-        int seed = this.seed;
+    private float singleFoamFractalFBM(int seed, float x, float y, float z, float w, float u, float v, float m) {
         float sum = singleFoam(seed, x, y, z, w, u, v, m);
         float amp = 1;
 
@@ -3227,8 +9044,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalBillow(float x, float y, float z, float w, float u, float v, float m) {
-        int seed = this.seed;
+    private float singleFoamFractalBillow(int seed, float x, float y, float z, float w, float u, float v, float m) {
         float sum = Math.abs(singleFoam(seed, x, y, z, w, u, v, m)) * 2 - 1;
         float amp = 1;
 
@@ -3248,8 +9064,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalRidgedMulti(float x, float y, float z, float w, float u, float v, float m) {
-        int seed = this.seed;
+    private float singleFoamFractalRidgedMulti(int seed, float x, float y, float z, float w, float u, float v, float m) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleFoam(seed + i, x, y, z, w, u, v, m));
@@ -3362,18 +9177,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singlePerlinFractalFBM(x, y);
+                return singlePerlinFractalFBM(seed, x, y);
             case BILLOW:
-                return singlePerlinFractalBillow(x, y);
+                return singlePerlinFractalBillow(seed, x, y);
             case RIDGED_MULTI:
-                return singlePerlinFractalRidgedMulti(x, y);
+                return singlePerlinFractalRidgedMulti(seed, x, y);
             default:
                 return 0;
         }
     }
 
-    private float singlePerlinFractalFBM(float x, float y) {
-        int seed = this.seed;
+    private float singlePerlinFractalFBM(int seed, float x, float y) {
         float sum = singlePerlin(seed, x, y);
         float amp = 1;
 
@@ -3388,8 +9202,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalBillow(float x, float y) {
-        int seed = this.seed;
+    private float singlePerlinFractalBillow(int seed, float x, float y) {
         float sum = Math.abs(singlePerlin(seed, x, y)) * 2 - 1;
         float amp = 1;
 
@@ -3404,8 +9217,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalRidgedMulti(float x, float y) {
-        int seed = this.seed;
+    private float singlePerlinFractalRidgedMulti(int seed, float x, float y) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singlePerlin(seed + i, x, y));
@@ -3422,8 +9234,30 @@ public class Noise {
     }
 
     public float singlePerlin(int seed, float x, float y) {
+        return interpolatedPerlin(interpolation, seed, x, y);
+    }
+
+    /**
+     * The same as {@link #singlePerlin(int, float, float)}, but with the given interpolation instead of this Noise's; the
+     * functions made by {@link #compile2D()} and the other compile methods use this with an interpolation they fixed
+     * when they were made.
+     */
+    private float interpolatedPerlin(int interpolation, int seed, float x, float y) {
         int x0 = fastFloor(x);
         int y0 = fastFloor(y);
+        return splitPerlin(interpolation, seed, x0, x - x0, y0, y - y0);
+    }
+
+    private float singlePerlin(int seed, double x, double y) {
+        final long x0 = longFloor(x), y0 = longFloor(y);
+        return splitPerlin(interpolation, seed, (int) x0, (float) (x - x0), (int) y0, (float) (y - y0));
+    }
+
+    /**
+     * Perlin noise at the point {@code (x0 + xd0, y0 + yd0)}, given the cell and the offset inside it separately, as
+     * with {@link #splitValue(int, int, int, float, int, float)}.
+     */
+    private float splitPerlin(int interpolation, int seed, int x0, float xd0, int y0, float yd0) {
         int x1 = x0 + 1;
         int y1 = y0 + 1;
 
@@ -3431,21 +9265,19 @@ public class Noise {
         switch (interpolation) {
             default:
             case LINEAR:
-                xs = x - x0;
-                ys = y - y0;
+                xs = xd0;
+                ys = yd0;
                 break;
             case HERMITE:
-                xs = hermiteInterpolator(x - x0);
-                ys = hermiteInterpolator(y - y0);
+                xs = hermiteInterpolator(xd0);
+                ys = hermiteInterpolator(yd0);
                 break;
             case QUINTIC:
-                xs = quinticInterpolator(x - x0);
-                ys = quinticInterpolator(y - y0);
+                xs = quinticInterpolator(xd0);
+                ys = quinticInterpolator(yd0);
                 break;
         }
 
-        float xd0 = x - x0;
-        float yd0 = y - y0;
         float xd1 = xd0 - 1;
         float yd1 = yd0 - 1;
 
@@ -3455,6 +9287,130 @@ public class Noise {
         return lerp(xf0, xf1, ys);
     }
 
+    /**
+     * Gets 2D Perlin noise with this Noise's seed, frequency and interpolation, along with its exact partial
+     * derivatives, from one evaluation. The noise value goes in {@code out[0]} and is the same as what
+     * {@link #getPerlin(float, float)} returns; the derivatives with respect to x and y go in {@code out[1]} and
+     * {@code out[2]}. With {@link #LINEAR} interpolation, the derivatives jump at cell edges.
+     * @param x x position, will be multiplied by the frequency
+     * @param y y position, will be multiplied by the frequency
+     * @param out a float array with length at least 3 that will be modified
+     * @return out, after modifications
+     */
+    public float[] getPerlinWithGradient(float x, float y, float[] out) {
+        singlePerlinWithGradient(seed, x * frequency, y * frequency, out);
+        out[1] *= frequency;
+        out[2] *= frequency;
+        return out;
+    }
+
+    /**
+     * Like {@link #singlePerlin(int, float, float)}, but also finds the exact partial derivatives of the noise at the
+     * given point. The noise value goes in {@code out[0]}, and its derivatives with respect to x and y go in
+     * {@code out[1]} and {@code out[2]}. No frequency is applied here.
+     * @param seed any int
+     * @param x x position, already multiplied by any frequency
+     * @param y y position, already multiplied by any frequency
+     * @param out a float array with length at least 3 that will be modified
+     * @return out, after modifications
+     */
+    public float[] singlePerlinWithGradient(int seed, float x, float y, float[] out) {
+        int x0 = fastFloor(x);
+        int y0 = fastFloor(y);
+        int x1 = x0 + 1;
+        int y1 = y0 + 1;
+
+        final float xd0 = x - x0;
+        final float yd0 = y - y0;
+        final float xd1 = xd0 - 1;
+        final float yd1 = yd0 - 1;
+
+        float xs, ys, dxs, dys;
+        switch (interpolation) {
+            default:
+            case LINEAR:
+                xs = xd0;
+                ys = yd0;
+                dxs = 1;
+                dys = 1;
+                break;
+            case HERMITE:
+                xs = hermiteInterpolator(xd0);
+                ys = hermiteInterpolator(yd0);
+                dxs = hermiteDerivative(xd0);
+                dys = hermiteDerivative(yd0);
+                break;
+            case QUINTIC:
+                xs = quinticInterpolator(xd0);
+                ys = quinticInterpolator(yd0);
+                dxs = quinticDerivative(xd0);
+                dys = quinticDerivative(yd0);
+                break;
+        }
+
+        final float xr = 1 - xs, yr = 1 - ys;
+        out[1] = 0f;
+        out[2] = 0f;
+        final float c00 = perlinCorner2D(seed, x0, y0, xd0, yd0, xr * yr, out);
+        final float c01 = perlinCorner2D(seed, x0, y1, xd0, yd1, xr * ys, out);
+        final float c10 = perlinCorner2D(seed, x1, y0, xd1, yd0, xs * yr, out);
+        final float c11 = perlinCorner2D(seed, x1, y1, xd1, yd1, xs * ys, out);
+
+        final float xf0 = lerp(c00, c10, xs);
+        final float xf1 = lerp(c01, c11, xs);
+
+        out[0] = lerp(xf0, xf1, ys);
+        out[1] += dxs * lerp(c10 - c00, c11 - c01, ys);
+        out[2] += dys * (xf1 - xf0);
+        return out;
+    }
+
+    /**
+     * Finds the gradient vector for one corner of a Perlin noise cell in 2D, adds it times weight to the derivatives in
+     * out, and returns its dot product with the offset from that corner, like gradCoord2D() does.
+     */
+    private static float perlinCorner2D(int seed, int x, int y, float xd, float yd, float weight, float[] out) {
+        final int hash = hash256(x, y, seed) << 1;
+        out[1] += weight * GRAD_2D[hash];
+        out[2] += weight * GRAD_2D[hash + 1];
+        return xd * GRAD_2D[hash] + yd * GRAD_2D[hash + 1];
+    }
+
+    /**
+     * Gets 2D FBM fractal Perlin noise, using this Noise's seed, frequency, octaves, lacunarity and gain, along with
+     * its exact partial derivatives. The noise value goes in {@code out[0]} and matches what
+     * {@link #getPerlinFractal(float, float)} returns with {@link #FBM}; the derivatives with respect to x and y go in
+     * {@code out[1]} and {@code out[2]}. This ignores the current fractal type.
+     * @param x x position, will be multiplied by the frequency
+     * @param y y position, will be multiplied by the frequency
+     * @param out a float array with length at least 3 that will be modified
+     * @return out, after modifications
+     */
+    public float[] getPerlinFractalWithGradient(float x, float y, float[] out) {
+        x *= frequency;
+        y *= frequency;
+        singlePerlinWithGradient(seed, x, y, out);
+        float sum = out[0], dx = out[1], dy = out[2];
+        float amp = 1, scale = 1;
+
+        for (int i = 1; i < octaves; i++) {
+            x *= lacunarity;
+            y *= lacunarity;
+
+            amp *= gain;
+            scale *= lacunarity;
+            singlePerlinWithGradient(seed + i, x, y, out);
+            sum += out[0] * amp;
+            dx += out[1] * amp * scale;
+            dy += out[2] * amp * scale;
+        }
+
+        out[0] = sum * fractalBounding;
+        out[1] = dx * fractalBounding * frequency;
+        out[2] = dy * fractalBounding * frequency;
+        return out;
+    }
+
     public float getPerlinFractal(float x, float y, float z) {
         x *= frequency;
         y *= frequency;
@@ -3462,18 +9418,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singlePerlinFractalFBM(x, y, z);
+                return singlePerlinFractalFBM(seed, x, y, z);
             case BILLOW:
-                return singlePerlinFractalBillow(x, y, z);
+                return singlePerlinFractalBillow(seed, x, y, z);
             case RIDGED_MULTI:
-                return singlePerlinFractalRidgedMulti(x, y, z);
+                return singlePerlinFractalRidgedMulti(seed, x, y, z);
             default:
                 return 0;
         }
     }
 
-    private float singlePerlinFractalFBM(float x, float y, float z) {
-        int seed = this.seed;
+    private float singlePerlinFractalFBM(int seed, float x, float y, float z) {
         float sum = singlePerlin(seed, x, y, z);
         float amp = 1;
 
@@ -3489,8 +9444,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalBillow(float x, float y, float z) {
-        int seed = this.seed;
+    private float singlePerlinFractalBillow(int seed, float x, float y, float z) {
         float sum = Math.abs(singlePerlin(seed, x, y, z)) * 2 - 1;
         float amp = 1;
 
@@ -3506,8 +9460,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalRidgedMulti(float x, float y, float z) {
-        int seed = this.seed;
+    private float singlePerlinFractalRidgedMulti(int seed, float x, float y, float z) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singlePerlin(seed + i, x, y, z));
@@ -3525,55 +9478,327 @@ public class Noise {
     }
 
     public float singlePerlin(int seed, float x, float y, float z) {
+        return interpolatedPerlin(interpolation, seed, x, y, z);
+    }
+
+    /**
+     * The 3D version of {@link #interpolatedPerlin(int, int, float, float)}.
+     */
+    private float interpolatedPerlin(int interpolation, int seed, float x, float y, float z) {
         int x0 = fastFloor(x);
         int y0 = fastFloor(y);
         int z0 = fastFloor(z);
+        return splitPerlin(interpolation, seed, x0, x - x0, y0, y - y0, z0, z - z0);
+    }
+
+    private float singlePerlin(int seed, double x, double y, double z) {
+        final long x0 = longFloor(x), y0 = longFloor(y), z0 = longFloor(z);
+        return splitPerlin(interpolation, seed, (int) x0, (float) (x - x0), (int) y0, (float) (y - y0), (int) z0, (float) (z - z0));
+    }
+
+    private float splitPerlin(int interpolation, int seed, int x0, float xd0, int y0, float yd0,
+                              int z0, float zd0) {
         int x1 = x0 + 1;
         int y1 = y0 + 1;
         int z1 = z0 + 1;
 
         float xs, ys, zs;
+        switch (interpolation) {
+            default:
+            case LINEAR:
+                xs = xd0;
+                ys = yd0;
+                zs = zd0;
+                break;
+            case HERMITE:
+                xs = hermiteInterpolator(xd0);
+                ys = hermiteInterpolator(yd0);
+                zs = hermiteInterpolator(zd0);
+                break;
+            case QUINTIC:
+                xs = quinticInterpolator(xd0);
+                ys = quinticInterpolator(yd0);
+                zs = quinticInterpolator(zd0);
+                break;
+        }
+
+        final float xd1 = xd0 - 1;
+        final float yd1 = yd0 - 1;
+        final float zd1 = zd0 - 1;
+
+        final float xf00 = lerp(gradCoord3D(seed, x0, y0, z0, xd0, yd0, zd0), gradCoord3D(seed, x1, y0, z0, xd1, yd0, zd0), xs);
+        final float xf10 = lerp(gradCoord3D(seed, x0, y1, z0, xd0, yd1, zd0), gradCoord3D(seed, x1, y1, z0, xd1, yd1, zd0), xs);
+        final float xf01 = lerp(gradCoord3D(seed, x0, y0, z1, xd0, yd0, zd1), gradCoord3D(seed, x1, y0, z1, xd1, yd0, zd1), xs);
+        final float xf11 = lerp(gradCoord3D(seed, x0, y1, z1, xd0, yd1, zd1), gradCoord3D(seed, x1, y1, z1, xd1, yd1, zd1), xs);
+
+        final float yf0 = lerp(xf00, xf10, ys);
+        final float yf1 = lerp(xf01, xf11, ys);
+
+        return lerp(yf0, yf1, zs);
+    }
+
+    /**
+     * Gets 3D Perlin noise with this Noise's seed, frequency and interpolation, along with its exact partial
+     * derivatives, from one evaluation. The noise value goes in {@code out[0]} and is the same as what
+     * {@link #getPerlin(float, float, float)} returns; the derivatives with respect to x, y, and z go in
+     * {@code out[1]}, {@code out[2]}, and {@code out[3]}. With {@link #LINEAR} interpolation, the derivatives jump at
+     * cell edges.
+     * @param x x position, will be multiplied by the frequency
+     * @param y y position, will be multiplied by the frequency
+     * @param z z position, will be multiplied by the frequency
+     * @param out a float array with length at least 4 that will be modified
+     * @return out, after modifications
+     */
+    public float[] getPerlinWithGradient(float x, float y, float z, float[] out) {
+        singlePerlinWithGradient(seed, x * frequency, y * frequency, z * frequency, out);
+        out[1] *= frequency;
+        out[2] *= frequency;
+        out[3] *= frequency;
+        return out;
+    }
+
+    /**
+     * Like {@link #singlePerlin(int, float, float, float)}, but also finds the exact partial derivatives of the noise
+     * at the given point. The noise value goes in {@code out[0]}, and its derivatives with respect to x, y, and z go in
+     * {@code out[1]}, {@code out[2]}, and {@code out[3]}. No frequency is applied here.
+     * @param seed any int
+     * @param x x position, already multiplied by any frequency
+     * @param y y position, already multiplied by any frequency
+     * @param z z position, already multiplied by any frequency
+     * @param out a float array with length at least 4 that will be modified
+     * @return out, after modifications
+     */
+    public float[] singlePerlinWithGradient(int seed, float x, float y, float z, float[] out) {
+        int x0 = fastFloor(x);
+        int y0 = fastFloor(y);
+        int z0 = fastFloor(z);
+        int x1 = x0 + 1;
+        int y1 = y0 + 1;
+        int z1 = z0 + 1;
+
+        final float xd0 = x - x0;
+        final float yd0 = y - y0;
+        final float zd0 = z - z0;
+        final float xd1 = xd0 - 1;
+        final float yd1 = yd0 - 1;
+        final float zd1 = zd0 - 1;
+
+        float xs, ys, zs, dxs, dys, dzs;
+        switch (interpolation) {
+            default:
+            case LINEAR:
+                xs = xd0;
+                ys = yd0;
+                zs = zd0;
+                dxs = 1;
+                dys = 1;
+                dzs = 1;
+                break;
+            case HERMITE:
+                xs = hermiteInterpolator(xd0);
+                ys = hermiteInterpolator(yd0);
+                zs = hermiteInterpolator(zd0);
+                dxs = hermiteDerivative(xd0);
+                dys = hermiteDerivative(yd0);
+                dzs = hermiteDerivative(zd0);
+                break;
+            case QUINTIC:
+                xs = quinticInterpolator(xd0);
+                ys = quinticInterpolator(yd0);
+                zs = quinticInterpolator(zd0);
+                dxs = quinticDerivative(xd0);
+                dys = quinticDerivative(yd0);
+                dzs = quinticDerivative(zd0);
+                break;
+        }
+
+        final float xr = 1 - xs, yr = 1 - ys, zr = 1 - zs;
+        out[1] = 0f;
+        out[2] = 0f;
+        out[3] = 0f;
+        final float c000 = perlinCorner3D(seed, x0, y0, z0, xd0, yd0, zd0, xr * yr * zr, out);
+        final float c001 = perlinCorner3D(seed, x0, y0, z1, xd0, yd0, zd1, xr * yr * zs, out);
+        final float c010 = perlinCorner3D(seed, x0, y1, z0, xd0, yd1, zd0, xr * ys * zr, out);
+        final float c011 = perlinCorner3D(seed, x0, y1, z1, xd0, yd1, zd1, xr * ys * zs, out);
+        final float c100 = perlinCorner3D(seed, x1, y0, z0, xd1, yd0, zd0, xs * yr * zr, out);
+        final float c101 = perlinCorner3D(seed, x1, y0, z1, xd1, yd0, zd1, xs * yr * zs, out);
+        final float c110 = perlinCorner3D(seed, x1, y1, z0, xd1, yd1, zd0, xs * ys * zr, out);
+        final float c111 = perlinCorner3D(seed, x1, y1, z1, xd1, yd1, zd1, xs * ys * zs, out);
+
+        final float xf00 = lerp(c000, c100, xs);
+        final float xf10 = lerp(c010, c110, xs);
+        final float xf01 = lerp(c001, c101, xs);
+        final float xf11 = lerp(c011, c111, xs);
+
+        final float yf0 = lerp(xf00, xf10, ys);
+        final float yf1 = lerp(xf01, xf11, ys);
+
+        out[0] = lerp(yf0, yf1, zs);
+        out[1] += dxs * lerp(lerp(c100 - c000, c110 - c010, ys), lerp(c101 - c001, c111 - c011, ys), zs);
+        out[2] += dys * lerp(xf10 - xf00, xf11 - xf01, zs);
+        out[3] += dzs * (yf1 - yf0);
+        return out;
+    }
+
+    /**
+     * Finds the gradient vector for one corner of a Perlin noise cell in 3D, adds it times weight to the derivatives in
+     * out, and returns its dot product with the offset from that corner, like gradCoord3D() does.
+     */
+    private static float perlinCorner3D(int seed, int x, int y, int z, float xd, float yd, float zd, float weight, float[] out) {
+        final int hash = hash32(x, y, z, seed) << 2;
+        out[1] += weight * GRAD_3D[hash];
+        out[2] += weight * GRAD_3D[hash + 1];
+        out[3] += weight * GRAD_3D[hash + 2];
+        return xd * GRAD_3D[hash] + yd * GRAD_3D[hash + 1] + zd * GRAD_3D[hash + 2];
+    }
+
+    /**
+     * Gets 3D FBM fractal Perlin noise, using this Noise's seed, frequency, octaves, lacunarity and gain, along with
+     * its exact partial derivatives. The noise value goes in {@code out[0]} and matches what
+     * {@link #getPerlinFractal(float, float, float)} returns with {@link #FBM}; the derivatives with respect to x, y,
+     * and z go in {@code out[1]}, {@code out[2]}, and {@code out[3]}. This ignores the current fractal type.
+     * @param x x position, will be multiplied by the frequency
+     * @param y y position, will be multiplied by the frequency
+     * @param z z position, will be multiplied by the frequency
+     * @param out a float array with length at least 4 that will be modified
+     * @return out, after modifications
+     */
+    public float[] getPerlinFractalWithGradient(float x, float y, float z, float[] out) {
+        x *= frequency;
+        y *= frequency;
+        z *= frequency;
+        singlePerlinWithGradient(seed, x, y, z, out);
+        float sum = out[0], dx = out[1], dy = out[2], dz = out[3];
+        float amp = 1, scale = 1;
+
+        for (int i = 1; i < octaves; i++) {
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+
+            amp *= gain;
+            scale *= lacunarity;
+            singlePerlinWithGradient(seed + i, x, y, z, out);
+            sum += out[0] * amp;
+            dx += out[1] * amp * scale;
+            dy += out[2] * amp * scale;
+            dz += out[3] * amp * scale;
+        }
+
+        out[0] = sum * fractalBounding;
+        out[1] = dx * fractalBounding * frequency;
+        out[2] = dy * fractalBounding * frequency;
+        out[3] = dz * fractalBounding * frequency;
+        return out;
+    }
+
+    public float getPerlin(float x, float y, float z, float w) {
+        return singlePerlin(seed, x * frequency, y * frequency, z * frequency, w * frequency);
+    }
+
+    public float singlePerlin(int seed, float x, float y, float z, float w) {
+        return interpolatedPerlin(interpolation, seed, x, y, z, w);
+    }
+
+    /**
+     * The 4D version of {@link #interpolatedPerlin(int, int, float, float)}.
+     */
+    private float interpolatedPerlin(int interpolation, int seed, float x, float y, float z, float w) {
+        int x0 = fastFloor(x);
+        int y0 = fastFloor(y);
+        int z0 = fastFloor(z);
+        int w0 = fastFloor(w);
+        int x1 = x0 + 1;
+        int y1 = y0 + 1;
+        int z1 = z0 + 1;
+        int w1 = w0 + 1;
+
+        float xs, ys, zs, ws;
         switch (interpolation) {
             default:
             case LINEAR:
                 xs = x - x0;
                 ys = y - y0;
                 zs = z - z0;
+                ws = w - w0;
                 break;
             case HERMITE:
                 xs = hermiteInterpolator(x - x0);
                 ys = hermiteInterpolator(y - y0);
                 zs = hermiteInterpolator(z - z0);
+                ws = hermiteInterpolator(w - w0);
                 break;
             case QUINTIC:
                 xs = quinticInterpolator(x - x0);
                 ys = quinticInterpolator(y - y0);
                 zs = quinticInterpolator(z - z0);
+                ws = quinticInterpolator(w - w0);
                 break;
         }
 
         final float xd0 = x - x0;
         final float yd0 = y - y0;
         final float zd0 = z - z0;
+        final float wd0 = w - w0;
         final float xd1 = xd0 - 1;
         final float yd1 = yd0 - 1;
         final float zd1 = zd0 - 1;
+        final float wd1 = wd0 - 1;
 
-        final float xf00 = lerp(gradCoord3D(seed, x0, y0, z0, xd0, yd0, zd0), gradCoord3D(seed, x1, y0, z0, xd1, yd0, zd0), xs);
-        final float xf10 = lerp(gradCoord3D(seed, x0, y1, z0, xd0, yd1, zd0), gradCoord3D(seed, x1, y1, z0, xd1, yd1, zd0), xs);
-        final float xf01 = lerp(gradCoord3D(seed, x0, y0, z1, xd0, yd0, zd1), gradCoord3D(seed, x1, y0, z1, xd1, yd0, zd1), xs);
-        final float xf11 = lerp(gradCoord3D(seed, x0, y1, z1, xd0, yd1, zd1), gradCoord3D(seed, x1, y1, z1, xd1, yd1, zd1), xs);
+        final float xf000 = lerp(gradCoord4D(seed, x0, y0, z0, w0, xd0, yd0, zd0, wd0), gradCoord4D(seed, x1, y0, z0, w0, xd1, yd0, zd0, wd0), xs);
+        final float xf100 = lerp(gradCoord4D(seed, x0, y1, z0, w0, xd0, yd1, zd0, wd0), gradCoord4D(seed, x1, y1, z0, w0, xd1, yd1, zd0, wd0), xs);
+        final float xf010 = lerp(gradCoord4D(seed, x0, y0, z1, w0, xd0, yd0, zd1, wd0), gradCoord4D(seed, x1, y0, z1, w0, xd1, yd0, zd1, wd0), xs);
+        final float xf110 = lerp(gradCoord4D(seed, x0, y1, z1, w0, xd0, yd1, zd1, wd0), gradCoord4D(seed, x1, y1, z1, w0, xd1, yd1, zd1, wd0), xs);
+        final float xf001 = lerp(gradCoord4D(seed, x0, y0, z0, w1, xd0, yd0, zd0, wd1), gradCoord4D(seed, x1, y0, z0, w1, xd1, yd0, zd0, wd1), xs);
+        final float xf101 = lerp(gradCoord4D(seed, x0, y1, z0, w1, xd0, yd1, zd0, wd1), gradCoord4D(seed, x1, y1, z0, w1, xd1, yd1, zd0, wd1), xs);
+        final float xf011 = lerp(gradCoord4D(seed, x0, y0, z1, w1, xd0, yd0, zd1, wd1), gradCoord4D(seed, x1, y0, z1, w1, xd1, yd0, zd1, wd1), xs);
+        final float xf111 = lerp(gradCoord4D(seed, x0, y1, z1, w1, xd0, yd1, zd1, wd1), gradCoord4D(seed, x1, y1, z1, w1, xd1, yd1, zd1, wd1), xs);
 
-        final float yf0 = lerp(xf00, xf10, ys);
-        final float yf1 = lerp(xf01, xf11, ys);
+        final float yf00 = lerp(xf000, xf100, ys);
+        final float yf10 = lerp(xf010, xf110, ys);
+        final float yf01 = lerp(xf001, xf101, ys);
+        final float yf11 = lerp(xf011, xf111, ys);
 
-        return lerp(yf0, yf1, zs);
+        final float zf0 = lerp(yf00, yf10, zs);
+        final float zf1 = lerp(yf01, yf11, zs);
+        return lerp(zf0, zf1, ws) * 0.55f;
     }
-    public float getPerlin(float x, float y, float z, float w) {
-        return singlePerlin(seed, x * frequency, y * frequency, z * frequency, w * frequency);
+
+    /**
+     * Gets 4D Perlin noise with this Noise's seed, frequency and interpolation, along with its exact partial
+     * derivatives, from one evaluation. The noise value goes in {@code out[0]} and is the same as what
+     * {@link #getPerlin(float, float, float, float)} returns; the derivatives with respect to x, y, z, and w go in
+     * {@code out[1]}, {@code out[2]}, {@code out[3]}, and {@code out[4]}. With {@link #LINEAR} interpolation, the
+     * derivatives jump at cell edges.
+     * @param x x position, will be multiplied by the frequency
+     * @param y y position, will be multiplied by the frequency
+     * @param z z position, will be multiplied by the frequency
+     * @param w w position, will be multiplied by the frequency
+     * @param out a float array with length at least 5 that will be modified
+     * @return out, after modifications
+     */
+    public float[] getPerlinWithGradient(float x, float y, float z, float w, float[] out) {
+        singlePerlinWithGradient(seed, x * frequency, y * frequency, z * frequency, w * frequency, out);
+        out[1] *= frequency;
+        out[2] *= frequency;
+        out[3] *= frequency;
+        out[4] *= frequency;
+        return out;
     }
 
-    public float singlePerlin(int seed, float x, float y, float z, float w) {
+    /**
+     * Like {@link #singlePerlin(int, float, float, float, float)}, but also finds the exact partial derivatives of the
+     * noise at the given point. The noise value goes in {@code out[0]}, and its derivatives with respect to x, y, z,
+     * and w go in {@code out[1]}, {@code out[2]}, {@code out[3]}, and {@code out[4]}. No frequency is applied here.
+     * @param seed any int
+     * @param x x position, already multiplied by any frequency
+     * @param y y position, already multiplied by any frequency
+     * @param z z position, already multiplied by any frequency
+     * @param w w position, already multiplied by any frequency
+     * @param out a float array with length at least 5 that will be modified
+     * @return out, after modifications
+     */
+    public float[] singlePerlinWithGradient(int seed, float x, float y, float z, float w, float[] out) {
         int x0 = fastFloor(x);
         int y0 = fastFloor(y);
         int z0 = fastFloor(z);
@@ -3583,46 +9808,80 @@ public class Noise {
         int z1 = z0 + 1;
         int w1 = w0 + 1;
 
-        float xs, ys, zs, ws;
+        final float xd0 = x - x0;
+        final float yd0 = y - y0;
+        final float zd0 = z - z0;
+        final float wd0 = w - w0;
+        final float xd1 = xd0 - 1;
+        final float yd1 = yd0 - 1;
+        final float zd1 = zd0 - 1;
+        final float wd1 = wd0 - 1;
+
+        float xs, ys, zs, ws, dxs, dys, dzs, dws;
         switch (interpolation) {
             default:
             case LINEAR:
-                xs = x - x0;
-                ys = y - y0;
-                zs = z - z0;
-                ws = w - w0;
+                xs = xd0;
+                ys = yd0;
+                zs = zd0;
+                ws = wd0;
+                dxs = 1;
+                dys = 1;
+                dzs = 1;
+                dws = 1;
                 break;
             case HERMITE:
-                xs = hermiteInterpolator(x - x0);
-                ys = hermiteInterpolator(y - y0);
-                zs = hermiteInterpolator(z - z0);
-                ws = hermiteInterpolator(w - w0);
+                xs = hermiteInterpolator(xd0);
+                ys = hermiteInterpolator(yd0);
+                zs = hermiteInterpolator(zd0);
+                ws = hermiteInterpolator(wd0);
+                dxs = hermiteDerivative(xd0);
+                dys = hermiteDerivative(yd0);
+                dzs = hermiteDerivative(zd0);
+                dws = hermiteDerivative(wd0);
                 break;
             case QUINTIC:
-                xs = quinticInterpolator(x - x0);
-                ys = quinticInterpolator(y - y0);
-                zs = quinticInterpolator(z - z0);
-                ws = quinticInterpolator(w - w0);
+                xs = quinticInterpolator(xd0);
+                ys = quinticInterpolator(yd0);
+                zs = quinticInterpolator(zd0);
+                ws = quinticInterpolator(wd0);
+                dxs = quinticDerivative(xd0);
+                dys = quinticDerivative(yd0);
+                dzs = quinticDerivative(zd0);
+                dws = quinticDerivative(wd0);
                 break;
         }
 
-        final float xd0 = x - x0;
-        final float yd0 = y - y0;
-        final float zd0 = z - z0;
-        final float wd0 = w - w0;
-        final float xd1 = xd0 - 1;
-        final float yd1 = yd0 - 1;
-        final float zd1 = zd0 - 1;
-        final float wd1 = wd0 - 1;
-
-        final float xf000 = lerp(gradCoord4D(seed, x0, y0, z0, w0, xd0, yd0, zd0, wd0), gradCoord4D(seed, x1, y0, z0, w0, xd1, yd0, zd0, wd0), xs);
-        final float xf100 = lerp(gradCoord4D(seed, x0, y1, z0, w0, xd0, yd1, zd0, wd0), gradCoord4D(seed, x1, y1, z0, w0, xd1, yd1, zd0, wd0), xs);
-        final float xf010 = lerp(gradCoord4D(seed, x0, y0, z1, w0, xd0, yd0, zd1, wd0), gradCoord4D(seed, x1, y0, z1, w0, xd1, yd0, zd1, wd0), xs);
-        final float xf110 = lerp(gradCoord4D(seed, x0, y1, z1, w0, xd0, yd1, zd1, wd0), gradCoord4D(seed, x1, y1, z1, w0, xd1, yd1, zd1, wd0), xs);
-        final float xf001 = lerp(gradCoord4D(seed, x0, y0, z0, w1, xd0, yd0, zd0, wd1), gradCoord4D(seed, x1, y0, z0, w1, xd1, yd0, zd0, wd1), xs);
-        final float xf101 = lerp(gradCoord4D(seed, x0, y1, z0, w1, xd0, yd1, zd0, wd1), gradCoord4D(seed, x1, y1, z0, w1, xd1, yd1, zd0, wd1), xs);
-        final float xf011 = lerp(gradCoord4D(seed, x0, y0, z1, w1, xd0, yd0, zd1, wd1), gradCoord4D(seed, x1, y0, z1, w1, xd1, yd0, zd1, wd1), xs);
-        final float xf111 = lerp(gradCoord4D(seed, x0, y1, z1, w1, xd0, yd1, zd1, wd1), gradCoord4D(seed, x1, y1, z1, w1, xd1, yd1, zd1, wd1), xs);
+        final float xr = 1 - xs, yr = 1 - ys, zr = 1 - zs, wr = 1 - ws;
+        out[1] = 0f;
+        out[2] = 0f;
+        out[3] = 0f;
+        out[4] = 0f;
+        final float c0000 = perlinCorner4D(seed, x0, y0, z0, w0, xd0, yd0, zd0, wd0, xr * yr * zr * wr, out);
+        final float c0001 = perlinCorner4D(seed, x0, y0, z0, w1, xd0, yd0, zd0, wd1, xr * yr * zr * ws, out);
+        final float c0010 = perlinCorner4D(seed, x0, y0, z1, w0, xd0, yd0, zd1, wd0, xr * yr * zs * wr, out);
+        final float c0011 = perlinCorner4D(seed, x0, y0, z1, w1, xd0, yd0, zd1, wd1, xr * yr * zs * ws, out);
+        final float c0100 = perlinCorner4D(seed, x0, y1, z0, w0, xd0, yd1, zd0, wd0, xr * ys * zr * wr, out);
+        final float c0101 = perlinCorner4D(seed, x0, y1, z0, w1, xd0, yd1, zd0, wd1, xr * ys * zr * ws, out);
+        final float c0110 = perlinCorner4D(seed, x0, y1, z1, w0, xd0, yd1, zd1, wd0, xr * ys * zs * wr, out);
+        final float c0111 = perlinCorner4D(seed, x0, y1, z1, w1, xd0, yd1, zd1, wd1, xr * ys * zs * ws, out);
+        final float c1000 = perlinCorner4D(seed, x1, y0, z0, w0, xd1, yd0, zd0, wd0, xs * yr * zr * wr, out);
+        final float c1001 = perlinCorner4D(seed, x1, y0, z0, w1, xd1, yd0, zd0, wd1, xs * yr * zr * ws, out);
+        final float c1010 = perlinCorner4D(seed, x1, y0, z1, w0, xd1, yd0, zd1, wd0, xs * yr * zs * wr, out);
+        final float c1011 = perlinCorner4D(seed, x1, y0, z1, w1, xd1, yd0, zd1, wd1, xs * yr * zs * ws, out);
+        final float c1100 = perlinCorner4D(seed, x1, y1, z0, w0, xd1, yd1, zd0, wd0, xs * ys * zr * wr, out);
+        final float c1101 = perlinCorner4D(seed, x1, y1, z0, w1, xd1, yd1, zd0, wd1, xs * ys * zr * ws, out);
+        final float c1110 = perlinCorner4D(seed, x1, y1, z1, w0, xd1, yd1, zd1, wd0, xs * ys * zs * wr, out);
+        final float c1111 = perlinCorner4D(seed, x1, y1, z1, w1, xd1, yd1, zd1, wd1, xs * ys * zs * ws, out);
+
+        final float xf000 = lerp(c0000, c1000, xs);
+        final float xf100 = lerp(c0100, c1100, xs);
+        final float xf010 = lerp(c0010, c1010, xs);
+        final float xf110 = lerp(c0110, c1110, xs);
+        final float xf001 = lerp(c0001, c1001, xs);
+        final float xf101 = lerp(c0101, c1101, xs);
+        final float xf011 = lerp(c0011, c1011, xs);
+        final float xf111 = lerp(c0111, c1111, xs);
 
         final float yf00 = lerp(xf000, xf100, ys);
         final float yf10 = lerp(xf010, xf110, ys);
@@ -3631,10 +9890,78 @@ public class Noise {
 
         final float zf0 = lerp(yf00, yf10, zs);
         final float zf1 = lerp(yf01, yf11, zs);
-        return lerp(zf0, zf1, ws) * 0.55f;
+
+        out[0] = lerp(zf0, zf1, ws) * 0.55f;
+        out[1] = (out[1] + dxs * lerp(
+                lerp(lerp(c1000 - c0000, c1100 - c0100, ys), lerp(c1010 - c0010, c1110 - c0110, ys), zs),
+                lerp(lerp(c1001 - c0001, c1101 - c0101, ys), lerp(c1011 - c0011, c1111 - c0111, ys), zs), ws)) * 0.55f;
+        out[2] = (out[2] + dys * lerp(lerp(xf100 - xf000, xf110 - xf010, zs), lerp(xf101 - xf001, xf111 - xf011, zs), ws)) * 0.55f;
+        out[3] = (out[3] + dzs * lerp(yf10 - yf00, yf11 - yf01, ws)) * 0.55f;
+        out[4] = (out[4] + dws * (zf1 - zf0)) * 0.55f;
+        return out;
     }
-    private float singlePerlinFractalFBM(float x, float y, float z, float w) {
-        int seed = this.seed;
+
+    /**
+     * Finds the gradient vector for one corner of a Perlin noise cell in 4D, adds it times weight to the derivatives in
+     * out, and returns its dot product with the offset from that corner, like gradCoord4D() does.
+     */
+    private static float perlinCorner4D(int seed, int x, int y, int z, int w, float xd, float yd, float zd, float wd,
+                                        float weight, float[] out) {
+        final int hash = hash256(x, y, z, w, seed) & 0xFC;
+        out[1] += weight * GRAD_4D[hash];
+        out[2] += weight * GRAD_4D[hash + 1];
+        out[3] += weight * GRAD_4D[hash + 2];
+        out[4] += weight * GRAD_4D[hash + 3];
+        return xd * GRAD_4D[hash] + yd * GRAD_4D[hash + 1] + zd * GRAD_4D[hash + 2] + wd * GRAD_4D[hash + 3];
+    }
+
+    /**
+     * Gets 4D FBM fractal Perlin noise, using this Noise's seed, frequency, octaves, lacunarity and gain, along with
+     * its exact partial derivatives. The noise value goes in {@code out[0]} and matches what
+     * {@link #getConfiguredNoise(float, float, float, float)} returns for {@link #PERLIN_FRACTAL} with {@link #FBM};
+     * the derivatives with respect to x, y, z, and w go in {@code out[1]}, {@code out[2]}, {@code out[3]}, and
+     * {@code out[4]}. This ignores the current fractal type.
+     * @param x x position, will be multiplied by the frequency
+     * @param y y position, will be multiplied by the frequency
+     * @param z z position, will be multiplied by the frequency
+     * @param w w position, will be multiplied by the frequency
+     * @param out a float array with length at least 5 that will be modified
+     * @return out, after modifications
+     */
+    public float[] getPerlinFractalWithGradient(float x, float y, float z, float w, float[] out) {
+        x *= frequency;
+        y *= frequency;
+        z *= frequency;
+        w *= frequency;
+        singlePerlinWithGradient(seed, x, y, z, w, out);
+        float sum = out[0], dx = out[1], dy = out[2], dz = out[3], dw = out[4];
+        float amp = 1, scale = 1;
+
+        for (int i = 1; i < octaves; i++) {
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+            w *= lacunarity;
+
+            amp *= gain;
+            scale *= lacunarity;
+            singlePerlinWithGradient(seed + i, x, y, z, w, out);
+            sum += out[0] * amp;
+            dx += out[1] * amp * scale;
+            dy += out[2] * amp * scale;
+            dz += out[3] * amp * scale;
+            dw += out[4] * amp * scale;
+        }
+
+        out[0] = sum * fractalBounding;
+        out[1] = dx * fractalBounding * frequency;
+        out[2] = dy * fractalBounding * frequency;
+        out[3] = dz * fractalBounding * frequency;
+        out[4] = dw * fractalBounding * frequency;
+        return out;
+    }
+
+    private float singlePerlinFractalFBM(int seed, float x, float y, float z, float w) {
         float sum = singlePerlin(seed, x, y, z, w);
         float amp = 1;
 
@@ -3651,8 +9978,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalBillow(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singlePerlinFractalBillow(int seed, float x, float y, float z, float w) {
         float sum = Math.abs(singlePerlin(seed, x, y, z, w)) * 2 - 1;
         float amp = 1;
 
@@ -3669,8 +9995,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalRidgedMulti(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singlePerlinFractalRidgedMulti(int seed, float x, float y, float z, float w) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singlePerlin(seed + i, x, y,  z, w));
@@ -3689,6 +10014,13 @@ public class Noise {
     }
     
     public float singlePerlin(int seed, float x, float y, float z, float w, float u) {
+        return interpolatedPerlin(interpolation, seed, x, y, z, w, u);
+    }
+
+    /**
+     * The 5D version of {@link #interpolatedPerlin(int, int, float, float)}.
+     */
+    private float interpolatedPerlin(int interpolation, int seed, float x, float y, float z, float w, float u) {
         int x0 = fastFloor(x);
         int y0 = fastFloor(y);
         int z0 = fastFloor(z);
@@ -3773,8 +10105,7 @@ public class Noise {
 
         return lerp(wf0, wf1, us) * 0.7777777f;
     }
-    private float singlePerlinFractalFBM(float x, float y, float z, float w, float u) {
-        int seed = this.seed;
+    private float singlePerlinFractalFBM(int seed, float x, float y, float z, float w, float u) {
         float sum = singlePerlin(seed, x, y, z, w, u);
         float amp = 1;
 
@@ -3792,8 +10123,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalBillow(float x, float y, float z, float w, float u) {
-        int seed = this.seed;
+    private float singlePerlinFractalBillow(int seed, float x, float y, float z, float w, float u) {
         float sum = Math.abs(singlePerlin(seed, x, y, z, w, u)) * 2 - 1;
         float amp = 1;
 
@@ -3811,8 +10141,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalRidgedMulti(float x, float y, float z, float w, float u) {
-        int seed = this.seed;
+    private float singlePerlinFractalRidgedMulti(int seed, float x, float y, float z, float w, float u) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singlePerlin(seed + i, x, y, z, w, u));
@@ -3840,6 +10169,13 @@ public class Noise {
     }
 
     public float singlePerlin(int seed, float x, float y, float z, float w, float u, float v) {
+        return interpolatedPerlin(interpolation, seed, x, y, z, w, u, v);
+    }
+
+    /**
+     * The 6D version of {@link #interpolatedPerlin(int, int, float, float)}.
+     */
+    private float interpolatedPerlin(int interpolation, int seed, float x, float y, float z, float w, float u, float v) {
         int x0 = fastFloor(x);
         int y0 = fastFloor(y);
         int z0 = fastFloor(z);
@@ -3973,8 +10309,7 @@ public class Noise {
 
         return lerp(uf0, uf1, vs) * 1.61f;
     }
-    private float singlePerlinFractalFBM(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singlePerlinFractalFBM(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = singlePerlin(seed, x, y, z, w, u, v);
         float amp = 1;
 
@@ -3993,8 +10328,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalBillow(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singlePerlinFractalBillow(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = Math.abs(singlePerlin(seed, x, y, z, w, u, v)) * 2 - 1;
         float amp = 1;
 
@@ -4013,8 +10347,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalRidgedMulti(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singlePerlinFractalRidgedMulti(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singlePerlin(seed + i, x, y, z, w, u, v));
@@ -4037,11 +10370,11 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleSimplexFractalFBM(x, y);
+                return singleSimplexFractalFBM(seed, x, y);
             case BILLOW:
-                return singleSimplexFractalBillow(x, y);
+                return singleSimplexFractalBillow(seed, x, y);
             case RIDGED_MULTI:
-                return singleSimplexFractalRidgedMulti(x, y);
+                return singleSimplexFractalRidgedMulti(seed, x, y);
             default:
                 return 0;
         }
@@ -4177,8 +10510,7 @@ public class Noise {
         return sum / ampFractal;
     }
 
-    private float singleSimplexFractalFBM(float x, float y) {
-        int seed = this.seed;
+    private float singleSimplexFractalFBM(int seed, float x, float y) {
         float sum = singleSimplex(seed, x, y);
         float amp = 1;
 
@@ -4193,8 +10525,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleSimplexFractalBillow(float x, float y) {
-        int seed = this.seed;
+    private float singleSimplexFractalBillow(int seed, float x, float y) {
         float sum = Math.abs(singleSimplex(seed, x, y)) * 2 - 1;
         float amp = 1;
 
@@ -4262,8 +10593,7 @@ public class Noise {
         return sum * 2f / correction - 1f;
     }
 
-    private float singleSimplexFractalRidgedMulti(float x, float y) {
-        int seed = this.seed;
+    private float singleSimplexFractalRidgedMulti(int seed, float x, float y) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleSimplex(seed + i, x, y));
@@ -4288,9 +10618,34 @@ public class Noise {
         float X0 = i - t;
         float Y0 = j - t;
 
-        float x0 = x - X0;
-        float y0 = y - Y0;
+        return splitSimplex(seed, i, j, x - X0, y - Y0);
+    }
 
+    private float singleSimplex(int seed, double x, double y) {
+        final double t = (x + y) * F2f;
+        x += t;
+        y += t;
+        final long i = longFloor(x);
+        final long j = longFloor(y);
+        return skewedSimplex(seed, (int) i, (int) j, (float) (x - i), (float) (y - j));
+    }
+
+    /**
+     * Simplex noise given the skewed cell {@code (i, j)} and the skewed offset {@code (xs, ys)} inside it, which is
+     * unskewed here. Unlike {@link #singleSimplex(int, float, float)}, this never unskews a position far from the
+     * origin, so it only needs the offset to be precise.
+     */
+    private float skewedSimplex(int seed, int i, int j, float xs, float ys) {
+        final float t = (xs + ys) * G2f;
+        return splitSimplex(seed, i, j, xs - t, ys - t);
+    }
+
+    /**
+     * Simplex noise after skewing, given the skewed cell {@code (i, j)} and the unskewed offset {@code (x0, y0)}
+     * from that cell's origin, as with {@link #splitValue(int, int, int, float, int, float)}.
+     */
+    private float splitSimplex(int seed, int i, int j, float x0, float y0) {
+        float t;
         int i1, j1;
         if (x0 > y0) {
             i1 = 1;
@@ -4327,6 +10682,145 @@ public class Noise {
         return n * 99.20689070704672f; // this is 99.83685446303647 / 1.00635 ; the first number was found by kdotjpg
     }
 
+    /**
+     * Gets 2D Simplex noise with this Noise's seed and frequency, along with its exact partial derivatives, all from
+     * one evaluation. This is much cheaper and more accurate than estimating a gradient with finite differences.
+     * The noise value goes in {@code out[0]}, its derivative with respect to x in {@code out[1]}, and with respect to
+     * y in {@code out[2]}; the value is the same as {@link #getSimplex(float, float)} would return.
+     * @param x x position, will be multiplied by the frequency
+     * @param y y position, will be multiplied by the frequency
+     * @param out a float array with length at least 3 that will be modified
+     * @return out, after modifications
+     */
+    public float[] getSimplexWithGradient(float x, float y, float[] out) {
+        singleSimplexWithGradient(seed, x * frequency, y * frequency, out);
+        out[1] *= frequency;
+        out[2] *= frequency;
+        return out;
+    }
+
+    /**
+     * Like {@link #singleSimplex(int, float, float)}, but also finds the exact partial derivatives of the noise at
+     * the given point. The noise value goes in {@code out[0]}, its derivative with respect to x in {@code out[1]},
+     * and with respect to y in {@code out[2]}. No frequency is applied here.
+     * @param seed any int
+     * @param x x position, already multiplied by any frequency
+     * @param y y position, already multiplied by any frequency
+     * @param out a float array with length at least 3 that will be modified
+     * @return out, after modifications
+     */
+    public float[] singleSimplexWithGradient(int seed, float x, float y, float[] out) {
+        float t = (x + y) * F2f;
+        int i = fastFloor(x + t);
+        int j = fastFloor(y + t);
+
+        t = (i + j) * G2f;
+        float X0 = i - t;
+        float Y0 = j - t;
+
+        float x0 = x - X0;
+        float y0 = y - Y0;
+
+        int i1, j1;
+        if (x0 > y0) {
+            i1 = 1;
+            j1 = 0;
+        } else {
+            i1 = 0;
+            j1 = 1;
+        }
+
+        float x1 = x0 - i1 + G2f;
+        float y1 = y0 - j1 + G2f;
+        float x2 = x0 - 1 + H2f;
+        float y2 = y0 - 1 + H2f;
+
+        float n = 0f, dx = 0f, dy = 0f, t2, t4, gx, gy, dot;
+        int h;
+
+        // each corner adds t^4 * dot, where t = 0.5 - |d|^2, so its derivative is t^4 * g - 8 * t^3 * dot * d
+        t = 0.5f - x0 * x0 - y0 * y0;
+        if (t >= 0) {
+            h = hash256(i, j, seed) << 1;
+            gx = GRAD_2D[h];
+            gy = GRAD_2D[h + 1];
+            dot = x0 * gx + y0 * gy;
+            t2 = t * t;
+            t4 = t2 * t2;
+            n += t4 * dot;
+            t2 *= 8f * t * dot;
+            dx += t4 * gx - t2 * x0;
+            dy += t4 * gy - t2 * y0;
+        }
+
+        t = 0.5f - x1 * x1 - y1 * y1;
+        if (t > 0) {
+            h = hash256(i + i1, j + j1, seed) << 1;
+            gx = GRAD_2D[h];
+            gy = GRAD_2D[h + 1];
+            dot = x1 * gx + y1 * gy;
+            t2 = t * t;
+            t4 = t2 * t2;
+            n += t4 * dot;
+            t2 *= 8f * t * dot;
+            dx += t4 * gx - t2 * x1;
+            dy += t4 * gy - t2 * y1;
+        }
+
+        t = 0.5f - x2 * x2 - y2 * y2;
+        if (t > 0) {
+            h = hash256(i + 1, j + 1, seed) << 1;
+            gx = GRAD_2D[h];
+            gy = GRAD_2D[h + 1];
+            dot = x2 * gx + y2 * gy;
+            t2 = t * t;
+            t4 = t2 * t2;
+            n += t4 * dot;
+            t2 *= 8f * t * dot;
+            dx += t4 * gx - t2 * x2;
+            dy += t4 * gy - t2 * y2;
+        }
+        out[0] = n * 99.20689070704672f;
+        out[1] = dx * 99.20689070704672f;
+        out[2] = dy * 99.20689070704672f;
+        return out;
+    }
+
+    /**
+     * Gets 2D FBM fractal Simplex noise, using this Noise's seed, frequency, octaves, lacunarity and gain, along with
+     * its exact partial derivatives. The noise value goes in {@code out[0]} and matches what
+     * {@link #getSimplexFractal(float, float)} returns with {@link #FBM}; the derivative with respect to x goes in
+     * {@code out[1]}, and with respect to y in {@code out[2]}. This ignores the current fractal type.
+     * @param x x position, will be multiplied by the frequency
+     * @param y y position, will be multiplied by the frequency
+     * @param out a float array with length at least 3 that will be modified
+     * @return out, after modifications
+     */
+    public float[] getSimplexFractalWithGradient(float x, float y, float[] out) {
+        x *= frequency;
+        y *= frequency;
+        singleSimplexWithGradient(seed, x, y, out);
+        float sum = out[0], dx = out[1], dy = out[2];
+        float amp = 1, scale = 1;
+
+        for (int i = 1; i < octaves; i++) {
+            x *= lacunarity;
+            y *= lacunarity;
+
+            amp *= gain;
+            scale *= lacunarity;
+            singleSimplexWithGradient(seed + i, x, y, out);
+            sum += out[0] * amp;
+            dx += out[1] * amp * scale;
+            dy += out[2] * amp * scale;
+        }
+
+        out[0] = sum * fractalBounding;
+        out[1] = dx * fractalBounding * frequency;
+        out[2] = dy * fractalBounding * frequency;
+        return out;
+    }
+
     public float getSimplexFractal(float x, float y, float z) {
         x *= frequency;
         y *= frequency;
@@ -4334,11 +10828,11 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleSimplexFractalFBM(x, y, z);
+                return singleSimplexFractalFBM(seed, x, y, z);
             case BILLOW:
-                return singleSimplexFractalBillow(x, y, z);
+                return singleSimplexFractalBillow(seed, x, y, z);
             case RIDGED_MULTI:
-                return singleSimplexFractalRidgedMulti(x, y, z);
+                return singleSimplexFractalRidgedMulti(seed, x, y, z);
             default:
                 return 0;
         }
@@ -4491,8 +10985,7 @@ public class Noise {
         return sum / ampFractal;
     }
 
-    private float singleSimplexFractalFBM(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleSimplexFractalFBM(int seed, float x, float y, float z) {
         float sum = singleSimplex(seed, x, y, z);
         float amp = 1;
 
@@ -4508,8 +11001,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleSimplexFractalBillow(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleSimplexFractalBillow(int seed, float x, float y, float z) {
         float sum = Math.abs(singleSimplex(seed, x, y, z)) * 2 - 1;
         float amp = 1;
 
@@ -4583,8 +11075,7 @@ public class Noise {
         return sum * 2f / correction - 1f;
     }
 
-    private float singleSimplexFractalRidgedMulti(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleSimplexFractalRidgedMulti(int seed, float x, float y, float z) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleSimplex(seed + i, x, y, z));
@@ -4608,10 +11099,27 @@ public class Noise {
         int k = fastFloor(z + t);
 
         t = (i + j + k) * G3f;
-        float x0 = x - (i - t);
-        float y0 = y - (j - t);
-        float z0 = z - (k - t);
+        return splitSimplex(seed, i, j, k, x - (i - t), y - (j - t), z - (k - t));
+    }
+
+    private float singleSimplex(int seed, double x, double y, double z) {
+        final double t = (x + y + z) * F3f;
+        x += t;
+        y += t;
+        z += t;
+        final long i = longFloor(x);
+        final long j = longFloor(y);
+        final long k = longFloor(z);
+        return skewedSimplex(seed, (int) i, (int) j, (int) k, (float) (x - i), (float) (y - j), (float) (z - k));
+    }
+
+    private float skewedSimplex(int seed, int i, int j, int k, float xs, float ys, float zs) {
+        final float t = (xs + ys + zs) * G3f;
+        return splitSimplex(seed, i, j, k, xs - t, ys - t, zs - t);
+    }
 
+    private float splitSimplex(int seed, int i, int j, int k, float x0, float y0, float z0) {
+        float t;
         int i1, j1, k1;
         int i2, j2, k2;
 
@@ -4642,27 +11150,136 @@ public class Noise {
         } else // x0 < y0
         {
             if (y0 < z0) {
-                i1 = 0;
-                j1 = 0;
-                k1 = 1;
-                i2 = 0;
-                j2 = 1;
-                k2 = 1;
+                i1 = 0;
+                j1 = 0;
+                k1 = 1;
+                i2 = 0;
+                j2 = 1;
+                k2 = 1;
+            } else if (x0 < z0) {
+                i1 = 0;
+                j1 = 1;
+                k1 = 0;
+                i2 = 0;
+                j2 = 1;
+                k2 = 1;
+            } else // x0 >= z0
+            {
+                i1 = 0;
+                j1 = 1;
+                k1 = 0;
+                i2 = 1;
+                j2 = 1;
+                k2 = 0;
+            }
+        }
+
+        float x1 = x0 - i1 + G3f;
+        float y1 = y0 - j1 + G3f;
+        float z1 = z0 - k1 + G3f;
+        float x2 = x0 - i2 + F3f;
+        float y2 = y0 - j2 + F3f;
+        float z2 = z0 - k2 + F3f;
+        float x3 = x0 - 0.5f;
+        float y3 = y0 - 0.5f;
+        float z3 = z0 - 0.5f;
+
+        float n = 0;
+
+        t = 0.6f - x0 * x0 - y0 * y0 - z0 * z0;
+        if (t > 0) {
+            t *= t;
+            n += t * t * gradCoord3D(seed, i, j, k, x0, y0, z0);
+        }
+
+        t = 0.6f - x1 * x1 - y1 * y1 - z1 * z1;
+        if (t > 0) {
+            t *= t;
+            n += t * t * gradCoord3D(seed, i + i1, j + j1, k + k1, x1, y1, z1);
+        }
+
+        t = 0.6f - x2 * x2 - y2 * y2 - z2 * z2;
+        if (t > 0) {
+            t *= t;
+            n += t * t * gradCoord3D(seed, i + i2, j + j2, k + k2, x2, y2, z2);
+        }
+
+        t = 0.6f - x3 * x3 - y3 * y3 - z3 * z3;
+        if (t > 0)  {
+            t *= t;
+            n += t * t * gradCoord3D(seed, i + 1, j + 1, k + 1, x3, y3, z3);
+        }
+        return 31.5f * n;
+    }
+
+    /**
+     * Gets 3D Simplex noise with this Noise's seed and frequency, along with its exact partial derivatives, all from
+     * one evaluation. The noise value goes in {@code out[0]}, and its derivatives with respect to x, y, and z go in
+     * {@code out[1]}, {@code out[2]}, and {@code out[3]}; the value is the same as
+     * {@link #getSimplex(float, float, float)} would return.
+     * @param x x position, will be multiplied by the frequency
+     * @param y y position, will be multiplied by the frequency
+     * @param z z position, will be multiplied by the frequency
+     * @param out a float array with length at least 4 that will be modified
+     * @return out, after modifications
+     */
+    public float[] getSimplexWithGradient(float x, float y, float z, float[] out) {
+        singleSimplexWithGradient(seed, x * frequency, y * frequency, z * frequency, out);
+        out[1] *= frequency;
+        out[2] *= frequency;
+        out[3] *= frequency;
+        return out;
+    }
+
+    /**
+     * Like {@link #singleSimplex(int, float, float, float)}, but also finds the exact partial derivatives of the
+     * noise at the given point. The noise value goes in {@code out[0]}, and its derivatives with respect to x, y, and
+     * z go in {@code out[1]}, {@code out[2]}, and {@code out[3]}. No frequency is applied here.
+     * @param seed any int
+     * @param x x position, already multiplied by any frequency
+     * @param y y position, already multiplied by any frequency
+     * @param z z position, already multiplied by any frequency
+     * @param out a float array with length at least 4 that will be modified
+     * @return out, after modifications
+     */
+    public float[] singleSimplexWithGradient(int seed, float x, float y, float z, float[] out) {
+        float t = (x + y + z) * F3f;
+        int i = fastFloor(x + t);
+        int j = fastFloor(y + t);
+        int k = fastFloor(z + t);
+
+        t = (i + j + k) * G3f;
+        float x0 = x - (i - t);
+        float y0 = y - (j - t);
+        float z0 = z - (k - t);
+
+        int i1, j1, k1;
+        int i2, j2, k2;
+
+        if (x0 >= y0) {
+            if (y0 >= z0) {
+                i1 = 1; j1 = 0; k1 = 0;
+                i2 = 1; j2 = 1; k2 = 0;
+            } else if (x0 >= z0) {
+                i1 = 1; j1 = 0; k1 = 0;
+                i2 = 1; j2 = 0; k2 = 1;
+            } else // x0 < z0
+            {
+                i1 = 0; j1 = 0; k1 = 1;
+                i2 = 1; j2 = 0; k2 = 1;
+            }
+        } else // x0 < y0
+        {
+            if (y0 < z0) {
+                i1 = 0; j1 = 0; k1 = 1;
+                i2 = 0; j2 = 1; k2 = 1;
             } else if (x0 < z0) {
-                i1 = 0;
-                j1 = 1;
-                k1 = 0;
-                i2 = 0;
-                j2 = 1;
-                k2 = 1;
+                i1 = 0; j1 = 1; k1 = 0;
+                i2 = 0; j2 = 1; k2 = 1;
             } else // x0 >= z0
             {
-                i1 = 0;
-                j1 = 1;
-                k1 = 0;
-                i2 = 1;
-                j2 = 1;
-                k2 = 0;
+                i1 = 0; j1 = 1; k1 = 0;
+                i2 = 1; j2 = 1; k2 = 0;
             }
         }
 
@@ -4676,32 +11293,118 @@ public class Noise {
         float y3 = y0 - 0.5f;
         float z3 = z0 - 0.5f;
 
-        float n = 0;
+        float n = 0f, dx = 0f, dy = 0f, dz = 0f, t2, t4, gx, gy, gz, dot;
+        int h;
 
+        // each corner adds t^4 * dot, where t = 0.6 - |d|^2, so its derivative is t^4 * g - 8 * t^3 * dot * d
         t = 0.6f - x0 * x0 - y0 * y0 - z0 * z0;
         if (t > 0) {
-            t *= t;
-            n += t * t * gradCoord3D(seed, i, j, k, x0, y0, z0);
+            h = hash32(i, j, k, seed) << 2;
+            gx = GRAD_3D[h];
+            gy = GRAD_3D[h + 1];
+            gz = GRAD_3D[h + 2];
+            dot = x0 * gx + y0 * gy + z0 * gz;
+            t2 = t * t;
+            t4 = t2 * t2;
+            n += t4 * dot;
+            t2 *= 8f * t * dot;
+            dx += t4 * gx - t2 * x0;
+            dy += t4 * gy - t2 * y0;
+            dz += t4 * gz - t2 * z0;
         }
 
         t = 0.6f - x1 * x1 - y1 * y1 - z1 * z1;
         if (t > 0) {
-            t *= t;
-            n += t * t * gradCoord3D(seed, i + i1, j + j1, k + k1, x1, y1, z1);
+            h = hash32(i + i1, j + j1, k + k1, seed) << 2;
+            gx = GRAD_3D[h];
+            gy = GRAD_3D[h + 1];
+            gz = GRAD_3D[h + 2];
+            dot = x1 * gx + y1 * gy + z1 * gz;
+            t2 = t * t;
+            t4 = t2 * t2;
+            n += t4 * dot;
+            t2 *= 8f * t * dot;
+            dx += t4 * gx - t2 * x1;
+            dy += t4 * gy - t2 * y1;
+            dz += t4 * gz - t2 * z1;
         }
 
         t = 0.6f - x2 * x2 - y2 * y2 - z2 * z2;
         if (t > 0) {
-            t *= t;
-            n += t * t * gradCoord3D(seed, i + i2, j + j2, k + k2, x2, y2, z2);
+            h = hash32(i + i2, j + j2, k + k2, seed) << 2;
+            gx = GRAD_3D[h];
+            gy = GRAD_3D[h + 1];
+            gz = GRAD_3D[h + 2];
+            dot = x2 * gx + y2 * gy + z2 * gz;
+            t2 = t * t;
+            t4 = t2 * t2;
+            n += t4 * dot;
+            t2 *= 8f * t * dot;
+            dx += t4 * gx - t2 * x2;
+            dy += t4 * gy - t2 * y2;
+            dz += t4 * gz - t2 * z2;
         }
 
         t = 0.6f - x3 * x3 - y3 * y3 - z3 * z3;
-        if (t > 0)  {
-            t *= t;
-            n += t * t * gradCoord3D(seed, i + 1, j + 1, k + 1, x3, y3, z3);
+        if (t > 0) {
+            h = hash32(i + 1, j + 1, k + 1, seed) << 2;
+            gx = GRAD_3D[h];
+            gy = GRAD_3D[h + 1];
+            gz = GRAD_3D[h + 2];
+            dot = x3 * gx + y3 * gy + z3 * gz;
+            t2 = t * t;
+            t4 = t2 * t2;
+            n += t4 * dot;
+            t2 *= 8f * t * dot;
+            dx += t4 * gx - t2 * x3;
+            dy += t4 * gy - t2 * y3;
+            dz += t4 * gz - t2 * z3;
         }
-        return 31.5f * n;
+        out[0] = 31.5f * n;
+        out[1] = 31.5f * dx;
+        out[2] = 31.5f * dy;
+        out[3] = 31.5f * dz;
+        return out;
+    }
+
+    /**
+     * Gets 3D FBM fractal Simplex noise, using this Noise's seed, frequency, octaves, lacunarity and gain, along with
+     * its exact partial derivatives. The noise value goes in {@code out[0]} and matches what
+     * {@link #getSimplexFractal(float, float, float)} returns with {@link #FBM}; the derivatives with respect to x,
+     * y, and z go in {@code out[1]}, {@code out[2]}, and {@code out[3]}. This ignores the current fractal type.
+     * @param x x position, will be multiplied by the frequency
+     * @param y y position, will be multiplied by the frequency
+     * @param z z position, will be multiplied by the frequency
+     * @param out a float array with length at least 4 that will be modified
+     * @return out, after modifications
+     */
+    public float[] getSimplexFractalWithGradient(float x, float y, float z, float[] out) {
+        x *= frequency;
+        y *= frequency;
+        z *= frequency;
+        singleSimplexWithGradient(seed, x, y, z, out);
+        float sum = out[0], dx = out[1], dy = out[2], dz = out[3];
+        float amp = 1, scale = 1;
+
+        for (int i = 1; i < octaves; i++) {
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+
+            amp *= gain;
+            scale *= lacunarity;
+            singleSimplexWithGradient(seed + i, x, y, z, out);
+            sum += out[0] * amp;
+            dx += out[1] * amp * scale;
+            dy += out[2] * amp * scale;
+            dz += out[3] * amp * scale;
+        }
+
+        out[0] = sum * fractalBounding;
+        out[1] = dx * fractalBounding * frequency;
+        out[2] = dy * fractalBounding * frequency;
+        out[3] = dz * fractalBounding * frequency;
+        return out;
     }
 
     public float getSimplex(float x, float y, float z, float w) {
@@ -4816,18 +11519,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleSimplexFractalFBM(x, y, z, w);
+                return singleSimplexFractalFBM(seed, x, y, z, w);
             case BILLOW:
-                return singleSimplexFractalBillow(x, y, z, w);
+                return singleSimplexFractalBillow(seed, x, y, z, w);
             case RIDGED_MULTI:
-                return singleSimplexFractalRidgedMulti(x, y, z, w);
+                return singleSimplexFractalRidgedMulti(seed, x, y, z, w);
             default:
                 return 0;
         }
     }
 
-    private float singleSimplexFractalFBM(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleSimplexFractalFBM(int seed, float x, float y, float z, float w) {
         float sum = singleSimplex(seed, x, y, z, w);
         float amp = 1;
 
@@ -4843,8 +11545,7 @@ public class Noise {
 
         return sum * fractalBounding;
     }
-    private float singleSimplexFractalRidgedMulti(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleSimplexFractalRidgedMulti(int seed, float x, float y, float z, float w) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleSimplex(seed + i, x, y, z, w));
@@ -4858,8 +11559,7 @@ public class Noise {
         return sum * 2f / correction - 1f;
     }
 
-    private float singleSimplexFractalBillow(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleSimplexFractalBillow(int seed, float x, float y, float z, float w) {
         float sum = Math.abs(singleSimplex(seed, x, y, z, w)) * 2 - 1;
         float amp = 1;
 
@@ -5036,18 +11736,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleSimplexFractalFBM(x, y, z, w, u);
+                return singleSimplexFractalFBM(seed, x, y, z, w, u);
             case BILLOW:
-                return singleSimplexFractalBillow(x, y, z, w, u);
+                return singleSimplexFractalBillow(seed, x, y, z, w, u);
             case RIDGED_MULTI:
-                return singleSimplexFractalRidgedMulti(x, y, z, w, u);
+                return singleSimplexFractalRidgedMulti(seed, x, y, z, w, u);
             default:
                 return 0;
         }
     }
 
-    private float singleSimplexFractalFBM(float x, float y, float z, float w, float u) {
-        int seed = this.seed;
+    private float singleSimplexFractalFBM(int seed, float x, float y, float z, float w, float u) {
         float sum = singleSimplex(seed, x, y, z, w, u);
         float amp = 1;
 
@@ -5064,8 +11763,7 @@ public class Noise {
 
         return sum * fractalBounding;
     }
-    private float singleSimplexFractalRidgedMulti(float x, float y, float z, float w, float u) {
-        int seed = this.seed;
+    private float singleSimplexFractalRidgedMulti(int seed, float x, float y, float z, float w, float u) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleSimplex(seed + i, x, y, z, w, u));
@@ -5080,8 +11778,7 @@ public class Noise {
         return sum * 2f / correction - 1f;
     }
 
-    private float singleSimplexFractalBillow(float x, float y, float z, float w, float u) {
-        int seed = this.seed;
+    private float singleSimplexFractalBillow(int seed, float x, float y, float z, float w, float u) {
         float sum = Math.abs(singleSimplex(seed, x, y, z, w, u)) * 2 - 1;
         float amp = 1;
 
@@ -5302,18 +11999,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleSimplexFractalFBM(x, y, z, w, u, v);
+                return singleSimplexFractalFBM(seed, x, y, z, w, u, v);
             case BILLOW:
-                return singleSimplexFractalBillow(x, y, z, w, u, v);
+                return singleSimplexFractalBillow(seed, x, y, z, w, u, v);
             case RIDGED_MULTI:
-                return singleSimplexFractalRidgedMulti(x, y, z, w, u, v);
+                return singleSimplexFractalRidgedMulti(seed, x, y, z, w, u, v);
             default:
                 return 0;
         }
     }
 
-    private float singleSimplexFractalFBM(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleSimplexFractalFBM(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = singleSimplex(seed, x, y, z, w, u, v);
         float amp = 1;
 
@@ -5331,8 +12027,7 @@ public class Noise {
 
         return sum * fractalBounding;
     }
-    private float singleSimplexFractalRidgedMulti(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleSimplexFractalRidgedMulti(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleSimplex(seed + i, x, y, z, w, u, v));
@@ -5348,8 +12043,7 @@ public class Noise {
         return sum * 2f / correction - 1f;
     }
 
-    private float singleSimplexFractalBillow(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleSimplexFractalBillow(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = Math.abs(singleSimplex(seed, x, y, z, w, u, v)) * 2 - 1;
         float amp = 1;
 
@@ -5365,7 +12059,449 @@ public class Noise {
             sum += (Math.abs(singleSimplex(seed + i, x, y, z, w, u, v)) * 2 - 1) * amp;
         }
 
-        return sum * fractalBounding;
+        return sum * fractalBounding;
+    }
+
+    /**
+     * Gets a ScanlineNoise with this Noise's current configuration, reusing the one in {@code context} if there is a
+     * context, or making a new one if there isn't.
+     */
+    private ScanlineNoise scanline(FillContext context) {
+        if (context == null)
+            return new ScanlineNoise(this);
+        if (context.scanline == null)
+            context.scanline = new ScanlineNoise(this);
+        else
+            ((Noise) context.scanline).copyConfiguration(this);
+        return context.scanline;
+    }
+
+    /**
+     * Fills rows of a grid for {@link #fillGridRows(float[], int, int, int, int, float, float, float)} with Simplex noise, or Simplex noise
+     * with a fractal if {@code fractal} is true. Instead of hashing the three corners of each point's simplex for
+     * every point, this walks each lattice vertex that can affect the grid once per octave, storing its gradient in a
+     * table, then evaluates every point with the same math {@link #singleSimplex(int, float, float)} uses, reading
+     * gradients from that table. If an octave would need more lattice vertices than there are points (at very high
+     * frequencies), that octave hashes per point as usual. The table comes from {@code context} if there is one, and is only
+     * allocated when it needs to be bigger than the one already there; without a context, it is allocated for this call.
+     * <br>
+     * This doesn't splat each vertex's kernel into the grid the way OpenSimplex2F.generate2() does. Splatting adds up
+     * each point's contributions in a different order than singleSimplex() does, so the results would no longer match
+     * {@link #getConfiguredNoise(float, float)} exactly; caching each vertex's gradient removes the same repeated
+     * hashing while keeping the results identical.
+     */
+    private float[] fillSimplexGrid(float[] out, int offset, int width, int startRow, int endRow,
+                                    float x0, float y0, float step, boolean fractal, FillContext context) {
+        final int octaves = fractal ? this.octaves : 1, fractalType = fractal ? this.fractalType : FBM;
+        int[] table = context == null ? null : context.lattice;
+        float amp = fractalType == RIDGED_MULTI ? 2f : 1f, correction = 0f;
+        for (int o = 0; o < octaves; o++) {
+            if (fractalType == RIDGED_MULTI)
+                correction += (amp *= 0.5f);
+            else if (o > 0)
+                amp *= gain;
+            final int seed = this.seed + o;
+            float xa = x0 * frequency, xb = (x0 + (width - 1) * step) * frequency,
+                    ya = (y0 + startRow * step) * frequency, yb = (y0 + (endRow - 1) * step) * frequency;
+            for (int p = 0; p < o; p++) {
+                xa *= lacunarity;
+                xb *= lacunarity;
+                ya *= lacunarity;
+                yb *= lacunarity;
+            }
+            final float xLo = Math.min(xa, xb), xHi = Math.max(xa, xb), yLo = Math.min(ya, yb), yHi = Math.max(ya, yb),
+                    tLo = (xLo + yLo) * F2f, tHi = (xHi + yHi) * F2f;
+            final int iLo = fastFloor(xLo + tLo) - 1, jLo = fastFloor(yLo + tLo) - 1,
+                    cols = fastFloor(xHi + tHi) - iLo + 3, rows = fastFloor(yHi + tHi) - jLo + 3;
+            final boolean cached = (long) cols * rows <= (long) width * (endRow - startRow);
+            if (cached) {
+                if (table == null || table.length < cols * rows) {
+                    table = new int[cols * rows];
+                    if (context != null)
+                        context.lattice = table;
+                }
+                for (int a = 0, t = 0; a < cols; a++) {
+                    for (int b = 0; b < rows; b++) {
+                        table[t++] = hash256(iLo + a, jLo + b, seed) << 1;
+                    }
+                }
+            }
+            for (int j = startRow, idx = offset; j < endRow; j++) {
+                float y = (y0 + j * step) * frequency;
+                for (int p = 0; p < o; p++) {
+                    y *= lacunarity;
+                }
+                for (int i = 0; i < width; i++, idx++) {
+                    float x = (x0 + i * step) * frequency;
+                    for (int p = 0; p < o; p++) {
+                        x *= lacunarity;
+                    }
+                    float v = cached ? simplexFromTable(table, iLo, jLo, rows, x, y) : singleSimplex(seed, x, y);
+                    if (fractalType == BILLOW)
+                        v = Math.abs(v) * 2 - 1;
+                    else if (fractalType == RIDGED_MULTI)
+                        v = 1f - Math.abs(v);
+                    out[idx] = o == 0 ? v * amp : out[idx] + v * amp;
+                }
+            }
+        }
+        if (fractal)
+            finishRow(out, offset, 1, width * (endRow - startRow), fractalType, correction);
+        return out;
+    }
+
+    /**
+     * The same as {@link #singleSimplex(int, float, float)}, but reads the gradient for each lattice vertex from a
+     * table filled by {@link #fillSimplexGrid(float[], int, int, int, int, float, float, float, boolean)}.
+     */
+    private float simplexFromTable(int[] table, int iLo, int jLo, int rows, float x, float y) {
+        float t = (x + y) * F2f;
+        int i = fastFloor(x + t);
+        int j = fastFloor(y + t);
+
+        t = (i + j) * G2f;
+        float X0 = i - t;
+        float Y0 = j - t;
+
+        float x0 = x - X0;
+        float y0 = y - Y0;
+
+        int i1, j1;
+        if (x0 > y0) {
+            i1 = 1;
+            j1 = 0;
+        } else {
+            i1 = 0;
+            j1 = 1;
+        }
+
+        float x1 = x0 - i1 + G2f;
+        float y1 = y0 - j1 + G2f;
+        float x2 = x0 - 1 + H2f;
+        float y2 = y0 - 1 + H2f;
+
+        final int h = (i - iLo) * rows + j - jLo;
+        float n = 0f;
+        int g;
+
+        t = 0.5f - x0 * x0 - y0 * y0;
+        if (t >= 0) {
+            t *= t;
+            g = table[h];
+            n += t * t * (x0 * GRAD_2D[g] + y0 * GRAD_2D[g + 1]);
+        }
+
+        t = 0.5f - x1 * x1 - y1 * y1;
+        if (t > 0) {
+            t *= t;
+            g = table[h + i1 * rows + j1];
+            n += t * t * (x1 * GRAD_2D[g] + y1 * GRAD_2D[g + 1]);
+        }
+
+        t = 0.5f - x2 * x2 - y2 * y2;
+        if (t > 0)  {
+            t *= t;
+            g = table[h + rows + 1];
+            n += t * t * (x2 * GRAD_2D[g] + y2 * GRAD_2D[g + 1]);
+        }
+        return n * 99.20689070704672f;
+    }
+
+    /**
+     * Fills rows of a grid for {@link #fillGridRows(float[], int, int, int, int, float, float, float)} with cellular
+     * noise, using any cellular return type. Neighboring points in a row usually round to the same cell, so instead of
+     * hashing the 9 cells around every point, this hashes them once for each run of points that round to the same
+     * cell, keeping their feature points in small tables (reused from {@code context}, if there is one). Every point in a row has the same y, so the y part of the
+     * distance to each feature point is also computed once per run. The rest is the same math
+     * {@link #singleCellular(int, float, float)} and {@link #singleCellular2Edge(int, float, float)} use, so results are
+     * identical. For {@link #CELL_VALUE} and {@link #NOISE_LOOKUP}, each cell's value is computed at most once per run.
+     */
+    private float[] fillCellularGrid(float[] out, int offset, int width, int startRow, int endRow,
+                                     float x0, float y0, float step, FillContext context) {
+        final boolean edge = cellularReturnType != CELL_VALUE && cellularReturnType != NOISE_LOOKUP
+                && cellularReturnType != DISTANCE;
+        final int distanceFunction = cellularDistanceFunction == MANHATTAN || cellularDistanceFunction == NATURAL
+                ? cellularDistanceFunction : EUCLIDEAN;
+        // for each of the 9 cells: its x and y, its feature point's offset from them, and the y part of the distance;
+        // latticeX is cellX already converted to float, which is what happens to it anyway when x is subtracted
+        if (context == null)
+            context = new FillContext();
+        if (context.cellX == null) {
+            context.cellX = new int[9];
+            context.cellY = new int[9];
+            context.latticeX = new float[9];
+            context.offsetX = new float[9];
+            context.offsetY = new float[9];
+            context.absY = new float[9];
+            context.squareY = new float[9];
+            context.values = new float[9];
+        }
+        final int[] cellX = context.cellX, cellY = context.cellY;
+        final float[] latticeX = context.latticeX, offsetX = context.offsetX, offsetY = context.offsetY,
+                absY = context.absY, squareY = context.squareY, values = context.values;
+        int idx = offset;
+        for (int j = startRow; j < endRow; j++) {
+            final float y = (y0 + j * step) * frequency;
+            final int yr = fastRound(y);
+            int xr = 0;
+            for (int i = 0; i < width; i++) {
+                final float x = (x0 + i * step) * frequency;
+                if (i == 0 || fastRound(x) != xr) {
+                    xr = fastRound(x);
+                    for (int xi = xr - 1, k = 0; xi <= xr + 1; xi++) {
+                        for (int yi = yr - 1; yi <= yr + 1; yi++, k++) {
+                            final int cell = hash256(xi, yi, seed) << 1;
+                            final float vecY = yi - y + CELL_2D[cell + 1];
+                            cellX[k] = xi;
+                            cellY[k] = yi;
+                            latticeX[k] = xi;
+                            offsetX[k] = CELL_2D[cell];
+                            offsetY[k] = CELL_2D[cell + 1];
+                            absY[k] = Math.abs(vecY);
+                            squareY[k] = vecY * vecY;
+                            values[k] = Float.NaN;
+                        }
+                    }
+                }
+
+                float distance = 999999;
+                float distance2 = 999999;
+                int nearest = 0;
+                for (int k = 0; k < 9; k++) {
+                    final float vecX = latticeX[k] - x + offsetX[k];
+                    final float newDistance = distanceFunction == EUCLIDEAN ? vecX * vecX + squareY[k]
+                            : distanceFunction == MANHATTAN ? Math.abs(vecX) + absY[k]
+                            : (Math.abs(vecX) + absY[k]) + (vecX * vecX + squareY[k]);
+                    // the same as the Math.min() and Math.max() that singleCellular2Edge() uses
+                    if (newDistance < distance) {
+                        distance2 = distance;
+                        distance = newDistance;
+                        nearest = k;
+                    } else if (newDistance < distance2) {
+                        distance2 = newDistance;
+                    }
+                }
+
+                if (edge || cellularReturnType == DISTANCE) {
+                    out[idx++] = cellularDistance(distance, distance2);
+                } else {
+                    float v = values[nearest];
+                    if (v != v) {
+                        v = values[nearest] = cellularReturnType == CELL_VALUE
+                                ? valCoord2D(0, cellX[nearest], cellY[nearest])
+                                : cellularLookup(seed, cellX[nearest], cellY[nearest],
+                                cellX[nearest] + offsetX[nearest], cellY[nearest] + offsetY[nearest]);
+                    }
+                    out[idx++] = v;
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Fills part of a volume for
+     * {@link #fillVolumeRange(float[], int, int, int, int, int, int, int, int, int, float, float, float, float)} with
+     * Simplex noise, or Simplex noise with a fractal if {@code fractal} is true. This works like
+     * {@link #fillSimplexGrid(float[], int, int, int, int, float, float, float, boolean)}, hashing each lattice vertex
+     * that can affect the volume once per octave, then evaluating every point with the math
+     * {@link #singleSimplex(int, float, float, float)} uses. The table comes from {@code context} the same way as for
+     * grids.
+     */
+    private float[] fillSimplexVolume(float[] out, int offset, int xStride, int yStride, int zStride,
+                                      int width, int startRow, int endRow, int startLayer, int endLayer,
+                                      float x0, float y0, float z0, float step, boolean fractal, FillContext context) {
+        final int octaves = fractal ? this.octaves : 1, fractalType = fractal ? this.fractalType : FBM;
+        int[] table = context == null ? null : context.lattice;
+        float amp = fractalType == RIDGED_MULTI ? 2f : 1f, correction = 0f;
+        for (int o = 0; o < octaves; o++) {
+            if (fractalType == RIDGED_MULTI)
+                correction += (amp *= 0.5f);
+            else if (o > 0)
+                amp *= gain;
+            final int seed = this.seed + o;
+            float xa = x0 * frequency, xb = (x0 + (width - 1) * step) * frequency,
+                    ya = (y0 + startRow * step) * frequency, yb = (y0 + (endRow - 1) * step) * frequency,
+                    za = (z0 + startLayer * step) * frequency, zb = (z0 + (endLayer - 1) * step) * frequency;
+            for (int p = 0; p < o; p++) {
+                xa *= lacunarity;
+                xb *= lacunarity;
+                ya *= lacunarity;
+                yb *= lacunarity;
+                za *= lacunarity;
+                zb *= lacunarity;
+            }
+            final float xLo = Math.min(xa, xb), xHi = Math.max(xa, xb), yLo = Math.min(ya, yb), yHi = Math.max(ya, yb),
+                    zLo = Math.min(za, zb), zHi = Math.max(za, zb),
+                    tLo = (xLo + yLo + zLo) * F3f, tHi = (xHi + yHi + zHi) * F3f;
+            final int iLo = fastFloor(xLo + tLo) - 1, jLo = fastFloor(yLo + tLo) - 1, kLo = fastFloor(zLo + tLo) - 1,
+                    cols = fastFloor(xHi + tHi) - iLo + 3, rows = fastFloor(yHi + tHi) - jLo + 3,
+                    layers = fastFloor(zHi + tHi) - kLo + 3;
+            final boolean cached = (long) cols * rows * layers <= (long) width * (endRow - startRow) * (endLayer - startLayer);
+            if (cached) {
+                if (table == null || table.length < cols * rows * layers) {
+                    table = new int[cols * rows * layers];
+                    if (context != null)
+                        context.lattice = table;
+                }
+                for (int a = 0, t = 0; a < cols; a++) {
+                    for (int b = 0; b < rows; b++) {
+                        for (int c = 0; c < layers; c++) {
+                            table[t++] = hash32(iLo + a, jLo + b, kLo + c, seed) << 2;
+                        }
+                    }
+                }
+            }
+            for (int k = startLayer; k < endLayer; k++) {
+                float z = (z0 + k * step) * frequency;
+                for (int p = 0; p < o; p++) {
+                    z *= lacunarity;
+                }
+                for (int j = startRow; j < endRow; j++) {
+                    float y = (y0 + j * step) * frequency;
+                    for (int p = 0; p < o; p++) {
+                        y *= lacunarity;
+                    }
+                    for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                        float x = (x0 + i * step) * frequency;
+                        for (int p = 0; p < o; p++) {
+                            x *= lacunarity;
+                        }
+                        float v = cached
+                                ? simplexFromTable(table, iLo, jLo, kLo, rows, layers, x, y, z)
+                                : singleSimplex(seed, x, y, z);
+                        if (fractalType == BILLOW)
+                            v = Math.abs(v) * 2 - 1;
+                        else if (fractalType == RIDGED_MULTI)
+                            v = 1f - Math.abs(v);
+                        out[idx] = o == 0 ? v * amp : out[idx] + v * amp;
+                    }
+                }
+            }
+        }
+        if (fractal) {
+            for (int k = startLayer; k < endLayer; k++) {
+                for (int j = startRow; j < endRow; j++) {
+                    finishRow(out, offset + k * zStride + j * yStride, xStride, width, fractalType, correction);
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * The same as {@link #singleSimplex(int, float, float, float)}, but reads the gradient for each lattice vertex
+     * from a table filled by
+     * {@link #fillSimplexVolume(float[], int, int, int, int, int, int, int, int, int, float, float, float, float, boolean)}.
+     */
+    private float simplexFromTable(int[] table, int iLo, int jLo, int kLo, int rows, int layers,
+                                   float x, float y, float z) {
+        float t = (x + y + z) * F3f;
+        int i = fastFloor(x + t);
+        int j = fastFloor(y + t);
+        int k = fastFloor(z + t);
+
+        t = (i + j + k) * G3f;
+        float x0 = x - (i - t);
+        float y0 = y - (j - t);
+        float z0 = z - (k - t);
+
+        int i1, j1, k1;
+        int i2, j2, k2;
+
+        if (x0 >= y0) {
+            if (y0 >= z0) {
+                i1 = 1;
+                j1 = 0;
+                k1 = 0;
+                i2 = 1;
+                j2 = 1;
+                k2 = 0;
+            } else if (x0 >= z0) {
+                i1 = 1;
+                j1 = 0;
+                k1 = 0;
+                i2 = 1;
+                j2 = 0;
+                k2 = 1;
+            } else // x0 < z0
+            {
+                i1 = 0;
+                j1 = 0;
+                k1 = 1;
+                i2 = 1;
+                j2 = 0;
+                k2 = 1;
+            }
+        } else // x0 < y0
+        {
+            if (y0 < z0) {
+                i1 = 0;
+                j1 = 0;
+                k1 = 1;
+                i2 = 0;
+                j2 = 1;
+                k2 = 1;
+            } else if (x0 < z0) {
+                i1 = 0;
+                j1 = 1;
+                k1 = 0;
+                i2 = 0;
+                j2 = 1;
+                k2 = 1;
+            } else // x0 >= z0
+            {
+                i1 = 0;
+                j1 = 1;
+                k1 = 0;
+                i2 = 1;
+                j2 = 1;
+                k2 = 0;
+            }
+        }
+
+        float x1 = x0 - i1 + G3f;
+        float y1 = y0 - j1 + G3f;
+        float z1 = z0 - k1 + G3f;
+        float x2 = x0 - i2 + F3f;
+        float y2 = y0 - j2 + F3f;
+        float z2 = z0 - k2 + F3f;
+        float x3 = x0 - 0.5f;
+        float y3 = y0 - 0.5f;
+        float z3 = z0 - 0.5f;
+
+        final int slab = rows * layers, h = (i - iLo) * slab + (j - jLo) * layers + k - kLo;
+        float n = 0;
+        int g;
+
+        t = 0.6f - x0 * x0 - y0 * y0 - z0 * z0;
+        if (t > 0) {
+            t *= t;
+            g = table[h];
+            n += t * t * (x0 * GRAD_3D[g] + y0 * GRAD_3D[g + 1] + z0 * GRAD_3D[g + 2]);
+        }
+
+        t = 0.6f - x1 * x1 - y1 * y1 - z1 * z1;
+        if (t > 0) {
+            t *= t;
+            g = table[h + i1 * slab + j1 * layers + k1];
+            n += t * t * (x1 * GRAD_3D[g] + y1 * GRAD_3D[g + 1] + z1 * GRAD_3D[g + 2]);
+        }
+
+        t = 0.6f - x2 * x2 - y2 * y2 - z2 * z2;
+        if (t > 0) {
+            t *= t;
+            g = table[h + i2 * slab + j2 * layers + k2];
+            n += t * t * (x2 * GRAD_3D[g] + y2 * GRAD_3D[g + 1] + z2 * GRAD_3D[g + 2]);
+        }
+
+        t = 0.6f - x3 * x3 - y3 * y3 - z3 * z3;
+        if (t > 0)  {
+            t *= t;
+            g = table[h + slab + layers + 1];
+            n += t * t * (x3 * GRAD_3D[g] + y3 * GRAD_3D[g + 1] + z3 * GRAD_3D[g + 2]);
+        }
+        return 31.5f * n;
     }
 
     // Cubic Noise
@@ -5375,18 +12511,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleCubicFractalFBM(x, y);
+                return singleCubicFractalFBM(seed, x, y);
             case BILLOW:
-                return singleCubicFractalBillow(x, y);
+                return singleCubicFractalBillow(seed, x, y);
             case RIDGED_MULTI:
-                return singleCubicFractalRidgedMulti(x, y);
+                return singleCubicFractalRidgedMulti(seed, x, y);
             default:
                 return 0;
         }
     }
 
-    private float singleCubicFractalFBM(float x, float y) {
-        int seed = this.seed;
+    private float singleCubicFractalFBM(int seed, float x, float y) {
         float sum = singleCubic(seed, x, y);
         float amp = 1;
         int i = 0;
@@ -5402,8 +12537,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleCubicFractalBillow(float x, float y) {
-        int seed = this.seed;
+    private float singleCubicFractalBillow(int seed, float x, float y) {
         float sum = Math.abs(singleCubic(seed, x, y)) * 2 - 1;
         float amp = 1;
         int i = 0;
@@ -5419,8 +12553,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleCubicFractalRidgedMulti(float x, float y) {
-        int seed = this.seed;
+    private float singleCubicFractalRidgedMulti(int seed, float x, float y) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleCubic(seed + i, x, y));
@@ -5474,18 +12607,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleCubicFractalFBM(x, y, z);
+                return singleCubicFractalFBM(seed, x, y, z);
             case BILLOW:
-                return singleCubicFractalBillow(x, y, z);
+                return singleCubicFractalBillow(seed, x, y, z);
             case RIDGED_MULTI:
-                return singleCubicFractalRidgedMulti(x, y, z);
+                return singleCubicFractalRidgedMulti(seed, x, y, z);
             default:
                 return 0;
         }
     }
 
-    private float singleCubicFractalFBM(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleCubicFractalFBM(int seed, float x, float y, float z) {
         float sum = singleCubic(seed, x, y, z);
         float amp = 1;
         int i = 0;
@@ -5502,8 +12634,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleCubicFractalBillow(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleCubicFractalBillow(int seed, float x, float y, float z) {
         float sum = Math.abs(singleCubic(seed, x, y, z)) * 2 - 1;
         float amp = 1;
         int i = 0;
@@ -5520,8 +12651,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleCubicFractalRidgedMulti(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleCubicFractalRidgedMulti(int seed, float x, float y, float z) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleCubic(seed + i, x, y, z));
@@ -5595,18 +12725,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleCubicFractalFBM(x, y, z, w);
+                return singleCubicFractalFBM(seed, x, y, z, w);
             case BILLOW:
-                return singleCubicFractalBillow(x, y, z, w);
+                return singleCubicFractalBillow(seed, x, y, z, w);
             case RIDGED_MULTI:
-                return singleCubicFractalRidgedMulti(x, y, z, w);
+                return singleCubicFractalRidgedMulti(seed, x, y, z, w);
             default:
                 return 0;
         }
     }
 
-    private float singleCubicFractalFBM(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleCubicFractalFBM(int seed, float x, float y, float z, float w) {
         float sum = singleCubic(seed, x, y, z, w);
         float amp = 1;
         int i = 0;
@@ -5624,8 +12753,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleCubicFractalBillow(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleCubicFractalBillow(int seed, float x, float y, float z, float w) {
         float sum = Math.abs(singleCubic(seed, x, y, z, w)) * 2 - 1;
         float amp = 1;
         int i = 0;
@@ -5643,8 +12771,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleCubicFractalRidgedMulti(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleCubicFractalRidgedMulti(int seed, float x, float y, float z, float w) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleCubic(seed + i, x, y, z, w));
@@ -5653,6 +12780,7 @@ public class Noise {
             x *= lacunarity;
             y *= lacunarity;
             z *= lacunarity;
+            w *= lacunarity;
         }
         return sum * 2f / correction - 1f;
     }
@@ -5794,50 +12922,651 @@ public class Noise {
                         zs),
                 ws) * CUBIC_4D_BOUNDING;
     }
-    
-    // Cellular Noise
-    public float getCellular(float x, float y, float z) {
+
+    public float getCubicFractal(float x, float y, float z, float w, float u) {
+        x *= frequency;
+        y *= frequency;
+        z *= frequency;
+        w *= frequency;
+        u *= frequency;
+
+        switch (fractalType) {
+            case FBM:
+                return singleCubicFractalFBM(seed, x, y, z, w, u);
+            case BILLOW:
+                return singleCubicFractalBillow(seed, x, y, z, w, u);
+            case RIDGED_MULTI:
+                return singleCubicFractalRidgedMulti(seed, x, y, z, w, u);
+            default:
+                return 0;
+        }
+    }
+
+    private float singleCubicFractalFBM(int seed, float x, float y, float z, float w, float u) {
+        float sum = singleCubic(seed, x, y, z, w, u);
+        float amp = 1;
+        int i = 0;
+
+        while (++i < octaves) {
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+            w *= lacunarity;
+            u *= lacunarity;
+
+            amp *= gain;
+            sum += singleCubic(++seed, x, y, z, w, u) * amp;
+        }
+
+        return sum * fractalBounding;
+    }
+
+    private float singleCubicFractalBillow(int seed, float x, float y, float z, float w, float u) {
+        float sum = Math.abs(singleCubic(seed, x, y, z, w, u)) * 2 - 1;
+        float amp = 1;
+        int i = 0;
+
+        while (++i < octaves) {
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+            w *= lacunarity;
+            u *= lacunarity;
+
+            amp *= gain;
+            sum += (Math.abs(singleCubic(++seed, x, y, z, w, u)) * 2 - 1) * amp;
+        }
+
+        return sum * fractalBounding;
+    }
+
+    private float singleCubicFractalRidgedMulti(int seed, float x, float y, float z, float w, float u) {
+        float sum = 0f, exp = 2f, correction = 0f, spike;
+        for (int i = 0; i < octaves; i++) {
+            spike = 1f - Math.abs(singleCubic(seed + i, x, y, z, w, u));
+            correction += (exp *= 0.5f);
+            sum += spike * exp;
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+            w *= lacunarity;
+            u *= lacunarity;
+        }
+        return sum * 2f / correction - 1f;
+    }
+
+    public float getCubic(float x, float y, float z, float w, float u) {
+        return singleCubic(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency);
+    }
+
+    private final static float CUBIC_5D_BOUNDING = 1f / (1.5f * 1.5f);
+
+    /**
+     * Gets the weight that the lattice point at {@code offset} (from -1 to 2, relative to the floor of a coordinate)
+     * has when {@link #cubicLerp(float, float, float, float, float)} interpolates with {@code t}. Writing out every
+     * cubicLerp() call in 5D and 6D would take 256 or 1024 lines, so those use these weights on all but the x-axis.
+     */
+    private static float cubicWeight(int offset, float t) {
+        switch (offset) {
+            case -1:
+                return t * ((2f - t) * t - 1f);
+            case 0:
+                return t * t * (t - 2f) + 1f;
+            case 1:
+                return t * ((1f - t) * t + 1f);
+            default:
+                return t * t * (t - 1f);
+        }
+    }
+
+    private float singleCubic(int seed, float x, float y, float z, float w, float u) {
+        int x1 = fastFloor(x);
+        int y1 = fastFloor(y);
+        int z1 = fastFloor(z);
+        int w1 = fastFloor(w);
+        int u1 = fastFloor(u);
+
+        int x0 = x1 - 1;
+        int x2 = x1 + 1;
+        int x3 = x1 + 2;
+
+        float xs = x - (float) x1;
+        float ys = y - (float) y1;
+        float zs = z - (float) z1;
+        float ws = w - (float) w1;
+        float us = u - (float) u1;
+
+        float sum = 0f, pu, pw, pz, py;
+        for (int ui = -1; ui <= 2; ui++) {
+            pu = cubicWeight(ui, us);
+            for (int wi = -1; wi <= 2; wi++) {
+                pw = pu * cubicWeight(wi, ws);
+                for (int zi = -1; zi <= 2; zi++) {
+                    pz = pw * cubicWeight(zi, zs);
+                    for (int yi = -1; yi <= 2; yi++) {
+                        py = pz * cubicWeight(yi, ys);
+                        final int yc = y1 + yi, zc = z1 + zi, wc = w1 + wi, uc = u1 + ui;
+                        sum += py * cubicLerp(valCoord5D(seed, x0, yc, zc, wc, uc), valCoord5D(seed, x1, yc, zc, wc, uc),
+                                valCoord5D(seed, x2, yc, zc, wc, uc), valCoord5D(seed, x3, yc, zc, wc, uc), xs);
+                    }
+                }
+            }
+        }
+        return sum * CUBIC_5D_BOUNDING;
+    }
+
+    public float getCubicFractal(float x, float y, float z, float w, float u, float v) {
+        x *= frequency;
+        y *= frequency;
+        z *= frequency;
+        w *= frequency;
+        u *= frequency;
+        v *= frequency;
+
+        switch (fractalType) {
+            case FBM:
+                return singleCubicFractalFBM(seed, x, y, z, w, u, v);
+            case BILLOW:
+                return singleCubicFractalBillow(seed, x, y, z, w, u, v);
+            case RIDGED_MULTI:
+                return singleCubicFractalRidgedMulti(seed, x, y, z, w, u, v);
+            default:
+                return 0;
+        }
+    }
+
+    private float singleCubicFractalFBM(int seed, float x, float y, float z, float w, float u, float v) {
+        float sum = singleCubic(seed, x, y, z, w, u, v);
+        float amp = 1;
+        int i = 0;
+
+        while (++i < octaves) {
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+            w *= lacunarity;
+            u *= lacunarity;
+            v *= lacunarity;
+
+            amp *= gain;
+            sum += singleCubic(++seed, x, y, z, w, u, v) * amp;
+        }
+
+        return sum * fractalBounding;
+    }
+
+    private float singleCubicFractalBillow(int seed, float x, float y, float z, float w, float u, float v) {
+        float sum = Math.abs(singleCubic(seed, x, y, z, w, u, v)) * 2 - 1;
+        float amp = 1;
+        int i = 0;
+
+        while (++i < octaves) {
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+            w *= lacunarity;
+            u *= lacunarity;
+            v *= lacunarity;
+
+            amp *= gain;
+            sum += (Math.abs(singleCubic(++seed, x, y, z, w, u, v)) * 2 - 1) * amp;
+        }
+
+        return sum * fractalBounding;
+    }
+
+    private float singleCubicFractalRidgedMulti(int seed, float x, float y, float z, float w, float u, float v) {
+        float sum = 0f, exp = 2f, correction = 0f, spike;
+        for (int i = 0; i < octaves; i++) {
+            spike = 1f - Math.abs(singleCubic(seed + i, x, y, z, w, u, v));
+            correction += (exp *= 0.5f);
+            sum += spike * exp;
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+            w *= lacunarity;
+            u *= lacunarity;
+            v *= lacunarity;
+        }
+        return sum * 2f / correction - 1f;
+    }
+
+    public float getCubic(float x, float y, float z, float w, float u, float v) {
+        return singleCubic(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency,
+                v * frequency);
+    }
+
+    private final static float CUBIC_6D_BOUNDING = 1f / (1.5f * 1.5f);
+
+    private float singleCubic(int seed, float x, float y, float z, float w, float u, float v) {
+        int x1 = fastFloor(x);
+        int y1 = fastFloor(y);
+        int z1 = fastFloor(z);
+        int w1 = fastFloor(w);
+        int u1 = fastFloor(u);
+        int v1 = fastFloor(v);
+
+        int x0 = x1 - 1;
+        int x2 = x1 + 1;
+        int x3 = x1 + 2;
+
+        float xs = x - (float) x1;
+        float ys = y - (float) y1;
+        float zs = z - (float) z1;
+        float ws = w - (float) w1;
+        float us = u - (float) u1;
+        float vs = v - (float) v1;
+
+        float sum = 0f, pv, pu, pw, pz, py;
+        for (int vi = -1; vi <= 2; vi++) {
+            pv = cubicWeight(vi, vs);
+            for (int ui = -1; ui <= 2; ui++) {
+                pu = pv * cubicWeight(ui, us);
+                for (int wi = -1; wi <= 2; wi++) {
+                    pw = pu * cubicWeight(wi, ws);
+                    for (int zi = -1; zi <= 2; zi++) {
+                        pz = pw * cubicWeight(zi, zs);
+                        for (int yi = -1; yi <= 2; yi++) {
+                            py = pz * cubicWeight(yi, ys);
+                            final int yc = y1 + yi, zc = z1 + zi, wc = w1 + wi, uc = u1 + ui, vc = v1 + vi;
+                            sum += py * cubicLerp(valCoord6D(seed, x0, yc, zc, wc, uc, vc),
+                                    valCoord6D(seed, x1, yc, zc, wc, uc, vc), valCoord6D(seed, x2, yc, zc, wc, uc, vc),
+                                    valCoord6D(seed, x3, yc, zc, wc, uc, vc), xs);
+                        }
+                    }
+                }
+            }
+        }
+        return sum * CUBIC_6D_BOUNDING;
+    }
+
+    /**
+     * Fills rows of a grid for {@link #fillGridRows(float[], int, int, int, int, float, float, float)} with Cubic noise,
+     * or Cubic noise with a fractal if {@code fractal} is true. Cubic noise interpolates between the 16 lattice points
+     * around each point, and neighboring points share almost all of them, so instead of hashing 16 lattice points for
+     * every point, this hashes each lattice point that can affect the grid once per octave, storing its value in a
+     * table, then evaluates every point with the same math {@link #singleCubic(int, float, float)} uses, reading values
+     * from that table. If an octave would need more lattice points than there are points (at very high frequencies),
+     * that octave hashes per point as usual. The table comes from {@code context} if there is one, and is only
+     * allocated when it needs to be bigger than the one already there; without a context, it is allocated for this call.
+     */
+    private float[] fillCubicGrid(float[] out, int offset, int width, int startRow, int endRow,
+                                  float x0, float y0, float step, boolean fractal, FillContext context) {
+        final int octaves = fractal ? this.octaves : 1, fractalType = fractal ? this.fractalType : FBM;
+        float[] table = context == null ? null : context.latticeValues;
+        float amp = fractalType == RIDGED_MULTI ? 2f : 1f, correction = 0f;
+        for (int o = 0; o < octaves; o++) {
+            if (fractalType == RIDGED_MULTI)
+                correction += (amp *= 0.5f);
+            else if (o > 0)
+                amp *= gain;
+            final int seed = this.seed + o;
+            float xa = x0 * frequency, xb = (x0 + (width - 1) * step) * frequency,
+                    ya = (y0 + startRow * step) * frequency, yb = (y0 + (endRow - 1) * step) * frequency;
+            for (int p = 0; p < o; p++) {
+                xa *= lacunarity;
+                xb *= lacunarity;
+                ya *= lacunarity;
+                yb *= lacunarity;
+            }
+            final int iLo = fastFloor(Math.min(xa, xb)) - 1, jLo = fastFloor(Math.min(ya, yb)) - 1,
+                    cols = fastFloor(Math.max(xa, xb)) - iLo + 3, rows = fastFloor(Math.max(ya, yb)) - jLo + 3;
+            final boolean cached = (long) cols * rows <= (long) width * (endRow - startRow);
+            if (cached) {
+                if (table == null || table.length < cols * rows) {
+                    table = new float[cols * rows];
+                    if (context != null)
+                        context.latticeValues = table;
+                }
+                for (int b = 0, t = 0; b < rows; b++) {
+                    for (int a = 0; a < cols; a++) {
+                        table[t++] = valCoord2D(seed, iLo + a, jLo + b);
+                    }
+                }
+            }
+            for (int j = startRow, idx = offset; j < endRow; j++) {
+                float y = (y0 + j * step) * frequency;
+                for (int p = 0; p < o; p++) {
+                    y *= lacunarity;
+                }
+                final int y1 = fastFloor(y);
+                final float ys = y - (float) y1;
+                for (int i = 0; i < width; i++, idx++) {
+                    float x = (x0 + i * step) * frequency;
+                    for (int p = 0; p < o; p++) {
+                        x *= lacunarity;
+                    }
+                    float v;
+                    if (cached) {
+                        final int x1 = fastFloor(x);
+                        v = cubicFromTable(table, (y1 - 1 - jLo) * cols + x1 - 1 - iLo, cols, x - (float) x1, ys)
+                                * CUBIC_2D_BOUNDING;
+                    } else
+                        v = singleCubic(seed, x, y);
+                    if (fractalType == BILLOW)
+                        v = Math.abs(v) * 2 - 1;
+                    else if (fractalType == RIDGED_MULTI)
+                        v = 1f - Math.abs(v);
+                    out[idx] = o == 0 ? v * amp : out[idx] + v * amp;
+                }
+            }
+        }
+        if (fractal)
+            finishRow(out, offset, 1, width * (endRow - startRow), fractalType, correction);
+        return out;
+    }
+
+    /**
+     * Fills part of a volume with Cubic noise, or Cubic noise with a fractal if {@code fractal} is true. This works like
+     * {@link #fillCubicGrid(float[], int, int, int, int, float, float, float, boolean)}, hashing each lattice point that
+     * can affect the volume once per octave, then evaluating every point with the math
+     * {@link #singleCubic(int, float, float, float)} uses. If {@code hasW} is true, every point also has the same w
+     * coordinate, {@code w0}, and this uses the math {@link #singleCubic(int, float, float, float, float)} uses, which
+     * needs only four times as many lattice points as 3D here, instead of 256 hashes for every point. This is used by
+     * {@link #fillVolumeRange(float[], int, int, int, int, int, int, int, int, int, float, float, float, float)} and by
+     * {@link #fillVolume(float[], int, int, int, int, int, int, int, float, float, float, float, float)}.
+     */
+    private float[] fillCubicVolume(float[] out, int offset, int xStride, int yStride, int zStride,
+                                    int width, int startRow, int endRow, int startLayer, int endLayer,
+                                    float x0, float y0, float z0, boolean hasW, float w0, float step, boolean fractal,
+                                    FillContext context) {
+        final int octaves = fractal ? this.octaves : 1, fractalType = fractal ? this.fractalType : FBM;
+        float[] table = context == null ? null : context.latticeValues;
+        float amp = fractalType == RIDGED_MULTI ? 2f : 1f, correction = 0f, w = w0 * frequency;
+        for (int o = 0; o < octaves; o++) {
+            if (fractalType == RIDGED_MULTI)
+                correction += (amp *= 0.5f);
+            else if (o > 0)
+                amp *= gain;
+            if (o > 0)
+                w *= lacunarity;
+            final int seed = this.seed + o;
+            float xa = x0 * frequency, xb = (x0 + (width - 1) * step) * frequency,
+                    ya = (y0 + startRow * step) * frequency, yb = (y0 + (endRow - 1) * step) * frequency,
+                    za = (z0 + startLayer * step) * frequency, zb = (z0 + (endLayer - 1) * step) * frequency;
+            for (int p = 0; p < o; p++) {
+                xa *= lacunarity;
+                xb *= lacunarity;
+                ya *= lacunarity;
+                yb *= lacunarity;
+                za *= lacunarity;
+                zb *= lacunarity;
+            }
+            final int iLo = fastFloor(Math.min(xa, xb)) - 1, jLo = fastFloor(Math.min(ya, yb)) - 1,
+                    kLo = fastFloor(Math.min(za, zb)) - 1,
+                    cols = fastFloor(Math.max(xa, xb)) - iLo + 3, rows = fastFloor(Math.max(ya, yb)) - jLo + 3,
+                    layers = fastFloor(Math.max(za, zb)) - kLo + 3, slab = cols * rows, hyper = slab * layers,
+                    w1 = fastFloor(w), wCount = hasW ? 4 : 1;
+            final float ws = w - (float) w1;
+            final boolean cached = (long) cols * rows * layers <= (long) width * (endRow - startRow) * (endLayer - startLayer);
+            if (cached) {
+                if (table == null || table.length < hyper * wCount) {
+                    table = new float[hyper * wCount];
+                    if (context != null)
+                        context.latticeValues = table;
+                }
+                for (int d = 0, t = 0; d < wCount; d++) {
+                    for (int c = 0; c < layers; c++) {
+                        for (int b = 0; b < rows; b++) {
+                            for (int a = 0; a < cols; a++) {
+                                table[t++] = hasW ? valCoord4D(seed, iLo + a, jLo + b, kLo + c, w1 - 1 + d)
+                                        : valCoord3D(seed, iLo + a, jLo + b, kLo + c);
+                            }
+                        }
+                    }
+                }
+            }
+            for (int k = startLayer; k < endLayer; k++) {
+                float z = (z0 + k * step) * frequency;
+                for (int p = 0; p < o; p++) {
+                    z *= lacunarity;
+                }
+                final int z1 = fastFloor(z);
+                final float zs = z - (float) z1;
+                for (int j = startRow; j < endRow; j++) {
+                    float y = (y0 + j * step) * frequency;
+                    for (int p = 0; p < o; p++) {
+                        y *= lacunarity;
+                    }
+                    final int y1 = fastFloor(y);
+                    final float ys = y - (float) y1;
+                    for (int i = 0, idx = offset + k * zStride + j * yStride; i < width; i++, idx += xStride) {
+                        float x = (x0 + i * step) * frequency;
+                        for (int p = 0; p < o; p++) {
+                            x *= lacunarity;
+                        }
+                        float v;
+                        if (cached) {
+                            final int x1 = fastFloor(x);
+                            final float xs = x - (float) x1;
+                            final int h = (z1 - 1 - kLo) * slab + (y1 - 1 - jLo) * cols + x1 - 1 - iLo;
+                            if (hasW)
+                                v = cubicLerp(cubicFromTable(table, h, cols, slab, xs, ys, zs),
+                                        cubicFromTable(table, h + hyper, cols, slab, xs, ys, zs),
+                                        cubicFromTable(table, h + hyper * 2, cols, slab, xs, ys, zs),
+                                        cubicFromTable(table, h + hyper * 3, cols, slab, xs, ys, zs),
+                                        ws) * CUBIC_4D_BOUNDING;
+                            else
+                                v = cubicFromTable(table, h, cols, slab, xs, ys, zs) * CUBIC_3D_BOUNDING;
+                        } else
+                            v = hasW ? singleCubic(seed, x, y, z, w) : singleCubic(seed, x, y, z);
+                        if (fractalType == BILLOW)
+                            v = Math.abs(v) * 2 - 1;
+                        else if (fractalType == RIDGED_MULTI)
+                            v = 1f - Math.abs(v);
+                        out[idx] = o == 0 ? v * amp : out[idx] + v * amp;
+                    }
+                }
+            }
+        }
+        if (fractal) {
+            for (int k = startLayer; k < endLayer; k++) {
+                for (int j = startRow; j < endRow; j++) {
+                    finishRow(out, offset + k * zStride + j * yStride, xStride, width, fractalType, correction);
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Interpolates the 4x4 block of lattice values starting at {@code table[h]}, with rows {@code cols} apart, the same
+     * way {@link #singleCubic(int, float, float)} does, but without scaling the result.
+     */
+    private static float cubicFromTable(float[] table, int h, int cols, float xs, float ys) {
+        final int h1 = h + cols, h2 = h1 + cols, h3 = h2 + cols;
+        return cubicLerp(
+                cubicLerp(table[h], table[h + 1], table[h + 2], table[h + 3], xs),
+                cubicLerp(table[h1], table[h1 + 1], table[h1 + 2], table[h1 + 3], xs),
+                cubicLerp(table[h2], table[h2 + 1], table[h2 + 2], table[h2 + 3], xs),
+                cubicLerp(table[h3], table[h3 + 1], table[h3 + 2], table[h3 + 3], xs),
+                ys);
+    }
+
+    /**
+     * Interpolates the 4x4x4 block of lattice values starting at {@code table[h]}, with rows {@code cols} apart and
+     * layers {@code slab} apart, the same way {@link #singleCubic(int, float, float, float)} does, but without scaling
+     * the result.
+     */
+    private static float cubicFromTable(float[] table, int h, int cols, int slab, float xs, float ys, float zs) {
+        return cubicLerp(
+                cubicFromTable(table, h, cols, xs, ys),
+                cubicFromTable(table, h + slab, cols, xs, ys),
+                cubicFromTable(table, h + slab * 2, cols, xs, ys),
+                cubicFromTable(table, h + slab * 3, cols, xs, ys),
+                zs);
+    }
+    
+    // Cellular Noise
+    public float getCellular(float x, float y, float z) {
+        x *= frequency;
+        y *= frequency;
+        z *= frequency;
+
+        switch (cellularReturnType) {
+            case CELL_VALUE:
+            case NOISE_LOOKUP:
+            case DISTANCE:
+                return singleCellular(seed, x, y, z);
+            default:
+                return singleCellular2Edge(seed, x, y, z);
+        }
+    }
+
+    private float singleCellular(int seed, float x, float y, float z) {
+        final int xr = fastRound(x);
+        final int yr = fastRound(y);
+        final int zr = fastRound(z);
+        final int xs = x < xr ? -1 : 1;
+        final int ys = y < yr ? -1 : 1;
+        final int zs = z < zr ? -1 : 1;
+
+        float distance = 999999;
+        int xc = 0, yc = 0, zc = 0;
+
+        // visits the nearest layer of cells on each axis first, so later cells can be skipped once their bound is too big
+        for (int i = 0; i < 3; i++) {
+            final int xi = xr + CELL_SEARCH_ORDER[i] * xs;
+            final float bx = cellBound(xi - x);
+            if (bx > distance) break;
+            for (int j = 0; j < 3; j++) {
+                final int yi = yr + CELL_SEARCH_ORDER[j] * ys;
+                final float bxy = bx + cellBound(yi - y);
+                if (bxy > distance) break;
+                for (int k = 0; k < 3; k++) {
+                    final int zi = zr + CELL_SEARCH_ORDER[k] * zs;
+                    if (bxy + cellBound(zi - z) > distance) break;
+                    final int cell = hash256(xi, yi, zi, seed) << 2;
+                    final float newDistance = cellDistance(xi - x + CELL_3D[cell], yi - y + CELL_3D[cell + 1],
+                            zi - z + CELL_3D[cell + 2]);
+
+                    // ties go to the cell that comes first in x, then y, then z order, like a search in that order
+                    if (newDistance < distance || newDistance == distance
+                            && (xi < xc || xi == xc && (yi < yc || yi == yc && zi < zc))) {
+                        distance = newDistance;
+                        xc = xi;
+                        yc = yi;
+                        zc = zi;
+                    }
+                }
+            }
+        }
+
+        switch (cellularReturnType) {
+            case CELL_VALUE:
+                return valCoord3D(0, xc, yc, zc);
+
+            case NOISE_LOOKUP:
+                int cell = hash256(xc, yc, zc, seed) << 2;
+                return cellularLookup(seed, xc, yc, zc, xc + CELL_3D[cell], yc + CELL_3D[cell + 1], zc + CELL_3D[cell + 2]);
+
+            case DISTANCE:
+                return distance - 1;
+            default:
+                return 0;
+        }
+    }
+
+    private float singleCellular2Edge(int seed, float x, float y, float z) {
+        final int xr = fastRound(x);
+        final int yr = fastRound(y);
+        final int zr = fastRound(z);
+        final int xs = x < xr ? -1 : 1;
+        final int ys = y < yr ? -1 : 1;
+        final int zs = z < zr ? -1 : 1;
+
+        float distance = 999999;
+        float distance2 = 999999;
+
+        for (int i = 0; i < 3; i++) {
+            final int xi = xr + CELL_SEARCH_ORDER[i] * xs;
+            final float bx = cellBound(xi - x);
+            if (bx >= distance2) break;
+            for (int j = 0; j < 3; j++) {
+                final int yi = yr + CELL_SEARCH_ORDER[j] * ys;
+                final float bxy = bx + cellBound(yi - y);
+                if (bxy >= distance2) break;
+                for (int k = 0; k < 3; k++) {
+                    final int zi = zr + CELL_SEARCH_ORDER[k] * zs;
+                    if (bxy + cellBound(zi - z) >= distance2) break;
+                    final int cell = hash256(xi, yi, zi, seed) << 2;
+                    final float newDistance = cellDistance(xi - x + CELL_3D[cell], yi - y + CELL_3D[cell + 1],
+                            zi - z + CELL_3D[cell + 2]);
+
+                    distance2 = Math.max(Math.min(distance2, newDistance), distance);
+                    distance = Math.min(distance, newDistance);
+                }
+            }
+        }
+
+        switch (cellularReturnType) {
+            case DISTANCE_2:
+                return distance2 - 1;
+            case DISTANCE_2_ADD:
+                return distance2 + distance - 1;
+            case DISTANCE_2_SUB:
+                return distance2 - distance - 1;
+            case DISTANCE_2_MUL:
+                return distance2 * distance - 1;
+            case DISTANCE_2_DIV:
+                return distance / distance2 - 1;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Gets the distance from a point to a feature point that is (vecX, vecY, vecZ) away, as measured by the cellular
+     * distance function.
+     */
+    private float cellDistance(float vecX, float vecY, float vecZ) {
+        switch (cellularDistanceFunction) {
+            case MANHATTAN:
+                return Math.abs(vecX) + Math.abs(vecY) + Math.abs(vecZ);
+            case NATURAL:
+                return (Math.abs(vecX) + Math.abs(vecY) + Math.abs(vecZ)) + (vecX * vecX + vecY * vecY + vecZ * vecZ);
+            default:
+                return vecX * vecX + vecY * vecY + vecZ * vecZ;
+        }
+    }
+
+    public float getCellular(float x, float y) {
         x *= frequency;
         y *= frequency;
-        z *= frequency;
 
         switch (cellularReturnType) {
             case CELL_VALUE:
             case NOISE_LOOKUP:
             case DISTANCE:
-                return singleCellular(x, y, z);
+                return singleCellular(seed, x, y);
             default:
-                return singleCellular2Edge(x, y, z);
+                return singleCellular2Edge(seed, x, y);
         }
     }
 
-    private float singleCellular(float x, float y, float z) {
+    private float singleCellular(int seed, float x, float y) {
         int xr = fastRound(x);
         int yr = fastRound(y);
-        int zr = fastRound(z);
 
         float distance = 999999;
-        int xc = 0, yc = 0, zc = 0;
+        int xc = 0, yc = 0;
 
         switch (cellularDistanceFunction) {
+            default:
             case EUCLIDEAN:
                 for (int xi = xr - 1; xi <= xr + 1; xi++) {
                     for (int yi = yr - 1; yi <= yr + 1; yi++) {
-                        for (int zi = zr - 1; zi <= zr + 1; zi++) {
-                            Float3 vec = CELL_3D[hash256(xi, yi, zi, seed)];
+                        int cell = hash256(xi, yi, seed) << 1;
 
-                            float vecX = xi - x + vec.x;
-                            float vecY = yi - y + vec.y;
-                            float vecZ = zi - z + vec.z;
+                        float vecX = xi - x + CELL_2D[cell];
+                        float vecY = yi - y + CELL_2D[cell + 1];
 
-                            float newDistance = vecX * vecX + vecY * vecY + vecZ * vecZ;
+                        float newDistance = vecX * vecX + vecY * vecY;
 
-                            if (newDistance < distance) {
-                                distance = newDistance;
-                                xc = xi;
-                                yc = yi;
-                                zc = zi;
-                            }
+                        if (newDistance < distance) {
+                            distance = newDistance;
+                            xc = xi;
+                            yc = yi;
                         }
                     }
                 }
@@ -5845,21 +13574,17 @@ public class Noise {
             case MANHATTAN:
                 for (int xi = xr - 1; xi <= xr + 1; xi++) {
                     for (int yi = yr - 1; yi <= yr + 1; yi++) {
-                        for (int zi = zr - 1; zi <= zr + 1; zi++) {
-                            Float3 vec = CELL_3D[hash256(xi, yi, zi, seed)];
+                        int cell = hash256(xi, yi, seed) << 1;
 
-                            float vecX = xi - x + vec.x;
-                            float vecY = yi - y + vec.y;
-                            float vecZ = zi - z + vec.z;
+                        float vecX = xi - x + CELL_2D[cell];
+                        float vecY = yi - y + CELL_2D[cell + 1];
 
-                            float newDistance = Math.abs(vecX) + Math.abs(vecY) + Math.abs(vecZ);
+                        float newDistance = (Math.abs(vecX) + Math.abs(vecY));
 
-                            if (newDistance < distance) {
-                                distance = newDistance;
-                                xc = xi;
-                                yc = yi;
-                                zc = zi;
-                            }
+                        if (newDistance < distance) {
+                            distance = newDistance;
+                            xc = xi;
+                            yc = yi;
                         }
                     }
                 }
@@ -5867,21 +13592,17 @@ public class Noise {
             case NATURAL:
                 for (int xi = xr - 1; xi <= xr + 1; xi++) {
                     for (int yi = yr - 1; yi <= yr + 1; yi++) {
-                        for (int zi = zr - 1; zi <= zr + 1; zi++) {
-                            Float3 vec = CELL_3D[hash256(xi, yi, zi, seed)];
+                        int cell = hash256(xi, yi, seed) << 1;
 
-                            float vecX = xi - x + vec.x;
-                            float vecY = yi - y + vec.y;
-                            float vecZ = zi - z + vec.z;
+                        float vecX = xi - x + CELL_2D[cell];
+                        float vecY = yi - y + CELL_2D[cell + 1];
 
-                            float newDistance = (Math.abs(vecX) + Math.abs(vecY) + Math.abs(vecZ)) + (vecX * vecX + vecY * vecY + vecZ * vecZ);
+                        float newDistance = (Math.abs(vecX) + Math.abs(vecY)) + (vecX * vecX + vecY * vecY);
 
-                            if (newDistance < distance) {
-                                distance = newDistance;
-                                xc = xi;
-                                yc = yi;
-                                zc = zi;
-                            }
+                        if (newDistance < distance) {
+                            distance = newDistance;
+                            xc = xi;
+                            yc = yi;
                         }
                     }
                 }
@@ -5890,11 +13611,11 @@ public class Noise {
 
         switch (cellularReturnType) {
             case CELL_VALUE:
-                return valCoord3D(0, xc, yc, zc);
+                return valCoord2D(0, xc, yc);
 
             case NOISE_LOOKUP:
-                Float3 vec = CELL_3D[hash256(xc, yc, zc, seed)];
-                return layered3D(xc + vec.x, yc + vec.y, zc + vec.z, 123, 3);
+                int cell = hash256(xc, yc, seed) << 1;
+                return cellularLookup(seed, xc, yc, xc + CELL_2D[cell], yc + CELL_2D[cell + 1]);
 
             case DISTANCE:
                 return distance - 1;
@@ -5903,71 +13624,60 @@ public class Noise {
         }
     }
 
-    private float singleCellular2Edge(float x, float y, float z) {
+    private float singleCellular2Edge(int seed, float x, float y) {
         int xr = fastRound(x);
         int yr = fastRound(y);
-        int zr = fastRound(z);
 
         float distance = 999999;
         float distance2 = 999999;
 
         switch (cellularDistanceFunction) {
+            default:
             case EUCLIDEAN:
                 for (int xi = xr - 1; xi <= xr + 1; xi++) {
                     for (int yi = yr - 1; yi <= yr + 1; yi++) {
-                        for (int zi = zr - 1; zi <= zr + 1; zi++) {
-                            Float3 vec = CELL_3D[hash256(xi, yi, zi, seed)];
+                        int cell = hash256(xi, yi, seed) << 1;
 
-                            float vecX = xi - x + vec.x;
-                            float vecY = yi - y + vec.y;
-                            float vecZ = zi - z + vec.z;
+                        float vecX = xi - x + CELL_2D[cell];
+                        float vecY = yi - y + CELL_2D[cell + 1];
 
-                            float newDistance = vecX * vecX + vecY * vecY + vecZ * vecZ;
+                        float newDistance = vecX * vecX + vecY * vecY;
 
-                            distance2 = Math.max(Math.min(distance2, newDistance), distance);
-                            distance = Math.min(distance, newDistance);
-                        }
+                        distance2 = Math.max(Math.min(distance2, newDistance), distance);
+                        distance = Math.min(distance, newDistance);
                     }
                 }
                 break;
             case MANHATTAN:
                 for (int xi = xr - 1; xi <= xr + 1; xi++) {
                     for (int yi = yr - 1; yi <= yr + 1; yi++) {
-                        for (int zi = zr - 1; zi <= zr + 1; zi++) {
-                            Float3 vec = CELL_3D[hash256(xi, yi, zi, seed)];
+                        int cell = hash256(xi, yi, seed) << 1;
 
-                            float vecX = xi - x + vec.x;
-                            float vecY = yi - y + vec.y;
-                            float vecZ = zi - z + vec.z;
+                        float vecX = xi - x + CELL_2D[cell];
+                        float vecY = yi - y + CELL_2D[cell + 1];
 
-                            float newDistance = Math.abs(vecX) + Math.abs(vecY) + Math.abs(vecZ);
+                        float newDistance = Math.abs(vecX) + Math.abs(vecY);
 
-                            distance2 = Math.max(Math.min(distance2, newDistance), distance);
-                            distance = Math.min(distance, newDistance);
-                        }
+                        distance2 = Math.max(Math.min(distance2, newDistance), distance);
+                        distance = Math.min(distance, newDistance);
                     }
                 }
                 break;
             case NATURAL:
                 for (int xi = xr - 1; xi <= xr + 1; xi++) {
                     for (int yi = yr - 1; yi <= yr + 1; yi++) {
-                        for (int zi = zr - 1; zi <= zr + 1; zi++) {
-                            Float3 vec = CELL_3D[hash256(xi, yi, zi, seed)];
+                        int cell = hash256(xi, yi, seed) << 1;
 
-                            float vecX = xi - x + vec.x;
-                            float vecY = yi - y + vec.y;
-                            float vecZ = zi - z + vec.z;
+                        float vecX = xi - x + CELL_2D[cell];
+                        float vecY = yi - y + CELL_2D[cell + 1];
 
-                            float newDistance = (Math.abs(vecX) + Math.abs(vecY) + Math.abs(vecZ)) + (vecX * vecX + vecY * vecY + vecZ * vecZ);
+                        float newDistance = (Math.abs(vecX) + Math.abs(vecY)) + (vecX * vecX + vecY * vecY);
 
-                            distance2 = Math.max(Math.min(distance2, newDistance), distance);
-                            distance = Math.min(distance, newDistance);
-                        }
+                        distance2 = Math.max(Math.min(distance2, newDistance), distance);
+                        distance = Math.min(distance, newDistance);
                     }
                 }
                 break;
-            default:
-                break;
         }
 
         switch (cellularReturnType) {
@@ -5986,157 +13696,639 @@ public class Noise {
         }
     }
 
-    public float getCellular(float x, float y) {
-        x *= frequency;
-        y *= frequency;
-
-        switch (cellularReturnType) {
-            case CELL_VALUE:
-            case NOISE_LOOKUP:
-            case DISTANCE:
-                return singleCellular(x, y);
-            default:
-                return singleCellular2Edge(x, y);
-        }
+    /**
+     * Finds everything 2D cellular noise can tell about a point at once, using this Noise's seed, frequency and cellular
+     * distance function, and stores it in {@code features}. This does one search of the neighboring cells, where
+     * getting the same values from {@link #getCellular(float, float)} would take one call (and one call to
+     * {@link #setCellularReturnType(int)}) for each return type. The cellular return type is not used or changed, so
+     * this is safe to call from several threads on a Noise that isn't being changed, each with its own features.
+     * The z fields of {@code features} are set to 0.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param features a CellularFeatures that will be overwritten; can be reused between calls
+     * @return features, after modifications
+     */
+    public CellularFeatures getCellularFeatures(float x, float y, CellularFeatures features) {
+        singleCellularFeatures(seed, x * frequency, y * frequency, features);
+        features.offsetX /= frequency;
+        features.offsetY /= frequency;
+        return features;
     }
 
-    private float singleCellular(float x, float y) {
-        int xr = fastRound(x);
-        int yr = fastRound(y);
+    private void singleCellularFeatures(int seed, float x, float y, CellularFeatures features) {
+        final int xr = fastRound(x);
+        final int yr = fastRound(y);
 
         float distance = 999999;
+        float distance2 = 999999;
         int xc = 0, yc = 0;
 
+        for (int xi = xr - 1; xi <= xr + 1; xi++) {
+            for (int yi = yr - 1; yi <= yr + 1; yi++) {
+                final int cell = hash256(xi, yi, seed) << 1;
+                final float newDistance = cellDistance(xi - x + CELL_2D[cell], yi - y + CELL_2D[cell + 1]);
+
+                if (newDistance < distance) {
+                    xc = xi;
+                    yc = yi;
+                }
+                distance2 = Math.max(Math.min(distance2, newDistance), distance);
+                distance = Math.min(distance, newDistance);
+            }
+        }
+
+        final int hash = hash256(xc, yc, seed);
+        final int cell = hash << 1;
+        features.distance = distance;
+        features.distance2 = distance2;
+        features.cellX = xc;
+        features.cellY = yc;
+        features.cellZ = 0;
+        features.hash = hash;
+        features.offsetX = xc - x + CELL_2D[cell];
+        features.offsetY = yc - y + CELL_2D[cell + 1];
+        features.offsetZ = 0f;
+        features.cellValue = valCoord2D(0, xc, yc);
+        features.lookup = cellularLookup(seed, xc, yc, xc + CELL_2D[cell], yc + CELL_2D[cell + 1]);
+    }
+
+    /**
+     * Gets the distance from a point to a feature point that is (vecX, vecY) away, as measured by the cellular
+     * distance function.
+     */
+    private float cellDistance(float vecX, float vecY) {
         switch (cellularDistanceFunction) {
+            case MANHATTAN:
+                return Math.abs(vecX) + Math.abs(vecY);
+            case NATURAL:
+                return (Math.abs(vecX) + Math.abs(vecY)) + (vecX * vecX + vecY * vecY);
             default:
-            case EUCLIDEAN:
-                for (int xi = xr - 1; xi <= xr + 1; xi++) {
-                    for (int yi = yr - 1; yi <= yr + 1; yi++) {
-                        Float2 vec = CELL_2D[hash256(xi, yi, seed)];
+                return vecX * vecX + vecY * vecY;
+        }
+    }
 
-                        float vecX = xi - x + vec.x;
-                        float vecY = yi - y + vec.y;
+    /**
+     * Finds everything 3D cellular noise can tell about a point at once, using this Noise's seed, frequency and cellular
+     * distance function, and stores it in {@code features}. This does one search of the neighboring cells, where
+     * getting the same values from {@link #getCellular(float, float, float)} would take one call (and one call to
+     * {@link #setCellularReturnType(int)}) for each return type. The cellular return type is not used or changed, so
+     * this is safe to call from several threads on a Noise that isn't being changed, each with its own features.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param features a CellularFeatures that will be overwritten; can be reused between calls
+     * @return features, after modifications
+     */
+    public CellularFeatures getCellularFeatures(float x, float y, float z, CellularFeatures features) {
+        singleCellularFeatures(seed, x * frequency, y * frequency, z * frequency, features);
+        features.offsetX /= frequency;
+        features.offsetY /= frequency;
+        features.offsetZ /= frequency;
+        return features;
+    }
+
+    private void singleCellularFeatures(int seed, float x, float y, float z, CellularFeatures features) {
+        final int xr = fastRound(x);
+        final int yr = fastRound(y);
+        final int zr = fastRound(z);
+        final int xs = x < xr ? -1 : 1;
+        final int ys = y < yr ? -1 : 1;
+        final int zs = z < zr ? -1 : 1;
 
-                        float newDistance = vecX * vecX + vecY * vecY;
+        float distance = 999999;
+        float distance2 = 999999;
+        int xc = 0, yc = 0, zc = 0;
 
-                        if (newDistance < distance) {
+        // the same search as singleCellular(), but only cells that can't beat the second-closest distance are skipped
+        for (int i = 0; i < 3; i++) {
+            final int xi = xr + CELL_SEARCH_ORDER[i] * xs;
+            final float bx = cellBound(xi - x);
+            if (bx > distance2) break;
+            for (int j = 0; j < 3; j++) {
+                final int yi = yr + CELL_SEARCH_ORDER[j] * ys;
+                final float bxy = bx + cellBound(yi - y);
+                if (bxy > distance2) break;
+                for (int k = 0; k < 3; k++) {
+                    final int zi = zr + CELL_SEARCH_ORDER[k] * zs;
+                    if (bxy + cellBound(zi - z) > distance2) break;
+                    final int cell = hash256(xi, yi, zi, seed) << 2;
+                    final float newDistance = cellDistance(xi - x + CELL_3D[cell], yi - y + CELL_3D[cell + 1],
+                            zi - z + CELL_3D[cell + 2]);
+
+                    if (newDistance < distance || newDistance == distance
+                            && (xi < xc || xi == xc && (yi < yc || yi == yc && zi < zc))) {
+                        xc = xi;
+                        yc = yi;
+                        zc = zi;
+                    }
+                    distance2 = Math.max(Math.min(distance2, newDistance), distance);
+                    distance = Math.min(distance, newDistance);
+                }
+            }
+        }
+
+        final int hash = hash256(xc, yc, zc, seed);
+        final int cell = hash << 2;
+        features.distance = distance;
+        features.distance2 = distance2;
+        features.cellX = xc;
+        features.cellY = yc;
+        features.cellZ = zc;
+        features.hash = hash;
+        features.offsetX = xc - x + CELL_3D[cell];
+        features.offsetY = yc - y + CELL_3D[cell + 1];
+        features.offsetZ = zc - z + CELL_3D[cell + 2];
+        features.cellValue = valCoord3D(0, xc, yc, zc);
+        features.lookup = cellularLookup(seed, xc, yc, zc, xc + CELL_3D[cell], yc + CELL_3D[cell + 1],
+                zc + CELL_3D[cell + 2]);
+    }
+
+    /**
+     * Gets 4D cellular noise, also called Worley noise, using this Noise's seed, frequency, cellular distance
+     * function and cellular return type. Fractal settings are not used. This searches the 3^4 cells around the given
+     * point, but skips any cell that is too far away to hold a nearer feature point than the ones already found,
+     * so most of those cells never need their feature point hashed or measured.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param w w position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @return noise as a float, usually from -1f to 1f
+     */
+    public float getCellular(float x, float y, float z, float w) {
+        return singleCellular(seed, x * frequency, y * frequency, z * frequency, w * frequency);
+    }
+
+    private float singleCellular(int seed, float x, float y, float z, float w) {
+        final int xr = fastRound(x);
+        final int yr = fastRound(y);
+        final int zr = fastRound(z);
+        final int wr = fastRound(w);
+        final int xs = x < xr ? -1 : 1;
+        final int ys = y < yr ? -1 : 1;
+        final int zs = z < zr ? -1 : 1;
+        final int ws = w < wr ? -1 : 1;
+        // DISTANCE_2 and the return types after it need the second-closest distance, so can't prune as much
+        final boolean second = cellularReturnType >= DISTANCE_2;
+
+        float distance = 999999;
+        float distance2 = 999999;
+        float limit = distance2;
+        int xc = 0, yc = 0, zc = 0, wc = 0;
+
+        // visits the nearest layer of cells on each axis first, like the 3D search, so the rest of an axis can be skipped
+        for (int i = 0; i < 3; i++) {
+            final int xi = xr + CELL_SEARCH_ORDER[i] * xs;
+            final float bx = cellBound(xi - x);
+            if (bx > limit) break;
+            for (int j = 0; j < 3; j++) {
+                final int yi = yr + CELL_SEARCH_ORDER[j] * ys;
+                final float bxy = bx + cellBound(yi - y);
+                if (bxy > limit) break;
+                for (int k = 0; k < 3; k++) {
+                    final int zi = zr + CELL_SEARCH_ORDER[k] * zs;
+                    final float bxyz = bxy + cellBound(zi - z);
+                    if (bxyz > limit) break;
+                    for (int l = 0; l < 3; l++) {
+                        final int wi = wr + CELL_SEARCH_ORDER[l] * ws;
+                        if (bxyz + cellBound(wi - w) > limit) break;
+                        final int cell = hash256(xi, yi, zi, wi, seed) & 0xFC;
+                        final float newDistance = cellDistance(xi - x + CELL_4D[cell])
+                                + cellDistance(yi - y + CELL_4D[cell + 1])
+                                + cellDistance(zi - z + CELL_4D[cell + 2])
+                                + cellDistance(wi - w + CELL_4D[cell + 3]);
+
+                        // ties go to the cell that comes first in x, then y, z and w order, like a search in that order
+                        if (newDistance < distance || newDistance == distance
+                                && (xi < xc || xi == xc && (yi < yc || yi == yc && (zi < zc || zi == zc && wi < wc)))) {
+                            distance2 = Math.min(distance2, distance);
                             distance = newDistance;
                             xc = xi;
                             yc = yi;
+                            zc = zi;
+                            wc = wi;
+                        } else if (newDistance < distance2) {
+                            distance2 = newDistance;
                         }
+                        limit = second ? distance2 : distance;
                     }
                 }
-                break;
-            case MANHATTAN:
-                for (int xi = xr - 1; xi <= xr + 1; xi++) {
-                    for (int yi = yr - 1; yi <= yr + 1; yi++) {
-                        Float2 vec = CELL_2D[hash256(xi, yi, seed)];
+            }
+        }
 
-                        float vecX = xi - x + vec.x;
-                        float vecY = yi - y + vec.y;
+        switch (cellularReturnType) {
+            case CELL_VALUE:
+                return valCoord4D(0, xc, yc, zc, wc);
 
-                        float newDistance = (Math.abs(vecX) + Math.abs(vecY));
+            case NOISE_LOOKUP:
+                final int cell = hash256(xc, yc, zc, wc, seed) & 0xFC;
+                return cellularLookup(seed, xc, yc, zc, wc, xc + CELL_4D[cell], yc + CELL_4D[cell + 1],
+                        zc + CELL_4D[cell + 2], wc + CELL_4D[cell + 3]);
 
-                        if (newDistance < distance) {
-                            distance = newDistance;
-                            xc = xi;
-                            yc = yi;
+            default:
+                return cellularDistance(distance, distance2);
+        }
+    }
+
+    /**
+     * The same as {@code layered3D(x, y, z, 123, 3)}, but in 4D; the default for 4D cellular noise with
+     * {@link #NOISE_LOOKUP}.
+     */
+    private float layeredLookup(float x, float y, float z, float w) {
+        x *= 0.03125f;
+        y *= 0.03125f;
+        z *= 0.03125f;
+        w *= 0.03125f;
+
+        float sum = 1 - Math.abs(singleSimplex(123, x, y, z, w));
+        float amp = 1;
+
+        for (int i = 1; i < 3; i++) {
+            x *= 2f;
+            y *= 2f;
+            z *= 2f;
+            w *= 2f;
+
+            amp *= 0.5f;
+            sum -= (1 - Math.abs(singleSimplex(123 + i, x, y, z, w))) * amp;
+        }
+        return sum / 1.75f;
+    }
+
+    /**
+     * Gets 5D cellular noise, also called Worley noise, using this Noise's seed, frequency, cellular distance
+     * function and cellular return type. Fractal settings are not used. This searches the 3^5 cells around the given
+     * point, but skips any cell that is too far away to hold a nearer feature point than the ones already found,
+     * so most of those cells never need their feature point hashed or measured.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param w w position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param u u position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @return noise as a float, usually from -1f to 1f
+     */
+    public float getCellular(float x, float y, float z, float w, float u) {
+        return singleCellular(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency);
+    }
+
+    private float singleCellular(int seed, float x, float y, float z, float w, float u) {
+        final int xr = fastRound(x);
+        final int yr = fastRound(y);
+        final int zr = fastRound(z);
+        final int wr = fastRound(w);
+        final int ur = fastRound(u);
+        final int xs = x < xr ? -1 : 1;
+        final int ys = y < yr ? -1 : 1;
+        final int zs = z < zr ? -1 : 1;
+        final int ws = w < wr ? -1 : 1;
+        final int us = u < ur ? -1 : 1;
+        // DISTANCE_2 and the return types after it need the second-closest distance, so can't prune as much
+        final boolean second = cellularReturnType >= DISTANCE_2;
+
+        float distance = 999999;
+        float distance2 = 999999;
+        float limit = distance2;
+        int xc = 0, yc = 0, zc = 0, wc = 0, uc = 0;
+
+        // visits the nearest layer of cells on each axis first, like the 3D search, so the rest of an axis can be skipped
+        for (int i = 0; i < 3; i++) {
+            final int xi = xr + CELL_SEARCH_ORDER[i] * xs;
+            final float bx = cellBound(xi - x);
+            if (bx > limit) break;
+            for (int j = 0; j < 3; j++) {
+                final int yi = yr + CELL_SEARCH_ORDER[j] * ys;
+                final float bxy = bx + cellBound(yi - y);
+                if (bxy > limit) break;
+                for (int k = 0; k < 3; k++) {
+                    final int zi = zr + CELL_SEARCH_ORDER[k] * zs;
+                    final float bxyz = bxy + cellBound(zi - z);
+                    if (bxyz > limit) break;
+                    for (int l = 0; l < 3; l++) {
+                        final int wi = wr + CELL_SEARCH_ORDER[l] * ws;
+                        final float bxyzw = bxyz + cellBound(wi - w);
+                        if (bxyzw > limit) break;
+                        for (int m = 0; m < 3; m++) {
+                            final int ui = ur + CELL_SEARCH_ORDER[m] * us;
+                            if (bxyzw + cellBound(ui - u) > limit) break;
+                            final int cell = hash256(xi, yi, zi, wi, ui, seed) << 3;
+                            final float newDistance = cellDistance(xi - x + CELL_5D[cell])
+                                    + cellDistance(yi - y + CELL_5D[cell + 1])
+                                    + cellDistance(zi - z + CELL_5D[cell + 2])
+                                    + cellDistance(wi - w + CELL_5D[cell + 3])
+                                    + cellDistance(ui - u + CELL_5D[cell + 4]);
+
+                            // ties go to the cell that comes first in x, then y, z, w and u order
+                            if (newDistance < distance || newDistance == distance && (xi < xc || xi == xc
+                                    && (yi < yc || yi == yc && (zi < zc || zi == zc && (wi < wc || wi == wc && ui < uc))))) {
+                                distance2 = Math.min(distance2, distance);
+                                distance = newDistance;
+                                xc = xi;
+                                yc = yi;
+                                zc = zi;
+                                wc = wi;
+                                uc = ui;
+                            } else if (newDistance < distance2) {
+                                distance2 = newDistance;
+                            }
+                            limit = second ? distance2 : distance;
                         }
                     }
                 }
-                break;
-            case NATURAL:
-                for (int xi = xr - 1; xi <= xr + 1; xi++) {
-                    for (int yi = yr - 1; yi <= yr + 1; yi++) {
-                        Float2 vec = CELL_2D[hash256(xi, yi, seed)];
+            }
+        }
 
-                        float vecX = xi - x + vec.x;
-                        float vecY = yi - y + vec.y;
+        switch (cellularReturnType) {
+            case CELL_VALUE:
+                return valCoord5D(0, xc, yc, zc, wc, uc);
 
-                        float newDistance = (Math.abs(vecX) + Math.abs(vecY)) + (vecX * vecX + vecY * vecY);
+            case NOISE_LOOKUP:
+                final int cell = hash256(xc, yc, zc, wc, uc, seed) << 3;
+                return cellularLookup(seed, xc, yc, zc, wc, uc, xc + CELL_5D[cell], yc + CELL_5D[cell + 1],
+                        zc + CELL_5D[cell + 2], wc + CELL_5D[cell + 3], uc + CELL_5D[cell + 4]);
 
-                        if (newDistance < distance) {
-                            distance = newDistance;
-                            xc = xi;
-                            yc = yi;
+            default:
+                return cellularDistance(distance, distance2);
+        }
+    }
+
+    /**
+     * The same as {@code layered3D(x, y, z, 123, 3)}, but in 5D; the default for 5D cellular noise with
+     * {@link #NOISE_LOOKUP}.
+     */
+    private float layeredLookup(float x, float y, float z, float w, float u) {
+        x *= 0.03125f;
+        y *= 0.03125f;
+        z *= 0.03125f;
+        w *= 0.03125f;
+        u *= 0.03125f;
+
+        float sum = 1 - Math.abs(singleSimplex(123, x, y, z, w, u));
+        float amp = 1;
+
+        for (int i = 1; i < 3; i++) {
+            x *= 2f;
+            y *= 2f;
+            z *= 2f;
+            w *= 2f;
+            u *= 2f;
+
+            amp *= 0.5f;
+            sum -= (1 - Math.abs(singleSimplex(123 + i, x, y, z, w, u))) * amp;
+        }
+        return sum / 1.75f;
+    }
+
+    /**
+     * Gets 6D cellular noise, also called Worley noise, using this Noise's seed, frequency, cellular distance
+     * function and cellular return type. Fractal settings are not used. This searches the 3^6 cells around the given
+     * point, but skips any cell that is too far away to hold a nearer feature point than the ones already found,
+     * so most of those cells never need their feature point hashed or measured.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param w w position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param u u position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param v v position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @return noise as a float, usually from -1f to 1f
+     */
+    public float getCellular(float x, float y, float z, float w, float u, float v) {
+        return singleCellular(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency, v * frequency);
+    }
+
+    private float singleCellular(int seed, float x, float y, float z, float w, float u, float v) {
+        final int xr = fastRound(x);
+        final int yr = fastRound(y);
+        final int zr = fastRound(z);
+        final int wr = fastRound(w);
+        final int ur = fastRound(u);
+        final int vr = fastRound(v);
+        final int xs = x < xr ? -1 : 1;
+        final int ys = y < yr ? -1 : 1;
+        final int zs = z < zr ? -1 : 1;
+        final int ws = w < wr ? -1 : 1;
+        final int us = u < ur ? -1 : 1;
+        final int vs = v < vr ? -1 : 1;
+        // DISTANCE_2 and the return types after it need the second-closest distance, so can't prune as much
+        final boolean second = cellularReturnType >= DISTANCE_2;
+
+        float distance = 999999;
+        float distance2 = 999999;
+        float limit = distance2;
+        int xc = 0, yc = 0, zc = 0, wc = 0, uc = 0, vc = 0;
+
+        // visits the nearest layer of cells on each axis first, like the 3D search, so the rest of an axis can be skipped
+        for (int i = 0; i < 3; i++) {
+            final int xi = xr + CELL_SEARCH_ORDER[i] * xs;
+            final float bx = cellBound(xi - x);
+            if (bx > limit) break;
+            for (int j = 0; j < 3; j++) {
+                final int yi = yr + CELL_SEARCH_ORDER[j] * ys;
+                final float bxy = bx + cellBound(yi - y);
+                if (bxy > limit) break;
+                for (int k = 0; k < 3; k++) {
+                    final int zi = zr + CELL_SEARCH_ORDER[k] * zs;
+                    final float bxyz = bxy + cellBound(zi - z);
+                    if (bxyz > limit) break;
+                    for (int l = 0; l < 3; l++) {
+                        final int wi = wr + CELL_SEARCH_ORDER[l] * ws;
+                        final float bxyzw = bxyz + cellBound(wi - w);
+                        if (bxyzw > limit) break;
+                        for (int m = 0; m < 3; m++) {
+                            final int ui = ur + CELL_SEARCH_ORDER[m] * us;
+                            final float bxyzwu = bxyzw + cellBound(ui - u);
+                            if (bxyzwu > limit) break;
+                            for (int n = 0; n < 3; n++) {
+                                final int vi = vr + CELL_SEARCH_ORDER[n] * vs;
+                                if (bxyzwu + cellBound(vi - v) > limit) break;
+                                final int cell = hash256(xi, yi, zi, wi, ui, vi, seed) << 3;
+                                final float newDistance = cellDistance(xi - x + CELL_6D[cell])
+                                        + cellDistance(yi - y + CELL_6D[cell + 1])
+                                        + cellDistance(zi - z + CELL_6D[cell + 2])
+                                        + cellDistance(wi - w + CELL_6D[cell + 3])
+                                        + cellDistance(ui - u + CELL_6D[cell + 4])
+                                        + cellDistance(vi - v + CELL_6D[cell + 5]);
+
+                                // ties go to the cell that comes first in x, then y, z, w, u and v order
+                                if (newDistance < distance || newDistance == distance && (xi < xc || xi == xc
+                                        && (yi < yc || yi == yc && (zi < zc || zi == zc && (wi < wc || wi == wc
+                                        && (ui < uc || ui == uc && vi < vc)))))) {
+                                    distance2 = Math.min(distance2, distance);
+                                    distance = newDistance;
+                                    xc = xi;
+                                    yc = yi;
+                                    zc = zi;
+                                    wc = wi;
+                                    uc = ui;
+                                    vc = vi;
+                                } else if (newDistance < distance2) {
+                                    distance2 = newDistance;
+                                }
+                                limit = second ? distance2 : distance;
+                            }
                         }
                     }
                 }
-                break;
+            }
         }
 
         switch (cellularReturnType) {
             case CELL_VALUE:
-                return valCoord2D(0, xc, yc);
+                return valCoord6D(0, xc, yc, zc, wc, uc, vc);
 
             case NOISE_LOOKUP:
-                Float2 vec = CELL_2D[hash256(xc, yc, seed)];
-                return layered2D(xc + vec.x, yc + vec.y, 123, 3);
+                final int cell = hash256(xc, yc, zc, wc, uc, vc, seed) << 3;
+                return cellularLookup(seed, xc, yc, zc, wc, uc, vc, xc + CELL_6D[cell], yc + CELL_6D[cell + 1],
+                        zc + CELL_6D[cell + 2], wc + CELL_6D[cell + 3], uc + CELL_6D[cell + 4], vc + CELL_6D[cell + 5]);
 
-            case DISTANCE:
-                return distance - 1;
             default:
-                return 0;
+                return cellularDistance(distance, distance2);
         }
     }
 
-    private float singleCellular2Edge(float x, float y) {
-        int xr = fastRound(x);
-        int yr = fastRound(y);
-
-        float distance = 999999;
-        float distance2 = 999999;
+    /**
+     * The same as {@code layered3D(x, y, z, 123, 3)}, but in 6D; the default for 6D cellular noise with
+     * {@link #NOISE_LOOKUP}.
+     */
+    private float layeredLookup(float x, float y, float z, float w, float u, float v) {
+        x *= 0.03125f;
+        y *= 0.03125f;
+        z *= 0.03125f;
+        w *= 0.03125f;
+        u *= 0.03125f;
+        v *= 0.03125f;
 
-        switch (cellularDistanceFunction) {
-            default:
-            case EUCLIDEAN:
-                for (int xi = xr - 1; xi <= xr + 1; xi++) {
-                    for (int yi = yr - 1; yi <= yr + 1; yi++) {
-                        Float2 vec = CELL_2D[hash256(xi, yi, seed)];
+        float sum = 1 - Math.abs(singleSimplex(123, x, y, z, w, u, v));
+        float amp = 1;
 
-                        float vecX = xi - x + vec.x;
-                        float vecY = yi - y + vec.y;
+        for (int i = 1; i < 3; i++) {
+            x *= 2f;
+            y *= 2f;
+            z *= 2f;
+            w *= 2f;
+            u *= 2f;
+            v *= 2f;
 
-                        float newDistance = vecX * vecX + vecY * vecY;
+            amp *= 0.5f;
+            sum -= (1 - Math.abs(singleSimplex(123 + i, x, y, z, w, u, v))) * amp;
+        }
+        return sum / 1.75f;
+    }
 
-                        distance2 = Math.max(Math.min(distance2, newDistance), distance);
-                        distance = Math.min(distance, newDistance);
-                    }
-                }
-                break;
-            case MANHATTAN:
-                for (int xi = xr - 1; xi <= xr + 1; xi++) {
-                    for (int yi = yr - 1; yi <= yr + 1; yi++) {
-                        Float2 vec = CELL_2D[hash256(xi, yi, seed)];
+    /**
+     * Gets the entries of the cache used by {@link #NOISE_LOOKUP}, making the cache if this doesn't have one yet. If two
+     * threads make one at the same time, one cache is simply lost, which costs nothing but some lookups.
+     */
+    private CellLookupEntry[] cellLookupEntries() {
+        CellLookupCache cache = cellLookupCache;
+        if (cache == null)
+            cellLookupCache = cache = new CellLookupCache();
+        return cache.entries;
+    }
 
-                        float vecX = xi - x + vec.x;
-                        float vecY = yi - y + vec.y;
+    /**
+     * Gets the {@link #NOISE_LOOKUP} value for the 2D cell (xc, yc), whose feature point is at (x, y), from the cache if
+     * it was found recently, or otherwise from the cellular noise lookup (or the default lookup) and stores it in the
+     * cache. The other dimensions work the same way.
+     */
+    private float cellularLookup(int seed, int xc, int yc, float x, float y) {
+        final CellLookupEntry[] entries = cellLookupEntries();
+        final int slot = hashAll(xc, yc, seed) & CELL_LOOKUP_CACHE_SIZE - 1;
+        final CellLookupEntry e = entries[slot];
+        if (e != null && e.dimensions == 2 && e.seed == seed && e.x == xc && e.y == yc)
+            return e.value;
+        final float value = cellularNoiseLookup == null ? layered2D(x, y, 123, 3)
+                : cellularNoiseLookup.getConfiguredNoise(x, y);
+        entries[slot] = new CellLookupEntry(2, seed, xc, yc, 0, 0, 0, 0, value);
+        return value;
+    }
 
-                        float newDistance = Math.abs(vecX) + Math.abs(vecY);
+    /**
+     * The same as {@link #cellularLookup(int, int, int, float, float)}, but in 3D.
+     */
+    private float cellularLookup(int seed, int xc, int yc, int zc, float x, float y, float z) {
+        final CellLookupEntry[] entries = cellLookupEntries();
+        final int slot = hashAll(xc, yc, zc, seed) & CELL_LOOKUP_CACHE_SIZE - 1;
+        final CellLookupEntry e = entries[slot];
+        if (e != null && e.dimensions == 3 && e.seed == seed && e.x == xc && e.y == yc && e.z == zc)
+            return e.value;
+        final float value = cellularNoiseLookup == null ? layered3D(x, y, z, 123, 3)
+                : cellularNoiseLookup.getConfiguredNoise(x, y, z);
+        entries[slot] = new CellLookupEntry(3, seed, xc, yc, zc, 0, 0, 0, value);
+        return value;
+    }
 
-                        distance2 = Math.max(Math.min(distance2, newDistance), distance);
-                        distance = Math.min(distance, newDistance);
-                    }
-                }
-                break;
-            case NATURAL:
-                for (int xi = xr - 1; xi <= xr + 1; xi++) {
-                    for (int yi = yr - 1; yi <= yr + 1; yi++) {
-                        Float2 vec = CELL_2D[hash256(xi, yi, seed)];
+    /**
+     * The same as {@link #cellularLookup(int, int, int, float, float)}, but in 4D.
+     */
+    private float cellularLookup(int seed, int xc, int yc, int zc, int wc, float x, float y, float z, float w) {
+        final CellLookupEntry[] entries = cellLookupEntries();
+        final int slot = hashAll(xc, yc, zc, wc, seed) & CELL_LOOKUP_CACHE_SIZE - 1;
+        final CellLookupEntry e = entries[slot];
+        if (e != null && e.dimensions == 4 && e.seed == seed && e.x == xc && e.y == yc && e.z == zc && e.w == wc)
+            return e.value;
+        final float value = cellularNoiseLookup == null ? layeredLookup(x, y, z, w)
+                : cellularNoiseLookup.getConfiguredNoise(x, y, z, w);
+        entries[slot] = new CellLookupEntry(4, seed, xc, yc, zc, wc, 0, 0, value);
+        return value;
+    }
 
-                        float vecX = xi - x + vec.x;
-                        float vecY = yi - y + vec.y;
+    /**
+     * The same as {@link #cellularLookup(int, int, int, float, float)}, but in 5D.
+     */
+    private float cellularLookup(int seed, int xc, int yc, int zc, int wc, int uc, float x, float y, float z, float w, float u) {
+        final CellLookupEntry[] entries = cellLookupEntries();
+        final int slot = hashAll(xc, yc, zc, wc, uc, seed) & CELL_LOOKUP_CACHE_SIZE - 1;
+        final CellLookupEntry e = entries[slot];
+        if (e != null && e.dimensions == 5 && e.seed == seed && e.x == xc && e.y == yc && e.z == zc && e.w == wc && e.u == uc)
+            return e.value;
+        final float value = cellularNoiseLookup == null ? layeredLookup(x, y, z, w, u)
+                : cellularNoiseLookup.getConfiguredNoise(x, y, z, w, u);
+        entries[slot] = new CellLookupEntry(5, seed, xc, yc, zc, wc, uc, 0, value);
+        return value;
+    }
 
-                        float newDistance = (Math.abs(vecX) + Math.abs(vecY)) + (vecX * vecX + vecY * vecY);
+    /**
+     * The same as {@link #cellularLookup(int, int, int, float, float)}, but in 6D.
+     */
+    private float cellularLookup(int seed, int xc, int yc, int zc, int wc, int uc, int vc, float x, float y, float z, float w, float u, float v) {
+        final CellLookupEntry[] entries = cellLookupEntries();
+        final int slot = hashAll(xc, yc, zc, wc, uc, vc, seed) & CELL_LOOKUP_CACHE_SIZE - 1;
+        final CellLookupEntry e = entries[slot];
+        if (e != null && e.dimensions == 6 && e.seed == seed && e.x == xc && e.y == yc && e.z == zc && e.w == wc && e.u == uc && e.v == vc)
+            return e.value;
+        final float value = cellularNoiseLookup == null ? layeredLookup(x, y, z, w, u, v)
+                : cellularNoiseLookup.getConfiguredNoise(x, y, z, w, u, v);
+        entries[slot] = new CellLookupEntry(6, seed, xc, yc, zc, wc, uc, vc, value);
+        return value;
+    }
 
-                        distance2 = Math.max(Math.min(distance2, newDistance), distance);
-                        distance = Math.min(distance, newDistance);
-                    }
-                }
-                break;
+    /**
+     * Gets the distance along one axis, as measured by the cellular distance function. Every distance function here
+     * adds these up over all axes, which lets 4D to 6D cellular noise bound the distance to a cell one axis at a time.
+     */
+    private float cellDistance(float d) {
+        switch (cellularDistanceFunction) {
+            case MANHATTAN:
+                return Math.abs(d);
+            case NATURAL:
+                return Math.abs(d) + d * d;
+            default:
+                return d * d;
         }
+    }
 
+    /**
+     * Gets the smallest possible {@link #cellDistance(float)} along one axis to a feature point in a cell whose center
+     * is d away from the point being sampled, on that axis.
+     */
+    private float cellBound(float d) {
+        d = Math.abs(d) - CELL_JITTER;
+        return d <= 0f ? 0f : cellDistance(d);
+    }
+
+    private float cellularDistance(float distance, float distance2) {
         switch (cellularReturnType) {
+            case DISTANCE:
+                return distance - 1;
             case DISTANCE_2:
                 return distance2 - 1;
             case DISTANCE_2_ADD:
@@ -6202,37 +14394,37 @@ public class Noise {
                 break;
         }
 
-        Float3 vec0 = CELL_3D[hash256(x0, y0, z0, seed)];
-        Float3 vec1 = CELL_3D[hash256(x1, y0, z0, seed)];
+        int cell0 = hash256(x0, y0, z0, seed) << 2;
+        int cell1 = hash256(x1, y0, z0, seed) << 2;
 
-        float lx0x = lerp(vec0.x, vec1.x, xs);
-        float ly0x = lerp(vec0.y, vec1.y, xs);
-        float lz0x = lerp(vec0.z, vec1.z, xs);
+        float lx0x = lerp(CELL_3D[cell0], CELL_3D[cell1], xs);
+        float ly0x = lerp(CELL_3D[cell0 + 1], CELL_3D[cell1 + 1], xs);
+        float lz0x = lerp(CELL_3D[cell0 + 2], CELL_3D[cell1 + 2], xs);
 
-        vec0 = CELL_3D[hash256(x0, y1, z0, seed)];
-        vec1 = CELL_3D[hash256(x1, y1, z0, seed)];
+        cell0 = hash256(x0, y1, z0, seed) << 2;
+        cell1 = hash256(x1, y1, z0, seed) << 2;
 
-        float lx1x = lerp(vec0.x, vec1.x, xs);
-        float ly1x = lerp(vec0.y, vec1.y, xs);
-        float lz1x = lerp(vec0.z, vec1.z, xs);
+        float lx1x = lerp(CELL_3D[cell0], CELL_3D[cell1], xs);
+        float ly1x = lerp(CELL_3D[cell0 + 1], CELL_3D[cell1 + 1], xs);
+        float lz1x = lerp(CELL_3D[cell0 + 2], CELL_3D[cell1 + 2], xs);
 
         float lx0y = lerp(lx0x, lx1x, ys);
         float ly0y = lerp(ly0x, ly1x, ys);
         float lz0y = lerp(lz0x, lz1x, ys);
 
-        vec0 = CELL_3D[hash256(x0, y0, z1, seed)];
-        vec1 = CELL_3D[hash256(x1, y0, z1, seed)];
+        cell0 = hash256(x0, y0, z1, seed) << 2;
+        cell1 = hash256(x1, y0, z1, seed) << 2;
 
-        lx0x = lerp(vec0.x, vec1.x, xs);
-        ly0x = lerp(vec0.y, vec1.y, xs);
-        lz0x = lerp(vec0.z, vec1.z, xs);
+        lx0x = lerp(CELL_3D[cell0], CELL_3D[cell1], xs);
+        ly0x = lerp(CELL_3D[cell0 + 1], CELL_3D[cell1 + 1], xs);
+        lz0x = lerp(CELL_3D[cell0 + 2], CELL_3D[cell1 + 2], xs);
 
-        vec0 = CELL_3D[hash256(x0, y1, z1, seed)];
-        vec1 = CELL_3D[hash256(x1, y1, z1, seed)];
+        cell0 = hash256(x0, y1, z1, seed) << 2;
+        cell1 = hash256(x1, y1, z1, seed) << 2;
 
-        lx1x = lerp(vec0.x, vec1.x, xs);
-        ly1x = lerp(vec0.y, vec1.y, xs);
-        lz1x = lerp(vec0.z, vec1.z, xs);
+        lx1x = lerp(CELL_3D[cell0], CELL_3D[cell1], xs);
+        ly1x = lerp(CELL_3D[cell0 + 1], CELL_3D[cell1 + 1], xs);
+        lz1x = lerp(CELL_3D[cell0 + 2], CELL_3D[cell1 + 2], xs);
 
         v3[0] += lerp(lx0y, lerp(lx0x, lx1x, ys), zs) * perturbAmp;
         v3[1] += lerp(ly0y, lerp(ly0x, ly1x, ys), zs) * perturbAmp;
@@ -6283,17 +14475,17 @@ public class Noise {
                 break;
         }
 
-        Float2 vec0 = CELL_2D[hash256(x0, y0, seed)];
-        Float2 vec1 = CELL_2D[hash256(x1, y0, seed)];
+        int cell0 = hash256(x0, y0, seed) << 1;
+        int cell1 = hash256(x1, y0, seed) << 1;
 
-        float lx0x = lerp(vec0.x, vec1.x, xs);
-        float ly0x = lerp(vec0.y, vec1.y, xs);
+        float lx0x = lerp(CELL_2D[cell0], CELL_2D[cell1], xs);
+        float ly0x = lerp(CELL_2D[cell0 + 1], CELL_2D[cell1 + 1], xs);
 
-        vec0 = CELL_2D[hash256(x0, y1, seed)];
-        vec1 = CELL_2D[hash256(x1, y1, seed)];
+        cell0 = hash256(x0, y1, seed) << 1;
+        cell1 = hash256(x1, y1, seed) << 1;
 
-        float lx1x = lerp(vec0.x, vec1.x, xs);
-        float ly1x = lerp(vec0.y, vec1.y, xs);
+        float lx1x = lerp(CELL_2D[cell0], CELL_2D[cell1], xs);
+        float ly1x = lerp(CELL_2D[cell0 + 1], CELL_2D[cell1 + 1], xs);
 
         v2[0] += lerp(lx0x, lx1x, ys) * perturbAmp;
         v2[1] += lerp(ly0x, ly1x, ys) * perturbAmp;
@@ -6315,18 +14507,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleHoneyFractalFBM(x, y);
+                return singleHoneyFractalFBM(seed, x, y);
             case BILLOW:
-                return singleHoneyFractalBillow(x, y);
+                return singleHoneyFractalBillow(seed, x, y);
             case RIDGED_MULTI:
-                return singleHoneyFractalRidgedMulti(x, y);
+                return singleHoneyFractalRidgedMulti(seed, x, y);
             default:
                 return 0;
         }
     }
 
-    private float singleHoneyFractalFBM(float x, float y) {
-        int seed = this.seed;
+    private float singleHoneyFractalFBM(int seed, float x, float y) {
         float sum = singleHoney(seed, x, y);
         float amp = 1, t;
 
@@ -6342,8 +14533,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleHoneyFractalBillow(float x, float y) {
-        int seed = this.seed;
+    private float singleHoneyFractalBillow(int seed, float x, float y) {
         float sum = Math.abs(singleHoney(seed, x, y)) * 2 - 1;
         float amp = 1, t;
 
@@ -6359,8 +14549,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleHoneyFractalRidgedMulti(float x, float y) {
-        int seed = this.seed;
+    private float singleHoneyFractalRidgedMulti(int seed, float x, float y) {
         float t;
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
@@ -6381,18 +14570,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleHoneyFractalFBM(x, y, z);
+                return singleHoneyFractalFBM(seed, x, y, z);
             case BILLOW:
-                return singleHoneyFractalBillow(x, y, z);
+                return singleHoneyFractalBillow(seed, x, y, z);
             case RIDGED_MULTI:
-                return singleHoneyFractalRidgedMulti(x, y, z);
+                return singleHoneyFractalRidgedMulti(seed, x, y, z);
             default:
                 return 0;
         }
     }
 
-    private float singleHoneyFractalFBM(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleHoneyFractalFBM(int seed, float x, float y, float z) {
         float sum = singleHoney(seed, x, y, z);
         float amp = 1;
 
@@ -6408,8 +14596,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleHoneyFractalBillow(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleHoneyFractalBillow(int seed, float x, float y, float z) {
         float sum = Math.abs(singleHoney(seed, x, y, z)) * 2 - 1;
         float amp = 1;
 
@@ -6425,8 +14612,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleHoneyFractalRidgedMulti(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleHoneyFractalRidgedMulti(int seed, float x, float y, float z) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleHoney(seed + i, x, y, z));
@@ -6449,8 +14635,7 @@ public class Noise {
     }
 
 
-    private float singleHoneyFractalFBM(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleHoneyFractalFBM(int seed, float x, float y, float z, float w) {
         float sum = singleHoney(seed, x, y, z, w);
         float amp = 1;
 
@@ -6467,8 +14652,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleHoneyFractalBillow(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleHoneyFractalBillow(int seed, float x, float y, float z, float w) {
         float sum = Math.abs(singleHoney(seed, x, y, z, w)) * 2 - 1;
         float amp = 1;
 
@@ -6485,8 +14669,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleHoneyFractalRidgedMulti(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleHoneyFractalRidgedMulti(int seed, float x, float y, float z, float w) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleHoney(seed + i, x, y,  z, w));
@@ -6517,18 +14700,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleHoneyFractalFBM(x, y, z, w, u);
+                return singleHoneyFractalFBM(seed, x, y, z, w, u);
             case BILLOW:
-                return singleHoneyFractalBillow(x, y, z, w, u);
+                return singleHoneyFractalBillow(seed, x, y, z, w, u);
             case RIDGED_MULTI:
-                return singleHoneyFractalRidgedMulti(x, y, z, w, u);
+                return singleHoneyFractalRidgedMulti(seed, x, y, z, w, u);
             default:
                 return 0;
         }
     }
 
-    private float singleHoneyFractalFBM(float x, float y, float z, float w, float u) {
-        final int seed = this.seed;
+    private float singleHoneyFractalFBM(int seed, float x, float y, float z, float w, float u) {
         float sum = singleHoney(seed, x, y, z, w, u);
         float amp = 1;
 
@@ -6546,8 +14728,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleHoneyFractalBillow(float x, float y, float z, float w, float u) {
-        final int seed = this.seed;
+    private float singleHoneyFractalBillow(int seed, float x, float y, float z, float w, float u) {
         float sum = Math.abs(singleHoney(seed, x, y, z, w, u)) * 2 - 1;
         float amp = 1;
 
@@ -6565,8 +14746,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleHoneyFractalRidgedMulti(float x, float y, float z, float w, float u) {
-        final int seed = this.seed;
+    private float singleHoneyFractalRidgedMulti(int seed, float x, float y, float z, float w, float u) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleHoney(seed + i, x, y, z, w, u));
@@ -6600,18 +14780,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleHoneyFractalFBM(x, y, z, w, u, v);
+                return singleHoneyFractalFBM(seed, x, y, z, w, u, v);
             case BILLOW:
-                return singleHoneyFractalBillow(x, y, z, w, u, v);
+                return singleHoneyFractalBillow(seed, x, y, z, w, u, v);
             case RIDGED_MULTI:
-                return singleHoneyFractalRidgedMulti(x, y, z, w, u, v);
+                return singleHoneyFractalRidgedMulti(seed, x, y, z, w, u, v);
             default:
                 return 0;
         }
     }
 
-    private float singleHoneyFractalFBM(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleHoneyFractalFBM(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = singleHoney(seed, x, y, z, w, u, v);
         float amp = 1;
 
@@ -6630,8 +14809,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleHoneyFractalBillow(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleHoneyFractalBillow(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = Math.abs(singleHoney(seed, x, y, z, w, u, v)) * 2 - 1;
         float amp = 1;
 
@@ -6650,8 +14828,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleHoneyFractalRidgedMulti(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleHoneyFractalRidgedMulti(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleHoney(seed + i, x, y, z, w, u, v));
@@ -7169,6 +15346,1063 @@ public class Noise {
     private static final float LIMIT6 = 0.8375f;
 
 
+    /**
+     * A Noise that can't be changed after it is constructed; every setter throws an UnsupportedOperationException.
+     * None of the methods in Noise that produce noise change the configuration, so once it can't change, one
+     * FrozenNoise can be called from any number of threads at the same time without locking. This includes
+     * {@link #getConfiguredNoise(float, float)}, {@link #getNoiseWithSeed(float, float, int)}, the specific methods like
+     * {@link #getSimplexFractal(float, float)}, and {@link #fillGrid(float[], int, int, float, float, float)}, which
+     * allocates any scratch space it needs for that call alone. The only state any of them change is the fixed-size
+     * cache of {@link #NOISE_LOOKUP} results, which threads can share without locking because each entry is immutable
+     * and carries its own key. A {@link FillContext} passed to the fill methods is the caller's and isn't part of the
+     * FrozenNoise, so each thread needs its own. Share a FrozenNoise between threads the usual way, like by passing it
+     * to a task submitted to an Executor or a ForkJoinPool, and each thread will see the finished configuration.
+     * <br>
+     * You can get one with {@link Noise#freeze()} or {@link #FrozenNoise(Noise)}. To change the configuration, copy it
+     * into a regular Noise with {@link Noise#Noise(Noise)}, change that, and freeze the copy. Getting different seeds
+     * from one FrozenNoise doesn't need any changes, since getNoiseWithSeed() doesn't touch the stored seed.
+     */
+    public static class FrozenNoise extends Noise {
+        /**
+         * Copies the configuration of {@code other}, which won't be changed.
+         * @param other another Noise to copy; later changes to it don't affect this
+         */
+        public FrozenNoise(Noise other) {
+            super(other);
+        }
+
+        /**
+         * Returns this FrozenNoise, since it is already frozen.
+         * @return this
+         */
+        @Override
+        public FrozenNoise freeze() {
+            return this;
+        }
+
+        /**
+         * Always throws an UnsupportedOperationException, because a FrozenNoise can't be changed.
+         */
+        @Override
+        public void setSeed(int seed) {
+            throw new UnsupportedOperationException("FrozenNoise can't be changed; use new Noise(frozen) to edit a copy");
+        }
+
+        /**
+         * Always throws an UnsupportedOperationException, because a FrozenNoise can't be changed.
+         */
+        @Override
+        public void setFrequency(float frequency) {
+            throw new UnsupportedOperationException("FrozenNoise can't be changed; use new Noise(frozen) to edit a copy");
+        }
+
+        /**
+         * Always throws an UnsupportedOperationException, because a FrozenNoise can't be changed.
+         */
+        @Override
+        public void setInterpolation(int interpolation) {
+            throw new UnsupportedOperationException("FrozenNoise can't be changed; use new Noise(frozen) to edit a copy");
+        }
+
+        /**
+         * Always throws an UnsupportedOperationException, because a FrozenNoise can't be changed.
+         */
+        @Override
+        public void setNoiseType(int noiseType) {
+            throw new UnsupportedOperationException("FrozenNoise can't be changed; use new Noise(frozen) to edit a copy");
+        }
+
+        /**
+         * Always throws an UnsupportedOperationException, because a FrozenNoise can't be changed.
+         */
+        @Override
+        public void setFractalOctaves(int octaves) {
+            throw new UnsupportedOperationException("FrozenNoise can't be changed; use new Noise(frozen) to edit a copy");
+        }
+
+        /**
+         * Always throws an UnsupportedOperationException, because a FrozenNoise can't be changed.
+         */
+        @Override
+        public void setFractalLacunarity(float lacunarity) {
+            throw new UnsupportedOperationException("FrozenNoise can't be changed; use new Noise(frozen) to edit a copy");
+        }
+
+        /**
+         * Always throws an UnsupportedOperationException, because a FrozenNoise can't be changed.
+         */
+        @Override
+        public void setFractalGain(float gain) {
+            throw new UnsupportedOperationException("FrozenNoise can't be changed; use new Noise(frozen) to edit a copy");
+        }
+
+        /**
+         * Always throws an UnsupportedOperationException, because a FrozenNoise can't be changed.
+         */
+        @Override
+        public void setFractalType(int fractalType) {
+            throw new UnsupportedOperationException("FrozenNoise can't be changed; use new Noise(frozen) to edit a copy");
+        }
+
+        /**
+         * Always throws an UnsupportedOperationException, because a FrozenNoise can't be changed.
+         */
+        @Override
+        public void setCellularDistanceFunction(int cellularDistanceFunction) {
+            throw new UnsupportedOperationException("FrozenNoise can't be changed; use new Noise(frozen) to edit a copy");
+        }
+
+        /**
+         * Always throws an UnsupportedOperationException, because a FrozenNoise can't be changed.
+         */
+        @Override
+        public void setCellularReturnType(int cellularReturnType) {
+            throw new UnsupportedOperationException("FrozenNoise can't be changed; use new Noise(frozen) to edit a copy");
+        }
+
+        /**
+         * Always throws an UnsupportedOperationException, because a FrozenNoise can't be changed.
+         */
+        @Override
+        public void setCellularNoiseLookup(Noise noise) {
+            throw new UnsupportedOperationException("FrozenNoise can't be changed; use new Noise(frozen) to edit a copy");
+        }
+
+        /**
+         * Always throws an UnsupportedOperationException, because a FrozenNoise can't be changed.
+         */
+        @Override
+        public void setGradientPerturbAmp(float gradientPerturbAmp) {
+            throw new UnsupportedOperationException("FrozenNoise can't be changed; use new Noise(frozen) to edit a copy");
+        }
+
+        /**
+         * Always throws an UnsupportedOperationException, because a FrozenNoise can't be changed.
+         */
+        @Override
+        public void setFoamSharpness(float foamSharpness) {
+            throw new UnsupportedOperationException("FrozenNoise can't be changed; use new Noise(frozen) to edit a copy");
+        }
+
+        /**
+         * Always throws an UnsupportedOperationException, because a FrozenNoise can't be changed.
+         */
+        @Override
+        public void setMutation(float mutation) {
+            throw new UnsupportedOperationException("FrozenNoise can't be changed; use new Noise(frozen) to edit a copy");
+        }
+    }
+
+    /**
+     * A Noise that remembers the hashes of the lattice corners it used most recently for Value noise, and for the
+     * value noise that Foam and Mutant noise are built from, so it only needs to hash again when a point lands in a
+     * different cell than the last point with the same seed. This is much faster when points are evaluated in order,
+     * like along the rows of an image or a voxel chunk, especially in higher dimensions (6D Value noise has 64 corners
+     * to hash per call, and Foam calls value noise several times per point). The results are identical to a regular
+     * Noise with the same configuration. {@link #fillGrid(float[], int, int, float, float, float)} and the fillVolume()
+     * methods use this automatically for the noise types it helps with; you can also construct one directly to use with
+     * any method that takes individual points, such as {@link #getConfiguredNoise(float, float, float, float, float, float)}.
+     * <br>
+     * Because it changes its cache whenever it produces noise, a ScanlineNoise must not be used by more than one thread
+     * at a time; give each thread its own.
+     */
+    public static class ScanlineNoise extends Noise {
+        private static final int SLOTS = 64;
+
+        private int[] keys2;
+        private float[] hashes2;
+        private boolean[] used2;
+        private int[] keys3;
+        private float[] hashes3;
+        private boolean[] used3;
+        private int[] keys4;
+        private float[] hashes4;
+        private boolean[] used4;
+        private int[] keys5;
+        private float[] hashes5;
+        private boolean[] used5;
+        private int[] keys6;
+        private float[] hashes6;
+        private boolean[] used6;
+        private int[] keys7;
+        private float[] hashes7;
+        private boolean[] used7;
+
+        /**
+         * Copies the configuration of {@code other}, with an empty cache.
+         * @param other another Noise to copy; it won't be changed
+         */
+        public ScanlineNoise(Noise other) {
+            super(other);
+        }
+
+        @Override
+        public float singleValue(int seed, float x, float y) {
+            int xFloor = x >= 0 ? (int) x : (int) x - 1;
+            x -= xFloor;
+            int yFloor = y >= 0 ? (int) y : (int) y - 1;
+            y -= yFloor;
+            switch (interpolation) {
+                case HERMITE:
+                    x = hermiteInterpolator(x);
+                    y = hermiteInterpolator(y);
+                    break;
+                case QUINTIC:
+                    x = quinticInterpolator(x);
+                    y = quinticInterpolator(y);
+                    break;
+            }
+            final int c = cell2(seed, xFloor * 0xD1B55, yFloor * 0xABC99);
+            final float[] h = hashes2;
+            return ((1 - y) * ((1 - x) * h[c] + x * h[c + 1]) + y * ((1 - x) * h[c + 2] + x * h[c + 3]))
+                    * 0x1p-9f;
+        }
+
+        @Override
+        public float singleValue(int seed, float x, float y, float z) {
+            int xFloor = x >= 0 ? (int) x : (int) x - 1;
+            x -= xFloor;
+            int yFloor = y >= 0 ? (int) y : (int) y - 1;
+            y -= yFloor;
+            int zFloor = z >= 0 ? (int) z : (int) z - 1;
+            z -= zFloor;
+            switch (interpolation) {
+                case HERMITE:
+                    x = hermiteInterpolator(x);
+                    y = hermiteInterpolator(y);
+                    z = hermiteInterpolator(z);
+                    break;
+                case QUINTIC:
+                    x = quinticInterpolator(x);
+                    y = quinticInterpolator(y);
+                    z = quinticInterpolator(z);
+                    break;
+            }
+            final int c = cell3(seed, xFloor * 0xDB4F1, yFloor * 0xBBE05, zFloor * 0xA0F2F);
+            final float[] h = hashes3;
+            return ((1 - z) * ((1 - y) * ((1 - x) * h[c] + x * h[c + 1]) + y * ((1 - x) * h[c + 2] + x * h[c + 3]))
+                + z * ((1 - y) * ((1 - x) * h[c + 4] + x * h[c + 5]) + y * ((1 - x) * h[c + 6] + x * h[c + 7])))
+                    * 0x1p-9f;
+        }
+
+        @Override
+        public float singleValue(int seed, float x, float y, float z, float w) {
+            int xFloor = x >= 0 ? (int) x : (int) x - 1;
+            x -= xFloor;
+            int yFloor = y >= 0 ? (int) y : (int) y - 1;
+            y -= yFloor;
+            int zFloor = z >= 0 ? (int) z : (int) z - 1;
+            z -= zFloor;
+            int wFloor = w >= 0 ? (int) w : (int) w - 1;
+            w -= wFloor;
+            switch (interpolation) {
+                case HERMITE:
+                    x = hermiteInterpolator(x);
+                    y = hermiteInterpolator(y);
+                    z = hermiteInterpolator(z);
+                    w = hermiteInterpolator(w);
+                    break;
+                case QUINTIC:
+                    x = quinticInterpolator(x);
+                    y = quinticInterpolator(y);
+                    z = quinticInterpolator(z);
+                    w = quinticInterpolator(w);
+                    break;
+            }
+            final int c = cell4(seed, xFloor * 0xE19B1, yFloor * 0xC6D1D, zFloor * 0xAF36D, wFloor * 0x9A695);
+            final float[] h = hashes4;
+            return ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c] + x * h[c + 1]) + y * ((1 - x) * h[c + 2] + x * h[c
+                + 3])) + z * ((1 - y) * ((1 - x) * h[c + 4] + x * h[c + 5]) + y * ((1 - x) * h[c + 6] + x * h[c + 7])))
+                + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 8] + x * h[c + 9]) + y * ((1 - x) * h[c + 10] + x * h[c
+                + 11])) + z * ((1 - y) * ((1 - x) * h[c + 12] + x * h[c + 13]) + y * ((1 - x) * h[c + 14] + x * h[c
+                + 15]))))
+                    * 0x1p-9f;
+        }
+
+        @Override
+        public float singleValue(int seed, float x, float y, float z, float w, float u) {
+            int xFloor = x >= 0 ? (int) x : (int) x - 1;
+            x -= xFloor;
+            int yFloor = y >= 0 ? (int) y : (int) y - 1;
+            y -= yFloor;
+            int zFloor = z >= 0 ? (int) z : (int) z - 1;
+            z -= zFloor;
+            int wFloor = w >= 0 ? (int) w : (int) w - 1;
+            w -= wFloor;
+            int uFloor = u >= 0 ? (int) u : (int) u - 1;
+            u -= uFloor;
+            switch (interpolation) {
+                case HERMITE:
+                    x = hermiteInterpolator(x);
+                    y = hermiteInterpolator(y);
+                    z = hermiteInterpolator(z);
+                    w = hermiteInterpolator(w);
+                    u = hermiteInterpolator(u);
+                    break;
+                case QUINTIC:
+                    x = quinticInterpolator(x);
+                    y = quinticInterpolator(y);
+                    z = quinticInterpolator(z);
+                    w = quinticInterpolator(w);
+                    u = quinticInterpolator(u);
+                    break;
+            }
+            final int c = cell5(seed, xFloor * 0xE60E3, yFloor * 0xCEBD7, zFloor * 0xB9C9B, wFloor * 0xA6F57, uFloor * 0x9609D);
+            final float[] h = hashes5;
+            return ((1 - u) * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c] + x * h[c + 1]) + y * ((1 - x) * h[c + 2]
+                + x * h[c + 3])) + z * ((1 - y) * ((1 - x) * h[c + 4] + x * h[c + 5]) + y * ((1 - x) * h[c + 6]
+                + x * h[c + 7]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 8] + x * h[c + 9]) + y * ((1 - x) * h[c
+                + 10] + x * h[c + 11])) + z * ((1 - y) * ((1 - x) * h[c + 12] + x * h[c + 13]) + y * ((1 - x) * h[c
+                + 14] + x * h[c + 15])))) + u * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 16] + x * h[c + 17])
+                + y * ((1 - x) * h[c + 18] + x * h[c + 19])) + z * ((1 - y) * ((1 - x) * h[c + 20] + x * h[c + 21])
+                + y * ((1 - x) * h[c + 22] + x * h[c + 23]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 24] + x * h[c
+                + 25]) + y * ((1 - x) * h[c + 26] + x * h[c + 27])) + z * ((1 - y) * ((1 - x) * h[c + 28] + x * h[c
+                + 29]) + y * ((1 - x) * h[c + 30] + x * h[c + 31])))))
+                    * 0x1p-9f;
+        }
+
+        @Override
+        public float singleValue(int seed, float x, float y, float z, float w, float u, float v) {
+            int xFloor = x >= 0 ? (int) x : (int) x - 1;
+            x -= xFloor;
+            int yFloor = y >= 0 ? (int) y : (int) y - 1;
+            y -= yFloor;
+            int zFloor = z >= 0 ? (int) z : (int) z - 1;
+            z -= zFloor;
+            int wFloor = w >= 0 ? (int) w : (int) w - 1;
+            w -= wFloor;
+            int uFloor = u >= 0 ? (int) u : (int) u - 1;
+            u -= uFloor;
+            int vFloor = v >= 0 ? (int) v : (int) v - 1;
+            v -= vFloor;
+            switch (interpolation) {
+                case HERMITE:
+                    x = hermiteInterpolator(x);
+                    y = hermiteInterpolator(y);
+                    z = hermiteInterpolator(z);
+                    w = hermiteInterpolator(w);
+                    u = hermiteInterpolator(u);
+                    v = hermiteInterpolator(v);
+                    break;
+                case QUINTIC:
+                    x = quinticInterpolator(x);
+                    y = quinticInterpolator(y);
+                    z = quinticInterpolator(z);
+                    w = quinticInterpolator(w);
+                    u = quinticInterpolator(u);
+                    v = quinticInterpolator(v);
+                    break;
+            }
+            final int c = cell6(seed, xFloor * 0xE95E1, yFloor * 0xD4BC7, zFloor * 0xC1EDB, wFloor * 0xB0C8B, uFloor * 0xA127B, vFloor * 0x92E85);
+            final float[] h = hashes6;
+            return ((1 - v) * ((1 - u) * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c] + x * h[c + 1])
+                + y * ((1 - x) * h[c + 2] + x * h[c + 3])) + z * ((1 - y) * ((1 - x) * h[c + 4] + x * h[c + 5])
+                + y * ((1 - x) * h[c + 6] + x * h[c + 7]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 8] + x * h[c
+                + 9]) + y * ((1 - x) * h[c + 10] + x * h[c + 11])) + z * ((1 - y) * ((1 - x) * h[c + 12] + x * h[c
+                + 13]) + y * ((1 - x) * h[c + 14] + x * h[c + 15]))))
+                + u * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 16] + x * h[c + 17]) + y * ((1 - x) * h[c + 18]
+                + x * h[c + 19])) + z * ((1 - y) * ((1 - x) * h[c + 20] + x * h[c + 21]) + y * ((1 - x) * h[c + 22]
+                + x * h[c + 23]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 24] + x * h[c + 25])
+                + y * ((1 - x) * h[c + 26] + x * h[c + 27])) + z * ((1 - y) * ((1 - x) * h[c + 28] + x * h[c + 29])
+                + y * ((1 - x) * h[c + 30] + x * h[c + 31])))))
+                + v * ((1 - u) * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 32] + x * h[c + 33])
+                + y * ((1 - x) * h[c + 34] + x * h[c + 35])) + z * ((1 - y) * ((1 - x) * h[c + 36] + x * h[c + 37])
+                + y * ((1 - x) * h[c + 38] + x * h[c + 39]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 40] + x * h[c
+                + 41]) + y * ((1 - x) * h[c + 42] + x * h[c + 43])) + z * ((1 - y) * ((1 - x) * h[c + 44] + x * h[c
+                + 45]) + y * ((1 - x) * h[c + 46] + x * h[c + 47]))))
+                + u * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 48] + x * h[c + 49]) + y * ((1 - x) * h[c + 50]
+                + x * h[c + 51])) + z * ((1 - y) * ((1 - x) * h[c + 52] + x * h[c + 53]) + y * ((1 - x) * h[c + 54]
+                + x * h[c + 55]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 56] + x * h[c + 57])
+                + y * ((1 - x) * h[c + 58] + x * h[c + 59])) + z * ((1 - y) * ((1 - x) * h[c + 60] + x * h[c + 61])
+                + y * ((1 - x) * h[c + 62] + x * h[c + 63]))))))
+                    * 0x1p-9f;
+        }
+
+        @Override
+        protected float valueNoise(int seed, float x, float y) {
+            int xFloor = x >= 0 ? (int) x : (int) x - 1;
+            x -= xFloor;
+            x *= x * (3 - 2 * x);
+            int yFloor = y >= 0 ? (int) y : (int) y - 1;
+            y -= yFloor;
+            y *= y * (3 - 2 * y);
+            final int c = cell2(seed, xFloor * 0xD1B55, yFloor * 0xABC99);
+            final float[] h = hashes2;
+            return ((1 - y) * ((1 - x) * h[c] + x * h[c + 1]) + y * ((1 - x) * h[c + 2] + x * h[c + 3]))
+                    * 0x1p-10f + 0.5f;
+        }
+
+        @Override
+        protected float valueNoise(int seed, float x, float y, float z) {
+            int xFloor = x >= 0 ? (int) x : (int) x - 1;
+            x -= xFloor;
+            x *= x * (3 - 2 * x);
+            int yFloor = y >= 0 ? (int) y : (int) y - 1;
+            y -= yFloor;
+            y *= y * (3 - 2 * y);
+            int zFloor = z >= 0 ? (int) z : (int) z - 1;
+            z -= zFloor;
+            z *= z * (3 - 2 * z);
+            final int c = cell3(seed, xFloor * 0xDB4F1, yFloor * 0xBBE05, zFloor * 0xA0F2F);
+            final float[] h = hashes3;
+            return ((1 - z) * ((1 - y) * ((1 - x) * h[c] + x * h[c + 1]) + y * ((1 - x) * h[c + 2] + x * h[c + 3]))
+                + z * ((1 - y) * ((1 - x) * h[c + 4] + x * h[c + 5]) + y * ((1 - x) * h[c + 6] + x * h[c + 7])))
+                    * 0x1p-10f + 0.5f;
+        }
+
+        @Override
+        protected float valueNoise(int seed, float x, float y, float z, float w) {
+            int xFloor = x >= 0 ? (int) x : (int) x - 1;
+            x -= xFloor;
+            x *= x * (3 - 2 * x);
+            int yFloor = y >= 0 ? (int) y : (int) y - 1;
+            y -= yFloor;
+            y *= y * (3 - 2 * y);
+            int zFloor = z >= 0 ? (int) z : (int) z - 1;
+            z -= zFloor;
+            z *= z * (3 - 2 * z);
+            int wFloor = w >= 0 ? (int) w : (int) w - 1;
+            w -= wFloor;
+            w *= w * (3 - 2 * w);
+            final int c = cell4(seed, xFloor * 0xE19B1, yFloor * 0xC6D1D, zFloor * 0xAF36D, wFloor * 0x9A695);
+            final float[] h = hashes4;
+            return ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c] + x * h[c + 1]) + y * ((1 - x) * h[c + 2] + x * h[c
+                + 3])) + z * ((1 - y) * ((1 - x) * h[c + 4] + x * h[c + 5]) + y * ((1 - x) * h[c + 6] + x * h[c + 7])))
+                + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 8] + x * h[c + 9]) + y * ((1 - x) * h[c + 10] + x * h[c
+                + 11])) + z * ((1 - y) * ((1 - x) * h[c + 12] + x * h[c + 13]) + y * ((1 - x) * h[c + 14] + x * h[c
+                + 15]))))
+                    * 0x1p-10f + 0.5f;
+        }
+
+        @Override
+        protected float valueNoise(int seed, float x, float y, float z, float w, float u) {
+            int xFloor = x >= 0 ? (int) x : (int) x - 1;
+            x -= xFloor;
+            x *= x * (3 - 2 * x);
+            int yFloor = y >= 0 ? (int) y : (int) y - 1;
+            y -= yFloor;
+            y *= y * (3 - 2 * y);
+            int zFloor = z >= 0 ? (int) z : (int) z - 1;
+            z -= zFloor;
+            z *= z * (3 - 2 * z);
+            int wFloor = w >= 0 ? (int) w : (int) w - 1;
+            w -= wFloor;
+            w *= w * (3 - 2 * w);
+            int uFloor = u >= 0 ? (int) u : (int) u - 1;
+            u -= uFloor;
+            u *= u * (3 - 2 * u);
+            final int c = cell5(seed, xFloor * 0xE60E3, yFloor * 0xCEBD7, zFloor * 0xB9C9B, wFloor * 0xA6F57, uFloor * 0x9609D);
+            final float[] h = hashes5;
+            return ((1 - u) * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c] + x * h[c + 1]) + y * ((1 - x) * h[c + 2]
+                + x * h[c + 3])) + z * ((1 - y) * ((1 - x) * h[c + 4] + x * h[c + 5]) + y * ((1 - x) * h[c + 6]
+                + x * h[c + 7]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 8] + x * h[c + 9]) + y * ((1 - x) * h[c
+                + 10] + x * h[c + 11])) + z * ((1 - y) * ((1 - x) * h[c + 12] + x * h[c + 13]) + y * ((1 - x) * h[c
+                + 14] + x * h[c + 15])))) + u * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 16] + x * h[c + 17])
+                + y * ((1 - x) * h[c + 18] + x * h[c + 19])) + z * ((1 - y) * ((1 - x) * h[c + 20] + x * h[c + 21])
+                + y * ((1 - x) * h[c + 22] + x * h[c + 23]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 24] + x * h[c
+                + 25]) + y * ((1 - x) * h[c + 26] + x * h[c + 27])) + z * ((1 - y) * ((1 - x) * h[c + 28] + x * h[c
+                + 29]) + y * ((1 - x) * h[c + 30] + x * h[c + 31])))))
+                    * 0x1p-10f + 0.5f;
+        }
+
+        @Override
+        protected float valueNoise(int seed, float x, float y, float z, float w, float u, float v) {
+            int xFloor = x >= 0 ? (int) x : (int) x - 1;
+            x -= xFloor;
+            x *= x * (3 - 2 * x);
+            int yFloor = y >= 0 ? (int) y : (int) y - 1;
+            y -= yFloor;
+            y *= y * (3 - 2 * y);
+            int zFloor = z >= 0 ? (int) z : (int) z - 1;
+            z -= zFloor;
+            z *= z * (3 - 2 * z);
+            int wFloor = w >= 0 ? (int) w : (int) w - 1;
+            w -= wFloor;
+            w *= w * (3 - 2 * w);
+            int uFloor = u >= 0 ? (int) u : (int) u - 1;
+            u -= uFloor;
+            u *= u * (3 - 2 * u);
+            int vFloor = v >= 0 ? (int) v : (int) v - 1;
+            v -= vFloor;
+            v *= v * (3 - 2 * v);
+            final int c = cell6(seed, xFloor * 0xE95E1, yFloor * 0xD4BC7, zFloor * 0xC1EDB, wFloor * 0xB0C8B, uFloor * 0xA127B, vFloor * 0x92E85);
+            final float[] h = hashes6;
+            return ((1 - v) * ((1 - u) * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c] + x * h[c + 1])
+                + y * ((1 - x) * h[c + 2] + x * h[c + 3])) + z * ((1 - y) * ((1 - x) * h[c + 4] + x * h[c + 5])
+                + y * ((1 - x) * h[c + 6] + x * h[c + 7]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 8] + x * h[c
+                + 9]) + y * ((1 - x) * h[c + 10] + x * h[c + 11])) + z * ((1 - y) * ((1 - x) * h[c + 12] + x * h[c
+                + 13]) + y * ((1 - x) * h[c + 14] + x * h[c + 15]))))
+                + u * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 16] + x * h[c + 17]) + y * ((1 - x) * h[c + 18]
+                + x * h[c + 19])) + z * ((1 - y) * ((1 - x) * h[c + 20] + x * h[c + 21]) + y * ((1 - x) * h[c + 22]
+                + x * h[c + 23]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 24] + x * h[c + 25])
+                + y * ((1 - x) * h[c + 26] + x * h[c + 27])) + z * ((1 - y) * ((1 - x) * h[c + 28] + x * h[c + 29])
+                + y * ((1 - x) * h[c + 30] + x * h[c + 31])))))
+                + v * ((1 - u) * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 32] + x * h[c + 33])
+                + y * ((1 - x) * h[c + 34] + x * h[c + 35])) + z * ((1 - y) * ((1 - x) * h[c + 36] + x * h[c + 37])
+                + y * ((1 - x) * h[c + 38] + x * h[c + 39]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 40] + x * h[c
+                + 41]) + y * ((1 - x) * h[c + 42] + x * h[c + 43])) + z * ((1 - y) * ((1 - x) * h[c + 44] + x * h[c
+                + 45]) + y * ((1 - x) * h[c + 46] + x * h[c + 47]))))
+                + u * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 48] + x * h[c + 49]) + y * ((1 - x) * h[c + 50]
+                + x * h[c + 51])) + z * ((1 - y) * ((1 - x) * h[c + 52] + x * h[c + 53]) + y * ((1 - x) * h[c + 54]
+                + x * h[c + 55]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 56] + x * h[c + 57])
+                + y * ((1 - x) * h[c + 58] + x * h[c + 59])) + z * ((1 - y) * ((1 - x) * h[c + 60] + x * h[c + 61])
+                + y * ((1 - x) * h[c + 62] + x * h[c + 63]))))))
+                    * 0x1p-10f + 0.5f;
+        }
+
+        @Override
+        protected float valueNoise(int seed, float x, float y, float z, float w, float u, float v, float m) {
+            int xFloor = x >= 0 ? (int) x : (int) x - 1;
+            x -= xFloor;
+            x *= x * (3 - 2 * x);
+            int yFloor = y >= 0 ? (int) y : (int) y - 1;
+            y -= yFloor;
+            y *= y * (3 - 2 * y);
+            int zFloor = z >= 0 ? (int) z : (int) z - 1;
+            z -= zFloor;
+            z *= z * (3 - 2 * z);
+            int wFloor = w >= 0 ? (int) w : (int) w - 1;
+            w -= wFloor;
+            w *= w * (3 - 2 * w);
+            int uFloor = u >= 0 ? (int) u : (int) u - 1;
+            u -= uFloor;
+            u *= u * (3 - 2 * u);
+            int vFloor = v >= 0 ? (int) v : (int) v - 1;
+            v -= vFloor;
+            v *= v * (3 - 2 * v);
+            int mFloor = m >= 0 ? (int) m : (int) m - 1;
+            m -= mFloor;
+            m *= m * (3 - 2 * m);
+            final int c = cell7(seed, xFloor * 0xEBEDF, yFloor * 0xD96EB, zFloor * 0xC862B, wFloor * 0xB8ACD, uFloor * 0xAA323, vFloor * 0x9CDA5, mFloor * 0x908E3);
+            final float[] h = hashes7;
+            return ((1 - m) * ((1 - v) * ((1 - u) * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c] + x * h[c + 1])
+                + y * ((1 - x) * h[c + 2] + x * h[c + 3])) + z * ((1 - y) * ((1 - x) * h[c + 4] + x * h[c + 5])
+                + y * ((1 - x) * h[c + 6] + x * h[c + 7]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 8] + x * h[c
+                + 9]) + y * ((1 - x) * h[c + 10] + x * h[c + 11])) + z * ((1 - y) * ((1 - x) * h[c + 12] + x * h[c
+                + 13]) + y * ((1 - x) * h[c + 14] + x * h[c + 15]))))
+                + u * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 16] + x * h[c + 17]) + y * ((1 - x) * h[c + 18]
+                + x * h[c + 19])) + z * ((1 - y) * ((1 - x) * h[c + 20] + x * h[c + 21]) + y * ((1 - x) * h[c + 22]
+                + x * h[c + 23]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 24] + x * h[c + 25])
+                + y * ((1 - x) * h[c + 26] + x * h[c + 27])) + z * ((1 - y) * ((1 - x) * h[c + 28] + x * h[c + 29])
+                + y * ((1 - x) * h[c + 30] + x * h[c + 31])))))
+                + v * ((1 - u) * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 32] + x * h[c + 33])
+                + y * ((1 - x) * h[c + 34] + x * h[c + 35])) + z * ((1 - y) * ((1 - x) * h[c + 36] + x * h[c + 37])
+                + y * ((1 - x) * h[c + 38] + x * h[c + 39]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 40] + x * h[c
+                + 41]) + y * ((1 - x) * h[c + 42] + x * h[c + 43])) + z * ((1 - y) * ((1 - x) * h[c + 44] + x * h[c
+                + 45]) + y * ((1 - x) * h[c + 46] + x * h[c + 47]))))
+                + u * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 48] + x * h[c + 49]) + y * ((1 - x) * h[c + 50]
+                + x * h[c + 51])) + z * ((1 - y) * ((1 - x) * h[c + 52] + x * h[c + 53]) + y * ((1 - x) * h[c + 54]
+                + x * h[c + 55]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 56] + x * h[c + 57])
+                + y * ((1 - x) * h[c + 58] + x * h[c + 59])) + z * ((1 - y) * ((1 - x) * h[c + 60] + x * h[c + 61])
+                + y * ((1 - x) * h[c + 62] + x * h[c + 63]))))))
+                + m * ((1 - v) * ((1 - u) * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 64] + x * h[c + 65])
+                + y * ((1 - x) * h[c + 66] + x * h[c + 67])) + z * ((1 - y) * ((1 - x) * h[c + 68] + x * h[c + 69])
+                + y * ((1 - x) * h[c + 70] + x * h[c + 71]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 72] + x * h[c
+                + 73]) + y * ((1 - x) * h[c + 74] + x * h[c + 75])) + z * ((1 - y) * ((1 - x) * h[c + 76] + x * h[c
+                + 77]) + y * ((1 - x) * h[c + 78] + x * h[c + 79]))))
+                + u * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 80] + x * h[c + 81]) + y * ((1 - x) * h[c + 82]
+                + x * h[c + 83])) + z * ((1 - y) * ((1 - x) * h[c + 84] + x * h[c + 85]) + y * ((1 - x) * h[c + 86]
+                + x * h[c + 87]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 88] + x * h[c + 89])
+                + y * ((1 - x) * h[c + 90] + x * h[c + 91])) + z * ((1 - y) * ((1 - x) * h[c + 92] + x * h[c + 93])
+                + y * ((1 - x) * h[c + 94] + x * h[c + 95])))))
+                + v * ((1 - u) * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 96] + x * h[c + 97])
+                + y * ((1 - x) * h[c + 98] + x * h[c + 99])) + z * ((1 - y) * ((1 - x) * h[c + 100] + x * h[c + 101])
+                + y * ((1 - x) * h[c + 102] + x * h[c + 103]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 104]
+                + x * h[c + 105]) + y * ((1 - x) * h[c + 106] + x * h[c + 107])) + z * ((1 - y) * ((1 - x) * h[c + 108]
+                + x * h[c + 109]) + y * ((1 - x) * h[c + 110] + x * h[c + 111]))))
+                + u * ((1 - w) * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 112] + x * h[c + 113]) + y * ((1 - x) * h[c
+                + 114] + x * h[c + 115])) + z * ((1 - y) * ((1 - x) * h[c + 116] + x * h[c + 117]) + y * ((1 - x) * h[c
+                + 118] + x * h[c + 119]))) + w * ((1 - z) * ((1 - y) * ((1 - x) * h[c + 120] + x * h[c + 121])
+                + y * ((1 - x) * h[c + 122] + x * h[c + 123])) + z * ((1 - y) * ((1 - x) * h[c + 124] + x * h[c + 125])
+                + y * ((1 - x) * h[c + 126] + x * h[c + 127])))))))
+                    * 0x1p-10f + 0.5f;
+        }
+
+        /**
+         * Makes sure the slot for {@code seed} holds the 4 corner hashes of the cell with the given premultiplied
+         * floors, and returns where those hashes start in {@link #hashes2}.
+         */
+        private int cell2(final int seed, final int x, final int y) {
+            if (used2 == null) {
+                keys2 = new int[SLOTS * 3];
+                hashes2 = new float[SLOTS << 2];
+                used2 = new boolean[SLOTS];
+            }
+            final int slot = seed * 0x9E3779B9 >>> 26, k = slot * 3, c = slot << 2;
+            final int[] keys = keys2;
+            if (!used2[slot] || keys[k] != seed || keys[k + 1] != x || keys[k + 2] != y) {
+                used2[slot] = true;
+                keys[k] = seed;
+                keys[k + 1] = x;
+                keys[k + 2] = y;
+                final float[] h = hashes2;
+                h[c] = hashPart1024(x, y, seed);
+                h[c + 1] = hashPart1024(x + 0xD1B55, y, seed);
+                h[c + 2] = hashPart1024(x, y + 0xABC99, seed);
+                h[c + 3] = hashPart1024(x + 0xD1B55, y + 0xABC99, seed);
+            }
+            return c;
+        }
+
+        /**
+         * Makes sure the slot for {@code seed} holds the 8 corner hashes of the cell with the given premultiplied
+         * floors, and returns where those hashes start in {@link #hashes3}.
+         */
+        private int cell3(final int seed, final int x, final int y, final int z) {
+            if (used3 == null) {
+                keys3 = new int[SLOTS * 4];
+                hashes3 = new float[SLOTS << 3];
+                used3 = new boolean[SLOTS];
+            }
+            final int slot = seed * 0x9E3779B9 >>> 26, k = slot * 4, c = slot << 3;
+            final int[] keys = keys3;
+            if (!used3[slot] || keys[k] != seed || keys[k + 1] != x || keys[k + 2] != y || keys[k + 3] != z) {
+                used3[slot] = true;
+                keys[k] = seed;
+                keys[k + 1] = x;
+                keys[k + 2] = y;
+                keys[k + 3] = z;
+                final float[] h = hashes3;
+                h[c] = hashPart1024(x, y, z, seed);
+                h[c + 1] = hashPart1024(x + 0xDB4F1, y, z, seed);
+                h[c + 2] = hashPart1024(x, y + 0xBBE05, z, seed);
+                h[c + 3] = hashPart1024(x + 0xDB4F1, y + 0xBBE05, z, seed);
+                h[c + 4] = hashPart1024(x, y, z + 0xA0F2F, seed);
+                h[c + 5] = hashPart1024(x + 0xDB4F1, y, z + 0xA0F2F, seed);
+                h[c + 6] = hashPart1024(x, y + 0xBBE05, z + 0xA0F2F, seed);
+                h[c + 7] = hashPart1024(x + 0xDB4F1, y + 0xBBE05, z + 0xA0F2F, seed);
+            }
+            return c;
+        }
+
+        /**
+         * Makes sure the slot for {@code seed} holds the 16 corner hashes of the cell with the given premultiplied
+         * floors, and returns where those hashes start in {@link #hashes4}.
+         */
+        private int cell4(final int seed, final int x, final int y, final int z, final int w) {
+            if (used4 == null) {
+                keys4 = new int[SLOTS * 5];
+                hashes4 = new float[SLOTS << 4];
+                used4 = new boolean[SLOTS];
+            }
+            final int slot = seed * 0x9E3779B9 >>> 26, k = slot * 5, c = slot << 4;
+            final int[] keys = keys4;
+            if (!used4[slot] || keys[k] != seed || keys[k + 1] != x || keys[k + 2] != y || keys[k + 3] != z
+                    || keys[k + 4] != w) {
+                used4[slot] = true;
+                keys[k] = seed;
+                keys[k + 1] = x;
+                keys[k + 2] = y;
+                keys[k + 3] = z;
+                keys[k + 4] = w;
+                final float[] h = hashes4;
+                h[c] = hashPart1024(x, y, z, w, seed);
+                h[c + 1] = hashPart1024(x + 0xE19B1, y, z, w, seed);
+                h[c + 2] = hashPart1024(x, y + 0xC6D1D, z, w, seed);
+                h[c + 3] = hashPart1024(x + 0xE19B1, y + 0xC6D1D, z, w, seed);
+                h[c + 4] = hashPart1024(x, y, z + 0xAF36D, w, seed);
+                h[c + 5] = hashPart1024(x + 0xE19B1, y, z + 0xAF36D, w, seed);
+                h[c + 6] = hashPart1024(x, y + 0xC6D1D, z + 0xAF36D, w, seed);
+                h[c + 7] = hashPart1024(x + 0xE19B1, y + 0xC6D1D, z + 0xAF36D, w, seed);
+                h[c + 8] = hashPart1024(x, y, z, w + 0x9A695, seed);
+                h[c + 9] = hashPart1024(x + 0xE19B1, y, z, w + 0x9A695, seed);
+                h[c + 10] = hashPart1024(x, y + 0xC6D1D, z, w + 0x9A695, seed);
+                h[c + 11] = hashPart1024(x + 0xE19B1, y + 0xC6D1D, z, w + 0x9A695, seed);
+                h[c + 12] = hashPart1024(x, y, z + 0xAF36D, w + 0x9A695, seed);
+                h[c + 13] = hashPart1024(x + 0xE19B1, y, z + 0xAF36D, w + 0x9A695, seed);
+                h[c + 14] = hashPart1024(x, y + 0xC6D1D, z + 0xAF36D, w + 0x9A695, seed);
+                h[c + 15] = hashPart1024(x + 0xE19B1, y + 0xC6D1D, z + 0xAF36D, w + 0x9A695, seed);
+            }
+            return c;
+        }
+
+        /**
+         * Makes sure the slot for {@code seed} holds the 32 corner hashes of the cell with the given premultiplied
+         * floors, and returns where those hashes start in {@link #hashes5}.
+         */
+        private int cell5(final int seed, final int x, final int y, final int z, final int w, final int u) {
+            if (used5 == null) {
+                keys5 = new int[SLOTS * 6];
+                hashes5 = new float[SLOTS << 5];
+                used5 = new boolean[SLOTS];
+            }
+            final int slot = seed * 0x9E3779B9 >>> 26, k = slot * 6, c = slot << 5;
+            final int[] keys = keys5;
+            if (!used5[slot] || keys[k] != seed || keys[k + 1] != x || keys[k + 2] != y || keys[k + 3] != z
+                    || keys[k + 4] != w || keys[k + 5] != u) {
+                used5[slot] = true;
+                keys[k] = seed;
+                keys[k + 1] = x;
+                keys[k + 2] = y;
+                keys[k + 3] = z;
+                keys[k + 4] = w;
+                keys[k + 5] = u;
+                final float[] h = hashes5;
+                h[c] = hashPart1024(x, y, z, w, u, seed);
+                h[c + 1] = hashPart1024(x + 0xE60E3, y, z, w, u, seed);
+                h[c + 2] = hashPart1024(x, y + 0xCEBD7, z, w, u, seed);
+                h[c + 3] = hashPart1024(x + 0xE60E3, y + 0xCEBD7, z, w, u, seed);
+                h[c + 4] = hashPart1024(x, y, z + 0xB9C9B, w, u, seed);
+                h[c + 5] = hashPart1024(x + 0xE60E3, y, z + 0xB9C9B, w, u, seed);
+                h[c + 6] = hashPart1024(x, y + 0xCEBD7, z + 0xB9C9B, w, u, seed);
+                h[c + 7] = hashPart1024(x + 0xE60E3, y + 0xCEBD7, z + 0xB9C9B, w, u, seed);
+                h[c + 8] = hashPart1024(x, y, z, w + 0xA6F57, u, seed);
+                h[c + 9] = hashPart1024(x + 0xE60E3, y, z, w + 0xA6F57, u, seed);
+                h[c + 10] = hashPart1024(x, y + 0xCEBD7, z, w + 0xA6F57, u, seed);
+                h[c + 11] = hashPart1024(x + 0xE60E3, y + 0xCEBD7, z, w + 0xA6F57, u, seed);
+                h[c + 12] = hashPart1024(x, y, z + 0xB9C9B, w + 0xA6F57, u, seed);
+                h[c + 13] = hashPart1024(x + 0xE60E3, y, z + 0xB9C9B, w + 0xA6F57, u, seed);
+                h[c + 14] = hashPart1024(x, y + 0xCEBD7, z + 0xB9C9B, w + 0xA6F57, u, seed);
+                h[c + 15] = hashPart1024(x + 0xE60E3, y + 0xCEBD7, z + 0xB9C9B, w + 0xA6F57, u, seed);
+                h[c + 16] = hashPart1024(x, y, z, w, u + 0x9609D, seed);
+                h[c + 17] = hashPart1024(x + 0xE60E3, y, z, w, u + 0x9609D, seed);
+                h[c + 18] = hashPart1024(x, y + 0xCEBD7, z, w, u + 0x9609D, seed);
+                h[c + 19] = hashPart1024(x + 0xE60E3, y + 0xCEBD7, z, w, u + 0x9609D, seed);
+                h[c + 20] = hashPart1024(x, y, z + 0xB9C9B, w, u + 0x9609D, seed);
+                h[c + 21] = hashPart1024(x + 0xE60E3, y, z + 0xB9C9B, w, u + 0x9609D, seed);
+                h[c + 22] = hashPart1024(x, y + 0xCEBD7, z + 0xB9C9B, w, u + 0x9609D, seed);
+                h[c + 23] = hashPart1024(x + 0xE60E3, y + 0xCEBD7, z + 0xB9C9B, w, u + 0x9609D, seed);
+                h[c + 24] = hashPart1024(x, y, z, w + 0xA6F57, u + 0x9609D, seed);
+                h[c + 25] = hashPart1024(x + 0xE60E3, y, z, w + 0xA6F57, u + 0x9609D, seed);
+                h[c + 26] = hashPart1024(x, y + 0xCEBD7, z, w + 0xA6F57, u + 0x9609D, seed);
+                h[c + 27] = hashPart1024(x + 0xE60E3, y + 0xCEBD7, z, w + 0xA6F57, u + 0x9609D, seed);
+                h[c + 28] = hashPart1024(x, y, z + 0xB9C9B, w + 0xA6F57, u + 0x9609D, seed);
+                h[c + 29] = hashPart1024(x + 0xE60E3, y, z + 0xB9C9B, w + 0xA6F57, u + 0x9609D, seed);
+                h[c + 30] = hashPart1024(x, y + 0xCEBD7, z + 0xB9C9B, w + 0xA6F57, u + 0x9609D, seed);
+                h[c + 31] = hashPart1024(x + 0xE60E3, y + 0xCEBD7, z + 0xB9C9B, w + 0xA6F57, u + 0x9609D, seed);
+            }
+            return c;
+        }
+
+        /**
+         * Makes sure the slot for {@code seed} holds the 64 corner hashes of the cell with the given premultiplied
+         * floors, and returns where those hashes start in {@link #hashes6}.
+         */
+        private int cell6(final int seed, final int x, final int y, final int z, final int w, final int u, final int v) {
+            if (used6 == null) {
+                keys6 = new int[SLOTS * 7];
+                hashes6 = new float[SLOTS << 6];
+                used6 = new boolean[SLOTS];
+            }
+            final int slot = seed * 0x9E3779B9 >>> 26, k = slot * 7, c = slot << 6;
+            final int[] keys = keys6;
+            if (!used6[slot] || keys[k] != seed || keys[k + 1] != x || keys[k + 2] != y || keys[k + 3] != z
+                    || keys[k + 4] != w || keys[k + 5] != u || keys[k + 6] != v) {
+                used6[slot] = true;
+                keys[k] = seed;
+                keys[k + 1] = x;
+                keys[k + 2] = y;
+                keys[k + 3] = z;
+                keys[k + 4] = w;
+                keys[k + 5] = u;
+                keys[k + 6] = v;
+                final float[] h = hashes6;
+                h[c] = hashPart1024(x, y, z, w, u, v, seed);
+                h[c + 1] = hashPart1024(x + 0xE95E1, y, z, w, u, v, seed);
+                h[c + 2] = hashPart1024(x, y + 0xD4BC7, z, w, u, v, seed);
+                h[c + 3] = hashPart1024(x + 0xE95E1, y + 0xD4BC7, z, w, u, v, seed);
+                h[c + 4] = hashPart1024(x, y, z + 0xC1EDB, w, u, v, seed);
+                h[c + 5] = hashPart1024(x + 0xE95E1, y, z + 0xC1EDB, w, u, v, seed);
+                h[c + 6] = hashPart1024(x, y + 0xD4BC7, z + 0xC1EDB, w, u, v, seed);
+                h[c + 7] = hashPart1024(x + 0xE95E1, y + 0xD4BC7, z + 0xC1EDB, w, u, v, seed);
+                h[c + 8] = hashPart1024(x, y, z, w + 0xB0C8B, u, v, seed);
+                h[c + 9] = hashPart1024(x + 0xE95E1, y, z, w + 0xB0C8B, u, v, seed);
+                h[c + 10] = hashPart1024(x, y + 0xD4BC7, z, w + 0xB0C8B, u, v, seed);
+                h[c + 11] = hashPart1024(x + 0xE95E1, y + 0xD4BC7, z, w + 0xB0C8B, u, v, seed);
+                h[c + 12] = hashPart1024(x, y, z + 0xC1EDB, w + 0xB0C8B, u, v, seed);
+                h[c + 13] = hashPart1024(x + 0xE95E1, y, z + 0xC1EDB, w + 0xB0C8B, u, v, seed);
+                h[c + 14] = hashPart1024(x, y + 0xD4BC7, z + 0xC1EDB, w + 0xB0C8B, u, v, seed);
+                h[c + 15] = hashPart1024(x + 0xE95E1, y + 0xD4BC7, z + 0xC1EDB, w + 0xB0C8B, u, v, seed);
+                h[c + 16] = hashPart1024(x, y, z, w, u + 0xA127B, v, seed);
+                h[c + 17] = hashPart1024(x + 0xE95E1, y, z, w, u + 0xA127B, v, seed);
+                h[c + 18] = hashPart1024(x, y + 0xD4BC7, z, w, u + 0xA127B, v, seed);
+                h[c + 19] = hashPart1024(x + 0xE95E1, y + 0xD4BC7, z, w, u + 0xA127B, v, seed);
+                h[c + 20] = hashPart1024(x, y, z + 0xC1EDB, w, u + 0xA127B, v, seed);
+                h[c + 21] = hashPart1024(x + 0xE95E1, y, z + 0xC1EDB, w, u + 0xA127B, v, seed);
+                h[c + 22] = hashPart1024(x, y + 0xD4BC7, z + 0xC1EDB, w, u + 0xA127B, v, seed);
+                h[c + 23] = hashPart1024(x + 0xE95E1, y + 0xD4BC7, z + 0xC1EDB, w, u + 0xA127B, v, seed);
+                h[c + 24] = hashPart1024(x, y, z, w + 0xB0C8B, u + 0xA127B, v, seed);
+                h[c + 25] = hashPart1024(x + 0xE95E1, y, z, w + 0xB0C8B, u + 0xA127B, v, seed);
+                h[c + 26] = hashPart1024(x, y + 0xD4BC7, z, w + 0xB0C8B, u + 0xA127B, v, seed);
+                h[c + 27] = hashPart1024(x + 0xE95E1, y + 0xD4BC7, z, w + 0xB0C8B, u + 0xA127B, v, seed);
+                h[c + 28] = hashPart1024(x, y, z + 0xC1EDB, w + 0xB0C8B, u + 0xA127B, v, seed);
+                h[c + 29] = hashPart1024(x + 0xE95E1, y, z + 0xC1EDB, w + 0xB0C8B, u + 0xA127B, v, seed);
+                h[c + 30] = hashPart1024(x, y + 0xD4BC7, z + 0xC1EDB, w + 0xB0C8B, u + 0xA127B, v, seed);
+                h[c + 31] = hashPart1024(x + 0xE95E1, y + 0xD4BC7, z + 0xC1EDB, w + 0xB0C8B, u + 0xA127B, v, seed);
+                h[c + 32] = hashPart1024(x, y, z, w, u, v + 0x92E85, seed);
+                h[c + 33] = hashPart1024(x + 0xE95E1, y, z, w, u, v + 0x92E85, seed);
+                h[c + 34] = hashPart1024(x, y + 0xD4BC7, z, w, u, v + 0x92E85, seed);
+                h[c + 35] = hashPart1024(x + 0xE95E1, y + 0xD4BC7, z, w, u, v + 0x92E85, seed);
+                h[c + 36] = hashPart1024(x, y, z + 0xC1EDB, w, u, v + 0x92E85, seed);
+                h[c + 37] = hashPart1024(x + 0xE95E1, y, z + 0xC1EDB, w, u, v + 0x92E85, seed);
+                h[c + 38] = hashPart1024(x, y + 0xD4BC7, z + 0xC1EDB, w, u, v + 0x92E85, seed);
+                h[c + 39] = hashPart1024(x + 0xE95E1, y + 0xD4BC7, z + 0xC1EDB, w, u, v + 0x92E85, seed);
+                h[c + 40] = hashPart1024(x, y, z, w + 0xB0C8B, u, v + 0x92E85, seed);
+                h[c + 41] = hashPart1024(x + 0xE95E1, y, z, w + 0xB0C8B, u, v + 0x92E85, seed);
+                h[c + 42] = hashPart1024(x, y + 0xD4BC7, z, w + 0xB0C8B, u, v + 0x92E85, seed);
+                h[c + 43] = hashPart1024(x + 0xE95E1, y + 0xD4BC7, z, w + 0xB0C8B, u, v + 0x92E85, seed);
+                h[c + 44] = hashPart1024(x, y, z + 0xC1EDB, w + 0xB0C8B, u, v + 0x92E85, seed);
+                h[c + 45] = hashPart1024(x + 0xE95E1, y, z + 0xC1EDB, w + 0xB0C8B, u, v + 0x92E85, seed);
+                h[c + 46] = hashPart1024(x, y + 0xD4BC7, z + 0xC1EDB, w + 0xB0C8B, u, v + 0x92E85, seed);
+                h[c + 47] = hashPart1024(x + 0xE95E1, y + 0xD4BC7, z + 0xC1EDB, w + 0xB0C8B, u, v + 0x92E85, seed);
+                h[c + 48] = hashPart1024(x, y, z, w, u + 0xA127B, v + 0x92E85, seed);
+                h[c + 49] = hashPart1024(x + 0xE95E1, y, z, w, u + 0xA127B, v + 0x92E85, seed);
+                h[c + 50] = hashPart1024(x, y + 0xD4BC7, z, w, u + 0xA127B, v + 0x92E85, seed);
+                h[c + 51] = hashPart1024(x + 0xE95E1, y + 0xD4BC7, z, w, u + 0xA127B, v + 0x92E85, seed);
+                h[c + 52] = hashPart1024(x, y, z + 0xC1EDB, w, u + 0xA127B, v + 0x92E85, seed);
+                h[c + 53] = hashPart1024(x + 0xE95E1, y, z + 0xC1EDB, w, u + 0xA127B, v + 0x92E85, seed);
+                h[c + 54] = hashPart1024(x, y + 0xD4BC7, z + 0xC1EDB, w, u + 0xA127B, v + 0x92E85, seed);
+                h[c + 55] = hashPart1024(x + 0xE95E1, y + 0xD4BC7, z + 0xC1EDB, w, u + 0xA127B, v + 0x92E85, seed);
+                h[c + 56] = hashPart1024(x, y, z, w + 0xB0C8B, u + 0xA127B, v + 0x92E85, seed);
+                h[c + 57] = hashPart1024(x + 0xE95E1, y, z, w + 0xB0C8B, u + 0xA127B, v + 0x92E85, seed);
+                h[c + 58] = hashPart1024(x, y + 0xD4BC7, z, w + 0xB0C8B, u + 0xA127B, v + 0x92E85, seed);
+                h[c + 59] = hashPart1024(x + 0xE95E1, y + 0xD4BC7, z, w + 0xB0C8B, u + 0xA127B, v + 0x92E85, seed);
+                h[c + 60] = hashPart1024(x, y, z + 0xC1EDB, w + 0xB0C8B, u + 0xA127B, v + 0x92E85, seed);
+                h[c + 61] = hashPart1024(x + 0xE95E1, y, z + 0xC1EDB, w + 0xB0C8B, u + 0xA127B, v + 0x92E85, seed);
+                h[c + 62] = hashPart1024(x, y + 0xD4BC7, z + 0xC1EDB, w + 0xB0C8B, u + 0xA127B, v + 0x92E85, seed);
+                h[c + 63] = hashPart1024(x + 0xE95E1, y + 0xD4BC7, z + 0xC1EDB, w + 0xB0C8B, u + 0xA127B, v + 0x92E85, seed);
+            }
+            return c;
+        }
+
+        /**
+         * Makes sure the slot for {@code seed} holds the 128 corner hashes of the cell with the given premultiplied
+         * floors, and returns where those hashes start in {@link #hashes7}.
+         */
+        private int cell7(final int seed, final int x, final int y, final int z, final int w, final int u, final int v, final int m) {
+            if (used7 == null) {
+                keys7 = new int[SLOTS * 8];
+                hashes7 = new float[SLOTS << 7];
+                used7 = new boolean[SLOTS];
+            }
+            final int slot = seed * 0x9E3779B9 >>> 26, k = slot * 8, c = slot << 7;
+            final int[] keys = keys7;
+            if (!used7[slot] || keys[k] != seed || keys[k + 1] != x || keys[k + 2] != y || keys[k + 3] != z
+                    || keys[k + 4] != w || keys[k + 5] != u || keys[k + 6] != v || keys[k + 7] != m) {
+                used7[slot] = true;
+                keys[k] = seed;
+                keys[k + 1] = x;
+                keys[k + 2] = y;
+                keys[k + 3] = z;
+                keys[k + 4] = w;
+                keys[k + 5] = u;
+                keys[k + 6] = v;
+                keys[k + 7] = m;
+                final float[] h = hashes7;
+                h[c] = hashPart1024(x, y, z, w, u, v, m, seed);
+                h[c + 1] = hashPart1024(x + 0xEBEDF, y, z, w, u, v, m, seed);
+                h[c + 2] = hashPart1024(x, y + 0xD96EB, z, w, u, v, m, seed);
+                h[c + 3] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z, w, u, v, m, seed);
+                h[c + 4] = hashPart1024(x, y, z + 0xC862B, w, u, v, m, seed);
+                h[c + 5] = hashPart1024(x + 0xEBEDF, y, z + 0xC862B, w, u, v, m, seed);
+                h[c + 6] = hashPart1024(x, y + 0xD96EB, z + 0xC862B, w, u, v, m, seed);
+                h[c + 7] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z + 0xC862B, w, u, v, m, seed);
+                h[c + 8] = hashPart1024(x, y, z, w + 0xB8ACD, u, v, m, seed);
+                h[c + 9] = hashPart1024(x + 0xEBEDF, y, z, w + 0xB8ACD, u, v, m, seed);
+                h[c + 10] = hashPart1024(x, y + 0xD96EB, z, w + 0xB8ACD, u, v, m, seed);
+                h[c + 11] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z, w + 0xB8ACD, u, v, m, seed);
+                h[c + 12] = hashPart1024(x, y, z + 0xC862B, w + 0xB8ACD, u, v, m, seed);
+                h[c + 13] = hashPart1024(x + 0xEBEDF, y, z + 0xC862B, w + 0xB8ACD, u, v, m, seed);
+                h[c + 14] = hashPart1024(x, y + 0xD96EB, z + 0xC862B, w + 0xB8ACD, u, v, m, seed);
+                h[c + 15] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z + 0xC862B, w + 0xB8ACD, u, v, m, seed);
+                h[c + 16] = hashPart1024(x, y, z, w, u + 0xAA323, v, m, seed);
+                h[c + 17] = hashPart1024(x + 0xEBEDF, y, z, w, u + 0xAA323, v, m, seed);
+                h[c + 18] = hashPart1024(x, y + 0xD96EB, z, w, u + 0xAA323, v, m, seed);
+                h[c + 19] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z, w, u + 0xAA323, v, m, seed);
+                h[c + 20] = hashPart1024(x, y, z + 0xC862B, w, u + 0xAA323, v, m, seed);
+                h[c + 21] = hashPart1024(x + 0xEBEDF, y, z + 0xC862B, w, u + 0xAA323, v, m, seed);
+                h[c + 22] = hashPart1024(x, y + 0xD96EB, z + 0xC862B, w, u + 0xAA323, v, m, seed);
+                h[c + 23] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z + 0xC862B, w, u + 0xAA323, v, m, seed);
+                h[c + 24] = hashPart1024(x, y, z, w + 0xB8ACD, u + 0xAA323, v, m, seed);
+                h[c + 25] = hashPart1024(x + 0xEBEDF, y, z, w + 0xB8ACD, u + 0xAA323, v, m, seed);
+                h[c + 26] = hashPart1024(x, y + 0xD96EB, z, w + 0xB8ACD, u + 0xAA323, v, m, seed);
+                h[c + 27] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z, w + 0xB8ACD, u + 0xAA323, v, m, seed);
+                h[c + 28] = hashPart1024(x, y, z + 0xC862B, w + 0xB8ACD, u + 0xAA323, v, m, seed);
+                h[c + 29] = hashPart1024(x + 0xEBEDF, y, z + 0xC862B, w + 0xB8ACD, u + 0xAA323, v, m, seed);
+                h[c + 30] = hashPart1024(x, y + 0xD96EB, z + 0xC862B, w + 0xB8ACD, u + 0xAA323, v, m, seed);
+                h[c + 31] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z + 0xC862B, w + 0xB8ACD, u + 0xAA323, v, m, seed);
+                h[c + 32] = hashPart1024(x, y, z, w, u, v + 0x9CDA5, m, seed);
+                h[c + 33] = hashPart1024(x + 0xEBEDF, y, z, w, u, v + 0x9CDA5, m, seed);
+                h[c + 34] = hashPart1024(x, y + 0xD96EB, z, w, u, v + 0x9CDA5, m, seed);
+                h[c + 35] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z, w, u, v + 0x9CDA5, m, seed);
+                h[c + 36] = hashPart1024(x, y, z + 0xC862B, w, u, v + 0x9CDA5, m, seed);
+                h[c + 37] = hashPart1024(x + 0xEBEDF, y, z + 0xC862B, w, u, v + 0x9CDA5, m, seed);
+                h[c + 38] = hashPart1024(x, y + 0xD96EB, z + 0xC862B, w, u, v + 0x9CDA5, m, seed);
+                h[c + 39] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z + 0xC862B, w, u, v + 0x9CDA5, m, seed);
+                h[c + 40] = hashPart1024(x, y, z, w + 0xB8ACD, u, v + 0x9CDA5, m, seed);
+                h[c + 41] = hashPart1024(x + 0xEBEDF, y, z, w + 0xB8ACD, u, v + 0x9CDA5, m, seed);
+                h[c + 42] = hashPart1024(x, y + 0xD96EB, z, w + 0xB8ACD, u, v + 0x9CDA5, m, seed);
+                h[c + 43] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z, w + 0xB8ACD, u, v + 0x9CDA5, m, seed);
+                h[c + 44] = hashPart1024(x, y, z + 0xC862B, w + 0xB8ACD, u, v + 0x9CDA5, m, seed);
+                h[c + 45] = hashPart1024(x + 0xEBEDF, y, z + 0xC862B, w + 0xB8ACD, u, v + 0x9CDA5, m, seed);
+                h[c + 46] = hashPart1024(x, y + 0xD96EB, z + 0xC862B, w + 0xB8ACD, u, v + 0x9CDA5, m, seed);
+                h[c + 47] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z + 0xC862B, w + 0xB8ACD, u, v + 0x9CDA5, m, seed);
+                h[c + 48] = hashPart1024(x, y, z, w, u + 0xAA323, v + 0x9CDA5, m, seed);
+                h[c + 49] = hashPart1024(x + 0xEBEDF, y, z, w, u + 0xAA323, v + 0x9CDA5, m, seed);
+                h[c + 50] = hashPart1024(x, y + 0xD96EB, z, w, u + 0xAA323, v + 0x9CDA5, m, seed);
+                h[c + 51] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z, w, u + 0xAA323, v + 0x9CDA5, m, seed);
+                h[c + 52] = hashPart1024(x, y, z + 0xC862B, w, u + 0xAA323, v + 0x9CDA5, m, seed);
+                h[c + 53] = hashPart1024(x + 0xEBEDF, y, z + 0xC862B, w, u + 0xAA323, v + 0x9CDA5, m, seed);
+                h[c + 54] = hashPart1024(x, y + 0xD96EB, z + 0xC862B, w, u + 0xAA323, v + 0x9CDA5, m, seed);
+                h[c + 55] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z + 0xC862B, w, u + 0xAA323, v + 0x9CDA5, m, seed);
+                h[c + 56] = hashPart1024(x, y, z, w + 0xB8ACD, u + 0xAA323, v + 0x9CDA5, m, seed);
+                h[c + 57] = hashPart1024(x + 0xEBEDF, y, z, w + 0xB8ACD, u + 0xAA323, v + 0x9CDA5, m, seed);
+                h[c + 58] = hashPart1024(x, y + 0xD96EB, z, w + 0xB8ACD, u + 0xAA323, v + 0x9CDA5, m, seed);
+                h[c + 59] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z, w + 0xB8ACD, u + 0xAA323, v + 0x9CDA5, m, seed);
+                h[c + 60] = hashPart1024(x, y, z + 0xC862B, w + 0xB8ACD, u + 0xAA323, v + 0x9CDA5, m, seed);
+                h[c + 61] = hashPart1024(x + 0xEBEDF, y, z + 0xC862B, w + 0xB8ACD, u + 0xAA323, v + 0x9CDA5, m, seed);
+                h[c + 62] = hashPart1024(x, y + 0xD96EB, z + 0xC862B, w + 0xB8ACD, u + 0xAA323, v + 0x9CDA5, m, seed);
+                h[c + 63] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z + 0xC862B, w + 0xB8ACD, u + 0xAA323, v + 0x9CDA5, m, seed);
+                h[c + 64] = hashPart1024(x, y, z, w, u, v, m + 0x908E3, seed);
+                h[c + 65] = hashPart1024(x + 0xEBEDF, y, z, w, u, v, m + 0x908E3, seed);
+                h[c + 66] = hashPart1024(x, y + 0xD96EB, z, w, u, v, m + 0x908E3, seed);
+                h[c + 67] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z, w, u, v, m + 0x908E3, seed);
+                h[c + 68] = hashPart1024(x, y, z + 0xC862B, w, u, v, m + 0x908E3, seed);
+                h[c + 69] = hashPart1024(x + 0xEBEDF, y, z + 0xC862B, w, u, v, m + 0x908E3, seed);
+                h[c + 70] = hashPart1024(x, y + 0xD96EB, z + 0xC862B, w, u, v, m + 0x908E3, seed);
+                h[c + 71] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z + 0xC862B, w, u, v, m + 0x908E3, seed);
+                h[c + 72] = hashPart1024(x, y, z, w + 0xB8ACD, u, v, m + 0x908E3, seed);
+                h[c + 73] = hashPart1024(x + 0xEBEDF, y, z, w + 0xB8ACD, u, v, m + 0x908E3, seed);
+                h[c + 74] = hashPart1024(x, y + 0xD96EB, z, w + 0xB8ACD, u, v, m + 0x908E3, seed);
+                h[c + 75] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z, w + 0xB8ACD, u, v, m + 0x908E3, seed);
+                h[c + 76] = hashPart1024(x, y, z + 0xC862B, w + 0xB8ACD, u, v, m + 0x908E3, seed);
+                h[c + 77] = hashPart1024(x + 0xEBEDF, y, z + 0xC862B, w + 0xB8ACD, u, v, m + 0x908E3, seed);
+                h[c + 78] = hashPart1024(x, y + 0xD96EB, z + 0xC862B, w + 0xB8ACD, u, v, m + 0x908E3, seed);
+                h[c + 79] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z + 0xC862B, w + 0xB8ACD, u, v, m + 0x908E3, seed);
+                h[c + 80] = hashPart1024(x, y, z, w, u + 0xAA323, v, m + 0x908E3, seed);
+                h[c + 81] = hashPart1024(x + 0xEBEDF, y, z, w, u + 0xAA323, v, m + 0x908E3, seed);
+                h[c + 82] = hashPart1024(x, y + 0xD96EB, z, w, u + 0xAA323, v, m + 0x908E3, seed);
+                h[c + 83] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z, w, u + 0xAA323, v, m + 0x908E3, seed);
+                h[c + 84] = hashPart1024(x, y, z + 0xC862B, w, u + 0xAA323, v, m + 0x908E3, seed);
+                h[c + 85] = hashPart1024(x + 0xEBEDF, y, z + 0xC862B, w, u + 0xAA323, v, m + 0x908E3, seed);
+                h[c + 86] = hashPart1024(x, y + 0xD96EB, z + 0xC862B, w, u + 0xAA323, v, m + 0x908E3, seed);
+                h[c + 87] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z + 0xC862B, w, u + 0xAA323, v, m + 0x908E3, seed);
+                h[c + 88] = hashPart1024(x, y, z, w + 0xB8ACD, u + 0xAA323, v, m + 0x908E3, seed);
+                h[c + 89] = hashPart1024(x + 0xEBEDF, y, z, w + 0xB8ACD, u + 0xAA323, v, m + 0x908E3, seed);
+                h[c + 90] = hashPart1024(x, y + 0xD96EB, z, w + 0xB8ACD, u + 0xAA323, v, m + 0x908E3, seed);
+                h[c + 91] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z, w + 0xB8ACD, u + 0xAA323, v, m + 0x908E3, seed);
+                h[c + 92] = hashPart1024(x, y, z + 0xC862B, w + 0xB8ACD, u + 0xAA323, v, m + 0x908E3, seed);
+                h[c + 93] = hashPart1024(x + 0xEBEDF, y, z + 0xC862B, w + 0xB8ACD, u + 0xAA323, v, m + 0x908E3, seed);
+                h[c + 94] = hashPart1024(x, y + 0xD96EB, z + 0xC862B, w + 0xB8ACD, u + 0xAA323, v, m + 0x908E3, seed);
+                h[c + 95] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z + 0xC862B, w + 0xB8ACD, u + 0xAA323, v, m + 0x908E3, seed);
+                h[c + 96] = hashPart1024(x, y, z, w, u, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 97] = hashPart1024(x + 0xEBEDF, y, z, w, u, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 98] = hashPart1024(x, y + 0xD96EB, z, w, u, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 99] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z, w, u, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 100] = hashPart1024(x, y, z + 0xC862B, w, u, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 101] = hashPart1024(x + 0xEBEDF, y, z + 0xC862B, w, u, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 102] = hashPart1024(x, y + 0xD96EB, z + 0xC862B, w, u, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 103] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z + 0xC862B, w, u, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 104] = hashPart1024(x, y, z, w + 0xB8ACD, u, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 105] = hashPart1024(x + 0xEBEDF, y, z, w + 0xB8ACD, u, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 106] = hashPart1024(x, y + 0xD96EB, z, w + 0xB8ACD, u, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 107] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z, w + 0xB8ACD, u, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 108] = hashPart1024(x, y, z + 0xC862B, w + 0xB8ACD, u, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 109] = hashPart1024(x + 0xEBEDF, y, z + 0xC862B, w + 0xB8ACD, u, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 110] = hashPart1024(x, y + 0xD96EB, z + 0xC862B, w + 0xB8ACD, u, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 111] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z + 0xC862B, w + 0xB8ACD, u, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 112] = hashPart1024(x, y, z, w, u + 0xAA323, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 113] = hashPart1024(x + 0xEBEDF, y, z, w, u + 0xAA323, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 114] = hashPart1024(x, y + 0xD96EB, z, w, u + 0xAA323, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 115] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z, w, u + 0xAA323, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 116] = hashPart1024(x, y, z + 0xC862B, w, u + 0xAA323, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 117] = hashPart1024(x + 0xEBEDF, y, z + 0xC862B, w, u + 0xAA323, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 118] = hashPart1024(x, y + 0xD96EB, z + 0xC862B, w, u + 0xAA323, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 119] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z + 0xC862B, w, u + 0xAA323, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 120] = hashPart1024(x, y, z, w + 0xB8ACD, u + 0xAA323, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 121] = hashPart1024(x + 0xEBEDF, y, z, w + 0xB8ACD, u + 0xAA323, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 122] = hashPart1024(x, y + 0xD96EB, z, w + 0xB8ACD, u + 0xAA323, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 123] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z, w + 0xB8ACD, u + 0xAA323, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 124] = hashPart1024(x, y, z + 0xC862B, w + 0xB8ACD, u + 0xAA323, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 125] = hashPart1024(x + 0xEBEDF, y, z + 0xC862B, w + 0xB8ACD, u + 0xAA323, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 126] = hashPart1024(x, y + 0xD96EB, z + 0xC862B, w + 0xB8ACD, u + 0xAA323, v + 0x9CDA5, m + 0x908E3, seed);
+                h[c + 127] = hashPart1024(x + 0xEBEDF, y + 0xD96EB, z + 0xC862B, w + 0xB8ACD, u + 0xAA323, v + 0x9CDA5, m + 0x908E3, seed);
+            }
+            return c;
+        }
+
+    }
+
+    /**
+     * A 2D noise function with a fixed configuration, produced by {@link #compile2D()}. Implementations made by Noise
+     * are immutable and safe to share between threads.
+     */
+    public interface Compiled2D {
+        /**
+         * Gets noise at the given point, using the configuration this was compiled with.
+         * @param x x position, as a float; the range this should have depends on the compiled frequency
+         * @param y y position, as a float; the range this should have depends on the compiled frequency
+         * @return noise as a float from -1f to 1f
+         */
+        float getNoise(float x, float y);
+    }
+
+    /**
+     * A 3D noise function with a fixed configuration, produced by {@link #compile3D()}. Implementations made by Noise
+     * are immutable and safe to share between threads.
+     */
+    public interface Compiled3D {
+        /**
+         * Gets noise at the given point, using the configuration this was compiled with.
+         * @param x x position, as a float; the range this should have depends on the compiled frequency
+         * @param y y position, as a float; the range this should have depends on the compiled frequency
+         * @param z z position, as a float; the range this should have depends on the compiled frequency
+         * @return noise as a float from -1f to 1f
+         */
+        float getNoise(float x, float y, float z);
+    }
+
+    /**
+     * A 4D noise function with a fixed configuration, produced by {@link #compile4D()}. Implementations made by Noise
+     * are immutable and safe to share between threads.
+     */
+    public interface Compiled4D {
+        /**
+         * Gets noise at the given point, using the configuration this was compiled with.
+         * @param x x position, as a float; the range this should have depends on the compiled frequency
+         * @param y y position, as a float; the range this should have depends on the compiled frequency
+         * @param z z position, as a float; the range this should have depends on the compiled frequency
+         * @param w w position, as a float; the range this should have depends on the compiled frequency
+         * @return noise as a float from -1f to 1f
+         */
+        float getNoise(float x, float y, float z, float w);
+    }
+
+    /**
+     * A 5D noise function with a fixed configuration, produced by {@link #compile5D()}. Implementations made by Noise
+     * are immutable and safe to share between threads.
+     */
+    public interface Compiled5D {
+        /**
+         * Gets noise at the given point, using the configuration this was compiled with.
+         * @param x x position, as a float; the range this should have depends on the compiled frequency
+         * @param y y position, as a float; the range this should have depends on the compiled frequency
+         * @param z z position, as a float; the range this should have depends on the compiled frequency
+         * @param w w position, as a float; the range this should have depends on the compiled frequency
+         * @param u u position, as a float; the range this should have depends on the compiled frequency
+         * @return noise as a float from -1f to 1f
+         */
+        float getNoise(float x, float y, float z, float w, float u);
+    }
+
+    /**
+     * A 6D noise function with a fixed configuration, produced by {@link #compile6D()}. Implementations made by Noise
+     * are immutable and safe to share between threads.
+     */
+    public interface Compiled6D {
+        /**
+         * Gets noise at the given point, using the configuration this was compiled with.
+         * @param x x position, as a float; the range this should have depends on the compiled frequency
+         * @param y y position, as a float; the range this should have depends on the compiled frequency
+         * @param z z position, as a float; the range this should have depends on the compiled frequency
+         * @param w w position, as a float; the range this should have depends on the compiled frequency
+         * @param u u position, as a float; the range this should have depends on the compiled frequency
+         * @param v v position, as a float; the range this should have depends on the compiled frequency
+         * @return noise as a float from -1f to 1f
+         */
+        float getNoise(float x, float y, float z, float w, float u, float v);
+    }
+
     /**
      * Simple container class that holds 2 floats.
      * Takes slightly less storage than an array of float[2] and may avoid array index bounds check speed penalty.
@@ -7196,6 +16430,122 @@ public class Noise {
         }
     }
 
+    /**
+     * Holds everything cellular noise finds out about one point, as filled in by
+     * {@link #getCellularFeatures(float, float, CellularFeatures)} and its 3D overload. One instance can be reused for
+     * any number of points. Cellular noise's {@link #DISTANCE} return type is {@code distance - 1}, {@link #DISTANCE_2}
+     * is {@code distance2 - 1}, and so on, while {@link #CELL_VALUE} and {@link #NOISE_LOOKUP} are {@link #cellValue}
+     * and {@link #lookup}.
+     */
+    public static class CellularFeatures {
+        /**
+         * The distance to the nearest feature point, as measured by the cellular distance function; with
+         * {@link #EUCLIDEAN}, this is the squared distance.
+         */
+        public float distance;
+        /**
+         * The distance to the second-nearest feature point, measured the same way as {@link #distance}.
+         */
+        public float distance2;
+        /**
+         * The integer coordinates of the cell that holds the nearest feature point; cellZ is 0 in 2D.
+         */
+        public int cellX, cellY, cellZ;
+        /**
+         * A hash of the nearest cell and the seed, from 0 to 255; this picks which feature point that cell has.
+         */
+        public int hash;
+        /**
+         * The vector from the given point to the nearest feature point, in the same units as the given point (that is,
+         * before frequency is applied); offsetZ is 0 in 2D.
+         */
+        public float offsetX, offsetY, offsetZ;
+        /**
+         * A value from -1 to 1 that is the same for every point in the nearest cell.
+         */
+        public float cellValue;
+        /**
+         * The cellular noise lookup (see {@link #setCellularNoiseLookup(Noise)}), sampled at the nearest feature point,
+         * so it is also the same for every point in the nearest cell.
+         */
+        public float lookup;
+    }
+
+    /**
+     * How many {@link #NOISE_LOOKUP} results each cache of them holds; must be a power of two.
+     */
+    private static final int CELL_LOOKUP_CACHE_SIZE = 4096;
+
+    /**
+     * A fixed-size cache of recent {@link #NOISE_LOOKUP} results, where each cell goes in a slot chosen by its hash and
+     * replaces whatever was there. Each slot holds an immutable entry with its full key, so threads sharing a cache can
+     * only overwrite each other's entries, never read a wrong value; this needs no locking, which also keeps it usable
+     * on GWT.
+     */
+    private static final class CellLookupCache {
+        final CellLookupEntry[] entries = new CellLookupEntry[CELL_LOOKUP_CACHE_SIZE];
+    }
+
+    /**
+     * One {@link #NOISE_LOOKUP} result and the cell and seed it is for; unused coordinates are 0.
+     */
+    private static final class CellLookupEntry {
+        final int dimensions, seed, x, y, z, w, u, v;
+        final float value;
+
+        CellLookupEntry(int dimensions, int seed, int x, int y, int z, int w, int u, int v, float value) {
+            this.dimensions = dimensions;
+            this.seed = seed;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.w = w;
+            this.u = u;
+            this.v = v;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Scratch space for the bulk fill methods: the lattice tables that Simplex and Cubic noise fills use, the small
+     * tables for cellular grids, and the cache of lattice hashes for the noise types built on value noise. The fill
+     * methods that don't take a FillContext make their scratch space on each call and let it go when they return;
+     * passing the same FillContext to many calls, such as when filling one terrain chunk after another, lets them reuse
+     * it instead. A FillContext only grows as large as the largest area it has been used for (one table entry per
+     * sample, or four for 4D Cubic noise), and that memory is freed along with the FillContext, whenever its owner is
+     * done with it.
+     * <br>
+     * A FillContext doesn't hold any configuration, so one can be used with any number of Noise objects, but it must not
+     * be used by more than one thread at a time; give each thread its own.
+     */
+    public static class FillContext {
+        /**
+         * Gradient indices of Simplex lattice vertices.
+         */
+        int[] lattice;
+        /**
+         * Values of Cubic lattice points (4D Cubic noise needs four slices of a 3D table).
+         */
+        float[] latticeValues;
+        /**
+         * A ScanlineNoise for the noise types built on value noise, given the filling Noise's configuration each time
+         * it is used; its cache of lattice hashes doesn't depend on the configuration, so it stays valid between fills.
+         */
+        ScanlineNoise scanline;
+        /**
+         * The 9 cells around a run of points in a cellular grid, and their feature points; see
+         * {@link #fillCellularGrid(float[], int, int, int, int, float, float, float, FillContext)}.
+         */
+        int[] cellX, cellY;
+        float[] latticeX, offsetX, offsetY, absY, squareY, values;
+
+        /**
+         * Makes an empty FillContext; nothing is allocated until a fill needs it.
+         */
+        public FillContext() {
+        }
+    }
+
     protected static final float[] GRAD_2D = {
             +0.6499429579167653f, +0.7599829941876370f,
             -0.1551483029088119f, +0.9878911904175052f,
@@ -7454,7 +16804,11 @@ public class Noise {
             +0.9744164792492415f, +0.2247499165016809f,
             +0.4625090142797330f, +0.8866145790082576f,
     };
-    private static final float[] GRAD_3D =
+    /**
+     * Gradient vectors for 3D noise, as 256 groups of x, y, z, and an unused 0. This is package-private so
+     * {@code VectorNoise} can load it straight into vectors.
+     */
+    static final float[] GRAD_3D =
             {
                     -0.448549002408981f, +1.174316525459290f, +0.000000000000001f, +0.0f,
                     +0.000000000000001f, +1.069324374198914f, +0.660878777503967f, +0.0f,
@@ -8083,75 +17437,113 @@ public class Noise {
             +0.51057171f, -0.23740201f, +0.26673587f, +0.55217673f, +0.16849318f, +0.52774964f, +0f, +0f,
     };
 
-    private static final Float2[] CELL_2D =
+    /**
+     * Cell point offsets for cellular noise and gradient perturbation in 2D, as 256 interleaved x, y pairs.
+     */
+    private static final float[] CELL_2D =
         {
-            new Float2(-0.4313539279f, 0.1281943404f), new Float2(-0.1733316799f, 0.415278375f), new Float2(-0.2821957395f, -0.3505218461f), new Float2(-0.2806473808f, 0.3517627718f), new Float2(0.3125508975f, -0.3237467165f), new Float2(0.3383018443f, -0.2967353402f), new Float2(-0.4393982022f, -0.09710417025f), new Float2(-0.4460443703f, -0.05953502905f),
-            new Float2(-0.302223039f, 0.3334085102f), new Float2(-0.212681052f, -0.3965687458f), new Float2(-0.2991156529f, 0.3361990872f), new Float2(0.2293323691f, 0.3871778202f), new Float2(0.4475439151f, -0.04695150755f), new Float2(0.1777518f, 0.41340573f), new Float2(0.1688522499f, -0.4171197882f), new Float2(-0.0976597166f, 0.4392750616f),
-            new Float2(0.08450188373f, 0.4419948321f), new Float2(-0.4098760448f, -0.1857461384f), new Float2(0.3476585782f, -0.2857157906f), new Float2(-0.3350670039f, -0.30038326f), new Float2(0.2298190031f, -0.3868891648f), new Float2(-0.01069924099f, 0.449872789f), new Float2(-0.4460141246f, -0.05976119672f), new Float2(0.3650293864f, 0.2631606867f),
-            new Float2(-0.349479423f, 0.2834856838f), new Float2(-0.4122720642f, 0.1803655873f), new Float2(-0.267327811f, 0.3619887311f), new Float2(0.322124041f, -0.3142230135f), new Float2(0.2880445931f, -0.3457315612f), new Float2(0.3892170926f, -0.2258540565f), new Float2(0.4492085018f, -0.02667811596f), new Float2(-0.4497724772f, 0.01430799601f),
-            new Float2(0.1278175387f, -0.4314657307f), new Float2(-0.03572100503f, 0.4485799926f), new Float2(-0.4297407068f, -0.1335025276f), new Float2(-0.3217817723f, 0.3145735065f), new Float2(-0.3057158873f, 0.3302087162f), new Float2(-0.414503978f, 0.1751754899f), new Float2(-0.3738139881f, 0.2505256519f), new Float2(0.2236891408f, -0.3904653228f),
-            new Float2(0.002967775577f, -0.4499902136f), new Float2(0.1747128327f, -0.4146991995f), new Float2(-0.4423772489f, -0.08247647938f), new Float2(-0.2763960987f, -0.355112935f), new Float2(-0.4019385906f, -0.2023496216f), new Float2(0.3871414161f, -0.2293938184f), new Float2(-0.430008727f, 0.1326367019f), new Float2(-0.03037574274f, -0.4489736231f),
-            new Float2(-0.3486181573f, 0.2845441624f), new Float2(0.04553517144f, -0.4476902368f), new Float2(-0.0375802926f, 0.4484280562f), new Float2(0.3266408905f, 0.3095250049f), new Float2(0.06540017593f, -0.4452222108f), new Float2(0.03409025829f, 0.448706869f), new Float2(-0.4449193635f, 0.06742966669f), new Float2(-0.4255936157f, -0.1461850686f),
-            new Float2(0.449917292f, 0.008627302568f), new Float2(0.05242606404f, 0.4469356864f), new Float2(-0.4495305179f, -0.02055026661f), new Float2(-0.1204775703f, 0.4335725488f), new Float2(-0.341986385f, -0.2924813028f), new Float2(0.3865320182f, 0.2304191809f), new Float2(0.04506097811f, -0.447738214f), new Float2(-0.06283465979f, 0.4455915232f),
-            new Float2(0.3932600341f, -0.2187385324f), new Float2(0.4472261803f, -0.04988730975f), new Float2(0.3753571011f, -0.2482076684f), new Float2(-0.273662295f, 0.357223947f), new Float2(0.1700461538f, 0.4166344988f), new Float2(0.4102692229f, 0.1848760794f), new Float2(0.323227187f, -0.3130881435f), new Float2(-0.2882310238f, -0.3455761521f),
-            new Float2(0.2050972664f, 0.4005435199f), new Float2(0.4414085979f, -0.08751256895f), new Float2(-0.1684700334f, 0.4172743077f), new Float2(-0.003978032396f, 0.4499824166f), new Float2(-0.2055133639f, 0.4003301853f), new Float2(-0.006095674897f, -0.4499587123f), new Float2(-0.1196228124f, -0.4338091548f), new Float2(0.3901528491f, -0.2242337048f),
-            new Float2(0.01723531752f, 0.4496698165f), new Float2(-0.3015070339f, 0.3340561458f), new Float2(-0.01514262423f, -0.4497451511f), new Float2(-0.4142574071f, -0.1757577897f), new Float2(-0.1916377265f, -0.4071547394f), new Float2(0.3749248747f, 0.2488600778f), new Float2(-0.2237774255f, 0.3904147331f), new Float2(-0.4166343106f, -0.1700466149f),
-            new Float2(0.3619171625f, 0.267424695f), new Float2(0.1891126846f, -0.4083336779f), new Float2(-0.3127425077f, 0.323561623f), new Float2(-0.3281807787f, 0.307891826f), new Float2(-0.2294806661f, 0.3870899429f), new Float2(-0.3445266136f, 0.2894847362f), new Float2(-0.4167095422f, -0.1698621719f), new Float2(-0.257890321f, -0.3687717212f),
-            new Float2(-0.3612037825f, 0.2683874578f), new Float2(0.2267996491f, 0.3886668486f), new Float2(0.207157062f, 0.3994821043f), new Float2(0.08355176718f, -0.4421754202f), new Float2(-0.4312233307f, 0.1286329626f), new Float2(0.3257055497f, 0.3105090899f), new Float2(0.177701095f, -0.4134275279f), new Float2(-0.445182522f, 0.06566979625f),
-            new Float2(0.3955143435f, 0.2146355146f), new Float2(-0.4264613988f, 0.1436338239f), new Float2(-0.3793799665f, -0.2420141339f), new Float2(0.04617599081f, -0.4476245948f), new Float2(-0.371405428f, -0.2540826796f), new Float2(0.2563570295f, -0.3698392535f), new Float2(0.03476646309f, 0.4486549822f), new Float2(-0.3065454405f, 0.3294387544f),
-            new Float2(-0.2256979823f, 0.3893076172f), new Float2(0.4116448463f, -0.1817925206f), new Float2(-0.2907745828f, -0.3434387019f), new Float2(0.2842278468f, -0.348876097f), new Float2(0.3114589359f, -0.3247973695f), new Float2(0.4464155859f, -0.0566844308f), new Float2(-0.3037334033f, -0.3320331606f), new Float2(0.4079607166f, 0.1899159123f),
-            new Float2(-0.3486948919f, -0.2844501228f), new Float2(0.3264821436f, 0.3096924441f), new Float2(0.3211142406f, 0.3152548881f), new Float2(0.01183382662f, 0.4498443737f), new Float2(0.4333844092f, 0.1211526057f), new Float2(0.3118668416f, 0.324405723f), new Float2(-0.272753471f, 0.3579183483f), new Float2(-0.422228622f, -0.1556373694f),
-            new Float2(-0.1009700099f, -0.4385260051f), new Float2(-0.2741171231f, -0.3568750521f), new Float2(-0.1465125133f, 0.4254810025f), new Float2(0.2302279044f, -0.3866459777f), new Float2(-0.3699435608f, 0.2562064828f), new Float2(0.105700352f, -0.4374099171f), new Float2(-0.2646713633f, 0.3639355292f), new Float2(0.3521828122f, 0.2801200935f),
-            new Float2(-0.1864187807f, -0.4095705534f), new Float2(0.1994492955f, -0.4033856449f), new Float2(0.3937065066f, 0.2179339044f), new Float2(-0.3226158377f, 0.3137180602f), new Float2(0.3796235338f, 0.2416318948f), new Float2(0.1482921929f, 0.4248640083f), new Float2(-0.407400394f, 0.1911149365f), new Float2(0.4212853031f, 0.1581729856f),
-            new Float2(-0.2621297173f, 0.3657704353f), new Float2(-0.2536986953f, -0.3716678248f), new Float2(-0.2100236383f, 0.3979825013f), new Float2(0.3624152444f, 0.2667493029f), new Float2(-0.3645038479f, -0.2638881295f), new Float2(0.2318486784f, 0.3856762766f), new Float2(-0.3260457004f, 0.3101519002f), new Float2(-0.2130045332f, -0.3963950918f),
-            new Float2(0.3814998766f, -0.2386584257f), new Float2(-0.342977305f, 0.2913186713f), new Float2(-0.4355865605f, 0.1129794154f), new Float2(-0.2104679605f, 0.3977477059f), new Float2(0.3348364681f, -0.3006402163f), new Float2(0.3430468811f, 0.2912367377f), new Float2(-0.2291836801f, -0.3872658529f), new Float2(0.2547707298f, -0.3709337882f),
-            new Float2(0.4236174945f, -0.151816397f), new Float2(-0.15387742f, 0.4228731957f), new Float2(-0.4407449312f, 0.09079595574f), new Float2(-0.06805276192f, -0.444824484f), new Float2(0.4453517192f, -0.06451237284f), new Float2(0.2562464609f, -0.3699158705f), new Float2(0.3278198355f, -0.3082761026f), new Float2(-0.4122774207f, -0.1803533432f),
-            new Float2(0.3354090914f, -0.3000012356f), new Float2(0.446632869f, -0.05494615882f), new Float2(-0.1608953296f, 0.4202531296f), new Float2(-0.09463954939f, 0.4399356268f), new Float2(-0.02637688324f, -0.4492262904f), new Float2(0.447102804f, -0.05098119915f), new Float2(-0.4365670908f, 0.1091291678f), new Float2(-0.3959858651f, 0.2137643437f),
-            new Float2(-0.4240048207f, -0.1507312575f), new Float2(-0.3882794568f, 0.2274622243f), new Float2(-0.4283652566f, -0.1378521198f), new Float2(0.3303888091f, 0.305521251f), new Float2(0.3321434919f, -0.3036127481f), new Float2(-0.413021046f, -0.1786438231f), new Float2(0.08403060337f, -0.4420846725f), new Float2(-0.3822882919f, 0.2373934748f),
-            new Float2(-0.3712395594f, -0.2543249683f), new Float2(0.4472363971f, -0.04979563372f), new Float2(-0.4466591209f, 0.05473234629f), new Float2(0.0486272539f, -0.4473649407f), new Float2(-0.4203101295f, -0.1607463688f), new Float2(0.2205360833f, 0.39225481f), new Float2(-0.3624900666f, 0.2666476169f), new Float2(-0.4036086833f, -0.1989975647f),
-            new Float2(0.2152727807f, 0.3951678503f), new Float2(-0.4359392962f, -0.1116106179f), new Float2(0.4178354266f, 0.1670735057f), new Float2(0.2007630161f, 0.4027334247f), new Float2(-0.07278067175f, -0.4440754146f), new Float2(0.3644748615f, -0.2639281632f), new Float2(-0.4317451775f, 0.126870413f), new Float2(-0.297436456f, 0.3376855855f),
-            new Float2(-0.2998672222f, 0.3355289094f), new Float2(-0.2673674124f, 0.3619594822f), new Float2(0.2808423357f, 0.3516071423f), new Float2(0.3498946567f, 0.2829730186f), new Float2(-0.2229685561f, 0.390877248f), new Float2(0.3305823267f, 0.3053118493f), new Float2(-0.2436681211f, -0.3783197679f), new Float2(-0.03402776529f, 0.4487116125f),
-            new Float2(-0.319358823f, 0.3170330301f), new Float2(0.4454633477f, -0.06373700535f), new Float2(0.4483504221f, 0.03849544189f), new Float2(-0.4427358436f, -0.08052932871f), new Float2(0.05452298565f, 0.4466847255f), new Float2(-0.2812560807f, 0.3512762688f), new Float2(0.1266696921f, 0.4318041097f), new Float2(-0.3735981243f, 0.2508474468f),
-            new Float2(0.2959708351f, -0.3389708908f), new Float2(-0.3714377181f, 0.254035473f), new Float2(-0.404467102f, -0.1972469604f), new Float2(0.1636165687f, -0.419201167f), new Float2(0.3289185495f, -0.3071035458f), new Float2(-0.2494824991f, -0.3745109914f), new Float2(0.03283133272f, 0.4488007393f), new Float2(-0.166306057f, -0.4181414777f),
-            new Float2(-0.106833179f, 0.4371346153f), new Float2(0.06440260376f, -0.4453676062f), new Float2(-0.4483230967f, 0.03881238203f), new Float2(-0.421377757f, -0.1579265206f), new Float2(0.05097920662f, -0.4471030312f), new Float2(0.2050584153f, -0.4005634111f), new Float2(0.4178098529f, -0.167137449f), new Float2(-0.3565189504f, -0.2745801121f),
-            new Float2(0.4478398129f, 0.04403977727f), new Float2(-0.3399999602f, -0.2947881053f), new Float2(0.3767121994f, 0.2461461331f), new Float2(-0.3138934434f, 0.3224451987f), new Float2(-0.1462001792f, -0.4255884251f), new Float2(0.3970290489f, -0.2118205239f), new Float2(0.4459149305f, -0.06049689889f), new Float2(-0.4104889426f, -0.1843877112f),
-            new Float2(0.1475103971f, -0.4251360756f), new Float2(0.09258030352f, 0.4403735771f), new Float2(-0.1589664637f, -0.4209865359f), new Float2(0.2482445008f, 0.3753327428f), new Float2(0.4383624232f, -0.1016778537f), new Float2(0.06242802956f, 0.4456486745f), new Float2(0.2846591015f, -0.3485243118f), new Float2(-0.344202744f, -0.2898697484f),
-            new Float2(0.1198188883f, -0.4337550392f), new Float2(-0.243590703f, 0.3783696201f), new Float2(0.2958191174f, -0.3391033025f), new Float2(-0.1164007991f, 0.4346847754f), new Float2(0.1274037151f, -0.4315881062f), new Float2(0.368047306f, 0.2589231171f), new Float2(0.2451436949f, 0.3773652989f), new Float2(-0.4314509715f, 0.12786735f),
+            -0.4313539279f, 0.1281943404f, -0.1733316799f, 0.415278375f, -0.2821957395f, -0.3505218461f, -0.2806473808f, 0.3517627718f, 0.3125508975f, -0.3237467165f, 0.3383018443f, -0.2967353402f, -0.4393982022f, -0.09710417025f, -0.4460443703f, -0.05953502905f,
+            -0.302223039f, 0.3334085102f, -0.212681052f, -0.3965687458f, -0.2991156529f, 0.3361990872f, 0.2293323691f, 0.3871778202f, 0.4475439151f, -0.04695150755f, 0.1777518f, 0.41340573f, 0.1688522499f, -0.4171197882f, -0.0976597166f, 0.4392750616f,
+            0.08450188373f, 0.4419948321f, -0.4098760448f, -0.1857461384f, 0.3476585782f, -0.2857157906f, -0.3350670039f, -0.30038326f, 0.2298190031f, -0.3868891648f, -0.01069924099f, 0.449872789f, -0.4460141246f, -0.05976119672f, 0.3650293864f, 0.2631606867f,
+            -0.349479423f, 0.2834856838f, -0.4122720642f, 0.1803655873f, -0.267327811f, 0.3619887311f, 0.322124041f, -0.3142230135f, 0.2880445931f, -0.3457315612f, 0.3892170926f, -0.2258540565f, 0.4492085018f, -0.02667811596f, -0.4497724772f, 0.01430799601f,
+            0.1278175387f, -0.4314657307f, -0.03572100503f, 0.4485799926f, -0.4297407068f, -0.1335025276f, -0.3217817723f, 0.3145735065f, -0.3057158873f, 0.3302087162f, -0.414503978f, 0.1751754899f, -0.3738139881f, 0.2505256519f, 0.2236891408f, -0.3904653228f,
+            0.002967775577f, -0.4499902136f, 0.1747128327f, -0.4146991995f, -0.4423772489f, -0.08247647938f, -0.2763960987f, -0.355112935f, -0.4019385906f, -0.2023496216f, 0.3871414161f, -0.2293938184f, -0.430008727f, 0.1326367019f, -0.03037574274f, -0.4489736231f,
+            -0.3486181573f, 0.2845441624f, 0.04553517144f, -0.4476902368f, -0.0375802926f, 0.4484280562f, 0.3266408905f, 0.3095250049f, 0.06540017593f, -0.4452222108f, 0.03409025829f, 0.448706869f, -0.4449193635f, 0.06742966669f, -0.4255936157f, -0.1461850686f,
+            0.449917292f, 0.008627302568f, 0.05242606404f, 0.4469356864f, -0.4495305179f, -0.02055026661f, -0.1204775703f, 0.4335725488f, -0.341986385f, -0.2924813028f, 0.3865320182f, 0.2304191809f, 0.04506097811f, -0.447738214f, -0.06283465979f, 0.4455915232f,
+            0.3932600341f, -0.2187385324f, 0.4472261803f, -0.04988730975f, 0.3753571011f, -0.2482076684f, -0.273662295f, 0.357223947f, 0.1700461538f, 0.4166344988f, 0.4102692229f, 0.1848760794f, 0.323227187f, -0.3130881435f, -0.2882310238f, -0.3455761521f,
+            0.2050972664f, 0.4005435199f, 0.4414085979f, -0.08751256895f, -0.1684700334f, 0.4172743077f, -0.003978032396f, 0.4499824166f, -0.2055133639f, 0.4003301853f, -0.006095674897f, -0.4499587123f, -0.1196228124f, -0.4338091548f, 0.3901528491f, -0.2242337048f,
+            0.01723531752f, 0.4496698165f, -0.3015070339f, 0.3340561458f, -0.01514262423f, -0.4497451511f, -0.4142574071f, -0.1757577897f, -0.1916377265f, -0.4071547394f, 0.3749248747f, 0.2488600778f, -0.2237774255f, 0.3904147331f, -0.4166343106f, -0.1700466149f,
+            0.3619171625f, 0.267424695f, 0.1891126846f, -0.4083336779f, -0.3127425077f, 0.323561623f, -0.3281807787f, 0.307891826f, -0.2294806661f, 0.3870899429f, -0.3445266136f, 0.2894847362f, -0.4167095422f, -0.1698621719f, -0.257890321f, -0.3687717212f,
+            -0.3612037825f, 0.2683874578f, 0.2267996491f, 0.3886668486f, 0.207157062f, 0.3994821043f, 0.08355176718f, -0.4421754202f, -0.4312233307f, 0.1286329626f, 0.3257055497f, 0.3105090899f, 0.177701095f, -0.4134275279f, -0.445182522f, 0.06566979625f,
+            0.3955143435f, 0.2146355146f, -0.4264613988f, 0.1436338239f, -0.3793799665f, -0.2420141339f, 0.04617599081f, -0.4476245948f, -0.371405428f, -0.2540826796f, 0.2563570295f, -0.3698392535f, 0.03476646309f, 0.4486549822f, -0.3065454405f, 0.3294387544f,
+            -0.2256979823f, 0.3893076172f, 0.4116448463f, -0.1817925206f, -0.2907745828f, -0.3434387019f, 0.2842278468f, -0.348876097f, 0.3114589359f, -0.3247973695f, 0.4464155859f, -0.0566844308f, -0.3037334033f, -0.3320331606f, 0.4079607166f, 0.1899159123f,
+            -0.3486948919f, -0.2844501228f, 0.3264821436f, 0.3096924441f, 0.3211142406f, 0.3152548881f, 0.01183382662f, 0.4498443737f, 0.4333844092f, 0.1211526057f, 0.3118668416f, 0.324405723f, -0.272753471f, 0.3579183483f, -0.422228622f, -0.1556373694f,
+            -0.1009700099f, -0.4385260051f, -0.2741171231f, -0.3568750521f, -0.1465125133f, 0.4254810025f, 0.2302279044f, -0.3866459777f, -0.3699435608f, 0.2562064828f, 0.105700352f, -0.4374099171f, -0.2646713633f, 0.3639355292f, 0.3521828122f, 0.2801200935f,
+            -0.1864187807f, -0.4095705534f, 0.1994492955f, -0.4033856449f, 0.3937065066f, 0.2179339044f, -0.3226158377f, 0.3137180602f, 0.3796235338f, 0.2416318948f, 0.1482921929f, 0.4248640083f, -0.407400394f, 0.1911149365f, 0.4212853031f, 0.1581729856f,
+            -0.2621297173f, 0.3657704353f, -0.2536986953f, -0.3716678248f, -0.2100236383f, 0.3979825013f, 0.3624152444f, 0.2667493029f, -0.3645038479f, -0.2638881295f, 0.2318486784f, 0.3856762766f, -0.3260457004f, 0.3101519002f, -0.2130045332f, -0.3963950918f,
+            0.3814998766f, -0.2386584257f, -0.342977305f, 0.2913186713f, -0.4355865605f, 0.1129794154f, -0.2104679605f, 0.3977477059f, 0.3348364681f, -0.3006402163f, 0.3430468811f, 0.2912367377f, -0.2291836801f, -0.3872658529f, 0.2547707298f, -0.3709337882f,
+            0.4236174945f, -0.151816397f, -0.15387742f, 0.4228731957f, -0.4407449312f, 0.09079595574f, -0.06805276192f, -0.444824484f, 0.4453517192f, -0.06451237284f, 0.2562464609f, -0.3699158705f, 0.3278198355f, -0.3082761026f, -0.4122774207f, -0.1803533432f,
+            0.3354090914f, -0.3000012356f, 0.446632869f, -0.05494615882f, -0.1608953296f, 0.4202531296f, -0.09463954939f, 0.4399356268f, -0.02637688324f, -0.4492262904f, 0.447102804f, -0.05098119915f, -0.4365670908f, 0.1091291678f, -0.3959858651f, 0.2137643437f,
+            -0.4240048207f, -0.1507312575f, -0.3882794568f, 0.2274622243f, -0.4283652566f, -0.1378521198f, 0.3303888091f, 0.305521251f, 0.3321434919f, -0.3036127481f, -0.413021046f, -0.1786438231f, 0.08403060337f, -0.4420846725f, -0.3822882919f, 0.2373934748f,
+            -0.3712395594f, -0.2543249683f, 0.4472363971f, -0.04979563372f, -0.4466591209f, 0.05473234629f, 0.0486272539f, -0.4473649407f, -0.4203101295f, -0.1607463688f, 0.2205360833f, 0.39225481f, -0.3624900666f, 0.2666476169f, -0.4036086833f, -0.1989975647f,
+            0.2152727807f, 0.3951678503f, -0.4359392962f, -0.1116106179f, 0.4178354266f, 0.1670735057f, 0.2007630161f, 0.4027334247f, -0.07278067175f, -0.4440754146f, 0.3644748615f, -0.2639281632f, -0.4317451775f, 0.126870413f, -0.297436456f, 0.3376855855f,
+            -0.2998672222f, 0.3355289094f, -0.2673674124f, 0.3619594822f, 0.2808423357f, 0.3516071423f, 0.3498946567f, 0.2829730186f, -0.2229685561f, 0.390877248f, 0.3305823267f, 0.3053118493f, -0.2436681211f, -0.3783197679f, -0.03402776529f, 0.4487116125f,
+            -0.319358823f, 0.3170330301f, 0.4454633477f, -0.06373700535f, 0.4483504221f, 0.03849544189f, -0.4427358436f, -0.08052932871f, 0.05452298565f, 0.4466847255f, -0.2812560807f, 0.3512762688f, 0.1266696921f, 0.4318041097f, -0.3735981243f, 0.2508474468f,
+            0.2959708351f, -0.3389708908f, -0.3714377181f, 0.254035473f, -0.404467102f, -0.1972469604f, 0.1636165687f, -0.419201167f, 0.3289185495f, -0.3071035458f, -0.2494824991f, -0.3745109914f, 0.03283133272f, 0.4488007393f, -0.166306057f, -0.4181414777f,
+            -0.106833179f, 0.4371346153f, 0.06440260376f, -0.4453676062f, -0.4483230967f, 0.03881238203f, -0.421377757f, -0.1579265206f, 0.05097920662f, -0.4471030312f, 0.2050584153f, -0.4005634111f, 0.4178098529f, -0.167137449f, -0.3565189504f, -0.2745801121f,
+            0.4478398129f, 0.04403977727f, -0.3399999602f, -0.2947881053f, 0.3767121994f, 0.2461461331f, -0.3138934434f, 0.3224451987f, -0.1462001792f, -0.4255884251f, 0.3970290489f, -0.2118205239f, 0.4459149305f, -0.06049689889f, -0.4104889426f, -0.1843877112f,
+            0.1475103971f, -0.4251360756f, 0.09258030352f, 0.4403735771f, -0.1589664637f, -0.4209865359f, 0.2482445008f, 0.3753327428f, 0.4383624232f, -0.1016778537f, 0.06242802956f, 0.4456486745f, 0.2846591015f, -0.3485243118f, -0.344202744f, -0.2898697484f,
+            0.1198188883f, -0.4337550392f, -0.243590703f, 0.3783696201f, 0.2958191174f, -0.3391033025f, -0.1164007991f, 0.4346847754f, 0.1274037151f, -0.4315881062f, 0.368047306f, 0.2589231171f, 0.2451436949f, 0.3773652989f, -0.4314509715f, 0.12786735f,
         };
 
-    private static final Float3[] CELL_3D =
+    /**
+     * Cell point offsets for cellular noise and gradient perturbation in 3D, as 256 groups of x, y, z, and an unused
+     * 0 so each group starts at a multiple of 4.
+     */
+    private static final float[] CELL_3D =
         {
-            new Float3(0.1453787434f, -0.4149781685f, -0.0956981749f), new Float3(-0.01242829687f, -0.1457918398f, -0.4255470325f), new Float3(0.2877979582f, -0.02606483451f, -0.3449535616f), new Float3(-0.07732986802f, 0.2377094325f, 0.3741848704f), new Float3(0.1107205875f, -0.3552302079f, -0.2530858567f), new Float3(0.2755209141f, 0.2640521179f, -0.238463215f), new Float3(0.294168941f, 0.1526064594f, 0.3044271714f), new Float3(0.4000921098f, -0.2034056362f, 0.03244149937f),
-            new Float3(-0.1697304074f, 0.3970864695f, -0.1265461359f), new Float3(-0.1483224484f, -0.3859694688f, 0.1775613147f), new Float3(0.2623596946f, -0.2354852944f, 0.2796677792f), new Float3(-0.2709003183f, 0.3505271138f, -0.07901746678f), new Float3(-0.03516550699f, 0.3885234328f, 0.2243054374f), new Float3(-0.1267712655f, 0.1920044036f, 0.3867342179f), new Float3(0.02952021915f, 0.4409685861f, 0.08470692262f), new Float3(-0.2806854217f, -0.266996757f, 0.2289725438f),
-            new Float3(-0.171159547f, 0.2141185563f, 0.3568720405f), new Float3(0.2113227183f, 0.3902405947f, -0.07453178509f), new Float3(-0.1024352839f, 0.2128044156f, -0.3830421561f), new Float3(-0.3304249877f, -0.1566986703f, 0.2622305365f), new Float3(0.2091111325f, 0.3133278055f, -0.2461670583f), new Float3(0.344678154f, -0.1944240454f, -0.2142341261f), new Float3(0.1984478035f, -0.3214342325f, -0.2445373252f), new Float3(-0.2929008603f, 0.2262915116f, 0.2559320961f),
-            new Float3(-0.1617332831f, 0.006314769776f, -0.4198838754f), new Float3(-0.3582060271f, -0.148303178f, -0.2284613961f), new Float3(-0.1852067326f, -0.3454119342f, -0.2211087107f), new Float3(0.3046301062f, 0.1026310383f, 0.314908508f), new Float3(-0.03816768434f, -0.2551766358f, -0.3686842991f), new Float3(-0.4084952196f, 0.1805950793f, 0.05492788837f), new Float3(-0.02687443361f, -0.2749741471f, 0.3551999201f), new Float3(-0.03801098351f, 0.3277859044f, 0.3059600725f),
-            new Float3(0.2371120802f, 0.2900386767f, -0.2493099024f), new Float3(0.4447660503f, 0.03946930643f, 0.05590469027f), new Float3(0.01985147278f, -0.01503183293f, -0.4493105419f), new Float3(0.4274339143f, 0.03345994256f, -0.1366772882f), new Float3(-0.2072988631f, 0.2871414597f, -0.2776273824f), new Float3(-0.3791240978f, 0.1281177671f, 0.2057929936f), new Float3(-0.2098721267f, -0.1007087278f, -0.3851122467f), new Float3(0.01582798878f, 0.4263894424f, 0.1429738373f),
-            new Float3(-0.1888129464f, -0.3160996813f, -0.2587096108f), new Float3(0.1612988974f, -0.1974805082f, -0.3707885038f), new Float3(-0.08974491322f, 0.229148752f, -0.3767448739f), new Float3(0.07041229526f, 0.4150230285f, -0.1590534329f), new Float3(-0.1082925611f, -0.1586061639f, 0.4069604477f), new Float3(0.2474100658f, -0.3309414609f, 0.1782302128f), new Float3(-0.1068836661f, -0.2701644537f, -0.3436379634f), new Float3(0.2396452163f, 0.06803600538f, -0.3747549496f),
-            new Float3(-0.3063886072f, 0.2597428179f, 0.2028785103f), new Float3(0.1593342891f, -0.3114350249f, -0.2830561951f), new Float3(0.2709690528f, 0.1412648683f, -0.3303331794f), new Float3(-0.1519780427f, 0.3623355133f, 0.2193527988f), new Float3(0.1699773681f, 0.3456012883f, 0.2327390037f), new Float3(-0.1986155616f, 0.3836276443f, -0.1260225743f), new Float3(-0.1887482106f, -0.2050154888f, -0.353330953f), new Float3(0.2659103394f, 0.3015631259f, -0.2021172246f),
-            new Float3(-0.08838976154f, -0.4288819642f, -0.1036702021f), new Float3(-0.04201869311f, 0.3099592485f, 0.3235115047f), new Float3(-0.3230334656f, 0.201549922f, -0.2398478873f), new Float3(0.2612720941f, 0.2759854499f, -0.2409749453f), new Float3(0.385713046f, 0.2193460345f, 0.07491837764f), new Float3(0.07654967953f, 0.3721732183f, 0.241095919f), new Float3(0.4317038818f, -0.02577753072f, 0.1243675091f), new Float3(-0.2890436293f, -0.3418179959f, -0.04598084447f),
-            new Float3(-0.2201947582f, 0.383023377f, -0.08548310451f), new Float3(0.4161322773f, -0.1669634289f, -0.03817251927f), new Float3(0.2204718095f, 0.02654238946f, -0.391391981f), new Float3(-0.1040307469f, 0.3890079625f, -0.2008741118f), new Float3(-0.1432122615f, 0.371614387f, -0.2095065525f), new Float3(0.3978380468f, -0.06206669342f, 0.2009293758f), new Float3(-0.2599274663f, 0.2616724959f, -0.2578084893f), new Float3(0.4032618332f, -0.1124593585f, 0.1650235939f),
-            new Float3(-0.08953470255f, -0.3048244735f, 0.3186935478f), new Float3(0.118937202f, -0.2875221847f, 0.325092195f), new Float3(0.02167047076f, -0.03284630549f, -0.4482761547f), new Float3(-0.3411343612f, 0.2500031105f, 0.1537068389f), new Float3(0.3162964612f, 0.3082064153f, -0.08640228117f), new Float3(0.2355138889f, -0.3439334267f, -0.1695376245f), new Float3(-0.02874541518f, -0.3955933019f, 0.2125550295f), new Float3(-0.2461455173f, 0.02020282325f, -0.3761704803f),
-            new Float3(0.04208029445f, -0.4470439576f, 0.02968078139f), new Float3(0.2727458746f, 0.2288471896f, -0.2752065618f), new Float3(-0.1347522818f, -0.02720848277f, -0.4284874806f), new Float3(0.3829624424f, 0.1231931484f, -0.2016512234f), new Float3(-0.3547613644f, 0.1271702173f, 0.2459107769f), new Float3(0.2305790207f, 0.3063895591f, 0.2354968222f), new Float3(-0.08323845599f, -0.1922245118f, 0.3982726409f), new Float3(0.2993663085f, -0.2619918095f, -0.2103333191f),
-            new Float3(-0.2154865723f, 0.2706747713f, 0.287751117f), new Float3(0.01683355354f, -0.2680655787f, -0.3610505186f), new Float3(0.05240429123f, 0.4335128183f, -0.1087217856f), new Float3(0.00940104872f, -0.4472890582f, 0.04841609928f), new Float3(0.3465688735f, 0.01141914583f, -0.2868093776f), new Float3(-0.3706867948f, -0.2551104378f, 0.003156692623f), new Float3(0.2741169781f, 0.2139972417f, -0.2855959784f), new Float3(0.06413433865f, 0.1708718512f, 0.4113266307f),
-            new Float3(-0.388187972f, -0.03973280434f, -0.2241236325f), new Float3(0.06419469312f, -0.2803682491f, 0.3460819069f), new Float3(-0.1986120739f, -0.3391173584f, 0.2192091725f), new Float3(-0.203203009f, -0.3871641506f, 0.1063600375f), new Float3(-0.1389736354f, -0.2775901578f, -0.3257760473f), new Float3(-0.06555641638f, 0.342253257f, -0.2847192729f), new Float3(-0.2529246486f, -0.2904227915f, 0.2327739768f), new Float3(0.1444476522f, 0.1069184044f, 0.4125570634f),
-            new Float3(-0.3643780054f, -0.2447099973f, -0.09922543227f), new Float3(0.4286142488f, -0.1358496089f, -0.01829506817f), new Float3(0.165872923f, -0.3136808464f, -0.2767498872f), new Float3(0.2219610524f, -0.3658139958f, 0.1393320198f), new Float3(0.04322940318f, -0.3832730794f, 0.2318037215f), new Float3(-0.08481269795f, -0.4404869674f, -0.03574965489f), new Float3(0.1822082075f, -0.3953259299f, 0.1140946023f), new Float3(-0.3269323334f, 0.3036542563f, 0.05838957105f),
-            new Float3(-0.4080485344f, 0.04227858267f, -0.184956522f), new Float3(0.2676025294f, -0.01299671652f, 0.36155217f), new Float3(0.3024892441f, -0.1009990293f, -0.3174892964f), new Float3(0.1448494052f, 0.425921681f, -0.0104580805f), new Float3(0.4198402157f, 0.08062320474f, 0.1404780841f), new Float3(-0.3008872161f, -0.333040905f, -0.03241355801f), new Float3(0.3639310428f, -0.1291284382f, -0.2310412139f), new Float3(0.3295806598f, 0.0184175994f, -0.3058388149f),
-            new Float3(0.2776259487f, -0.2974929052f, -0.1921504723f), new Float3(0.4149000507f, -0.144793182f, -0.09691688386f), new Float3(0.145016715f, -0.0398992945f, 0.4241205002f), new Float3(0.09299023471f, -0.299732164f, -0.3225111565f), new Float3(0.1028907093f, -0.361266869f, 0.247789732f), new Float3(0.2683057049f, -0.07076041213f, -0.3542668666f), new Float3(-0.4227307273f, -0.07933161816f, -0.1323073187f), new Float3(-0.1781224702f, 0.1806857196f, -0.3716517945f),
-            new Float3(0.4390788626f, -0.02841848598f, -0.09435116353f), new Float3(0.2972583585f, 0.2382799621f, -0.2394997452f), new Float3(-0.1707002821f, 0.2215845691f, 0.3525077196f), new Float3(0.3806686614f, 0.1471852559f, -0.1895464869f), new Float3(-0.1751445661f, -0.274887877f, 0.3102596268f), new Float3(-0.2227237566f, -0.2316778837f, 0.3149912482f), new Float3(0.1369633021f, 0.1341343041f, -0.4071228836f), new Float3(-0.3529503428f, -0.2472893463f, -0.129514612f),
-            new Float3(-0.2590744185f, -0.2985577559f, -0.2150435121f), new Float3(-0.3784019401f, 0.2199816631f, -0.1044989934f), new Float3(-0.05635805671f, 0.1485737441f, 0.4210102279f), new Float3(0.3251428613f, 0.09666046873f, -0.2957006485f), new Float3(-0.4190995804f, 0.1406751354f, -0.08405978803f), new Float3(-0.3253150961f, -0.3080335042f, -0.04225456877f), new Float3(0.2857945863f, -0.05796152095f, 0.3427271751f), new Float3(-0.2733604046f, 0.1973770973f, -0.2980207554f),
-            new Float3(0.219003657f, 0.2410037886f, -0.3105713639f), new Float3(0.3182767252f, -0.271342949f, 0.1660509868f), new Float3(-0.03222023115f, -0.3331161506f, -0.300824678f), new Float3(-0.3087780231f, 0.1992794134f, -0.2596995338f), new Float3(-0.06487611647f, -0.4311322747f, 0.1114273361f), new Float3(0.3921171432f, -0.06294284106f, -0.2116183942f), new Float3(-0.1606404506f, -0.358928121f, -0.2187812825f), new Float3(-0.03767771199f, -0.2290351443f, 0.3855169162f),
-            new Float3(0.1394866832f, -0.3602213994f, 0.2308332918f), new Float3(-0.4345093872f, 0.005751117145f, 0.1169124335f), new Float3(-0.1044637494f, 0.4168128432f, -0.1336202785f), new Float3(0.2658727501f, 0.2551943237f, 0.2582393035f), new Float3(0.2051461999f, 0.1975390727f, 0.3484154868f), new Float3(-0.266085566f, 0.23483312f, 0.2766800993f), new Float3(0.07849405464f, -0.3300346342f, -0.2956616708f), new Float3(-0.2160686338f, 0.05376451292f, -0.3910546287f),
-            new Float3(-0.185779186f, 0.2148499206f, 0.3490352499f), new Float3(0.02492421743f, -0.3229954284f, -0.3123343347f), new Float3(-0.120167831f, 0.4017266681f, 0.1633259825f), new Float3(-0.02160084693f, -0.06885389554f, 0.4441762538f), new Float3(0.2597670064f, 0.3096300784f, 0.1978643903f), new Float3(-0.1611553854f, -0.09823036005f, 0.4085091653f), new Float3(-0.3278896792f, 0.1461670309f, 0.2713366126f), new Float3(0.2822734956f, 0.03754421121f, -0.3484423997f),
-            new Float3(0.03169341113f, 0.347405252f, -0.2842624114f), new Float3(0.2202613604f, -0.3460788041f, -0.1849713341f), new Float3(0.2933396046f, 0.3031973659f, 0.1565989581f), new Float3(-0.3194922995f, 0.2453752201f, -0.200538455f), new Float3(-0.3441586045f, -0.1698856132f, -0.2349334659f), new Float3(0.2703645948f, -0.3574277231f, 0.04060059933f), new Float3(0.2298568861f, 0.3744156221f, 0.0973588921f), new Float3(0.09326603877f, -0.3170108894f, 0.3054595587f),
-            new Float3(-0.1116165319f, -0.2985018719f, 0.3177080142f), new Float3(0.2172907365f, -0.3460005203f, -0.1885958001f), new Float3(0.1991339479f, 0.3820341668f, -0.1299829458f), new Float3(-0.0541918155f, -0.2103145071f, 0.39412061f), new Float3(0.08871336998f, 0.2012117383f, 0.3926114802f), new Float3(0.2787673278f, 0.3505404674f, 0.04370535101f), new Float3(-0.322166438f, 0.3067213525f, 0.06804996813f), new Float3(-0.4277366384f, 0.132066775f, 0.04582286686f),
-            new Float3(0.240131882f, -0.1612516055f, 0.344723946f), new Float3(0.1448607981f, -0.2387819045f, 0.3528435224f), new Float3(-0.3837065682f, -0.2206398454f, 0.08116235683f), new Float3(-0.4382627882f, -0.09082753406f, -0.04664855374f), new Float3(-0.37728353f, 0.05445141085f, 0.2391488697f), new Float3(0.1259579313f, 0.348394558f, 0.2554522098f), new Float3(-0.1406285511f, -0.270877371f, -0.3306796947f), new Float3(-0.1580694418f, 0.4162931958f, -0.06491553533f),
-            new Float3(0.2477612106f, -0.2927867412f, -0.2353514536f), new Float3(0.2916132853f, 0.3312535401f, 0.08793624968f), new Float3(0.07365265219f, -0.1666159848f, 0.411478311f), new Float3(-0.26126526f, -0.2422237692f, 0.2748965434f), new Float3(-0.3721862032f, 0.252790166f, 0.008634938242f), new Float3(-0.3691191571f, -0.255281188f, 0.03290232422f), new Float3(0.2278441737f, -0.3358364886f, 0.1944244981f), new Float3(0.363398169f, -0.2310190248f, 0.1306597909f),
-            new Float3(-0.304231482f, -0.2698452035f, 0.1926830856f), new Float3(-0.3199312232f, 0.316332536f, -0.008816977938f), new Float3(0.2874852279f, 0.1642275508f, -0.304764754f), new Float3(-0.1451096801f, 0.3277541114f, -0.2720669462f), new Float3(0.3220090754f, 0.0511344108f, 0.3101538769f), new Float3(-0.1247400865f, -0.04333605335f, -0.4301882115f), new Float3(-0.2829555867f, -0.3056190617f, -0.1703910946f), new Float3(0.1069384374f, 0.3491024667f, -0.2630430352f),
-            new Float3(-0.1420661144f, -0.3055376754f, -0.2982682484f), new Float3(-0.250548338f, 0.3156466809f, -0.2002316239f), new Float3(0.3265787872f, 0.1871229129f, 0.2466400438f), new Float3(0.07646097258f, -0.3026690852f, 0.324106687f), new Float3(0.3451771584f, 0.2757120714f, -0.0856480183f), new Float3(0.298137964f, 0.2852657134f, 0.179547284f), new Float3(0.2812250376f, 0.3466716415f, 0.05684409612f), new Float3(0.4390345476f, -0.09790429955f, -0.01278335452f),
-            new Float3(0.2148373234f, 0.1850172527f, 0.3494474791f), new Float3(0.2595421179f, -0.07946825393f, 0.3589187731f), new Float3(0.3182823114f, -0.307355516f, -0.08203022006f), new Float3(-0.4089859285f, -0.04647718411f, 0.1818526372f), new Float3(-0.2826749061f, 0.07417482322f, 0.3421885344f), new Float3(0.3483864637f, 0.225442246f, -0.1740766085f), new Float3(-0.3226415069f, -0.1420585388f, -0.2796816575f), new Float3(0.4330734858f, -0.118868561f, -0.02859407492f),
-            new Float3(-0.08717822568f, -0.3909896417f, -0.2050050172f), new Float3(-0.2149678299f, 0.3939973956f, -0.03247898316f), new Float3(-0.2687330705f, 0.322686276f, -0.1617284888f), new Float3(0.2105665099f, -0.1961317136f, -0.3459683451f), new Float3(0.4361845915f, -0.1105517485f, 0.004616608544f), new Float3(0.05333333359f, -0.313639498f, -0.3182543336f), new Float3(-0.05986216652f, 0.1361029153f, -0.4247264031f), new Float3(0.3664988455f, 0.2550543014f, -0.05590974511f),
-            new Float3(-0.2341015558f, -0.182405731f, 0.3382670703f), new Float3(-0.04730947785f, -0.4222150243f, -0.1483114513f), new Float3(-0.2391566239f, -0.2577696514f, -0.2808182972f), new Float3(-0.1242081035f, 0.4256953395f, -0.07652336246f), new Float3(0.2614832715f, -0.3650179274f, 0.02980623099f), new Float3(-0.2728794681f, -0.3499628774f, 0.07458404908f), new Float3(0.007892900508f, -0.1672771315f, 0.4176793787f), new Float3(-0.01730330376f, 0.2978486637f, -0.3368779738f),
-            new Float3(0.2054835762f, -0.3252600376f, -0.2334146693f), new Float3(-0.3231994983f, 0.1564282844f, -0.2712420987f), new Float3(-0.2669545963f, 0.2599343665f, -0.2523278991f), new Float3(-0.05554372779f, 0.3170813944f, -0.3144428146f), new Float3(-0.2083935713f, -0.310922837f, -0.2497981362f), new Float3(0.06989323478f, -0.3156141536f, 0.3130537363f), new Float3(0.3847566193f, -0.1605309138f, -0.1693876312f), new Float3(-0.3026215288f, -0.3001537679f, -0.1443188342f),
-            new Float3(0.3450735512f, 0.08611519592f, 0.2756962409f), new Float3(0.1814473292f, -0.2788782453f, -0.3029914042f), new Float3(-0.03855010448f, 0.09795110726f, 0.4375151083f), new Float3(0.3533670318f, 0.2665752752f, 0.08105160988f), new Float3(-0.007945601311f, 0.140359426f, -0.4274764309f), new Float3(0.4063099273f, -0.1491768253f, -0.1231199324f), new Float3(-0.2016773589f, 0.008816271194f, -0.4021797064f), new Float3(-0.07527055435f, -0.425643481f, -0.1251477955f),
+            0.1453787434f, -0.4149781685f, -0.0956981749f, 0f, -0.01242829687f, -0.1457918398f, -0.4255470325f, 0f, 0.2877979582f, -0.02606483451f, -0.3449535616f, 0f, -0.07732986802f, 0.2377094325f, 0.3741848704f, 0f, 0.1107205875f, -0.3552302079f, -0.2530858567f, 0f, 0.2755209141f, 0.2640521179f, -0.238463215f, 0f, 0.294168941f, 0.1526064594f, 0.3044271714f, 0f, 0.4000921098f, -0.2034056362f, 0.03244149937f, 0f,
+            -0.1697304074f, 0.3970864695f, -0.1265461359f, 0f, -0.1483224484f, -0.3859694688f, 0.1775613147f, 0f, 0.2623596946f, -0.2354852944f, 0.2796677792f, 0f, -0.2709003183f, 0.3505271138f, -0.07901746678f, 0f, -0.03516550699f, 0.3885234328f, 0.2243054374f, 0f, -0.1267712655f, 0.1920044036f, 0.3867342179f, 0f, 0.02952021915f, 0.4409685861f, 0.08470692262f, 0f, -0.2806854217f, -0.266996757f, 0.2289725438f, 0f,
+            -0.171159547f, 0.2141185563f, 0.3568720405f, 0f, 0.2113227183f, 0.3902405947f, -0.07453178509f, 0f, -0.1024352839f, 0.2128044156f, -0.3830421561f, 0f, -0.3304249877f, -0.1566986703f, 0.2622305365f, 0f, 0.2091111325f, 0.3133278055f, -0.2461670583f, 0f, 0.344678154f, -0.1944240454f, -0.2142341261f, 0f, 0.1984478035f, -0.3214342325f, -0.2445373252f, 0f, -0.2929008603f, 0.2262915116f, 0.2559320961f, 0f,
+            -0.1617332831f, 0.006314769776f, -0.4198838754f, 0f, -0.3582060271f, -0.148303178f, -0.2284613961f, 0f, -0.1852067326f, -0.3454119342f, -0.2211087107f, 0f, 0.3046301062f, 0.1026310383f, 0.314908508f, 0f, -0.03816768434f, -0.2551766358f, -0.3686842991f, 0f, -0.4084952196f, 0.1805950793f, 0.05492788837f, 0f, -0.02687443361f, -0.2749741471f, 0.3551999201f, 0f, -0.03801098351f, 0.3277859044f, 0.3059600725f, 0f,
+            0.2371120802f, 0.2900386767f, -0.2493099024f, 0f, 0.4447660503f, 0.03946930643f, 0.05590469027f, 0f, 0.01985147278f, -0.01503183293f, -0.4493105419f, 0f, 0.4274339143f, 0.03345994256f, -0.1366772882f, 0f, -0.2072988631f, 0.2871414597f, -0.2776273824f, 0f, -0.3791240978f, 0.1281177671f, 0.2057929936f, 0f, -0.2098721267f, -0.1007087278f, -0.3851122467f, 0f, 0.01582798878f, 0.4263894424f, 0.1429738373f, 0f,
+            -0.1888129464f, -0.3160996813f, -0.2587096108f, 0f, 0.1612988974f, -0.1974805082f, -0.3707885038f, 0f, -0.08974491322f, 0.229148752f, -0.3767448739f, 0f, 0.07041229526f, 0.4150230285f, -0.1590534329f, 0f, -0.1082925611f, -0.1586061639f, 0.4069604477f, 0f, 0.2474100658f, -0.3309414609f, 0.1782302128f, 0f, -0.1068836661f, -0.2701644537f, -0.3436379634f, 0f, 0.2396452163f, 0.06803600538f, -0.3747549496f, 0f,
+            -0.3063886072f, 0.2597428179f, 0.2028785103f, 0f, 0.1593342891f, -0.3114350249f, -0.2830561951f, 0f, 0.2709690528f, 0.1412648683f, -0.3303331794f, 0f, -0.1519780427f, 0.3623355133f, 0.2193527988f, 0f, 0.1699773681f, 0.3456012883f, 0.2327390037f, 0f, -0.1986155616f, 0.3836276443f, -0.1260225743f, 0f, -0.1887482106f, -0.2050154888f, -0.353330953f, 0f, 0.2659103394f, 0.3015631259f, -0.2021172246f, 0f,
+            -0.08838976154f, -0.4288819642f, -0.1036702021f, 0f, -0.04201869311f, 0.3099592485f, 0.3235115047f, 0f, -0.3230334656f, 0.201549922f, -0.2398478873f, 0f, 0.2612720941f, 0.2759854499f, -0.2409749453f, 0f, 0.385713046f, 0.2193460345f, 0.07491837764f, 0f, 0.07654967953f, 0.3721732183f, 0.241095919f, 0f, 0.4317038818f, -0.02577753072f, 0.1243675091f, 0f, -0.2890436293f, -0.3418179959f, -0.04598084447f, 0f,
+            -0.2201947582f, 0.383023377f, -0.08548310451f, 0f, 0.4161322773f, -0.1669634289f, -0.03817251927f, 0f, 0.2204718095f, 0.02654238946f, -0.391391981f, 0f, -0.1040307469f, 0.3890079625f, -0.2008741118f, 0f, -0.1432122615f, 0.371614387f, -0.2095065525f, 0f, 0.3978380468f, -0.06206669342f, 0.2009293758f, 0f, -0.2599274663f, 0.2616724959f, -0.2578084893f, 0f, 0.4032618332f, -0.1124593585f, 0.1650235939f, 0f,
+            -0.08953470255f, -0.3048244735f, 0.3186935478f, 0f, 0.118937202f, -0.2875221847f, 0.325092195f, 0f, 0.02167047076f, -0.03284630549f, -0.4482761547f, 0f, -0.3411343612f, 0.2500031105f, 0.1537068389f, 0f, 0.3162964612f, 0.3082064153f, -0.08640228117f, 0f, 0.2355138889f, -0.3439334267f, -0.1695376245f, 0f, -0.02874541518f, -0.3955933019f, 0.2125550295f, 0f, -0.2461455173f, 0.02020282325f, -0.3761704803f, 0f,
+            0.04208029445f, -0.4470439576f, 0.02968078139f, 0f, 0.2727458746f, 0.2288471896f, -0.2752065618f, 0f, -0.1347522818f, -0.02720848277f, -0.4284874806f, 0f, 0.3829624424f, 0.1231931484f, -0.2016512234f, 0f, -0.3547613644f, 0.1271702173f, 0.2459107769f, 0f, 0.2305790207f, 0.3063895591f, 0.2354968222f, 0f, -0.08323845599f, -0.1922245118f, 0.3982726409f, 0f, 0.2993663085f, -0.2619918095f, -0.2103333191f, 0f,
+            -0.2154865723f, 0.2706747713f, 0.287751117f, 0f, 0.01683355354f, -0.2680655787f, -0.3610505186f, 0f, 0.05240429123f, 0.4335128183f, -0.1087217856f, 0f, 0.00940104872f, -0.4472890582f, 0.04841609928f, 0f, 0.3465688735f, 0.01141914583f, -0.2868093776f, 0f, -0.3706867948f, -0.2551104378f, 0.003156692623f, 0f, 0.2741169781f, 0.2139972417f, -0.2855959784f, 0f, 0.06413433865f, 0.1708718512f, 0.4113266307f, 0f,
+            -0.388187972f, -0.03973280434f, -0.2241236325f, 0f, 0.06419469312f, -0.2803682491f, 0.3460819069f, 0f, -0.1986120739f, -0.3391173584f, 0.2192091725f, 0f, -0.203203009f, -0.3871641506f, 0.1063600375f, 0f, -0.1389736354f, -0.2775901578f, -0.3257760473f, 0f, -0.06555641638f, 0.342253257f, -0.2847192729f, 0f, -0.2529246486f, -0.2904227915f, 0.2327739768f, 0f, 0.1444476522f, 0.1069184044f, 0.4125570634f, 0f,
+            -0.3643780054f, -0.2447099973f, -0.09922543227f, 0f, 0.4286142488f, -0.1358496089f, -0.01829506817f, 0f, 0.165872923f, -0.3136808464f, -0.2767498872f, 0f, 0.2219610524f, -0.3658139958f, 0.1393320198f, 0f, 0.04322940318f, -0.3832730794f, 0.2318037215f, 0f, -0.08481269795f, -0.4404869674f, -0.03574965489f, 0f, 0.1822082075f, -0.3953259299f, 0.1140946023f, 0f, -0.3269323334f, 0.3036542563f, 0.05838957105f, 0f,
+            -0.4080485344f, 0.04227858267f, -0.184956522f, 0f, 0.2676025294f, -0.01299671652f, 0.36155217f, 0f, 0.3024892441f, -0.1009990293f, -0.3174892964f, 0f, 0.1448494052f, 0.425921681f, -0.0104580805f, 0f, 0.4198402157f, 0.08062320474f, 0.1404780841f, 0f, -0.3008872161f, -0.333040905f, -0.03241355801f, 0f, 0.3639310428f, -0.1291284382f, -0.2310412139f, 0f, 0.3295806598f, 0.0184175994f, -0.3058388149f, 0f,
+            0.2776259487f, -0.2974929052f, -0.1921504723f, 0f, 0.4149000507f, -0.144793182f, -0.09691688386f, 0f, 0.145016715f, -0.0398992945f, 0.4241205002f, 0f, 0.09299023471f, -0.299732164f, -0.3225111565f, 0f, 0.1028907093f, -0.361266869f, 0.247789732f, 0f, 0.2683057049f, -0.07076041213f, -0.3542668666f, 0f, -0.4227307273f, -0.07933161816f, -0.1323073187f, 0f, -0.1781224702f, 0.1806857196f, -0.3716517945f, 0f,
+            0.4390788626f, -0.02841848598f, -0.09435116353f, 0f, 0.2972583585f, 0.2382799621f, -0.2394997452f, 0f, -0.1707002821f, 0.2215845691f, 0.3525077196f, 0f, 0.3806686614f, 0.1471852559f, -0.1895464869f, 0f, -0.1751445661f, -0.274887877f, 0.3102596268f, 0f, -0.2227237566f, -0.2316778837f, 0.3149912482f, 0f, 0.1369633021f, 0.1341343041f, -0.4071228836f, 0f, -0.3529503428f, -0.2472893463f, -0.129514612f, 0f,
+            -0.2590744185f, -0.2985577559f, -0.2150435121f, 0f, -0.3784019401f, 0.2199816631f, -0.1044989934f, 0f, -0.05635805671f, 0.1485737441f, 0.4210102279f, 0f, 0.3251428613f, 0.09666046873f, -0.2957006485f, 0f, -0.4190995804f, 0.1406751354f, -0.08405978803f, 0f, -0.3253150961f, -0.3080335042f, -0.04225456877f, 0f, 0.2857945863f, -0.05796152095f, 0.3427271751f, 0f, -0.2733604046f, 0.1973770973f, -0.2980207554f, 0f,
+            0.219003657f, 0.2410037886f, -0.3105713639f, 0f, 0.3182767252f, -0.271342949f, 0.1660509868f, 0f, -0.03222023115f, -0.3331161506f, -0.300824678f, 0f, -0.3087780231f, 0.1992794134f, -0.2596995338f, 0f, -0.06487611647f, -0.4311322747f, 0.1114273361f, 0f, 0.3921171432f, -0.06294284106f, -0.2116183942f, 0f, -0.1606404506f, -0.358928121f, -0.2187812825f, 0f, -0.03767771199f, -0.2290351443f, 0.3855169162f, 0f,
+            0.1394866832f, -0.3602213994f, 0.2308332918f, 0f, -0.4345093872f, 0.005751117145f, 0.1169124335f, 0f, -0.1044637494f, 0.4168128432f, -0.1336202785f, 0f, 0.2658727501f, 0.2551943237f, 0.2582393035f, 0f, 0.2051461999f, 0.1975390727f, 0.3484154868f, 0f, -0.266085566f, 0.23483312f, 0.2766800993f, 0f, 0.07849405464f, -0.3300346342f, -0.2956616708f, 0f, -0.2160686338f, 0.05376451292f, -0.3910546287f, 0f,
+            -0.185779186f, 0.2148499206f, 0.3490352499f, 0f, 0.02492421743f, -0.3229954284f, -0.3123343347f, 0f, -0.120167831f, 0.4017266681f, 0.1633259825f, 0f, -0.02160084693f, -0.06885389554f, 0.4441762538f, 0f, 0.2597670064f, 0.3096300784f, 0.1978643903f, 0f, -0.1611553854f, -0.09823036005f, 0.4085091653f, 0f, -0.3278896792f, 0.1461670309f, 0.2713366126f, 0f, 0.2822734956f, 0.03754421121f, -0.3484423997f, 0f,
+            0.03169341113f, 0.347405252f, -0.2842624114f, 0f, 0.2202613604f, -0.3460788041f, -0.1849713341f, 0f, 0.2933396046f, 0.3031973659f, 0.1565989581f, 0f, -0.3194922995f, 0.2453752201f, -0.200538455f, 0f, -0.3441586045f, -0.1698856132f, -0.2349334659f, 0f, 0.2703645948f, -0.3574277231f, 0.04060059933f, 0f, 0.2298568861f, 0.3744156221f, 0.0973588921f, 0f, 0.09326603877f, -0.3170108894f, 0.3054595587f, 0f,
+            -0.1116165319f, -0.2985018719f, 0.3177080142f, 0f, 0.2172907365f, -0.3460005203f, -0.1885958001f, 0f, 0.1991339479f, 0.3820341668f, -0.1299829458f, 0f, -0.0541918155f, -0.2103145071f, 0.39412061f, 0f, 0.08871336998f, 0.2012117383f, 0.3926114802f, 0f, 0.2787673278f, 0.3505404674f, 0.04370535101f, 0f, -0.322166438f, 0.3067213525f, 0.06804996813f, 0f, -0.4277366384f, 0.132066775f, 0.04582286686f, 0f,
+            0.240131882f, -0.1612516055f, 0.344723946f, 0f, 0.1448607981f, -0.2387819045f, 0.3528435224f, 0f, -0.3837065682f, -0.2206398454f, 0.08116235683f, 0f, -0.4382627882f, -0.09082753406f, -0.04664855374f, 0f, -0.37728353f, 0.05445141085f, 0.2391488697f, 0f, 0.1259579313f, 0.348394558f, 0.2554522098f, 0f, -0.1406285511f, -0.270877371f, -0.3306796947f, 0f, -0.1580694418f, 0.4162931958f, -0.06491553533f, 0f,
+            0.2477612106f, -0.2927867412f, -0.2353514536f, 0f, 0.2916132853f, 0.3312535401f, 0.08793624968f, 0f, 0.07365265219f, -0.1666159848f, 0.411478311f, 0f, -0.26126526f, -0.2422237692f, 0.2748965434f, 0f, -0.3721862032f, 0.252790166f, 0.008634938242f, 0f, -0.3691191571f, -0.255281188f, 0.03290232422f, 0f, 0.2278441737f, -0.3358364886f, 0.1944244981f, 0f, 0.363398169f, -0.2310190248f, 0.1306597909f, 0f,
+            -0.304231482f, -0.2698452035f, 0.1926830856f, 0f, -0.3199312232f, 0.316332536f, -0.008816977938f, 0f, 0.2874852279f, 0.1642275508f, -0.304764754f, 0f, -0.1451096801f, 0.3277541114f, -0.2720669462f, 0f, 0.3220090754f, 0.0511344108f, 0.3101538769f, 0f, -0.1247400865f, -0.04333605335f, -0.4301882115f, 0f, -0.2829555867f, -0.3056190617f, -0.1703910946f, 0f, 0.1069384374f, 0.3491024667f, -0.2630430352f, 0f,
+            -0.1420661144f, -0.3055376754f, -0.2982682484f, 0f, -0.250548338f, 0.3156466809f, -0.2002316239f, 0f, 0.3265787872f, 0.1871229129f, 0.2466400438f, 0f, 0.07646097258f, -0.3026690852f, 0.324106687f, 0f, 0.3451771584f, 0.2757120714f, -0.0856480183f, 0f, 0.298137964f, 0.2852657134f, 0.179547284f, 0f, 0.2812250376f, 0.3466716415f, 0.05684409612f, 0f, 0.4390345476f, -0.09790429955f, -0.01278335452f, 0f,
+            0.2148373234f, 0.1850172527f, 0.3494474791f, 0f, 0.2595421179f, -0.07946825393f, 0.3589187731f, 0f, 0.3182823114f, -0.307355516f, -0.08203022006f, 0f, -0.4089859285f, -0.04647718411f, 0.1818526372f, 0f, -0.2826749061f, 0.07417482322f, 0.3421885344f, 0f, 0.3483864637f, 0.225442246f, -0.1740766085f, 0f, -0.3226415069f, -0.1420585388f, -0.2796816575f, 0f, 0.4330734858f, -0.118868561f, -0.02859407492f, 0f,
+            -0.08717822568f, -0.3909896417f, -0.2050050172f, 0f, -0.2149678299f, 0.3939973956f, -0.03247898316f, 0f, -0.2687330705f, 0.322686276f, -0.1617284888f, 0f, 0.2105665099f, -0.1961317136f, -0.3459683451f, 0f, 0.4361845915f, -0.1105517485f, 0.004616608544f, 0f, 0.05333333359f, -0.313639498f, -0.3182543336f, 0f, -0.05986216652f, 0.1361029153f, -0.4247264031f, 0f, 0.3664988455f, 0.2550543014f, -0.05590974511f, 0f,
+            -0.2341015558f, -0.182405731f, 0.3382670703f, 0f, -0.04730947785f, -0.4222150243f, -0.1483114513f, 0f, -0.2391566239f, -0.2577696514f, -0.2808182972f, 0f, -0.1242081035f, 0.4256953395f, -0.07652336246f, 0f, 0.2614832715f, -0.3650179274f, 0.02980623099f, 0f, -0.2728794681f, -0.3499628774f, 0.07458404908f, 0f, 0.007892900508f, -0.1672771315f, 0.4176793787f, 0f, -0.01730330376f, 0.2978486637f, -0.3368779738f, 0f,
+            0.2054835762f, -0.3252600376f, -0.2334146693f, 0f, -0.3231994983f, 0.1564282844f, -0.2712420987f, 0f, -0.2669545963f, 0.2599343665f, -0.2523278991f, 0f, -0.05554372779f, 0.3170813944f, -0.3144428146f, 0f, -0.2083935713f, -0.310922837f, -0.2497981362f, 0f, 0.06989323478f, -0.3156141536f, 0.3130537363f, 0f, 0.3847566193f, -0.1605309138f, -0.1693876312f, 0f, -0.3026215288f, -0.3001537679f, -0.1443188342f, 0f,
+            0.3450735512f, 0.08611519592f, 0.2756962409f, 0f, 0.1814473292f, -0.2788782453f, -0.3029914042f, 0f, -0.03855010448f, 0.09795110726f, 0.4375151083f, 0f, 0.3533670318f, 0.2665752752f, 0.08105160988f, 0f, -0.007945601311f, 0.140359426f, -0.4274764309f, 0f, 0.4063099273f, -0.1491768253f, -0.1231199324f, 0f, -0.2016773589f, 0.008816271194f, -0.4021797064f, 0f, -0.07527055435f, -0.425643481f, -0.1251477955f, 0f,
         };
+
+    /**
+     * The farthest a feature point in cellular noise can be from its cell's center on any one axis; every cell point
+     * offset is at most 0.45 long, and this is a tiny bit more to allow for rounding.
+     */
+    private static final float CELL_JITTER = 0.4501f;
+
+    /**
+     * The order cellular noise in 3D to 6D visits cells along each axis: the cell the point rounds to, then the neighbor on the
+     * point's side of it, then the neighbor on the other side. The smallest possible distance to a cell only goes up
+     * in this order, so once one cell is too far, the rest on that axis are too.
+     */
+    private static final int[] CELL_SEARCH_ORDER = {0, 1, -1};
+
+    /**
+     * Cell point offsets for cellular noise in 4D to 6D. These are the gradient vectors in {@link #GRAD_4D},
+     * {@link #GRAD_5D}, and {@link #GRAD_6D}, scaled to be 0.45 long like the offsets in 2D and 3D, with the same
+     * layout as the gradient vectors. These are package-private so tests can check the cell searches against a search
+     * of every cell.
+     */
+    static final float[] CELL_4D = new float[GRAD_4D.length], CELL_5D = new float[GRAD_5D.length],
+            CELL_6D = new float[GRAD_6D.length];
+    static {
+        for (int i = 0; i < CELL_4D.length; i++) {
+            CELL_4D[i] = GRAD_4D[i] * (0.45f / 2.5259993f);
+        }
+        for (int i = 0; i < CELL_5D.length; i++) {
+            CELL_5D[i] = GRAD_5D[i] * 0.225f;
+            CELL_6D[i] = GRAD_6D[i] * 0.45f;
+        }
+    }
 }
@@ -0,0 +1,441 @@
+package make.some.noise;
+
+import java.nio.FloatBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fills large 2D grids and 3D volumes of noise using several threads, such as for a 16384x16384 heightmap made ahead
+ * of time. The area is split into tiles of about {@link #TILE_SAMPLES} samples each, where every tile is a run of
+ * whole rows (or whole layers, in 3D) that is contiguous in the output; each tile is filled by one task using
+ * {@link Noise#fillGridRows(float[], int, int, int, int, float, float, float)} or
+ * {@link Noise#fillVolumeRange(float[], int, int, int, int, int, int, int, int, int, float, float, float, float)}.
+ * Because each task writes one contiguous block of the output, different threads only ever share the cache lines at
+ * the ends of their blocks, so false sharing doesn't slow this down. The results are exactly the same as calling
+ * {@link Noise#fillGrid(float[], int, int, float, float, float)} or
+ * {@link Noise#fillVolume(float[], int, int, int, float, float, float, float)} on one thread, no matter how many threads
+ * are used or what order the tiles finish in.
+ * <br>
+ * The tasks can run on a {@link ForkJoinPool}, which splits the work recursively, or on any other {@link Executor},
+ * which gets one task per tile; the methods that don't take an Executor use {@link #getDefaultPool()}. Every method
+ * here waits until the whole area is filled before it returns. The Noise passed to these methods is copied with
+ * {@link Noise#freeze()} first, so it can be changed by other code while a fill is running without affecting the
+ * result; a subclass of Noise that changes how noise is produced will be treated like a plain Noise with the same
+ * configuration.
+ * <br>
+ * This class needs java.util.concurrent, so it isn't available on GWT; the GWT module excludes it.
+ */
+public class ParallelNoise {
+    /**
+     * About how many samples each task fills, unless a single row or layer is larger than this.
+     */
+    public static final int TILE_SAMPLES = 1 << 14;
+
+    private static ForkJoinPool defaultPool;
+
+    private ParallelNoise() {
+    }
+
+    /**
+     * Gets the ForkJoinPool used by the methods here that don't take an Executor, creating it the first time this is
+     * called with one thread per available processor. Its threads are daemon threads, so they don't keep the JVM
+     * running after everything else finishes.
+     * @return the shared ForkJoinPool used by default
+     */
+    public static synchronized ForkJoinPool getDefaultPool() {
+        if (defaultPool == null)
+            defaultPool = new ForkJoinPool();
+        return defaultPool;
+    }
+
+    /**
+     * Fills a 2D grid of noise using {@link #getDefaultPool()}; the results are identical to
+     * {@link Noise#fillGrid(float[], int, int, float, float, float)}, including the row-major layout.
+     * @param noise the Noise whose configuration will be used; it isn't changed
+     * @param out a float array that will be filled with noise; must have length at least {@code width * height}
+     * @param width how many columns to fill, each one {@code step} further along the x-axis than the last
+     * @param height how many rows to fill, each one {@code step} further along the y-axis than the last
+     * @param x0 x position of the first column, as a float
+     * @param y0 y position of the first row, as a float
+     * @param step the distance between adjacent samples, before the frequency is applied
+     * @return {@code out}, after modifications
+     */
+    public static float[] fillGrid(Noise noise, float[] out, int width, int height, float x0, float y0, float step) {
+        return fillGrid(getDefaultPool(), noise, out, width, height, x0, y0, step);
+    }
+
+    /**
+     * Fills a 2D grid of noise using tasks run by {@code executor}; the results are identical to
+     * {@link Noise#fillGrid(float[], int, int, float, float, float)}, including the row-major layout.
+     * @param executor runs the tasks; a ForkJoinPool is used with recursive splitting, anything else gets one task per tile
+     * @param noise the Noise whose configuration will be used; it isn't changed
+     * @param out a float array that will be filled with noise; must have length at least {@code width * height}
+     * @param width how many columns to fill, each one {@code step} further along the x-axis than the last
+     * @param height how many rows to fill, each one {@code step} further along the y-axis than the last
+     * @param x0 x position of the first column, as a float
+     * @param y0 y position of the first row, as a float
+     * @param step the distance between adjacent samples, before the frequency is applied
+     * @return {@code out}, after modifications
+     */
+    public static float[] fillGrid(Executor executor, Noise noise, final float[] out, final int width, final int height,
+                                   final float x0, final float y0, final float step) {
+        final Noise frozen = noise.freeze();
+        final int rows = Math.max(1, TILE_SAMPLES / Math.max(1, width));
+        run(executor, new Job((height + rows - 1) / rows) {
+            @Override
+            void fill(int tile) {
+                final int startRow = tile * rows, endRow = Math.min(height, startRow + rows);
+                frozen.fillGridRows(out, startRow * width, width, startRow, endRow, x0, y0, step);
+            }
+        });
+        return out;
+    }
+
+    /**
+     * Fills a 2D grid of noise using {@link #getDefaultPool()}, writing into {@code out} starting at its current
+     * position, in the same row-major layout {@link Noise#fillGrid(float[], int, int, float, float, float)} uses. The
+     * position and limit of {@code out} are not changed. Heap buffers are filled directly; other buffers, like direct
+     * buffers, are filled one tile at a time through a temporary array that each tile allocates for itself.
+     * @param noise the Noise whose configuration will be used; it isn't changed
+     * @param out a FloatBuffer that will be filled with noise; must have at least {@code width * height} remaining
+     * @param width how many columns to fill, each one {@code step} further along the x-axis than the last
+     * @param height how many rows to fill, each one {@code step} further along the y-axis than the last
+     * @param x0 x position of the first column, as a float
+     * @param y0 y position of the first row, as a float
+     * @param step the distance between adjacent samples, before the frequency is applied
+     * @return {@code out}, after modifications
+     */
+    public static FloatBuffer fillGrid(Noise noise, FloatBuffer out, int width, int height, float x0, float y0,
+                                       float step) {
+        return fillGrid(getDefaultPool(), noise, out, width, height, x0, y0, step);
+    }
+
+    /**
+     * Fills a 2D grid of noise using tasks run by {@code executor}, writing into {@code out} starting at its current
+     * position, in the same row-major layout {@link Noise#fillGrid(float[], int, int, float, float, float)} uses. The
+     * position and limit of {@code out} are not changed. Heap buffers are filled directly; other buffers, like direct
+     * buffers, are filled one tile at a time through a temporary array that each tile allocates for itself.
+     * @param executor runs the tasks; a ForkJoinPool is used with recursive splitting, anything else gets one task per tile
+     * @param noise the Noise whose configuration will be used; it isn't changed
+     * @param out a FloatBuffer that will be filled with noise; must have at least {@code width * height} remaining
+     * @param width how many columns to fill, each one {@code step} further along the x-axis than the last
+     * @param height how many rows to fill, each one {@code step} further along the y-axis than the last
+     * @param x0 x position of the first column, as a float
+     * @param y0 y position of the first row, as a float
+     * @param step the distance between adjacent samples, before the frequency is applied
+     * @return {@code out}, after modifications
+     */
+    public static FloatBuffer fillGrid(Executor executor, Noise noise, final FloatBuffer out, final int width,
+                                       final int height, final float x0, final float y0, final float step) {
+        final Noise frozen = noise.freeze();
+        final int rows = Math.max(1, TILE_SAMPLES / Math.max(1, width)), base = out.position();
+        if (out.hasArray()) {
+            final float[] array = out.array();
+            final int start = out.arrayOffset() + base;
+            run(executor, new Job((height + rows - 1) / rows) {
+                @Override
+                void fill(int tile) {
+                    final int startRow = tile * rows, endRow = Math.min(height, startRow + rows);
+                    frozen.fillGridRows(array, start + startRow * width, width, startRow, endRow, x0, y0, step);
+                }
+            });
+        } else {
+            run(executor, new Job((height + rows - 1) / rows) {
+                @Override
+                void fill(int tile) {
+                    final int startRow = tile * rows, endRow = Math.min(height, startRow + rows);
+                    final float[] temp = frozen.fillGridRows(new float[(endRow - startRow) * width], 0, width,
+                            startRow, endRow, x0, y0, step);
+                    final FloatBuffer view = out.duplicate();
+                    view.position(base + startRow * width);
+                    view.put(temp);
+                }
+            });
+        }
+        return out;
+    }
+
+    /**
+     * Fills a 3D volume of noise using {@link #getDefaultPool()}; the results are identical to
+     * {@link Noise#fillVolume(float[], int, int, int, float, float, float, float)}, including the layout with x
+     * changing fastest, then y, then z.
+     * @param noise the Noise whose configuration will be used; it isn't changed
+     * @param out a float array that will be filled with noise; must have length at least {@code width * height * depth}
+     * @param width how many samples to fill along the x-axis
+     * @param height how many samples to fill along the y-axis
+     * @param depth how many samples to fill along the z-axis
+     * @param x0 x position of the first sample, as a float
+     * @param y0 y position of the first sample, as a float
+     * @param z0 z position of the first sample, as a float
+     * @param step the distance between adjacent samples on any axis, before the frequency is applied
+     * @return {@code out}, after modifications
+     */
+    public static float[] fillVolume(Noise noise, float[] out, int width, int height, int depth,
+                                     float x0, float y0, float z0, float step) {
+        return fillVolume(getDefaultPool(), noise, out, width, height, depth, x0, y0, z0, step);
+    }
+
+    /**
+     * Fills a 3D volume of noise using tasks run by {@code executor}; the results are identical to
+     * {@link Noise#fillVolume(float[], int, int, int, float, float, float, float)}, including the layout with x
+     * changing fastest, then y, then z.
+     * @param executor runs the tasks; a ForkJoinPool is used with recursive splitting, anything else gets one task per tile
+     * @param noise the Noise whose configuration will be used; it isn't changed
+     * @param out a float array that will be filled with noise; must have length at least {@code width * height * depth}
+     * @param width how many samples to fill along the x-axis
+     * @param height how many samples to fill along the y-axis
+     * @param depth how many samples to fill along the z-axis
+     * @param x0 x position of the first sample, as a float
+     * @param y0 y position of the first sample, as a float
+     * @param z0 z position of the first sample, as a float
+     * @param step the distance between adjacent samples on any axis, before the frequency is applied
+     * @return {@code out}, after modifications
+     */
+    public static float[] fillVolume(Executor executor, Noise noise, final float[] out, final int width,
+                                     final int height, int depth, final float x0, final float y0, final float z0,
+                                     final float step) {
+        final Noise frozen = noise.freeze();
+        run(executor, new VolumeJob(width, height, depth) {
+            @Override
+            void fill(int startRow, int endRow, int startLayer, int endLayer) {
+                frozen.fillVolumeRange(out, (startLayer * height + startRow) * width, 1, width, width * height, width,
+                        startRow, endRow, startLayer, endLayer, x0, y0, z0, step);
+            }
+        });
+        return out;
+    }
+
+    /**
+     * Fills a 3D volume of noise using {@link #getDefaultPool()}, writing into {@code out} starting at its current
+     * position, in the same layout {@link Noise#fillVolume(float[], int, int, int, float, float, float, float)} uses.
+     * The position and limit of {@code out} are not changed. Heap buffers are filled directly; other buffers, like
+     * direct buffers, are filled one tile at a time through a temporary array that each tile allocates for itself.
+     * @param noise the Noise whose configuration will be used; it isn't changed
+     * @param out a FloatBuffer that will be filled with noise; must have at least {@code width * height * depth} remaining
+     * @param width how many samples to fill along the x-axis
+     * @param height how many samples to fill along the y-axis
+     * @param depth how many samples to fill along the z-axis
+     * @param x0 x position of the first sample, as a float
+     * @param y0 y position of the first sample, as a float
+     * @param z0 z position of the first sample, as a float
+     * @param step the distance between adjacent samples on any axis, before the frequency is applied
+     * @return {@code out}, after modifications
+     */
+    public static FloatBuffer fillVolume(Noise noise, FloatBuffer out, int width, int height, int depth,
+                                         float x0, float y0, float z0, float step) {
+        return fillVolume(getDefaultPool(), noise, out, width, height, depth, x0, y0, z0, step);
+    }
+
+    /**
+     * Fills a 3D volume of noise using tasks run by {@code executor}, writing into {@code out} starting at its current
+     * position, in the same layout {@link Noise#fillVolume(float[], int, int, int, float, float, float, float)} uses.
+     * The position and limit of {@code out} are not changed. Heap buffers are filled directly; other buffers, like
+     * direct buffers, are filled one tile at a time through a temporary array that each tile allocates for itself.
+     * @param executor runs the tasks; a ForkJoinPool is used with recursive splitting, anything else gets one task per tile
+     * @param noise the Noise whose configuration will be used; it isn't changed
+     * @param out a FloatBuffer that will be filled with noise; must have at least {@code width * height * depth} remaining
+     * @param width how many samples to fill along the x-axis
+     * @param height how many samples to fill along the y-axis
+     * @param depth how many samples to fill along the z-axis
+     * @param x0 x position of the first sample, as a float
+     * @param y0 y position of the first sample, as a float
+     * @param z0 z position of the first sample, as a float
+     * @param step the distance between adjacent samples on any axis, before the frequency is applied
+     * @return {@code out}, after modifications
+     */
+    public static FloatBuffer fillVolume(Executor executor, Noise noise, final FloatBuffer out, final int width,
+                                         final int height, int depth, final float x0, final float y0, final float z0,
+                                         final float step) {
+        final Noise frozen = noise.freeze();
+        final int base = out.position();
+        if (out.hasArray()) {
+            final float[] array = out.array();
+            final int start = out.arrayOffset() + base;
+            run(executor, new VolumeJob(width, height, depth) {
+                @Override
+                void fill(int startRow, int endRow, int startLayer, int endLayer) {
+                    frozen.fillVolumeRange(array, start + (startLayer * height + startRow) * width, 1, width,
+                            width * height, width, startRow, endRow, startLayer, endLayer, x0, y0, z0, step);
+                }
+            });
+        } else {
+            final VolumeJob job = new VolumeJob(width, height, depth) {
+                @Override
+                void fill(int startRow, int endRow, int startLayer, int endLayer) {
+                    final int rows = endRow - startRow;
+                    final float[] temp = frozen.fillVolumeRange(new float[(endLayer - startLayer) * rows * width], 0,
+                            1, width, width * rows, width, startRow, endRow, startLayer, endLayer, x0, y0, z0, step);
+                    final FloatBuffer view = out.duplicate();
+                    view.position(base + (startLayer * height + startRow) * width);
+                    view.put(temp);
+                }
+            };
+            run(executor, job);
+        }
+        return out;
+    }
+
+    /**
+     * Some number of tiles, each of which can be filled independently of the others.
+     */
+    private abstract static class Job {
+        final int tiles;
+
+        Job(int tiles) {
+            this.tiles = tiles;
+        }
+
+        abstract void fill(int tile);
+    }
+
+    /**
+     * Splits a volume into tiles; each tile is either a band of rows in one layer, if one layer is bigger than
+     * {@link #TILE_SAMPLES}, or a group of whole layers otherwise. Either way, each tile is contiguous in the usual
+     * layout.
+     */
+    private abstract static class VolumeJob extends Job {
+        final int height, depth, rows, layers, bands;
+
+        VolumeJob(int width, int height, int depth) {
+            this(Math.max(1, width), height, depth, Math.max(1, TILE_SAMPLES / Math.max(1, width)));
+        }
+
+        private VolumeJob(int width, int height, int depth, int rowsPerTile) {
+            this(width, height, depth, Math.min(Math.max(1, height), rowsPerTile),
+                    rowsPerTile >= height ? Math.max(1, rowsPerTile / Math.max(1, height)) : 1);
+        }
+
+        private VolumeJob(int width, int height, int depth, int rows, int layers) {
+            super(rows >= height ? (depth + layers - 1) / layers : ((height + rows - 1) / rows) * depth);
+            this.height = height;
+            this.depth = depth;
+            this.rows = rows;
+            this.layers = layers;
+            this.bands = (height + rows - 1) / rows;
+        }
+
+        @Override
+        final void fill(int tile) {
+            if (rows >= height) {
+                final int startLayer = tile * layers;
+                fill(0, height, startLayer, Math.min(depth, startLayer + layers));
+            } else {
+                final int layer = tile / bands, startRow = (tile % bands) * rows;
+                fill(startRow, Math.min(height, startRow + rows), layer, layer + 1);
+            }
+        }
+
+        abstract void fill(int startRow, int endRow, int startLayer, int endLayer);
+    }
+
+    /**
+     * Fills a range of tiles in a ForkJoinPool, splitting the range in half until each task has one tile.
+     */
+    private static final class Split extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Job job;
+        private final int start, end;
+
+        Split(Job job, int start, int end) {
+            this.job = job;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= 1) {
+                if (start < end)
+                    job.fill(start);
+            } else {
+                final int mid = start + end >>> 1;
+                invokeAll(new Split(job, start, mid), new Split(job, mid, end));
+            }
+        }
+    }
+
+    /**
+     * Runs every tile in {@code job} with {@code executor}, returning only once they have all finished. If any tile
+     * threw an exception, the first one is thrown again here, wrapped in a RuntimeException if it needs to be. If the
+     * executor rejects a tile, the tiles it already accepted are told to skip their work, and this waits for them to
+     * finish before throwing the RejectedExecutionException, so nothing is still writing to the output afterwards.
+     * Being interrupted while waiting works the same way: tiles that haven't started are skipped, the ones already
+     * running are waited for, and then the interrupt status is set again and a RuntimeException is thrown.
+     */
+    private static void run(Executor executor, final Job job) {
+        if (job.tiles <= 0)
+            return;
+        if (executor instanceof ForkJoinPool) {
+            ((ForkJoinPool) executor).invoke(new Split(job, 0, job.tiles));
+            return;
+        }
+        final CountDownLatch latch = new CountDownLatch(job.tiles);
+        final Throwable[] failure = new Throwable[1];
+        final AtomicBoolean cancelled = new AtomicBoolean(false);
+        for (int t = 0; t < job.tiles; t++) {
+            final int tile = t;
+            try {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            if (!cancelled.get())
+                                job.fill(tile);
+                        } catch (Throwable e) {
+                            synchronized (failure) {
+                                if (failure[0] == null)
+                                    failure[0] = e;
+                            }
+                        } finally {
+                            latch.countDown();
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                cancelled.set(true);
+                for (int i = t; i < job.tiles; i++)
+                    latch.countDown();
+                if (awaitUninterruptibly(latch))
+                    Thread.currentThread().interrupt();
+                throw e;
+            }
+        }
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            cancelled.set(true);
+            awaitUninterruptibly(latch);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        synchronized (failure) {
+            if (failure[0] instanceof RuntimeException)
+                throw (RuntimeException) failure[0];
+            if (failure[0] instanceof Error)
+                throw (Error) failure[0];
+            if (failure[0] != null)
+                throw new RuntimeException(failure[0]);
+        }
+    }
+
+    /**
+     * Waits until {@code latch} reaches zero, even if this thread is interrupted along the way.
+     * @return true if this thread was interrupted while waiting; the caller should set the interrupt status again
+     */
+    private static boolean awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                return interrupted;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+    }
+}
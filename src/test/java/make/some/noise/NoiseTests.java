@@ -1,8 +1,22 @@
 package make.some.noise;
 
 import org.huldra.math.BigInt;
+import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Created by Tommy Ettinger on 6/20/2019.
  */
@@ -606,4 +620,1018 @@ public class NoiseTests {
 		}
 		System.out.println("Better 6D min="+min+",max="+max+",multiplier="+(1f/Math.max(-min, max)));
 	}
+
+	@Test
+	public void testFillGrid()
+	{
+		Noise noise = new Noise(543212345, 0.0625f);
+		float[] grid = new float[37 * 23];
+		for (int type = 0; type < 16; type++) {
+			noise.setNoiseType(type);
+			for (int fractal = 0; fractal < 3; fractal++) {
+				noise.setFractalType(fractal);
+				noise.setFractalOctaves(fractal + 2);
+				noise.setCellularReturnType(fractal * 3);
+				noise.fillGrid(grid, 37, 23, -11.5f, 3.25f, 0.75f);
+				for (int j = 0, idx = 0; j < 23; j++) {
+					for (int i = 0; i < 37; i++) {
+						Assert.assertEquals(noise.getConfiguredNoise(-11.5f + i * 0.75f, 3.25f + j * 0.75f), grid[idx++], 0f);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testFillCellularGrid()
+	{
+		Noise noise = new Noise(543212345, 0.0625f, Noise.CELLULAR);
+		float[] grid = new float[41 * 29];
+		for (int distanceFunction = Noise.EUCLIDEAN; distanceFunction <= Noise.NATURAL; distanceFunction++) {
+			noise.setCellularDistanceFunction(distanceFunction);
+			for (int returnType = Noise.CELL_VALUE; returnType <= Noise.DISTANCE_2_DIV; returnType++) {
+				noise.setCellularReturnType(returnType);
+				for (float step = -1.25f; step <= 1.25f; step += 2.5f) {
+					noise.fillGrid(grid, 41, 29, 7.5f, -20f, step);
+					for (int j = 0, idx = 0; j < 29; j++) {
+						for (int i = 0; i < 41; i++) {
+							Assert.assertEquals(noise.getConfiguredNoise(7.5f + i * step, -20f + j * step), grid[idx++], 0f);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testFillVolume()
+	{
+		Noise noise = new Noise(543212345, 0.0625f);
+		float[] volume = new float[11 * 9 * 7], strided = new float[1 + 7 * 9 * 11];
+		for (int type = 0; type < 16; type++) {
+			noise.setNoiseType(type);
+			for (int fractal = 0; fractal < 3; fractal++) {
+				noise.setFractalType(fractal);
+				noise.setFractalOctaves(fractal + 2);
+				noise.setInterpolation(fractal);
+				noise.setCellularReturnType(fractal * 3);
+				noise.fillVolume(volume, 11, 9, 7, -11.5f, 3.25f, 0.5f, 0.75f);
+				// y-up layout, starting one past the start of the array
+				noise.fillVolume(strided, 1, 9 * 7, 1, 9, 11, 9, 7, -11.5f, 3.25f, 0.5f, 0.75f);
+				for (int k = 0, idx = 0; k < 7; k++) {
+					for (int j = 0; j < 9; j++) {
+						for (int i = 0; i < 11; i++) {
+							float expected = noise.getConfiguredNoise(-11.5f + i * 0.75f, 3.25f + j * 0.75f, 0.5f + k * 0.75f);
+							Assert.assertEquals(expected, volume[idx++], 0f);
+							Assert.assertEquals(expected, strided[1 + i * 9 * 7 + k * 9 + j], 0f);
+						}
+					}
+				}
+				noise.fillVolume(volume, 11, 9, 7, -11.5f, 3.25f, 0.5f, 2.125f, 0.75f);
+				for (int k = 0, idx = 0; k < 7; k++) {
+					for (int j = 0; j < 9; j++) {
+						for (int i = 0; i < 11; i++) {
+							Assert.assertEquals(noise.getConfiguredNoise(-11.5f + i * 0.75f, 3.25f + j * 0.75f, 0.5f + k * 0.75f, 2.125f), volume[idx++], 0f);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testScanlineNoise()
+	{
+		int[] types = {Noise.VALUE, Noise.VALUE_FRACTAL, Noise.FOAM, Noise.FOAM_FRACTAL, Noise.MUTANT, Noise.MUTANT_FRACTAL};
+		for (int type : types) {
+			for (int fractal = 0; fractal < 3; fractal++) {
+				Noise noise = new Noise(-12345, 0.125f, type, fractal + 2);
+				noise.setFractalType(fractal);
+				noise.setInterpolation(fractal);
+				noise.setMutation(0.375f);
+				Noise scan = new Noise.ScanlineNoise(noise);
+				for (int i = 0; i < 200; i++) {
+					float x = i * 0.3f - 20f, y = 7.5f - i * 0.01f, z = 1.25f, w = i * 0.02f, u = -3f, v = 0.5f + i * 0.05f;
+					Assert.assertEquals(noise.getConfiguredNoise(x, y), scan.getConfiguredNoise(x, y), 0f);
+					Assert.assertEquals(noise.getConfiguredNoise(x, y, z), scan.getConfiguredNoise(x, y, z), 0f);
+					Assert.assertEquals(noise.getConfiguredNoise(x, y, z, w), scan.getConfiguredNoise(x, y, z, w), 0f);
+					Assert.assertEquals(noise.getConfiguredNoise(x, y, z, w, u), scan.getConfiguredNoise(x, y, z, w, u), 0f);
+					Assert.assertEquals(noise.getConfiguredNoise(x, y, z, w, u, v), scan.getConfiguredNoise(x, y, z, w, u, v), 0f);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testCompile()
+	{
+		Noise noise = new Noise(543212345, 0.0625f);
+		noise.setMutation(1.5f);
+		noise.setFractalLacunarity(2.1f);
+		noise.setFractalGain(0.55f);
+		for (int type = 0; type < 16; type++) {
+			noise.setNoiseType(type);
+			for (int fractal = 0; fractal < 3; fractal++) {
+				noise.setFractalType(fractal);
+				noise.setCellularReturnType(fractal * 3);
+				for (int octaves = 1; octaves <= 5; octaves += 2) {
+					noise.setFractalOctaves(octaves + fractal);
+					noise.setInterpolation((octaves + fractal) % 3);
+					Noise.Compiled2D c2 = noise.compile2D();
+					Noise.Compiled3D c3 = noise.compile3D();
+					Noise.Compiled4D c4 = noise.compile4D();
+					Noise.Compiled5D c5 = noise.compile5D();
+					Noise.Compiled6D c6 = noise.compile6D();
+					Noise copy = new Noise(noise);
+					// changes to the original must not affect compiled functions
+					noise.setSeed(noise.getSeed() + 1);
+					noise.setFractalOctaves(noise.getFractalOctaves() + 1);
+					noise.setInterpolation(noise.getInterpolation() + 1 & 1);
+					noise.setFractalLacunarity(1.5f);
+					noise.setFractalGain(0.25f);
+					for (int i = 0; i < 60; i++) {
+						float x = i * 0.7f - 30f, y = 5f - i * 0.3f, z = i * 0.11f, w = -i * 0.05f, u = 2.5f, v = i * 0.2f;
+						Assert.assertEquals(copy.getConfiguredNoise(x, y), c2.getNoise(x, y), 0f);
+						Assert.assertEquals(copy.getConfiguredNoise(x, y, z), c3.getNoise(x, y, z), 0f);
+						Assert.assertEquals(copy.getConfiguredNoise(x, y, z, w), c4.getNoise(x, y, z, w), 0f);
+						Assert.assertEquals(copy.getConfiguredNoise(x, y, z, w, u), c5.getNoise(x, y, z, w, u), 0f);
+						Assert.assertEquals(copy.getConfiguredNoise(x, y, z, w, u, v), c6.getNoise(x, y, z, w, u, v), 0f);
+					}
+					noise.setSeed(noise.getSeed() - 1);
+					noise.setFractalLacunarity(2.1f);
+					noise.setFractalGain(0.55f);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testFrozenNoise() throws InterruptedException
+	{
+		final int[] types = {Noise.SIMPLEX_FRACTAL, Noise.PERLIN_FRACTAL, Noise.VALUE_FRACTAL, Noise.FOAM_FRACTAL,
+				Noise.CELLULAR, Noise.CUBIC_FRACTAL};
+		final Noise.FrozenNoise[] frozen = new Noise.FrozenNoise[types.length];
+		final float[][] expected = new float[types.length][], expectedSeeded = new float[types.length][],
+				expectedGrid = new float[types.length][];
+		for (int t = 0; t < types.length; t++) {
+			Noise noise = new Noise(12345, 0.05f, types[t], 3);
+			frozen[t] = noise.freeze();
+			noise.setSeed(999); // must not affect the frozen copy
+			Noise reseeded = new Noise(frozen[t]);
+			expected[t] = new float[200];
+			expectedSeeded[t] = new float[200];
+			for (int i = 0; i < 200; i++) {
+				expected[t][i] = frozen[t].getConfiguredNoise(i * 0.7f, i * -0.3f, i * 0.1f);
+				reseeded.setSeed(i);
+				expectedSeeded[t][i] = reseeded.getConfiguredNoise(i * 0.7f, i * -0.3f, i * 0.1f);
+			}
+			expectedGrid[t] = frozen[t].fillGrid(new float[32 * 32], 32, 32, -5f, 7f, 0.75f);
+		}
+		final boolean[] failed = new boolean[1];
+		Thread[] threads = new Thread[8];
+		for (int th = 0; th < threads.length; th++) {
+			threads[th] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					float[] grid = new float[32 * 32];
+					for (int rep = 0; rep < 20; rep++) {
+						for (int t = 0; t < types.length; t++) {
+							for (int i = 0; i < 200; i++) {
+								if (frozen[t].getConfiguredNoise(i * 0.7f, i * -0.3f, i * 0.1f) != expected[t][i]
+										|| frozen[t].getNoiseWithSeed(i * 0.7f, i * -0.3f, i * 0.1f, i) != expectedSeeded[t][i])
+									failed[0] = true;
+							}
+							if (!Arrays.equals(expectedGrid[t], frozen[t].fillGrid(grid, 32, 32, -5f, 7f, 0.75f)))
+								failed[0] = true;
+						}
+					}
+				}
+			});
+			threads[th].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+		Assert.assertFalse(failed[0]);
+		try {
+			frozen[0].setSeed(1);
+			Assert.fail("FrozenNoise.setSeed() should throw");
+		} catch (UnsupportedOperationException expectedException) {
+			Assert.assertEquals(12345, frozen[0].getSeed());
+		}
+	}
+
+	@Test
+	public void testSimplexGradient()
+	{
+		Noise noise = new Noise(-98765, 0.25f, Noise.SIMPLEX_FRACTAL, 4);
+		float[] g2 = new float[3], g3 = new float[4];
+		final float h = 0.004f, h2 = 0.008f;
+		// 3D Simplex has a few tiny discontinuities where finite differences are meaningless, so allow some misses
+		int misses = 0;
+		for (int i = 0; i < 2000; i++) {
+			float x = i * 0.0073f - 7f, y = 4f - i * 0.0037f, z = i * 0.0019f - 2f;
+			noise.getSimplexWithGradient(x, y, g2);
+			Assert.assertEquals(noise.getSimplex(x, y), g2[0], 0f);
+			Assert.assertEquals((noise.getSimplex(x + h, y) - noise.getSimplex(x - h, y)) / h2, g2[1], 2e-3f);
+			Assert.assertEquals((noise.getSimplex(x, y + h) - noise.getSimplex(x, y - h)) / h2, g2[2], 2e-3f);
+			noise.getSimplexFractalWithGradient(x, y, g2);
+			Assert.assertEquals(noise.getSimplexFractal(x, y), g2[0], 0f);
+			Assert.assertEquals((noise.getSimplexFractal(x + h, y) - noise.getSimplexFractal(x - h, y)) / h2, g2[1], 4e-3f);
+			Assert.assertEquals((noise.getSimplexFractal(x, y + h) - noise.getSimplexFractal(x, y - h)) / h2, g2[2], 4e-3f);
+
+			noise.getSimplexWithGradient(x, y, z, g3);
+			Assert.assertEquals(noise.getSimplex(x, y, z), g3[0], 0f);
+			if (Math.abs((noise.getSimplex(x + h, y, z) - noise.getSimplex(x - h, y, z)) / h2 - g3[1]) > 2e-3f) misses++;
+			if (Math.abs((noise.getSimplex(x, y + h, z) - noise.getSimplex(x, y - h, z)) / h2 - g3[2]) > 2e-3f) misses++;
+			if (Math.abs((noise.getSimplex(x, y, z + h) - noise.getSimplex(x, y, z - h)) / h2 - g3[3]) > 2e-3f) misses++;
+			noise.getSimplexFractalWithGradient(x, y, z, g3);
+			Assert.assertEquals(noise.getSimplexFractal(x, y, z), g3[0], 0f);
+			if (Math.abs((noise.getSimplexFractal(x + h, y, z) - noise.getSimplexFractal(x - h, y, z)) / h2 - g3[1]) > 4e-3f) misses++;
+			if (Math.abs((noise.getSimplexFractal(x, y + h, z) - noise.getSimplexFractal(x, y - h, z)) / h2 - g3[2]) > 4e-3f) misses++;
+			if (Math.abs((noise.getSimplexFractal(x, y, z + h) - noise.getSimplexFractal(x, y, z - h)) / h2 - g3[3]) > 4e-3f) misses++;
+		}
+		Assert.assertTrue("too many gradient mismatches: " + misses, misses < 240);
+	}
+
+	@Test
+	public void testPerlinValueGradient()
+	{
+		Noise noise = new Noise(24680, 0.25f, Noise.PERLIN_FRACTAL, 3);
+		float[] g2 = new float[3], g3 = new float[4], g4 = new float[5];
+		final float h = 0.002f, h2 = 0.004f;
+		for (int interpolation = 0; interpolation < 3; interpolation++) {
+			noise.setInterpolation(interpolation);
+			for (int i = 0; i < 1000; i++) {
+				float x = i * 0.0073f - 7f, y = 4f - i * 0.0037f, z = i * 0.0019f - 2f, w = 1.5f - i * 0.0041f;
+				Assert.assertEquals(noise.getPerlin(x, y), noise.getPerlinWithGradient(x, y, g2)[0], 0f);
+				Assert.assertEquals(noise.getPerlin(x, y, z), noise.getPerlinWithGradient(x, y, z, g3)[0], 0f);
+				Assert.assertEquals(noise.getPerlin(x, y, z, w), noise.getPerlinWithGradient(x, y, z, w, g4)[0], 0f);
+				Assert.assertEquals(noise.getValue(x, y), noise.getValueWithGradient(x, y, g2)[0], 0f);
+				Assert.assertEquals(noise.getValue(x, y, z), noise.getValueWithGradient(x, y, z, g3)[0], 0f);
+				Assert.assertEquals(noise.getValue(x, y, z, w), noise.getValueWithGradient(x, y, z, w, g4)[0], 0f);
+				noise.setNoiseType(Noise.PERLIN_FRACTAL);
+				Assert.assertEquals(noise.getConfiguredNoise(x, y), noise.getPerlinFractalWithGradient(x, y, g2)[0], 0f);
+				Assert.assertEquals(noise.getConfiguredNoise(x, y, z), noise.getPerlinFractalWithGradient(x, y, z, g3)[0], 0f);
+				Assert.assertEquals(noise.getConfiguredNoise(x, y, z, w), noise.getPerlinFractalWithGradient(x, y, z, w, g4)[0], 0f);
+				noise.setNoiseType(Noise.VALUE_FRACTAL);
+				Assert.assertEquals(noise.getConfiguredNoise(x, y), noise.getValueFractalWithGradient(x, y, g2)[0], 0f);
+				Assert.assertEquals(noise.getConfiguredNoise(x, y, z), noise.getValueFractalWithGradient(x, y, z, g3)[0], 0f);
+				Assert.assertEquals(noise.getConfiguredNoise(x, y, z, w), noise.getValueFractalWithGradient(x, y, z, w, g4)[0], 0f);
+			}
+		}
+		// Hermite and quintic interpolation make these smooth, so finite differences should agree everywhere
+		for (int interpolation = 1; interpolation < 3; interpolation++) {
+			noise.setInterpolation(interpolation);
+			for (int i = 0; i < 1000; i++) {
+				float x = i * 0.0073f - 7f, y = 4f - i * 0.0037f, z = i * 0.0019f - 2f, w = 1.5f - i * 0.0041f;
+				noise.getPerlinWithGradient(x, y, g2);
+				Assert.assertEquals((noise.getPerlin(x + h, y) - noise.getPerlin(x - h, y)) / h2, g2[1], 2e-3f);
+				Assert.assertEquals((noise.getPerlin(x, y + h) - noise.getPerlin(x, y - h)) / h2, g2[2], 2e-3f);
+				noise.getPerlinWithGradient(x, y, z, g3);
+				Assert.assertEquals((noise.getPerlin(x + h, y, z) - noise.getPerlin(x - h, y, z)) / h2, g3[1], 2e-3f);
+				Assert.assertEquals((noise.getPerlin(x, y, z + h) - noise.getPerlin(x, y, z - h)) / h2, g3[3], 2e-3f);
+				noise.getPerlinWithGradient(x, y, z, w, g4);
+				Assert.assertEquals((noise.getPerlin(x, y + h, z, w) - noise.getPerlin(x, y - h, z, w)) / h2, g4[2], 2e-3f);
+				Assert.assertEquals((noise.getPerlin(x, y, z, w + h) - noise.getPerlin(x, y, z, w - h)) / h2, g4[4], 2e-3f);
+				noise.getValueWithGradient(x, y, g2);
+				Assert.assertEquals((noise.getValue(x + h, y) - noise.getValue(x - h, y)) / h2, g2[1], 2e-3f);
+				Assert.assertEquals((noise.getValue(x, y + h) - noise.getValue(x, y - h)) / h2, g2[2], 2e-3f);
+				noise.getValueWithGradient(x, y, z, g3);
+				Assert.assertEquals((noise.getValue(x, y + h, z) - noise.getValue(x, y - h, z)) / h2, g3[2], 2e-3f);
+				Assert.assertEquals((noise.getValue(x, y, z + h) - noise.getValue(x, y, z - h)) / h2, g3[3], 2e-3f);
+				noise.getValueWithGradient(x, y, z, w, g4);
+				Assert.assertEquals((noise.getValue(x + h, y, z, w) - noise.getValue(x - h, y, z, w)) / h2, g4[1], 2e-3f);
+				Assert.assertEquals((noise.getValue(x, y, z + h, w) - noise.getValue(x, y, z - h, w)) / h2, g4[3], 2e-3f);
+
+				noise.setNoiseType(Noise.PERLIN_FRACTAL);
+				noise.getPerlinFractalWithGradient(x, y, z, g3);
+				Assert.assertEquals((noise.getConfiguredNoise(x, y + h, z) - noise.getConfiguredNoise(x, y - h, z)) / h2, g3[2], 4e-3f);
+				noise.getPerlinFractalWithGradient(x, y, z, w, g4);
+				Assert.assertEquals((noise.getConfiguredNoise(x, y, z, w + h) - noise.getConfiguredNoise(x, y, z, w - h)) / h2, g4[4], 4e-3f);
+				noise.setNoiseType(Noise.VALUE_FRACTAL);
+				noise.getValueFractalWithGradient(x, y, g2);
+				Assert.assertEquals((noise.getConfiguredNoise(x + h, y) - noise.getConfiguredNoise(x - h, y)) / h2, g2[1], 4e-3f);
+				noise.getValueFractalWithGradient(x, y, z, w, g4);
+				Assert.assertEquals((noise.getConfiguredNoise(x, y, z + h, w) - noise.getConfiguredNoise(x, y, z - h, w)) / h2, g4[3], 4e-3f);
+			}
+		}
+	}
+
+	@Test
+	public void testCellularHighDimensions()
+	{
+		Noise noise = new Noise(543212345, 0.125f, Noise.CELLULAR);
+		long state = 12345678901L;
+		float[] p = new float[6];
+		for (int distanceFunction = Noise.EUCLIDEAN; distanceFunction <= Noise.NATURAL; distanceFunction++) {
+			noise.setCellularDistanceFunction(distanceFunction);
+			for (int i = 0; i < 1000; i++) {
+				for (int j = 0; j < 6; j++) {
+					p[j] = (state >> 58) / (1.001f - (((state = (state << 29 | state >>> 35) * 0xAC564B05L) * 0x818102004182A025L >>> 40) * 0x1p-24f));
+				}
+				for (int dim = 4; dim <= 6; dim++) {
+					float[] results = new float[8];
+					for (int type = Noise.CELL_VALUE; type <= Noise.DISTANCE_2_DIV; type++) {
+						noise.setCellularReturnType(type);
+						results[type] = dim == 4 ? noise.getConfiguredNoise(p[0], p[1], p[2], p[3])
+								: dim == 5 ? noise.getConfiguredNoise(p[0], p[1], p[2], p[3], p[4])
+								: noise.getConfiguredNoise(p[0], p[1], p[2], p[3], p[4], p[5]);
+						Assert.assertFalse(Float.isNaN(results[type]) || Float.isInfinite(results[type]));
+					}
+					Assert.assertTrue(results[Noise.CELL_VALUE] >= -1f && results[Noise.CELL_VALUE] <= 1f);
+					Assert.assertTrue(results[Noise.DISTANCE] >= -1f);
+					Assert.assertTrue(results[Noise.DISTANCE_2] >= results[Noise.DISTANCE]);
+					Assert.assertTrue(results[Noise.DISTANCE_2_SUB] >= -1f);
+					Assert.assertTrue(results[Noise.DISTANCE_2_DIV] >= -1f && results[Noise.DISTANCE_2_DIV] <= 0f);
+					// the pruned search must find the same cells as a search of every cell
+					float[] expected = exhaustiveCellular(noise, p, dim);
+					Assert.assertEquals(expected[0] - 1, results[Noise.DISTANCE], 0f);
+					Assert.assertEquals(expected[1] - 1, results[Noise.DISTANCE_2], 0f);
+					Assert.assertEquals(expected[2], results[Noise.CELL_VALUE], 0f);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Searches every one of the 3 to the {@code dim} cells around p (scaled by the frequency of noise) in order, keeping
+	 * the first cell found when two are just as near; returns the nearest distance, the second-nearest distance and the
+	 * cell value of the nearest cell.
+	 */
+	private static float[] exhaustiveCellular(Noise noise, float[] p, int dim)
+	{
+		final int seed = noise.getSeed();
+		final float[] table = dim == 4 ? Noise.CELL_4D : dim == 5 ? Noise.CELL_5D : Noise.CELL_6D;
+		float[] q = new float[dim];
+		int[] start = new int[dim], c = new int[dim], nearest = new int[dim];
+		for (int d = 0; d < dim; d++) {
+			q[d] = p[d] * noise.getFrequency();
+			start[d] = Noise.fastRound(q[d]) - 1;
+		}
+		float distance = 999999, distance2 = 999999;
+		for (int index = 0; index < (dim == 4 ? 81 : dim == 5 ? 243 : 729); index++) {
+			for (int d = dim - 1, n = index; d >= 0; d--, n /= 3)
+				c[d] = start[d] + n % 3;
+			final int cell = dim == 4 ? Noise.hash256(c[0], c[1], c[2], c[3], seed) & 0xFC
+					: dim == 5 ? Noise.hash256(c[0], c[1], c[2], c[3], c[4], seed) << 3
+					: Noise.hash256(c[0], c[1], c[2], c[3], c[4], c[5], seed) << 3;
+			float dist = 0f;
+			for (int d = 0; d < dim; d++) {
+				final float v = c[d] - q[d] + table[cell + d];
+				dist += noise.getCellularDistanceFunction() == Noise.MANHATTAN ? Math.abs(v)
+						: noise.getCellularDistanceFunction() == Noise.NATURAL ? Math.abs(v) + v * v : v * v;
+			}
+			if (dist < distance) {
+				distance2 = distance;
+				distance = dist;
+				System.arraycopy(c, 0, nearest, 0, dim);
+			} else if (dist < distance2) {
+				distance2 = dist;
+			}
+		}
+		final int hash = dim == 4 ? Noise.hashAll(nearest[0], nearest[1], nearest[2], nearest[3], 0)
+				: dim == 5 ? Noise.hashAll(nearest[0], nearest[1], nearest[2], nearest[3], nearest[4], 0)
+				: Noise.hashAll(nearest[0], nearest[1], nearest[2], nearest[3], nearest[4], nearest[5], 0);
+		return new float[]{distance, distance2, (hash >> 7) * 0x1.0p-24f};
+	}
+
+	@Test
+	public void testCellularFeatures()
+	{
+		Noise noise = new Noise(543212345, 0.125f, Noise.CELLULAR);
+		Noise.CellularFeatures f2 = new Noise.CellularFeatures(), f3 = new Noise.CellularFeatures();
+		for (int distanceFunction = Noise.EUCLIDEAN; distanceFunction <= Noise.NATURAL; distanceFunction++) {
+			noise.setCellularDistanceFunction(distanceFunction);
+			for (int i = 0; i < 1000; i++) {
+				float x = i * 0.7f - 300f, y = 50f - i * 0.31f, z = i * 0.113f;
+				noise.getCellularFeatures(x, y, f2);
+				noise.getCellularFeatures(x, y, z, f3);
+				noise.setCellularReturnType(Noise.CELL_VALUE);
+				Assert.assertEquals(noise.getCellular(x, y), f2.cellValue, 0f);
+				Assert.assertEquals(noise.getCellular(x, y, z), f3.cellValue, 0f);
+				noise.setCellularReturnType(Noise.NOISE_LOOKUP);
+				Assert.assertEquals(noise.getCellular(x, y), f2.lookup, 0f);
+				Assert.assertEquals(noise.getCellular(x, y, z), f3.lookup, 0f);
+				noise.setCellularReturnType(Noise.DISTANCE);
+				Assert.assertEquals(noise.getCellular(x, y), f2.distance - 1, 0f);
+				Assert.assertEquals(noise.getCellular(x, y, z), f3.distance - 1, 0f);
+				noise.setCellularReturnType(Noise.DISTANCE_2);
+				Assert.assertEquals(noise.getCellular(x, y), f2.distance2 - 1, 0f);
+				Assert.assertEquals(noise.getCellular(x, y, z), f3.distance2 - 1, 0f);
+				noise.setCellularReturnType(Noise.DISTANCE_2_SUB);
+				Assert.assertEquals(noise.getCellular(x, y), f2.distance2 - f2.distance - 1, 0f);
+				Assert.assertEquals(noise.getCellular(x, y, z), f3.distance2 - f3.distance - 1, 0f);
+				// the offset points from the given point to the nearest feature point, inside the nearest cell
+				Assert.assertEquals(f2.cellX, Math.round((x + f2.offsetX) * 0.125f));
+				Assert.assertEquals(f2.cellY, Math.round((y + f2.offsetY) * 0.125f));
+				Assert.assertEquals(0, f2.cellZ);
+				Assert.assertEquals(f3.cellX, Math.round((x + f3.offsetX) * 0.125f));
+				Assert.assertEquals(f3.cellY, Math.round((y + f3.offsetY) * 0.125f));
+				Assert.assertEquals(f3.cellZ, Math.round((z + f3.offsetZ) * 0.125f));
+				Assert.assertEquals(f3.hash, Noise.hash256(f3.cellX, f3.cellY, f3.cellZ, noise.getSeed()));
+			}
+		}
+	}
+
+	@Test
+	public void testCellularNoiseLookup() throws InterruptedException
+	{
+		final Noise noise = new Noise(543212345, 0.0625f, Noise.CELLULAR);
+		noise.setCellularReturnType(Noise.NOISE_LOOKUP);
+		// with the lowest frequency allowed, the lookup gives almost the same value for every nearby cell
+		Noise flat = new Noise(123, 0f, Noise.VALUE);
+		noise.setCellularNoiseLookup(flat);
+		float constant2 = flat.getConfiguredNoise(0f, 0f), constant3 = flat.getConfiguredNoise(0f, 0f, 0f),
+				constant4 = flat.getConfiguredNoise(0f, 0f, 0f, 0f), constant5 = flat.getConfiguredNoise(0f, 0f, 0f, 0f, 0f),
+				constant6 = flat.getConfiguredNoise(0f, 0f, 0f, 0f, 0f, 0f);
+		flat.setSeed(456); // must not affect the lookup, which was copied
+		for (int i = 0; i < 100; i++) {
+			float x = i * 2.7f, y = i * -1.3f, z = i * 0.9f;
+			Assert.assertEquals(constant2, noise.getConfiguredNoise(x, y), 0.01f);
+			Assert.assertEquals(constant3, noise.getConfiguredNoise(x, y, z), 0.01f);
+			Assert.assertEquals(constant4, noise.getConfiguredNoise(x, y, z, -x), 0.01f);
+			Assert.assertEquals(constant5, noise.getConfiguredNoise(x, y, z, -x, -y), 0.01f);
+			Assert.assertEquals(constant6, noise.getConfiguredNoise(x, y, z, -x, -y, -z), 0.01f);
+		}
+		try {
+			noise.freeze().setCellularNoiseLookup(null);
+			Assert.fail("FrozenNoise.setCellularNoiseLookup() should throw");
+		} catch (UnsupportedOperationException expectedException) {
+			Assert.assertNotNull(noise.getCellularNoiseLookup());
+		}
+
+		// cached results must not depend on what was looked up before, or on other threads using the same cache
+		noise.setCellularNoiseLookup(new Noise(99, 0.5f, Noise.SIMPLEX_FRACTAL, 3));
+		final int count = 20000;
+		final float[] expected2D = new float[count], expected3D = new float[count];
+		Noise fresh = new Noise(noise);
+		for (int i = count - 1; i >= 0; i--) {
+			expected2D[i] = fresh.getConfiguredNoise(i * 0.37f, i * -0.21f);
+			expected3D[i] = fresh.getConfiguredNoise(i * 0.37f, i * -0.21f, i * 0.05f);
+			fresh.setCellularNoiseLookup(fresh.getCellularNoiseLookup()); // clears the cache
+		}
+		final boolean[] failed = new boolean[1];
+		Thread[] threads = new Thread[4];
+		for (int th = 0; th < threads.length; th++) {
+			final int start = th * 997;
+			threads[th] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					for (int n = 0; n < count; n++) {
+						int i = (start + n * 7) % count;
+						if (noise.getConfiguredNoise(i * 0.37f, i * -0.21f) != expected2D[i]
+								|| noise.getConfiguredNoise(i * 0.37f, i * -0.21f, i * 0.05f) != expected3D[i])
+							failed[0] = true;
+					}
+				}
+			});
+			threads[th].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+		Assert.assertFalse(failed[0]);
+	}
+
+	@Test
+	public void testDoubleCoordinates()
+	{
+		int[] types = {Noise.VALUE, Noise.VALUE_FRACTAL, Noise.PERLIN, Noise.PERLIN_FRACTAL, Noise.SIMPLEX,
+				Noise.SIMPLEX_FRACTAL, Noise.FOAM, Noise.FOAM_FRACTAL};
+		for (int type : types) {
+			for (int fractalType = Noise.FBM; fractalType <= Noise.RIDGED_MULTI; fractalType++) {
+				Noise noise = new Noise(31337, 0.03125f, type, 3);
+				noise.setFractalType(fractalType);
+				noise.setInterpolation(Noise.QUINTIC);
+				// near the origin, floats are precise enough, so both paths should agree
+				for (int i = 0; i < 200; i++) {
+					float x = i * 1.37f - 100f, y = i * -0.61f + 40f, z = i * 0.23f;
+					Assert.assertEquals(noise.getConfiguredNoise(x, y), noise.getNoise(x, y), 0.001);
+					Assert.assertEquals(noise.getConfiguredNoise(x, y, z), noise.getNoise(x, y, z), 0.001);
+					Assert.assertEquals(noise.getNoiseWithSeed(x, y, 31337), noise.getNoise((double) x, y), 0.001);
+				}
+				// far from the origin, floats can only step by 1 here, but doubles should still change smoothly
+				double far = 1e7, step = 0.01;
+				double previous2 = noise.getNoise(far, far), previous3 = noise.getNoise(far, far, far);
+				int changed2 = 0, changed3 = 0;
+				for (int i = 1; i <= 100; i++) {
+					double x = far + i * step;
+					double current2 = noise.getNoise(x, far), current3 = noise.getNoise(x, far, far);
+					Assert.assertEquals(previous2, current2, 0.05);
+					Assert.assertEquals(previous3, current3, 0.05);
+					if (current2 != previous2) changed2++;
+					if (current3 != previous3) changed3++;
+					previous2 = current2;
+					previous3 = current3;
+				}
+				Assert.assertTrue("2D noise type " + type + " is stair-stepped", changed2 >= 90);
+				Assert.assertTrue("3D noise type " + type + " is stair-stepped", changed3 >= 90);
+			}
+		}
+	}
+
+	@Test
+	public void testFillChunk()
+	{
+		int[] types = {Noise.VALUE, Noise.VALUE_FRACTAL, Noise.PERLIN, Noise.PERLIN_FRACTAL, Noise.SIMPLEX,
+				Noise.SIMPLEX_FRACTAL, Noise.FOAM, Noise.CUBIC};
+		long[] origins = {0L, -48L, 3000000000L, -123456789012L};
+		float[] grid = new float[20 * 12], volume = new float[8 * 6 * 5];
+		for (int type : types) {
+			for (int fractalType = Noise.FBM; fractalType <= Noise.RIDGED_MULTI; fractalType++) {
+				Noise noise = new Noise(-98765, 0.03125f, type, 3);
+				noise.setFractalType(fractalType);
+				for (long origin : origins) {
+					long originX = origin, originY = origin / -3 + 7, originZ = origin / 5;
+					noise.fillChunk(grid, 20, 12, originX, originY, 0.5f, -2f, 1.25f);
+					for (int j = 0, idx = 0; j < 12; j++) {
+						for (int i = 0; i < 20; i++) {
+							Assert.assertEquals(noise.getNoise(originX + 0.5 + i * 1.25, originY - 2.0 + j * 1.25),
+									grid[idx++], 0.001);
+						}
+					}
+					noise.fillChunk(volume, 8, 6, 5, originX, originY, originZ, -1f, 0f, 3f, 2.5f);
+					for (int k = 0, idx = 0; k < 5; k++) {
+						for (int j = 0; j < 6; j++) {
+							for (int i = 0; i < 8; i++) {
+								Assert.assertEquals(noise.getNoise(originX - 1.0 + i * 2.5, originY + j * 2.5,
+										originZ + 3.0 + k * 2.5), volume[idx++], 0.001);
+							}
+						}
+					}
+				}
+			}
+		}
+		// the origin is multiplied exactly, and the lattice repeats every 2 to the 32 cells, so with a frequency that is
+		// a power of two, an origin 2 to the 60 further away (too far for a double to keep the 5) gives the same chunk
+		int[] periodic = {Noise.VALUE, Noise.VALUE_FRACTAL, Noise.PERLIN, Noise.PERLIN_FRACTAL};
+		float[] far = new float[20 * 12], farVolume = new float[8 * 6 * 5];
+		for (int type : periodic) {
+			Noise noise = new Noise(-98765, 0.03125f, type, 3);
+			noise.fillChunk(grid, 20, 12, 5L, -7L, 0.5f, -2f, 1.25f);
+			noise.fillChunk(far, 20, 12, (1L << 60) + 5L, -7L - (1L << 61), 0.5f, -2f, 1.25f);
+			Assert.assertArrayEquals(grid, far, 0f);
+			noise.fillChunk(volume, 8, 6, 5, 5L, -7L, 3L, -1f, 0f, 3f, 2.5f);
+			noise.fillChunk(farVolume, 8, 6, 5, (1L << 60) + 5L, -7L, Long.MIN_VALUE + 3L, -1f, 0f, 3f, 2.5f);
+			Assert.assertArrayEquals(volume, farVolume, 0f);
+		}
+	}
+
+	@Test
+	public void testIsAbove()
+	{
+		int[] types = {Noise.VALUE_FRACTAL, Noise.PERLIN_FRACTAL, Noise.SIMPLEX_FRACTAL, Noise.CUBIC_FRACTAL,
+				Noise.FOAM_FRACTAL, Noise.HONEY_FRACTAL, Noise.MUTANT_FRACTAL, Noise.SIMPLEX, Noise.CELLULAR};
+		float[] thresholds = {-0.9f, -0.25f, 0f, 0.1f, 0.6f};
+		for (int type : types) {
+			for (int fractalType = Noise.FBM; fractalType <= Noise.RIDGED_MULTI; fractalType++) {
+				Noise noise = new Noise(8675309, 0.04f, type, 7, 2.2f, 0.45f);
+				noise.setFractalType(fractalType);
+				noise.setMutation(-1.5f);
+				for (int i = 0; i < 500; i++) {
+					float x = i * 0.93f - 200f, y = i * -0.37f + 11f, z = i * 0.61f;
+					float n2 = noise.getConfiguredNoise(x, y), n3 = noise.getConfiguredNoise(x, y, z);
+					for (float threshold : thresholds) {
+						if (Math.abs(n2 - threshold) > 0.0001f)
+							Assert.assertEquals(n2 > threshold, noise.isAbove(x, y, threshold));
+						if (Math.abs(n3 - threshold) > 0.0001f)
+							Assert.assertEquals(n3 > threshold, noise.isAbove(x, y, z, threshold));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testNoiseWithDetail()
+	{
+		int[] types = {Noise.VALUE_FRACTAL, Noise.PERLIN_FRACTAL, Noise.SIMPLEX_FRACTAL, Noise.CUBIC_FRACTAL,
+				Noise.FOAM_FRACTAL, Noise.HONEY_FRACTAL, Noise.MUTANT_FRACTAL, Noise.SIMPLEX, Noise.CELLULAR};
+		for (int type : types) {
+			for (int fractalType = Noise.FBM; fractalType <= Noise.RIDGED_MULTI; fractalType++) {
+				Noise noise = new Noise(8675309, 0.04f, type, 8, 2.2f, 0.45f);
+				noise.setFractalType(fractalType);
+				noise.setMutation(-1.5f);
+				for (int i = 0; i < 200; i++) {
+					float x = i * 0.93f - 200f, y = i * -0.37f + 11f, z = i * 0.61f;
+					Assert.assertEquals(noise.getConfiguredNoise(x, y), noise.getNoiseWithDetail(x, y, 8f), 0.0001f);
+					Assert.assertEquals(noise.getConfiguredNoise(x, y, z), noise.getNoiseWithDetail(x, y, z, 8f), 0.0001f);
+					Assert.assertEquals(noise.getNoiseWithDetail(x, y, 8f), noise.getNoiseWithDetail(x, y, 20f), 0f);
+					// a small change in the octave budget should only make a small change in the result
+					for (float octaves = 1f; octaves < 8f; octaves += 0.5f) {
+						float n2 = noise.getNoiseWithDetail(x, y, octaves), n3 = noise.getNoiseWithDetail(x, y, z, octaves);
+						Assert.assertTrue(n2 >= -1f && n2 <= 1f);
+						Assert.assertTrue(n3 >= -1f && n3 <= 1f);
+						Assert.assertEquals(n2, noise.getNoiseWithDetail(x, y, octaves + 0.001f), 0.01f);
+						Assert.assertEquals(n3, noise.getNoiseWithDetail(x, y, z, octaves + 0.001f), 0.01f);
+					}
+				}
+				// each budget fills a differently-sized tile
+				float[] budgets = {2.5f, 1f, 5.25f, 8f, 0.5f};
+				for (int b = 0; b < budgets.length; b++) {
+					int width = 20 - b * 3, height = 10 + b * 4;
+					float[] tile = noise.fillGridWithDetail(new float[width * height], width, height, -3f, 7f, 0.75f, budgets[b]);
+					for (int j = 0, idx = 0; j < height; j++) {
+						for (int i = 0; i < width; i++) {
+							Assert.assertEquals(noise.getNoiseWithDetail(-3f + i * 0.75f, 7f + j * 0.75f, budgets[b]), tile[idx++], 0f);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testGridOctaves()
+	{
+		int[] types = {Noise.VALUE_FRACTAL, Noise.PERLIN_FRACTAL, Noise.SIMPLEX_FRACTAL, Noise.CUBIC_FRACTAL,
+				Noise.FOAM_FRACTAL, Noise.HONEY_FRACTAL, Noise.MUTANT_FRACTAL, Noise.SIMPLEX, Noise.CELLULAR};
+		for (int type : types) {
+			for (int fractalType = Noise.FBM; fractalType <= Noise.RIDGED_MULTI; fractalType++) {
+				Noise noise = new Noise(8675309, 0.04f, type, 5, 2.2f, 0.45f);
+				noise.setFractalType(fractalType);
+				noise.setMutation(-1.5f);
+				float[] full = noise.fillGrid(new float[30 * 20], 30, 20, -17f, 4.5f, 0.8f);
+				float[][] layers = noise.fillGridOctaves(new float[6][30 * 20], 30, 20, -17f, 4.5f, 0.8f);
+				float[] progressive = new float[30 * 20];
+				for (int octave = 0; octave < 5; octave++) {
+					noise.addGridOctave(progressive, 30, 20, -17f, 4.5f, 0.8f, octave);
+				}
+				for (int i = 0; i < full.length; i++) {
+					Assert.assertEquals(full[i], progressive[i], 0.0001f);
+					Assert.assertEquals(full[i], layers[0][i] + layers[1][i] + layers[2][i] + layers[3][i] + layers[4][i], 0.0001f);
+					Assert.assertEquals(0f, layers[5][i], 0f);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testCubicHighDimensions()
+	{
+		Noise noise = new Noise(543212345, 0.125f, Noise.CUBIC);
+		Noise simplex = new Noise(543212345, 0.125f, Noise.SIMPLEX);
+		for (int i = 0; i < 200; i++) {
+			float x = i * 0.93f - 20f, y = i * -0.37f + 11f, z = i * 0.61f, w = i * -1.1f, u = i * 0.29f, v = 3.5f - i;
+			Assert.assertEquals(noise.getCubic(x, y, z, w, u), noise.getConfiguredNoise(x, y, z, w, u), 0f);
+			Assert.assertEquals(noise.getCubic(x, y, z, w, u, v), noise.getConfiguredNoise(x, y, z, w, u, v), 0f);
+			Assert.assertNotEquals(simplex.getConfiguredNoise(x, y, z, w, u), noise.getConfiguredNoise(x, y, z, w, u), 0f);
+		}
+		noise.setNoiseType(Noise.CUBIC_FRACTAL);
+		for (int fractal = Noise.FBM; fractal <= Noise.RIDGED_MULTI; fractal++) {
+			noise.setFractalType(fractal);
+			for (int i = 0; i < 2000; i++) {
+				float x = i * 0.93f - 20f, y = i * -0.37f + 11f, z = i * 0.61f, w = i * -1.1f, u = i * 0.29f, v = 3.5f - i;
+				float n5 = noise.getConfiguredNoise(x, y, z, w, u), n6 = noise.getConfiguredNoise(x, y, z, w, u, v);
+				Assert.assertTrue(n5 >= -1f && n5 <= 1f);
+				Assert.assertTrue(n6 >= -1f && n6 <= 1f);
+			}
+		}
+		// the lattice tables used by fillGrid() and fillVolume() should give the same results with a negative step,
+		// and at frequencies too high for them to help
+		float[] grid = new float[23 * 17], volume = new float[9 * 8 * 7];
+		for (float frequency = 0.0625f; frequency < 10f; frequency *= 16f) {
+			noise.setFrequency(frequency);
+			for (int fractal = Noise.FBM; fractal <= Noise.RIDGED_MULTI; fractal++) {
+				noise.setFractalType(fractal);
+				noise.fillGrid(grid, 23, 17, 5f, -3f, -0.875f);
+				for (int j = 0, idx = 0; j < 17; j++) {
+					for (int i = 0; i < 23; i++) {
+						Assert.assertEquals(noise.getConfiguredNoise(5f - i * 0.875f, -3f - j * 0.875f), grid[idx++], 0f);
+					}
+				}
+				noise.fillVolume(volume, 9, 8, 7, 5f, -3f, 2f, 7.25f, -0.875f);
+				for (int k = 0, idx = 0; k < 7; k++) {
+					for (int j = 0; j < 8; j++) {
+						for (int i = 0; i < 9; i++) {
+							Assert.assertEquals(noise.getConfiguredNoise(5f - i * 0.875f, -3f - j * 0.875f, 2f - k * 0.875f, 7.25f), volume[idx++], 0f);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testFillContext()
+	{
+		// one FillContext is shared by fills of different sizes, configurations and Noise objects, so nothing it keeps
+		// from one fill may change the results of a later one
+		int[] types = {Noise.SIMPLEX, Noise.SIMPLEX_FRACTAL, Noise.CELLULAR, Noise.CUBIC, Noise.CUBIC_FRACTAL,
+				Noise.VALUE, Noise.VALUE_FRACTAL, Noise.FOAM_FRACTAL, Noise.MUTANT};
+		int[][] sizes = {{40, 30, 6}, {7, 5, 3}, {64, 9, 2}, {3, 50, 5}};
+		Noise.FillContext context = new Noise.FillContext();
+		for (int type : types) {
+			Noise noise = new Noise(8675309 + type, 0.25f, type, 3);
+			for (int[] size : sizes) {
+				int width = size[0], height = size[1], depth = size[2];
+				noise.setFrequency(noise.getFrequency() * 0.5f);
+				noise.setSeed(noise.getSeed() + 1);
+				float[] grid = noise.fillGrid(new float[width * height], width, height, -3.5f, 12f, 0.75f, context);
+				float[] volume = noise.fillVolume(new float[width * height * depth], 0, 1, width, width * height,
+						width, height, depth, -3.5f, 12f, 1f, 0.75f, context);
+				float[] slice = noise.fillVolume(new float[width * height * depth], 0, 1, width, width * height,
+						width, height, depth, -3.5f, 12f, 1f, 2.5f, 0.75f, context);
+				for (int k = 0, idx = 0; k < depth; k++) {
+					for (int j = 0; j < height; j++) {
+						for (int i = 0; i < width; i++, idx++) {
+							float x = -3.5f + i * 0.75f, y = 12f + j * 0.75f, z = 1f + k * 0.75f;
+							if (k == 0)
+								Assert.assertEquals(noise.getConfiguredNoise(x, y), grid[idx], 0f);
+							Assert.assertEquals(noise.getConfiguredNoise(x, y, z), volume[idx], 0f);
+							Assert.assertEquals(noise.getConfiguredNoise(x, y, z, 2.5f), slice[idx], 0f);
+						}
+					}
+				}
+				// the same fills without a context allocate their own scratch space, with the same results
+				Assert.assertArrayEquals(grid, noise.fillGrid(new float[width * height], width, height, -3.5f, 12f, 0.75f), 0f);
+				Assert.assertArrayEquals(volume, noise.fillVolume(new float[width * height * depth], width, height, depth, -3.5f, 12f, 1f, 0.75f), 0f);
+			}
+		}
+	}
+
+	@Test
+	public void testPackedCellTables()
+	{
+		// cellular noise and gradient perturbation from before the cell point tables were packed into float arrays; the
+		// packed tables must give exactly the same results
+		float[][] points = {{-180f, 25f, -7f}, {3.73f, -0.41f, 12.29f}, {57.1f, 91.6f, -33.3f},
+				{-0.2f, 0.45f, 0.95f}, {1234.5f, -987.25f, 66.6f}};
+		// for each distance function and point: DISTANCE, DISTANCE_2 and CELL_VALUE in 2D, then the same in 3D
+		float[] cellular = {
+				-0.7975f, -0.68225443f, 0.31031418f, -0.74684185f, -0.42897862f, 0.9526655f,
+				-0.90187657f, -0.26730573f, -0.017908573f, -0.16397113f, -0.07122433f, -0.17825758f,
+				-0.9199516f, -0.7679198f, 0.4139279f, -0.8399791f, -0.55023336f, -0.59453535f,
+				-0.8054731f, -0.5895935f, 0.24361867f, -0.871318f, -0.22423196f, 0.24361867f,
+				-0.9872139f, -0.7726333f, 0.0086199045f, -0.76242137f, -0.7493752f, 0.8727646f,
+				-0.53832185f, -0.3599007f, 0.31031418f, -0.27578348f, 0.13467002f, 0.9526655f,
+				-0.57348466f, 0.10946298f, -0.017908573f, 0.27973568f, 0.51308393f, -0.16016269f,
+				-0.6901454f, -0.36139387f, 0.4139279f, -0.41060817f, 0.03790903f, -0.59453535f,
+				-0.41349763f, -0.26628548f, 0.24361867f, -0.48879743f, 0.25691605f, 0.24361867f,
+				-0.88028926f, -0.32566524f, 0.0086199045f, -0.2442025f, -0.17043424f, 0.8727646f,
+				-0.33582187f, -0.042155147f, 0.31031418f, -0.022625327f, 0.70569134f, 0.9526655f,
+				-0.47536123f, 0.84215724f, -0.017908573f, 1.3491127f, 1.4965944f, -0.17825758f,
+				-0.61009705f, -0.12931359f, 0.4139279f, -0.25058728f, 0.50679874f, -0.59453535f,
+				-0.21897072f, 0.14412093f, 0.24361867f, -0.3601154f, 1.116647f, 0.24361867f,
+				-0.86750317f, -0.09829855f, 0.0086199045f, -0.006623864f, 0.08019054f, 0.8727646f
+		};
+		// for each interpolation and point: x and y from gradientPerturb2, then x, y and z from gradientPerturb3
+		float[] perturbed = {
+				-179.90796f, 28.498789f, -178.90456f, 24.092712f, -7.780879f,
+				0.776423f, 0.24508545f, 3.9877794f, 1.6426898f, 11.406875f,
+				56.88945f, 90.483444f, 57.222366f, 91.826035f, -33.568672f,
+				-3.0627418f, -0.5133525f, 1.6967734f, 1.4029036f, 3.1415973f,
+				1232.5665f, -986.3166f, 1234.5605f, -986.1011f, 65.474724f,
+				-179.90796f, 28.498789f, -178.63707f, 24.232817f, -7.8147388f,
+				0.57794976f, 0.64346147f, 4.1269693f, 1.9883181f, 11.57999f,
+				57.31728f, 90.69572f, 57.646206f, 91.99828f, -33.53717f,
+				-3.4777105f, -0.34988636f, 1.8678081f, 1.5571711f, 3.341676f,
+				1232.2877f, -986.3296f, 1234.6755f, -985.7718f, 65.55749f,
+				-179.90796f, 28.498789f, -178.44449f, 24.33369f, -7.839118f,
+				0.5477631f, 0.8146614f, 4.2326775f, 2.1326785f, 11.653379f,
+				57.631107f, 90.84742f, 57.959564f, 92.11702f, -33.500336f,
+				-3.5791757f, -0.31656128f, 1.9641945f, 1.6038492f, 3.352101f,
+				1232.1793f, -986.3881f, 1234.7606f, -985.58124f, 65.6678f
+		};
+		Noise noise = new Noise(-24680, 0.2f, Noise.CELLULAR);
+		noise.setGradientPerturbAmp(3.5f);
+		int[] types = {Noise.DISTANCE, Noise.DISTANCE_2, Noise.CELL_VALUE};
+		int c = 0, p = 0;
+		for (int distanceFunction = Noise.EUCLIDEAN; distanceFunction <= Noise.NATURAL; distanceFunction++) {
+			noise.setCellularDistanceFunction(distanceFunction);
+			for (float[] point : points) {
+				for (int type : types) {
+					noise.setCellularReturnType(type);
+					Assert.assertEquals(cellular[c++], noise.getCellular(point[0], point[1]), 0f);
+				}
+				for (int type : types) {
+					noise.setCellularReturnType(type);
+					Assert.assertEquals(cellular[c++], noise.getCellular(point[0], point[1], point[2]), 0f);
+				}
+			}
+		}
+		for (int interpolation = Noise.LINEAR; interpolation <= Noise.QUINTIC; interpolation++) {
+			noise.setInterpolation(interpolation);
+			for (float[] point : points) {
+				float[] v2 = {point[0], point[1]}, v3 = {point[0], point[1], point[2]};
+				noise.gradientPerturb2(v2);
+				noise.gradientPerturb3(v3);
+				Assert.assertEquals(perturbed[p++], v2[0], 0f);
+				Assert.assertEquals(perturbed[p++], v2[1], 0f);
+				Assert.assertEquals(perturbed[p++], v3[0], 0f);
+				Assert.assertEquals(perturbed[p++], v3[1], 0f);
+				Assert.assertEquals(perturbed[p++], v3[2], 0f);
+			}
+		}
+	}
+
+	@Test
+	public void testCellularSearch3D()
+	{
+		// results from searching all 27 cells, before the search was pruned; the first 8 points are on a grid of
+		// sixteenths where two feature points are at exactly the same Manhattan distance, which checks that ties still
+		// go to the same cell for CELL_VALUE, and the rest are spread out
+		float[][] points = {
+				{-97.4375f, 5.75f, -16.0625f}, {-69.0f, 4.6875f, -13.75f},
+				{-62.6875f, 3.375f, -14.0f}, {-54.4375f, 3.375f, -15.0625f},
+				{-32.375f, 4.0625f, -14.125f}, {-4.9375f, 3.5625f, -13.3125f},
+				{4.3125f, 5.25f, -16.6875f}, {20.75f, 3.75f, -16.6875f},
+				{119.875f, 78.4375f, -58.0625f}, {114.6875f, 59.3125f, -56.125f},
+				{109.5f, 40.1875f, -54.1875f}, {104.3125f, 21.0625f, -52.25f},
+				{99.125f, 1.9375f, -50.3125f}, {93.9375f, -17.1875f, -48.375f},
+				{88.75f, -36.3125f, -46.4375f}, {83.5625f, -55.4375f, -44.5f}
+		};
+		// for each distance function and point: DISTANCE, DISTANCE_2 and CELL_VALUE
+		float[] expected = {
+				-0.5062684f, -0.16978723f, 0.72396654f, -0.28274935f, -0.21052647f, -0.63369924f,
+				-0.4836185f, -0.36761296f, -0.26769936f, -0.2836175f, -0.07085216f, 0.16502666f,
+				-0.45554793f, -0.42523402f, -0.5534622f, -0.28446817f, -0.15295947f, -0.20232213f,
+				-0.3048712f, -0.19709289f, 0.61932534f, -0.488703f, -0.46904385f, -0.86448115f,
+				-0.3654803f, -0.18593973f, 0.025691807f, -0.66455853f, -0.16843468f, 0.924462f,
+				-0.69827795f, -0.39346182f, -0.19378316f, -0.5601724f, -0.020115376f, 0.049687684f,
+				-0.61691475f, -0.3888644f, 0.6054112f, -0.8493285f, -0.5494568f, -0.9434068f,
+				-0.7946302f, -0.6914624f, -0.52980244f, -0.75944763f, -0.7505639f, 0.13972247f,
+				0.1375804f, 0.1375804f, 0.8647605f, 0.20637476f, 0.20637476f, 0.45081204f,
+				0.11644757f, 0.11644757f, -0.896685f, 0.3780105f, 0.3780105f, -0.122826934f,
+				0.11322653f, 0.11322653f, 0.095191956f, 0.17826927f, 0.17826927f, 0.5711678f,
+				0.10608232f, 0.10608232f, 0.46619195f, 0.048089623f, 0.048089623f, 0.90590656f,
+				-0.04011923f, 0.12814796f, 0.025691807f, 0.0027929544f, 0.32971144f, 0.924462f,
+				-0.25120258f, -0.09820038f, -0.19378316f, 0.07656801f, 0.38434815f, 0.049687684f,
+				-0.06184584f, 0.2496643f, 0.6054112f, -0.3756684f, -0.050468564f, -0.9434068f,
+				-0.40042233f, -0.18932271f, -0.52980244f, -0.18706793f, -0.13795102f, 0.13972247f,
+				0.695699f, 1.093638f, 0.72396654f, 0.9317806f, 1.2217553f, -0.63369924f,
+				0.7069653f, 0.97851396f, -0.26769936f, 1.1381459f, 1.3191772f, 0.16502666f,
+				0.66669285f, 0.76737595f, -0.5534622f, 0.924955f, 1.0754375f, -0.20232213f,
+				0.9186144f, 1.2044821f, 0.61932534f, 0.574667f, 0.6139853f, -0.86448115f,
+				0.5944004f, 0.9422083f, 0.025691807f, 0.33823442f, 1.2851257f, 0.924462f,
+				0.050519466f, 0.50833774f, -0.19378316f, 0.51639557f, 1.3642328f, 0.049687684f,
+				0.32123935f, 0.8607999f, 0.6054112f, -0.22499692f, 0.44543338f, -0.9434068f,
+				-0.19505256f, 0.11921489f, -0.52980244f, 0.05348444f, 0.111485004f, 0.13972247f
+		};
+		Noise noise = new Noise(543212345, 1f, Noise.CELLULAR);
+		int[] types = {Noise.DISTANCE, Noise.DISTANCE_2, Noise.CELL_VALUE};
+		int e = 0;
+		for (int distanceFunction = Noise.EUCLIDEAN; distanceFunction <= Noise.NATURAL; distanceFunction++) {
+			noise.setCellularDistanceFunction(distanceFunction);
+			for (float[] point : points) {
+				for (int type : types) {
+					noise.setCellularReturnType(type);
+					Assert.assertEquals(expected[e++], noise.getCellular(point[0], point[1], point[2]), 0f);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testParallelNoise()
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			int[] types = {Noise.SIMPLEX_FRACTAL, Noise.PERLIN_FRACTAL, Noise.VALUE_FRACTAL, Noise.CELLULAR};
+			for (int type : types) {
+				Noise noise = new Noise(-12345, 0.03f, type, 3);
+				float[] serial = noise.fillGrid(new float[300 * 200], 300, 200, -40f, 13.5f, 0.5f);
+				Assert.assertArrayEquals(serial, ParallelNoise.fillGrid(noise, new float[300 * 200], 300, 200, -40f, 13.5f, 0.5f), 0f);
+				Assert.assertArrayEquals(serial, ParallelNoise.fillGrid(executor, noise, new float[300 * 200], 300, 200, -40f, 13.5f, 0.5f), 0f);
+				FloatBuffer direct = ByteBuffer.allocateDirect(300 * 200 * 4 + 12).order(ByteOrder.nativeOrder()).asFloatBuffer();
+				direct.position(3);
+				ParallelNoise.fillGrid(executor, noise, direct, 300, 200, -40f, 13.5f, 0.5f);
+				Assert.assertEquals(3, direct.position());
+				float[] read = new float[300 * 200];
+				direct.get(read);
+				Assert.assertArrayEquals(serial, read, 0f);
+
+				// one tile per several layers
+				serial = noise.fillVolume(new float[40 * 30 * 20], 40, 30, 20, 5f, -6f, 7f, 0.75f);
+				Assert.assertArrayEquals(serial, ParallelNoise.fillVolume(noise, new float[40 * 30 * 20], 40, 30, 20, 5f, -6f, 7f, 0.75f), 0f);
+				direct = ByteBuffer.allocateDirect(40 * 30 * 20 * 4).order(ByteOrder.nativeOrder()).asFloatBuffer();
+				ParallelNoise.fillVolume(executor, noise, direct, 40, 30, 20, 5f, -6f, 7f, 0.75f);
+				read = new float[40 * 30 * 20];
+				direct.get(read);
+				Assert.assertArrayEquals(serial, read, 0f);
+				// several tiles per layer
+				serial = noise.fillVolume(new float[200 * 100 * 3], 200, 100, 3, 5f, -6f, 7f, 0.75f);
+				Assert.assertArrayEquals(serial, ParallelNoise.fillVolume(executor, noise, new float[200 * 100 * 3], 200, 100, 3, 5f, -6f, 7f, 0.75f), 0f);
+				direct = ByteBuffer.allocateDirect(200 * 100 * 3 * 4).order(ByteOrder.nativeOrder()).asFloatBuffer();
+				ParallelNoise.fillVolume(noise, direct, 200, 100, 3, 5f, -6f, 7f, 0.75f);
+				read = new float[200 * 100 * 3];
+				direct.get(read);
+				Assert.assertArrayEquals(serial, read, 0f);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testParallelNoiseRejected()
+	{
+		// accepts three tiles, running each late on its own thread, then rejects the rest
+		final AtomicInteger accepted = new AtomicInteger(), started = new AtomicInteger();
+		Executor executor = new Executor() {
+			@Override
+			public void execute(final Runnable command) {
+				if (accepted.incrementAndGet() > 3)
+					throw new RejectedExecutionException("full");
+				new Thread(new Runnable() {
+					@Override
+					public void run() {
+						try {
+							Thread.sleep(50);
+						} catch (InterruptedException ignored) {
+						}
+						started.incrementAndGet();
+						command.run();
+					}
+				}).start();
+			}
+		};
+		Noise noise = new Noise(-12345, 0.03f, Noise.SIMPLEX_FRACTAL, 3);
+		try {
+			ParallelNoise.fillGrid(executor, noise, new float[300 * 400], 300, 400, -40f, 13.5f, 0.5f);
+			Assert.fail("the rejection should be thrown");
+		} catch (RejectedExecutionException expected) {
+			// every tile that was accepted has run by the time the fill gives up
+			Assert.assertEquals(3, started.get());
+		}
+	}
+
+	@Test
+	public void testParallelNoiseInterrupted()
+	{
+		// runs each tile late on its own thread, so the caller is already waiting when it gets interrupted
+		final AtomicInteger accepted = new AtomicInteger(), started = new AtomicInteger();
+		Executor executor = new Executor() {
+			@Override
+			public void execute(final Runnable command) {
+				accepted.incrementAndGet();
+				new Thread(new Runnable() {
+					@Override
+					public void run() {
+						try {
+							Thread.sleep(50);
+						} catch (InterruptedException ignored) {
+						}
+						started.incrementAndGet();
+						command.run();
+					}
+				}).start();
+			}
+		};
+		Noise noise = new Noise(-12345, 0.03f, Noise.SIMPLEX_FRACTAL, 3);
+		Thread.currentThread().interrupt();
+		try {
+			ParallelNoise.fillGrid(executor, noise, new float[300 * 400], 300, 400, -40f, 13.5f, 0.5f);
+			Assert.fail("the interrupt should be thrown");
+		} catch (RuntimeException expected) {
+			Assert.assertTrue(expected.getCause() instanceof InterruptedException);
+			// every tile that was accepted has run by the time the fill gives up
+			Assert.assertTrue(accepted.get() > 1);
+			Assert.assertEquals(accepted.get(), started.get());
+			Assert.assertTrue(Thread.interrupted());
+		} finally {
+			Thread.interrupted();
+		}
+	}
+
+	@Test
+	public void testHeightmapWriter() throws IOException
+	{
+		Noise noise = new Noise(24680, 0.02f, Noise.SIMPLEX_FRACTAL, 4);
+		// more than one band, with a short last band
+		int width = 700, height = 250;
+		float[] expected = noise.fillGrid(new float[width * height], width, height, 3f, -8f, 0.5f);
+		File file = File.createTempFile("heightmap", ".raw");
+		try {
+			int[] formats = {HeightmapWriter.FLOAT32, HeightmapWriter.UINT16, HeightmapWriter.UINT8};
+			for (int format : formats) {
+				int size = HeightmapWriter.bytesPerSample(format);
+				Assert.assertEquals((long) width * height * size,
+						HeightmapWriter.write(noise, file.toPath(), format, width, height, 3f, -8f, 0.5f));
+				ByteBuffer read = ByteBuffer.wrap(Files.readAllBytes(file.toPath())).order(ByteOrder.LITTLE_ENDIAN);
+				Assert.assertEquals(width * height * size, read.remaining());
+				ByteBuffer mapped = ByteBuffer.allocateDirect(width * height * size + 5).order(ByteOrder.BIG_ENDIAN);
+				mapped.position(5);
+				HeightmapWriter.write(noise, mapped, format, width, height, 3f, -8f, 0.5f);
+				Assert.assertEquals(mapped.capacity(), mapped.position());
+				mapped.position(5);
+				for (float sample : expected) {
+					switch (format) {
+						case HeightmapWriter.FLOAT32:
+							Assert.assertEquals(sample, read.getFloat(), 0f);
+							Assert.assertEquals(sample, mapped.getFloat(), 0f);
+							break;
+						case HeightmapWriter.UINT16:
+							Assert.assertEquals((sample + 1f) * 0.5f * 65535f, read.getShort() & 0xFFFF, 0.5f);
+							Assert.assertEquals((sample + 1f) * 0.5f * 65535f, mapped.getShort() & 0xFFFF, 0.5f);
+							break;
+						default:
+							Assert.assertEquals((sample + 1f) * 0.5f * 255f, read.get() & 0xFF, 0.5f);
+							Assert.assertEquals((sample + 1f) * 0.5f * 255f, mapped.get() & 0xFF, 0.5f);
+					}
+				}
+			}
+		} finally {
+			file.delete();
+		}
+	}
 }
@@ -0,0 +1,41 @@
+package make.some.noise;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class VectorNoiseTests {
+	@Test
+	public void testMatchesScalar()
+	{
+		Random random = new Random(1234567L);
+		int count = VectorNoise.lanes() * 100 + 3; // not a multiple of the lane count, so the scalar tail runs too
+		float[] xs = new float[count], ys = new float[count], zs = new float[count],
+				expected = new float[count], actual = new float[count];
+		for (int i = 0; i < count; i++) {
+			xs[i] = (random.nextFloat() - 0.5f) * 2000f;
+			ys[i] = (random.nextFloat() - 0.5f) * 2000f;
+			zs[i] = (random.nextFloat() - 0.5f) * 2000f;
+		}
+		// whole numbers are where the floor of a negative coordinate is easiest to get wrong
+		xs[0] = -3f; ys[1] = -64f; zs[2] = 0f;
+		for (int interpolation = Noise.LINEAR; interpolation <= Noise.QUINTIC; interpolation++) {
+			Noise noise = new Noise(random.nextInt(), 0.03125f + random.nextFloat());
+			noise.setInterpolation(interpolation);
+			VectorNoise vector = new VectorNoise(noise);
+			for (int i = 0; i < count; i++) expected[i] = noise.getValue(xs[i], ys[i]);
+			Assert.assertArrayEquals(expected, vector.getValue(xs, ys, actual, count), 0f);
+			for (int i = 0; i < count; i++) expected[i] = noise.getValue(xs[i], ys[i], zs[i]);
+			Assert.assertArrayEquals(expected, vector.getValue(xs, ys, zs, actual, count), 0f);
+			for (int i = 0; i < count; i++) expected[i] = noise.getPerlin(xs[i], ys[i]);
+			Assert.assertArrayEquals(expected, vector.getPerlin(xs, ys, actual, count), 0f);
+			for (int i = 0; i < count; i++) expected[i] = noise.getPerlin(xs[i], ys[i], zs[i]);
+			Assert.assertArrayEquals(expected, vector.getPerlin(xs, ys, zs, actual, count), 0f);
+			for (int i = 0; i < count; i++) expected[i] = noise.getSimplex(xs[i], ys[i]);
+			Assert.assertArrayEquals(expected, vector.getSimplex(xs, ys, actual, count), 0f);
+			for (int i = 0; i < count; i++) expected[i] = noise.getSimplex(xs[i], ys[i], zs[i]);
+			Assert.assertArrayEquals(expected, vector.getSimplex(xs, ys, zs, actual, count), 0f);
+		}
+	}
+}